@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // JPA Auditing 활성화 - createdAt, updatedAt 자동 설정
 @ConfigurationPropertiesScan // @ConfigurationProperties 자동 스캔
+@EnableScheduling // @Scheduled 작업 활성화
 public class SisoApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(SisoApplication.class, args);
@@ -6,6 +6,7 @@ import com.siso.call.domain.repository.CallRepository;
 import com.siso.call.dto.request.CallRequestDto;
 import com.siso.call.dto.CallInfoDto;
 import com.siso.call.dto.response.AgoraCallResponseDto;
+import com.siso.call.dto.response.CallSignalDto;
 import com.siso.call.dto.response.UserProfileDto;
 import com.siso.chat.domain.model.ChatRoom;
 import com.siso.chat.domain.model.ChatRoomMember;
@@ -15,9 +16,10 @@ import com.siso.chat.domain.repository.ChatRoomRepository;
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
 import com.siso.notification.application.NotificationService;
-import com.siso.user.domain.model.PresenceStatus;
+import com.siso.user.application.UserCardCache;
 import com.siso.user.domain.model.User;
 import com.siso.user.domain.repository.UserRepository;
+import com.siso.user.dto.UserCard;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +27,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -39,6 +40,9 @@ public class AgoraCallService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final CallSignalingService callSignalingService;
+    private final LiveCallRegistry liveCallRegistry;
+    private final UserCardCache userCardCache;
 
     public User findById(Long userId) {
         return userRepository.findById(userId)
@@ -53,10 +57,8 @@ public class AgoraCallService {
         Long receiverId = request.getReceiverId();
         User receiver = findById(receiverId);
 
-        // receiver가 이미 통화 중(IN_CALL)인지 체크
-        if (receiver.getPresenceStatus() == PresenceStatus.IN_CALL) {
-            throw new ExpectedException(ErrorCode.USER_IN_CALL);
-        }
+        // 발신자 / 수신자가 이미 통화 중이면 거절 (메모리에서 바로 판단, 동시에 두 요청이 와도 하나만 성공)
+        LiveCallRegistry.LiveCall liveCall = liveCallRegistry.reserve(caller.getId(), receiverId);
 
         // Agora 채널 생성
         String channelName = agoraChannelNameService.generateChannelName(caller.getId(), receiverId);
@@ -72,6 +74,7 @@ public class AgoraCallService {
                 .build();
 
         callRepository.save(call);
+        liveCallRegistry.ringing(liveCall, call.getId()); // 벨 시간 안에 받지 않으면 자동 취소
 
         // 수신자에게 통화 알림 전송
         sendCallNotificationToReceiver(call, caller, receiverId);
@@ -85,27 +88,26 @@ public class AgoraCallService {
     public AgoraCallResponseDto cancelCall(User user, Long callId) {
         Call call = getCall(callId);
 
-        // 요청 상태가 아니면 취소 불가
-        if (call.getCallStatus() != CallStatus.REQUESTED) {
-            throw new ExpectedException(ErrorCode.INVALID_CALL_STATE);
-        }
-
         // 본인만 취소 가능
         if (!call.getCaller().getId().equals(user.getId())) {
             throw new ExpectedException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 상태 업데이트
-        call.updateCallStatus(CallStatus.CANCELED);
+        // 요청 상태가 아니면 취소 불가 (벨 시간이 지나 이미 자동 취소된 경우 포함)
+        requireTransition(call, CallStatus.CANCELED);
+
+        // 상태 업데이트 (endCall 이 ENDED 로 바꾸므로 상태는 마지막에)
         call.endCall();
+        call.updateCallStatus(CallStatus.CANCELED);
         callRepository.save(call);
 
-        // 수신자에게 취소 알림 보내기
-        notificationService.sendCallCanceledNotification(
-                call.getReceiver().getId(),
-                user.getId(),
-                call.getId()
-        );
+        // 수신자에게 취소 시그널 보내기 (접속 중이면 WebSocket, 아니면 FCM)
+        Long receiverId = call.getReceiver().getId();
+        Long callerId = user.getId();
+        Long canceledCallId = call.getId();
+        callSignalingService.signal(receiverId,
+                CallSignalDto.of(CallStatus.CANCELED, canceledCallId, callerId, null, null, null, null),
+                () -> notificationService.sendCallCanceledNotification(receiverId, callerId, canceledCallId));
 
         return buildResponse(call, false);
     }
@@ -115,17 +117,19 @@ public class AgoraCallService {
      */
     public AgoraCallResponseDto acceptCall(CallInfoDto callInfoDto) {
         Call call = getCall(callInfoDto.getId());
+        requireTransition(call, CallStatus.ACCEPT); // 이후 최대 통화 시간이 지나면 자동 종료
         call.updateCallStatus(CallStatus.ACCEPT);
         call.startCall();
         callRepository.save(call);
 
-        // 발신자에게 "수락됨" 알림 전송
-        notificationService.sendCallAcceptedNotification(
-                call.getCaller().getId(),
-                call.getId(),
-                call.getAgoraChannelName(),
-                call.getAgoraToken()
-        );
+        // 발신자에게 "수락됨" 시그널 전송
+        Long callerId = call.getCaller().getId();
+        Long acceptedCallId = call.getId();
+        String channelName = call.getAgoraChannelName();
+        String agoraToken = call.getAgoraToken();
+        callSignalingService.signal(callerId,
+                CallSignalDto.of(CallStatus.ACCEPT, acceptedCallId, null, null, null, channelName, agoraToken),
+                () -> notificationService.sendCallAcceptedNotification(callerId, acceptedCallId, channelName, agoraToken));
 
         return buildResponse(call, true);
     }
@@ -135,15 +139,17 @@ public class AgoraCallService {
      */
     public AgoraCallResponseDto denyCall(CallInfoDto callInfoDto) {
         Call call = getCall(callInfoDto.getId());
-        call.updateCallStatus(CallStatus.DENY);
+        requireTransition(call, CallStatus.DENY);
         call.endCall();
+        call.updateCallStatus(CallStatus.DENY);
         callRepository.save(call);
 
-        // 발신자에게 "거절됨" 알림 보내기
-        notificationService.sendCallDeniedNotification(
-                call.getCaller().getId(),
-                call.getId()
-        );
+        // 발신자에게 "거절됨" 시그널 보내기
+        Long callerId = call.getCaller().getId();
+        Long deniedCallId = call.getId();
+        callSignalingService.signal(callerId,
+                CallSignalDto.of(CallStatus.DENY, deniedCallId, null, null, null, null, null),
+                () -> notificationService.sendCallDeniedNotification(callerId, deniedCallId));
 
         return buildResponse(call, false);
     }
@@ -157,30 +163,15 @@ public class AgoraCallService {
         User caller = findById(callInfoDto.getCallerId());
         User receiver = findById(callInfoDto.getReceiverId());
 
-        // 2. 통화 종료 상태 업데이트
+        // 2. 통화 종료 상태 업데이트 (통화 중 해제)
         call.endCall();
         call.updateCallStatus(CallStatus.ENDED);
         callRepository.save(call);
+        liveCallRegistry.end(call.getId());
 
-        // caller 와 receiver 사이에 채팅방 존재 여부 확인
-        boolean chatRoomExists = chatRoomRepository.existsByMembers(caller, receiver);
-
-        // 3. 최초 통화 + continueRelationship 처리
-        if (!chatRoomExists && continueRelationship) {
-            // ChatRoom 생성 또는 기존 조회
-            ChatRoom chatRoom = chatRoomRepository.findByCallId(call.getId())
-                    .orElseGet(() -> chatRoomRepository.saveAndFlush(
-                            new ChatRoom(call, ChatRoomStatus.LIMITED)
-                    ));
-
-            // ChatRoomMember 생성 및 저장
-            ChatRoomMember callerMember = ChatRoomMember.of(caller, chatRoom);
-            ChatRoomMember receiverMember = ChatRoomMember.of(receiver, chatRoom);
-            chatRoomMemberRepository.saveAll(List.of(callerMember, receiverMember));
-
-            // 메시지 제한 5회 초기화 (LIMITED 상태)
-            callerMember.resetMessageCount();
-            receiverMember.resetMessageCount();
+        // 3. 이어가기 선택 시 두 사람 사이에 채팅방이 없으면 생성
+        if (continueRelationship) {
+            openPairChatRoom(call, caller, receiver);
         }
 
         // 4. DTO 반환
@@ -188,60 +179,50 @@ public class AgoraCallService {
     }
 
     /**
-     * 수신자에게 통화 알림 전송 (발신자 제외)
+     * 두 사용자 사이의 1:1 채팅방을 pair_key 로 한 번만 생성 (양쪽이 동시에 종료해도 방은 하나)
+     * 행을 만든 쪽만 멤버를 추가, 이미 있으면 (pair_key 중복) 아무것도 하지 않음
+     */
+    private void openPairChatRoom(Call call, User caller, User receiver) {
+        String pairKey = ChatRoom.pairKey(caller.getId(), receiver.getId());
+        if (chatRoomRepository.existsByPairKey(pairKey)
+                || !chatRoomRepository.insertIfAbsent(call.getId(), ChatRoomStatus.LIMITED.name(), pairKey)) {
+            return;
+        }
+        ChatRoom chatRoom = chatRoomRepository.findByPairKey(pairKey)
+                .orElseThrow(() -> new ExpectedException(ErrorCode.CHATROOM_NOT_FOUND));
+        call.linkChatRoom(chatRoom);
+
+        // ChatRoomMember 생성 및 저장 (메시지 제한 5회, LIMITED 상태)
+        ChatRoomMember callerMember = ChatRoomMember.of(caller, chatRoom);
+        ChatRoomMember receiverMember = ChatRoomMember.of(receiver, chatRoom);
+        chatRoomMemberRepository.saveAll(List.of(callerMember, receiverMember));
+        callerMember.resetMessageCount();
+        receiverMember.resetMessageCount();
+    }
+
+    /**
+     * 수신자에게 통화 요청 시그널 전송 (발신자 제외)
      */
     private void sendCallNotificationToReceiver(Call call, User caller, Long receiverId) {
         try {
-            // 닉네임
-
             // 자기 자신에게는 알림 X
             if (!caller.getId().equals(receiverId)) {
-                // ✅ fetch join 으로 이미지/프로필 미리 로딩 (세션 밖 Lazy 방지)
-                User callerLoaded = userRepository.findByIdWithImagesAndProfile(caller.getId())
-                        .orElse(caller);
-
-                String callerNickname = Optional.ofNullable(callerLoaded.getUserProfile())
-                        .map(p -> p.getNickname())
-                        .orElse("익명");
-
-                // 프로필 이미지 (없으면 빈 문자열)
-                String callerImage = callerLoaded.getImages() == null ? "" :
-                        callerLoaded.getImages().stream()
-                                .findFirst()
-                                .map(img -> {
-                                    // 프로젝트 필드에 맞춰 URL 구성
-                                    // 1) url 필드가 있으면 그걸 사용
-                                    try {
-                                        var urlMethod = img.getClass().getMethod("getUrl");
-                                        Object urlVal = urlMethod.invoke(img);
-                                        if (urlVal != null && !urlVal.toString().isBlank()) {
-                                            return urlVal.toString();
-                                        }
-                                    } catch (Exception ignore) { /* getUrl 없는 경우 무시 */ }
-
-                                    // 2) 없으면 path + serverImageName 조합 (필드명 다르면 맞게 바꿔줘)
-                                    try {
-                                        var path = (String) img.getClass().getMethod("getPath").invoke(img);
-                                        var name = (String) img.getClass().getMethod("getServerImageName").invoke(img);
-                                        if (path != null && name != null) return path + "/" + name;
-                                        if (path != null) return path;
-                                    } catch (Exception ignore) {}
-                                    return "";
-                                })
-                                .orElse("");
-
-                notificationService.sendCallNotification(
-                        receiverId,
-                        caller.getId(),
-                        callerNickname,
-                        call.getId(),
-                        call.getAgoraChannelName(),
-                        call.getAgoraToken(),
-                        callerImage
-                );
-
-                log.info("Call notification with details sent to user: {} from caller: {}, callId: {}",
-                        receiverId, caller.getId(), call.getId());
+                // 닉네임 / 프로필 이미지 (캐시된 사용자 카드, 이미지가 없으면 빈 문자열)
+                UserCard callerCard = userCardCache.get(caller.getId());
+                String callerNickname = callerCard.displayName();
+                String callerImage = callerCard.imageUrl();
+
+                Long callerId = caller.getId();
+                Long callId = call.getId();
+                String channelName = call.getAgoraChannelName();
+                String agoraToken = call.getAgoraToken();
+                callSignalingService.signal(receiverId,
+                        CallSignalDto.of(CallStatus.REQUESTED, callId, callerId, callerNickname, callerImage, channelName, agoraToken),
+                        () -> notificationService.sendCallNotification(receiverId, callerId, callerNickname,
+                                callId, channelName, agoraToken, callerImage));
+
+                log.info("Call signal with details queued for user: {} from caller: {}, callId: {}",
+                        receiverId, callerId, callId);
             } else {
                 log.warn("Attempted to send call notification to self: {}", caller.getId());
             }
@@ -254,6 +235,14 @@ public class AgoraCallService {
     /**
      * 내부 공용 메서드
      */
+    // REQUESTED → next 전이 (벨 타임아웃과 겹치면 먼저 전이한 쪽만 성공)
+    private void requireTransition(Call call, CallStatus next) {
+        if (call.getCallStatus() != CallStatus.REQUESTED
+                || !liveCallRegistry.transition(call.getId(), CallStatus.REQUESTED, next)) {
+            throw new ExpectedException(ErrorCode.INVALID_CALL_STATE);
+        }
+    }
+
     private Call getCall(Long callId) {
         return callRepository.findById(callId)
                 .orElseThrow(() -> new ExpectedException(ErrorCode.CALL_NOT_FOUND));
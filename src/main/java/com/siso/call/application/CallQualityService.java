@@ -0,0 +1,378 @@
+package com.siso.call.application;
+
+import com.siso.call.domain.model.Call;
+import com.siso.call.domain.model.CallQualityRollup;
+import com.siso.call.domain.repository.CallQualityRollupRepository;
+import com.siso.call.domain.repository.CallRepository;
+import com.siso.call.dto.request.CallQualitySampleDto;
+import com.siso.call.dto.response.CallQualityIngestResponseDto;
+import com.siso.call.dto.response.CallQualityRollupDto;
+import com.siso.call.dto.response.CallQualityStatsDto;
+import com.siso.call.infrastructure.properties.CallQualityProperties;
+import com.siso.common.exception.ErrorCode;
+import com.siso.common.exception.ExpectedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 통화 품질 텔레메트리 (클라이언트 Agora 통계) 수신 / 적재 / 요약
+ * - 요청 스레드는 검증 후 lock-free 큐에 넣고 참여자별 누적값만 갱신 (DB 접근 없음)
+ * - 전용 스레드가 주기적으로 큐를 비우며 call_quality_samples 에 JDBC 배치 INSERT
+ *   (배치마다 트랜잭션 한 번, 접속 URL 의 rewriteBatchedStatements=true 로 다중 행 INSERT 한 문장이 됨)
+ * - 버퍼가 가득 차면 새 샘플을 버림 (텔레메트리이므로 요청을 막거나 실패시키지 않음)
+ * - 참여자별 RTT / 손실률 분포를 고정 구간 히스토그램으로 누적하고, 통화가 끝나면 p50 / p95 요약을 한 번 저장
+ *   (요약을 저장한 (callId, userId) 는 잠시 기록해 두어 늦게 도착한 샘플이 누적값을 다시 만들지 않도록 함)
+ */
+@Slf4j
+@Service
+public class CallQualityService {
+    private static final String INSERT_SAMPLE = """
+            INSERT INTO call_quality_samples (call_id, user_id, sampled_at, rtt_ms, loss_permille, tx_kbps, rx_kbps)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final long MAX_CLOCK_SKEW_MILLIS = 60_000;
+    private static final long CLOSED_RETENTION_MILLIS = 600_000;
+
+    private final LiveCallRegistry liveCallRegistry;
+    private final CallRepository callRepository;
+    private final CallQualityRollupRepository callQualityRollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CallQualityProperties properties;
+
+    private final Queue<Sample> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    // (callId, userId) -> 진행 중 통화의 누적값
+    private final Map<RollupKey, Accumulator> rollups = new ConcurrentHashMap<>();
+    // 요약을 저장한 (callId, userId) -> 저장 시각 (CLOSED_RETENTION_MILLIS 뒤 정리)
+    private final Map<RollupKey, Long> closedRollups = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService writer;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder writeFailures = new LongAdder();
+    private final LongAdder rollupsWritten = new LongAdder();
+
+    public CallQualityService(LiveCallRegistry liveCallRegistry,
+                              CallRepository callRepository,
+                              CallQualityRollupRepository callQualityRollupRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              CallQualityProperties properties) {
+        this.liveCallRegistry = liveCallRegistry;
+        this.callRepository = callRepository;
+        this.callQualityRollupRepository = callQualityRollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-quality-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, properties.getFlushIntervalMillis(),
+                properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+        writer.scheduleWithFixedDelay(this::closeEndedCalls, properties.getRollupSweepSeconds(),
+                properties.getRollupSweepSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * 샘플 묶음 수신 - 진행 중인 통화의 참여자만 보낼 수 있음
+     */
+    public CallQualityIngestResponseDto ingest(Long callId, Long userId, List<CallQualitySampleDto> samples) {
+        int total = samples == null ? 0 : samples.size();
+        received.add(total);
+        if (!liveCallRegistry.isParticipant(callId, userId)) {
+            rejected.add(total);
+            throw new ExpectedException(ErrorCode.INVALID_CALL_STATE);
+        }
+        int accepted = properties.isEnabled() && total > 0 ? enqueue(callId, userId, samples) : 0;
+        dropped.add(total - accepted);
+        return new CallQualityIngestResponseDto(accepted, total - accepted);
+    }
+
+    /**
+     * 요청당 상한까지 버퍼에 넣고 누적값 갱신 (버퍼가 가득 차면 나머지는 버림)
+     * 참여자 확인 뒤 통화가 끝나 요약이 저장되었으면 받지 않음
+     *
+     * @return 버퍼에 넣은 샘플 수
+     */
+    private int enqueue(Long callId, Long userId, List<CallQualitySampleDto> samples) {
+        RollupKey rollupKey = new RollupKey(callId, userId);
+        Accumulator accumulator = rollups.computeIfAbsent(rollupKey, key -> new Accumulator());
+        // closeEndedCalls 는 기록 후 제거하므로, 제거 뒤 새로 만든 누적값이면 여기서 기록이 보임
+        if (closedRollups.containsKey(rollupKey)) {
+            rollups.remove(rollupKey, accumulator);
+            return 0;
+        }
+        int limit = Math.min(samples.size(), properties.getMaxSamplesPerRequest());
+        long now = System.currentTimeMillis();
+        int accepted = 0;
+        for (int i = 0; i < limit; i++) {
+            CallQualitySampleDto dto = samples.get(i);
+            if (dto == null) {
+                continue;
+            }
+            if (buffered.incrementAndGet() > properties.getMaxBufferedSamples()) {
+                buffered.decrementAndGet();
+                break;
+            }
+            Sample sample = Sample.of(callId, userId, dto, now);
+            if (!accumulator.add(sample)) {
+                // 요약 저장이 시작됨 (통화 종료)
+                buffered.decrementAndGet();
+                break;
+            }
+            buffer.add(sample);
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * 통화 품질 요약 (끝난 통화만, 참여자별) - 통화 참여자만 조회 가능
+     */
+    public List<CallQualityRollupDto> getRollups(Long callId, Long userId) {
+        Call call = callRepository.findById(callId)
+                .orElseThrow(() -> new ExpectedException(ErrorCode.CALL_NOT_FOUND));
+        if (!call.getCaller().getId().equals(userId) && !call.getReceiver().getId().equals(userId)) {
+            throw new ExpectedException(ErrorCode.ACCESS_DENIED);
+        }
+        return callQualityRollupRepository.findByCallIdOrderByUserId(callId).stream()
+                .map(CallQualityRollupDto::from)
+                .toList();
+    }
+
+    public CallQualityStatsDto getStats() {
+        return new CallQualityStatsDto(
+                received.sum(),
+                rejected.sum(),
+                dropped.sum(),
+                written.sum(),
+                writeFailures.sum(),
+                buffered.get(),
+                rollups.size(),
+                rollupsWritten.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+        flush(); // 남은 샘플 적재
+    }
+
+    /**
+     * 버퍼를 배치 단위로 비우며 적재 (writer 스레드)
+     */
+    private void flush() {
+        List<Sample> batch = new ArrayList<>(properties.getBatchSize());
+        Sample sample;
+        while ((sample = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            batch.add(sample);
+            if (batch.size() >= properties.getBatchSize()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    /**
+     * 배치 하나를 트랜잭션 하나로 적재 (자동 커밋이면 행마다 커밋 / fsync)
+     */
+    private void write(List<Sample> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SAMPLE, batch, batch.size(), (ps, s) -> {
+                        ps.setLong(1, s.callId);
+                        ps.setLong(2, s.userId);
+                        ps.setTimestamp(3, new Timestamp(s.sampledAt));
+                        setNullableInt(ps, 4, s.rttMs);
+                        setNullableInt(ps, 5, s.lossPermille);
+                        setNullableInt(ps, 6, s.txKbps);
+                        setNullableInt(ps, 7, s.rxKbps);
+                    }));
+            written.add(batch.size());
+        } catch (Exception e) {
+            writeFailures.add(batch.size());
+            log.warn("[CALL QUALITY] 샘플 {}건 적재 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    /**
+     * 끝난 통화의 누적값을 요약으로 저장하고 메모리에서 제거 (writer 스레드)
+     * 제거 전에 closedRollups 에 기록해, 그 사이 들어온 요청이 누적값을 다시 만들어 요약을 두 번 저장하지 않도록 함
+     */
+    private void closeEndedCalls() {
+        long now = System.currentTimeMillis();
+        closedRollups.values().removeIf(closedAt -> closedAt < now - CLOSED_RETENTION_MILLIS);
+        for (Map.Entry<RollupKey, Accumulator> entry : rollups.entrySet()) {
+            RollupKey key = entry.getKey();
+            if (liveCallRegistry.isActive(key.callId)) {
+                continue;
+            }
+            closedRollups.put(key, now);
+            if (!rollups.remove(key, entry.getValue())) {
+                continue;
+            }
+            try {
+                callQualityRollupRepository.save(entry.getValue().close(key.callId, key.userId));
+                rollupsWritten.increment();
+            } catch (Exception e) {
+                log.warn("[CALL QUALITY] 품질 요약 저장 실패: callId={}, userId={}, error={}",
+                        key.callId, key.userId, e.getMessage());
+            }
+        }
+    }
+
+    private record RollupKey(Long callId, Long userId) {
+    }
+
+    /**
+     * 적재 대기 중인 샘플 (값 범위는 컬럼에 맞게 잘라 둠)
+     */
+    private record Sample(long callId, long userId, long sampledAt,
+                          Integer rttMs, Integer lossPermille, Integer txKbps, Integer rxKbps) {
+
+        static Sample of(Long callId, Long userId, CallQualitySampleDto dto, long now) {
+            Long timestamp = dto.getTimestamp();
+            // 없거나 미래 시각이면 (단말 시계 오차) 서버 수신 시각
+            long sampledAt = timestamp == null || timestamp <= 0 || timestamp > now + MAX_CLOCK_SKEW_MILLIS
+                    ? now : timestamp;
+            Integer loss = dto.getPacketLossPercent() == null ? null
+                    : (int) Math.round(Math.max(0, Math.min(100, dto.getPacketLossPercent())) * 10);
+            return new Sample(callId, userId, sampledAt,
+                    clamp(dto.getRttMillis(), Short.MAX_VALUE), loss,
+                    clamp(dto.getTxKbps(), Integer.MAX_VALUE), clamp(dto.getRxKbps(), Integer.MAX_VALUE));
+        }
+
+        private static Integer clamp(Integer value, int max) {
+            return value == null ? null : Math.max(0, Math.min(value, max));
+        }
+    }
+
+    /**
+     * 참여자 한 명의 누적값
+     * RTT 는 5ms 구간 (1초 이상은 마지막 구간), 손실률은 1% 구간 히스토그램 → 분위수 오차는 구간 폭 이내
+     */
+    private static final class Accumulator {
+        private static final int RTT_BUCKET_MS = 5;
+        private static final int RTT_BUCKETS = 200 + 1;
+        private static final int LOSS_BUCKET_PERMILLE = 10;
+        private static final int LOSS_BUCKETS = 100 + 1;
+
+        private final int[] rttHistogram = new int[RTT_BUCKETS];
+        private final int[] lossHistogram = new int[LOSS_BUCKETS];
+        private int samples;
+        private int rttCount;
+        private int rttMax;
+        private int lossCount;
+        private long lossSum;
+        private int txCount;
+        private long txSum;
+        private int rxCount;
+        private long rxSum;
+        private long firstAt = Long.MAX_VALUE;
+        private long lastAt;
+        private boolean closed;
+
+        /**
+         * @return 요약 저장이 시작되어 받지 않았으면 false
+         */
+        synchronized boolean add(Sample sample) {
+            if (closed) {
+                return false;
+            }
+            samples++;
+            firstAt = Math.min(firstAt, sample.sampledAt);
+            lastAt = Math.max(lastAt, sample.sampledAt);
+            if (sample.rttMs != null) {
+                rttHistogram[Math.min(sample.rttMs / RTT_BUCKET_MS, RTT_BUCKETS - 1)]++;
+                rttCount++;
+                rttMax = Math.max(rttMax, sample.rttMs);
+            }
+            if (sample.lossPermille != null) {
+                lossHistogram[Math.min(sample.lossPermille / LOSS_BUCKET_PERMILLE, LOSS_BUCKETS - 1)]++;
+                lossCount++;
+                lossSum += sample.lossPermille;
+            }
+            if (sample.txKbps != null) {
+                txCount++;
+                txSum += sample.txKbps;
+            }
+            if (sample.rxKbps != null) {
+                rxCount++;
+                rxSum += sample.rxKbps;
+            }
+            return true;
+        }
+
+        // 이후 샘플은 받지 않고 요약 생성
+        synchronized CallQualityRollup close(Long callId, Long userId) {
+            closed = true;
+            return CallQualityRollup.builder()
+                    .callId(callId)
+                    .userId(userId)
+                    .sampleCount(samples)
+                    .rttP50Ms(rttCount == 0 ? null : percentile(rttHistogram, rttCount, 0.50) * RTT_BUCKET_MS)
+                    .rttP95Ms(rttCount == 0 ? null : percentile(rttHistogram, rttCount, 0.95) * RTT_BUCKET_MS)
+                    .rttMaxMs(rttCount == 0 ? null : rttMax)
+                    .lossAvgPermille(lossCount == 0 ? null : (int) (lossSum / lossCount))
+                    .lossP95Permille(lossCount == 0 ? null : percentile(lossHistogram, lossCount, 0.95) * LOSS_BUCKET_PERMILLE)
+                    .txAvgKbps(txCount == 0 ? null : (int) (txSum / txCount))
+                    .rxAvgKbps(rxCount == 0 ? null : (int) (rxSum / rxCount))
+                    .firstSampleAt(samples == 0 ? null : toDateTime(firstAt))
+                    .lastSampleAt(samples == 0 ? null : toDateTime(lastAt))
+                    .build();
+        }
+
+        // 분위수가 속한 구간 번호
+        private static int percentile(int[] histogram, int count, double quantile) {
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return histogram.length - 1;
+        }
+
+        private static LocalDateTime toDateTime(long epochMillis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.siso.call.application;
 
-import com.siso.call.domain.model.Call;
 import com.siso.call.domain.repository.CallRepository;
 
 import com.siso.call.dto.response.CallResponseDto;
 import com.siso.user.domain.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,32 +15,28 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CallService {
+    // size 없이 호출해도 전체 기록을 읽지 않도록 기본 페이지 크기 적용, 요청 크기는 MAX_PAGE_SIZE 까지
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CallRepository callRepository;
 
-    // 발신자 기준 조회
-    public List<CallResponseDto> getCallsByCaller(User caller) {
-        return callRepository.findByCallerId(caller.getId()).stream()
-                .map(this::toResponseDto)
-                .toList();
+    // 발신자 기준 조회 - beforeId 이전(없으면 최신) 한 페이지 (size 가 없으면 기본 크기)
+    public List<CallResponseDto> getCallsByCaller(User caller, Long beforeId, Integer size) {
+        return callRepository.findHistoryByCallerId(caller.getId(), cursor(beforeId), pageRequest(size));
+    }
+
+    // 수신자 기준 조회 - beforeId 이전(없으면 최신) 한 페이지 (size 가 없으면 기본 크기)
+    public List<CallResponseDto> getCallsByReceiver(User receiver, Long beforeId, Integer size) {
+        return callRepository.findHistoryByReceiverId(receiver.getId(), cursor(beforeId), pageRequest(size));
     }
 
-    // 수신자 기준 조회
-    public List<CallResponseDto> getCallsByReceiver(User receiver) {
-        return callRepository.findByReceiverId(receiver.getId()).stream()
-                .map(this::toResponseDto)
-                .toList();
+    private static Long cursor(Long beforeId) {
+        return beforeId != null ? beforeId : Long.MAX_VALUE;
     }
 
-    // Call → AgoraCallResponseDto 변환
-    private CallResponseDto toResponseDto(Call call) {
-        return new CallResponseDto(
-                true,
-                call.getAgoraToken(),
-                call.getAgoraChannelName(),
-                call.getCaller().getId(),
-                call.getReceiver().getId(),
-                call.getCallStatus(),
-                call.getDuration()
-        );
+    private static PageRequest pageRequest(Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        return PageRequest.of(0, Math.min(Math.max(pageSize, 1), MAX_PAGE_SIZE));
     }
-}
\ No newline at end of file
+}
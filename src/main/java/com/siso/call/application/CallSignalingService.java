@@ -0,0 +1,161 @@
+package com.siso.call.application;
+
+import com.siso.call.dto.response.CallSignalDto;
+import com.siso.call.dto.response.CallSignalingStatsDto;
+import com.siso.call.infrastructure.properties.CallSignalingProperties;
+import com.siso.chat.infrastructure.OnlineUserRegistry;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import com.siso.common.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 통화 시그널링 (요청 / 취소 / 수락 / 거절) 전달
+ * - 상대가 접속 중이면 /user/queue/call 로 바로 보내고 ack 를 기다림
+ * - ack 가 대기 시간 안에 오지 않거나 접속 중이 아니면 fcmFallback (기존 FCM 통화 알림) 을 한 번만 실행
+ * - ack 를 받으면 알림 행 / FCM 전송 없이 끝남 (통화 기록은 calls 테이블에 남음)
+ * - fcmFallback 이 null 이면 WebSocket 으로만 보냄 (자동 종료 안내처럼 놓쳐도 되는 시그널)
+ */
+@Slf4j
+@Service
+public class CallSignalingService {
+    public static final String DESTINATION = "/queue/call";
+
+    private final OnlineUserRegistry onlineUserRegistry;
+    private final UserQueueMessenger userQueueMessenger;
+    private final CallSignalingProperties properties;
+
+    // signalId -> ack 대기
+    private final Map<String, PendingSignal> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService fallbackExecutor;
+
+    private final LongAdder websocketSent = new LongAdder();
+    private final LongAdder websocketAcked = new LongAdder();
+    private final LongAdder ackTimeouts = new LongAdder();
+    private final LongAdder offline = new LongAdder();
+    private final LongAdder ackMillisSum = new LongAdder();
+
+    public CallSignalingService(OnlineUserRegistry onlineUserRegistry,
+                                UserQueueMessenger userQueueMessenger,
+                                CallSignalingProperties properties) {
+        this.onlineUserRegistry = onlineUserRegistry;
+        this.userQueueMessenger = userQueueMessenger;
+        this.properties = properties;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-signal-ack-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // FCM 폴백은 DB 기록 + outbox 를 거치므로 타이머 스레드를 붙잡지 않도록 별도 스레드에서
+        this.fallbackExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "call-signal-fallback");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 상대에게 시그널 전달 - 접속 중이면 WebSocket, 아니면 (또는 ack 가 없으면) fcmFallback
+     * 트랜잭션 안에서 호출하면 커밋 후 전송 (상대가 받자마자 통화 상태를 조회해도 반영되어 있도록)
+     * fcmFallback 은 항상 별도 스레드에서 자체 트랜잭션으로 실행됨
+     */
+    public void signal(Long receiverId, CallSignalDto signal, Runnable fcmFallback) {
+        TransactionUtil.afterCommit(() -> dispatch(receiverId, signal, fcmFallback));
+    }
+
+    private void dispatch(Long receiverId, CallSignalDto signal, Runnable fcmFallback) {
+        if (!properties.isWebsocketFirst()
+                || !onlineUserRegistry.isOnline(String.valueOf(receiverId))
+                || pending.size() >= properties.getMaxPendingAcks()) {
+            offline.increment();
+            fallback(signal.callId(), fcmFallback);
+            return;
+        }
+
+        PendingSignal waiting = new PendingSignal(receiverId, signal.callId(), System.currentTimeMillis(), fcmFallback);
+        pending.put(signal.signalId(), waiting);
+        try {
+            userQueueMessenger.sendToUser(receiverId, DESTINATION, signal);
+            timer.schedule(() -> expire(signal.signalId(), waiting), properties.getAckTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            pending.remove(signal.signalId(), waiting);
+            log.warn("[CALL SIGNAL] WebSocket 전송 실패, FCM 으로 전송: callId={}, error={}", signal.callId(), e.getMessage());
+            offline.increment();
+            fallback(signal.callId(), fcmFallback);
+            return;
+        }
+        websocketSent.increment();
+        log.info("[CALL SIGNAL] {} -> userId={} via WebSocket, callId={}", signal.status(), receiverId, signal.callId());
+    }
+
+    /**
+     * 클라이언트 ack - 수신자 본인의 ack 만 인정
+     */
+    public void acknowledge(Long userId, String signalId) {
+        if (signalId == null) {
+            return;
+        }
+        PendingSignal waiting = pending.get(signalId);
+        if (waiting == null || !waiting.receiverId.equals(userId) || !pending.remove(signalId, waiting)) {
+            return; // 이미 처리됨 (늦은 ack / 중복 ack)
+        }
+        websocketAcked.increment();
+        ackMillisSum.add(System.currentTimeMillis() - waiting.sentAt);
+    }
+
+    public CallSignalingStatsDto getStats() {
+        long acked = websocketAcked.sum();
+        return new CallSignalingStatsDto(
+                websocketSent.sum(),
+                acked,
+                ackTimeouts.sum(),
+                offline.sum(),
+                pending.size(),
+                acked == 0 ? 0 : ackMillisSum.sum() / acked
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        fallbackExecutor.shutdown();
+    }
+
+    private void expire(String signalId, PendingSignal waiting) {
+        if (!pending.remove(signalId, waiting)) {
+            return;
+        }
+        ackTimeouts.increment();
+        log.info("[CALL SIGNAL] ack 없음, FCM 으로 전송: callId={}, receiverId={}", waiting.callId, waiting.receiverId);
+        fallback(waiting.callId, waiting.fcmFallback);
+    }
+
+    /**
+     * FCM 폴백 실행 - 커밋 후 콜백 안에서는 새 트랜잭션이 열리지 않으므로 항상 별도 스레드에서
+     */
+    private void fallback(Long callId, Runnable fcmFallback) {
+        if (fcmFallback == null) {
+            return;
+        }
+        try {
+            fallbackExecutor.execute(() -> {
+                try {
+                    fcmFallback.run();
+                } catch (Exception e) {
+                    log.warn("[CALL SIGNAL] FCM 폴백 실패: callId={}, error={}", callId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[CALL SIGNAL] 종료 중 - FCM 폴백 생략: callId={}", callId);
+        }
+    }
+
+    private record PendingSignal(Long receiverId, Long callId, long sentAt, Runnable fcmFallback) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.siso.call.application;
+
+import com.siso.call.domain.model.Call;
+import com.siso.call.domain.model.CallStatus;
+import com.siso.call.domain.repository.CallRepository;
+import com.siso.call.dto.response.CallSignalDto;
+import com.siso.notification.application.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 타임아웃으로 끝난 통화의 DB 반영 + 양쪽에 시그널 전송
+ * LiveCallRegistry 가 메모리 상태 전이에 성공한 뒤 별도 스레드에서 호출 (DB 상태가 이미 바뀌었으면 아무것도 하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallTimeoutService {
+    private final CallRepository callRepository;
+    private final CallSignalingService callSignalingService;
+    private final NotificationService notificationService;
+
+    /**
+     * 벨 시간 안에 받지 않은 통화 → CANCELED
+     * 수신자에게는 벨을 멈추도록 취소 시그널 (접속 중이 아니면 FCM 취소 알림), 발신자에게는 WebSocket 으로만 안내
+     */
+    @Transactional
+    public void cancelUnanswered(Long callId) {
+        Call call = callRepository.findById(callId).orElse(null);
+        if (call == null || call.getCallStatus() != CallStatus.REQUESTED) {
+            return;
+        }
+        call.endCall();
+        call.updateCallStatus(CallStatus.CANCELED);
+
+        Long callerId = call.getCaller().getId();
+        Long receiverId = call.getReceiver().getId();
+        callSignalingService.signal(receiverId,
+                CallSignalDto.of(CallStatus.CANCELED, callId, callerId, null, null, null, null),
+                () -> notificationService.sendCallCanceledNotification(receiverId, callerId, callId));
+        callSignalingService.signal(callerId,
+                CallSignalDto.of(CallStatus.CANCELED, callId, callerId, null, null, null, null), null);
+        log.info("[CALL] 응답 없음 - 자동 취소: callId={}, callerId={}, receiverId={}", callId, callerId, receiverId);
+    }
+
+    /**
+     * 최대 통화 시간을 넘긴 통화 → ENDED, 양쪽에 종료 시그널
+     */
+    @Transactional
+    public void endOverlong(Long callId) {
+        Call call = callRepository.findById(callId).orElse(null);
+        if (call == null || call.getCallStatus() != CallStatus.ACCEPT) {
+            return;
+        }
+        call.endCall();
+
+        Long callerId = call.getCaller().getId();
+        Long receiverId = call.getReceiver().getId();
+        for (Long userId : List.of(callerId, receiverId)) {
+            callSignalingService.signal(userId,
+                    CallSignalDto.of(CallStatus.ENDED, callId, callerId, null, null, null, null), null);
+        }
+        log.info("[CALL] 최대 통화 시간 초과 - 자동 종료: callId={}, duration={}s", callId, call.getDuration());
+    }
+}
@@ -0,0 +1,301 @@
+package com.siso.call.application;
+
+import com.siso.call.domain.model.CallStatus;
+import com.siso.call.domain.repository.CallRepository;
+import com.siso.call.dto.ActiveCallRow;
+import com.siso.call.dto.response.LiveCallStatsDto;
+import com.siso.call.infrastructure.properties.CallLifecycleProperties;
+import com.siso.common.exception.ErrorCode;
+import com.siso.common.exception.ExpectedException;
+import com.siso.common.util.HashedTimingWheel;
+import com.siso.common.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중 통화 (REQUESTED / ACCEPT) 의 메모리 상태
+ * - 통화 요청 시 발신자 / 수신자를 통화 중으로 잡음 (putIfAbsent) → 통화 중인 사용자에게 오는 두 번째 요청은 조회 없이 거절
+ * - 상태 전이는 compare-and-set 으로 한 번만 성공 (수락과 벨 타임아웃이 겹치면 먼저 전이한 쪽만 DB 에 반영)
+ * - 전이 / 종료는 커밋 전에 메모리에 먼저 반영하고, 트랜잭션이 롤백되면 이전 상태와 남은 타임아웃으로 되돌림
+ * - 벨 시간 / 최대 통화 시간은 타이밍 휠로 관리, 만료되면 CallTimeoutService 가 DB 반영 + 시그널 전송
+ * - DB 는 상태가 바뀔 때만 씀, 기동 시 DB 의 진행 중 통화를 다시 올려 남은 시간만큼 타임아웃을 건다
+ */
+@Slf4j
+@Service
+public class LiveCallRegistry {
+    private static final EnumSet<CallStatus> ACTIVE = EnumSet.of(CallStatus.REQUESTED, CallStatus.ACCEPT);
+
+    private final CallRepository callRepository;
+    private final CallTimeoutService callTimeoutService;
+    private final CallLifecycleProperties properties;
+
+    // callId -> 진행 중 통화
+    private final Map<Long, LiveCall> calls = new ConcurrentHashMap<>();
+    // userId -> 참여 중인 통화
+    private final Map<Long, LiveCall> busyUsers = new ConcurrentHashMap<>();
+    private final HashedTimingWheel wheel;
+    private final ExecutorService expiryExecutor;
+
+    private final LongAdder busyRejections = new LongAdder();
+    private final LongAdder ringTimeouts = new LongAdder();
+    private final LongAdder durationTimeouts = new LongAdder();
+
+    public LiveCallRegistry(CallRepository callRepository,
+                            CallTimeoutService callTimeoutService,
+                            CallLifecycleProperties properties) {
+        this.callRepository = callRepository;
+        this.callTimeoutService = callTimeoutService;
+        this.properties = properties;
+        this.wheel = new HashedTimingWheel("call-timeout-wheel", properties.getTickMillis(), properties.getWheelSize());
+        // 만료 시 DB 반영은 휠 스레드를 붙잡지 않도록 별도 스레드에서
+        this.expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "call-timeout-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 시 DB 에 남은 진행 중 통화 복구 (이미 시간이 지난 통화는 다음 tick 에 바로 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<ActiveCallRow> rows = callRepository.findActiveCalls(ACTIVE);
+        LocalDateTime now = LocalDateTime.now();
+        for (ActiveCallRow row : rows) {
+            LiveCall call = new LiveCall(row.callerId(), row.receiverId(), row.callStatus());
+            call.callId = row.id();
+            calls.put(row.id(), call);
+            busyUsers.putIfAbsent(row.callerId(), call);
+            busyUsers.putIfAbsent(row.receiverId(), call);
+
+            long elapsed = row.startTime() == null ? Long.MAX_VALUE : Duration.between(row.startTime(), now).toMillis();
+            schedule(call, row.callStatus(), Math.max(0, limitMillis(row.callStatus()) - elapsed));
+        }
+        if (!rows.isEmpty()) {
+            log.info("[CALL] 진행 중 통화 복구: {}건", rows.size());
+        }
+    }
+
+    /**
+     * 통화 요청 전 발신자 / 수신자를 통화 중으로 잡음 - 둘 중 하나라도 이미 통화 중이면 USER_IN_CALL
+     * 트랜잭션이 롤백되면 자동으로 풀림
+     */
+    public LiveCall reserve(Long callerId, Long receiverId) {
+        LiveCall call = new LiveCall(callerId, receiverId, CallStatus.REQUESTED);
+        if (busyUsers.putIfAbsent(callerId, call) != null) {
+            busyRejections.increment();
+            throw new ExpectedException(ErrorCode.USER_IN_CALL);
+        }
+        if (!receiverId.equals(callerId) && busyUsers.putIfAbsent(receiverId, call) != null) {
+            busyUsers.remove(callerId, call);
+            busyRejections.increment();
+            throw new ExpectedException(ErrorCode.USER_IN_CALL);
+        }
+        TransactionUtil.afterRollback(() -> release(call));
+        return call;
+    }
+
+    /**
+     * 저장된 통화 id 를 붙이고 벨 타임아웃 시작
+     */
+    public void ringing(LiveCall call, Long callId) {
+        call.callId = callId;
+        calls.put(callId, call);
+        schedule(call, CallStatus.REQUESTED, limitMillis(CallStatus.REQUESTED));
+    }
+
+    /**
+     * from → to 전이 (ACCEPT 면 최대 통화 시간 타임아웃 시작, 끝난 상태면 통화 중 해제)
+     *
+     * @return 추적 중인 통화의 현재 상태가 from 이 아니면 false (추적하지 않는 통화는 DB 상태로 판단하도록 true)
+     */
+    public boolean transition(Long callId, CallStatus from, CallStatus to) {
+        LiveCall call = calls.get(callId);
+        if (call == null) {
+            return true;
+        }
+        if (!call.status.compareAndSet(from, to)) {
+            return false;
+        }
+        long remainingMillis = call.remainingMillis();
+        call.cancelTimeout();
+        if (ACTIVE.contains(to)) {
+            schedule(call, to, limitMillis(to));
+        } else {
+            release(call);
+        }
+        TransactionUtil.afterRollback(() -> restore(call, to, from, remainingMillis));
+        return true;
+    }
+
+    /**
+     * 어떤 상태든 통화 종료 (ENDED)
+     */
+    public void end(Long callId) {
+        LiveCall call = calls.get(callId);
+        if (call == null) {
+            return;
+        }
+        CallStatus previous = call.status.getAndSet(CallStatus.ENDED);
+        if (ACTIVE.contains(previous)) {
+            long remainingMillis = call.remainingMillis();
+            release(call);
+            TransactionUtil.afterRollback(() -> restore(call, CallStatus.ENDED, previous, remainingMillis));
+        }
+    }
+
+    public boolean isBusy(Long userId) {
+        return busyUsers.containsKey(userId);
+    }
+
+    /**
+     * 진행 중인 통화인지 (끝났거나 모르는 통화면 false)
+     */
+    public boolean isActive(Long callId) {
+        LiveCall call = calls.get(callId);
+        return call != null && ACTIVE.contains(call.status.get());
+    }
+
+    /**
+     * 진행 중인 통화의 참여자인지
+     */
+    public boolean isParticipant(Long callId, Long userId) {
+        LiveCall call = calls.get(callId);
+        return call != null && ACTIVE.contains(call.status.get())
+                && (call.callerId.equals(userId) || call.receiverId.equals(userId));
+    }
+
+    public LiveCallStatsDto getStats() {
+        int ringing = 0;
+        int inCall = 0;
+        for (LiveCall call : calls.values()) {
+            CallStatus status = call.status.get();
+            if (status == CallStatus.REQUESTED) {
+                ringing++;
+            } else if (status == CallStatus.ACCEPT) {
+                inCall++;
+            }
+        }
+        return new LiveCallStatsDto(
+                ringing,
+                inCall,
+                busyUsers.size(),
+                busyRejections.sum(),
+                ringTimeouts.sum(),
+                durationTimeouts.sum(),
+                wheel.pendingTimeouts()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    private void schedule(LiveCall call, CallStatus state, long delayMillis) {
+        call.deadlineMillis = System.currentTimeMillis() + delayMillis;
+        call.timeout = wheel.schedule(() -> expire(call, state), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 롤백된 전이 되돌림 - 그사이 다른 전이가 있었으면 그대로 둠
+     */
+    private void restore(LiveCall call, CallStatus current, CallStatus previous, long remainingMillis) {
+        if (!call.status.compareAndSet(current, previous)) {
+            return;
+        }
+        call.cancelTimeout();
+        calls.put(call.callId, call);
+        busyUsers.putIfAbsent(call.callerId, call);
+        busyUsers.putIfAbsent(call.receiverId, call);
+        schedule(call, previous, remainingMillis);
+        log.info("[CALL] 롤백으로 통화 상태 복구: callId={}, {} → {}", call.callId, current, previous);
+    }
+
+    /**
+     * 휠 스레드에서 실행 - 상태 전이만 하고 DB 반영은 expiryExecutor 로 넘김
+     */
+    private void expire(LiveCall call, CallStatus state) {
+        boolean ringing = state == CallStatus.REQUESTED;
+        if (!call.status.compareAndSet(state, ringing ? CallStatus.CANCELED : CallStatus.ENDED)) {
+            return; // 그사이 수락 / 거절 / 종료됨
+        }
+        release(call);
+        (ringing ? ringTimeouts : durationTimeouts).increment();
+
+        Long callId = call.callId;
+        try {
+            expiryExecutor.execute(() -> {
+                try {
+                    if (ringing) {
+                        callTimeoutService.cancelUnanswered(callId);
+                    } else {
+                        callTimeoutService.endOverlong(callId);
+                    }
+                } catch (Exception e) {
+                    log.warn("[CALL] 자동 종료 반영 실패: callId={}, error={}", callId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[CALL] 종료 중 - 자동 종료 반영 생략: callId={}", callId);
+        }
+    }
+
+    private void release(LiveCall call) {
+        call.cancelTimeout();
+        if (call.callId != null) {
+            calls.remove(call.callId, call);
+        }
+        busyUsers.remove(call.callerId, call);
+        busyUsers.remove(call.receiverId, call);
+    }
+
+    private long limitMillis(CallStatus state) {
+        return state == CallStatus.REQUESTED
+                ? TimeUnit.SECONDS.toMillis(properties.getRingTimeoutSeconds())
+                : TimeUnit.MINUTES.toMillis(properties.getMaxDurationMinutes());
+    }
+
+    /**
+     * 진행 중 통화 하나 (callId 는 저장 후에 붙음)
+     */
+    public static final class LiveCall {
+        private final Long callerId;
+        private final Long receiverId;
+        private final AtomicReference<CallStatus> status;
+        private volatile Long callId;
+        private volatile HashedTimingWheel.Timeout timeout;
+        private volatile long deadlineMillis; // 현재 타임아웃 만료 시각
+
+        private LiveCall(Long callerId, Long receiverId, CallStatus status) {
+            this.callerId = callerId;
+            this.receiverId = receiverId;
+            this.status = new AtomicReference<>(status);
+        }
+
+        private long remainingMillis() {
+            return Math.max(0, deadlineMillis - System.currentTimeMillis());
+        }
+
+        private void cancelTimeout() {
+            HashedTimingWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
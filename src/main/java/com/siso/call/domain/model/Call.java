@@ -15,7 +15,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "calls")
+@Table(name = "calls", indexes = {
+        @Index(name = "idx_calls_caller_id", columnList = "caller_id, id"),
+        @Index(name = "idx_calls_receiver_id", columnList = "receiver_id, id"),
+        @Index(name = "idx_calls_call_status", columnList = "call_status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Call {
@@ -71,14 +75,16 @@ public class Call {
         this.chatRoom = chatRoom;
     }
 
-    public void addCallReview(String comment, int rating) {
+    public CallReview addCallReview(User evaluator, String comment, int rating) {
         CallReview callReview = CallReview.builder()
                 .call(this) // 현재 Call과 연결
+                .evaluator(evaluator)
                 .comment(comment)
                 .rating(rating)
                 .build();
 
         this.callReviews.add(callReview);
+        return callReview;
     }
 
     @Builder
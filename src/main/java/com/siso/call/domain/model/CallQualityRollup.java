@@ -0,0 +1,80 @@
+package com.siso.call.domain.model;
+
+import com.siso.common.domain.BaseTime;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 참여자별 품질 요약 (통화가 끝나면 메모리에서 누적한 값으로 한 번 저장)
+ */
+@Entity
+@Table(name = "call_quality_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_call_quality_rollups_call_user", columnNames = {"call_id", "user_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallQualityRollup extends BaseTime {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "call_id", nullable = false)
+    private Long callId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sample_count", nullable = false)
+    private int sampleCount;
+
+    @Column(name = "rtt_p50_ms")
+    private Integer rttP50Ms;
+
+    @Column(name = "rtt_p95_ms")
+    private Integer rttP95Ms;
+
+    @Column(name = "rtt_max_ms")
+    private Integer rttMaxMs;
+
+    @Column(name = "loss_avg_permille")
+    private Integer lossAvgPermille;
+
+    @Column(name = "loss_p95_permille")
+    private Integer lossP95Permille;
+
+    @Column(name = "tx_avg_kbps")
+    private Integer txAvgKbps;
+
+    @Column(name = "rx_avg_kbps")
+    private Integer rxAvgKbps;
+
+    @Column(name = "first_sample_at")
+    private LocalDateTime firstSampleAt;
+
+    @Column(name = "last_sample_at")
+    private LocalDateTime lastSampleAt;
+
+    @Builder
+    public CallQualityRollup(Long callId, Long userId, int sampleCount, Integer rttP50Ms, Integer rttP95Ms,
+                             Integer rttMaxMs, Integer lossAvgPermille, Integer lossP95Permille,
+                             Integer txAvgKbps, Integer rxAvgKbps,
+                             LocalDateTime firstSampleAt, LocalDateTime lastSampleAt) {
+        this.callId = callId;
+        this.userId = userId;
+        this.sampleCount = sampleCount;
+        this.rttP50Ms = rttP50Ms;
+        this.rttP95Ms = rttP95Ms;
+        this.rttMaxMs = rttMaxMs;
+        this.lossAvgPermille = lossAvgPermille;
+        this.lossP95Permille = lossP95Permille;
+        this.txAvgKbps = txAvgKbps;
+        this.rxAvgKbps = rxAvgKbps;
+        this.firstSampleAt = firstSampleAt;
+        this.lastSampleAt = lastSampleAt;
+    }
+}
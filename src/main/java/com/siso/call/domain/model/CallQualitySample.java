@@ -0,0 +1,45 @@
+package com.siso.call.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 품질 샘플 한 건 (클라이언트 Agora 통계, 참여자별 몇 초 간격)
+ * 행이 많으므로 외래키 없이 작은 컬럼만 두고, CallQualityService 가 JDBC 배치로만 적재
+ */
+@Entity
+@Table(name = "call_quality_samples", indexes = {
+        @Index(name = "idx_call_quality_samples_call_id", columnList = "call_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallQualitySample {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "call_id", nullable = false)
+    private Long callId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "sampled_at", nullable = false, columnDefinition = "DATETIME(3)")
+    private LocalDateTime sampledAt;
+
+    @Column(name = "rtt_ms", columnDefinition = "SMALLINT")
+    private Integer rttMs;
+
+    @Column(name = "loss_permille", columnDefinition = "SMALLINT")
+    private Integer lossPermille; // 패킷 손실률 (0.1% 단위)
+
+    @Column(name = "tx_kbps")
+    private Integer txKbps;
+
+    @Column(name = "rx_kbps")
+    private Integer rxKbps;
+}
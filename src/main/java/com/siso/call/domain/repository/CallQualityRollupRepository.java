@@ -0,0 +1,11 @@
+package com.siso.call.domain.repository;
+
+import com.siso.call.domain.model.CallQualityRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CallQualityRollupRepository extends JpaRepository<CallQualityRollup, Long> {
+    // 통화 참여자별 품질 요약
+    List<CallQualityRollup> findByCallIdOrderByUserId(Long callId);
+}
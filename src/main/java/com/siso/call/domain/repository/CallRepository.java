@@ -1,14 +1,57 @@
 package com.siso.call.domain.repository;
 
 import com.siso.call.domain.model.Call;
+import com.siso.call.domain.model.CallStatus;
+import com.siso.call.dto.ActiveCallRow;
+import com.siso.call.dto.response.CallResponseDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CallRepository extends JpaRepository<Call, Long> {
-    // 발신자 조회
-    List<Call> findByCallerId(Long callerId);
+    // 발신 기록 (최신순, beforeId 미만) - 상대(수신자) 닉네임 / 첫 번째 이미지까지 한 번에
+    @Query("""
+           SELECT new com.siso.call.dto.response.CallResponseDto(
+               c.id, true, c.agoraToken, c.agoraChannelName, c.caller.id, c.receiver.id,
+               c.callStatus, c.duration, c.startTime,
+               c.receiver.id, p.nickname,
+               (SELECT i.path FROM Image i
+                WHERE i.id = (SELECT MIN(i2.id) FROM Image i2 WHERE i2.user.id = c.receiver.id)))
+           FROM Call c
+           LEFT JOIN UserProfile p ON p.user.id = c.receiver.id
+           WHERE c.caller.id = :callerId AND c.id < :beforeId
+           ORDER BY c.id DESC
+           """)
+    List<CallResponseDto> findHistoryByCallerId(@Param("callerId") Long callerId,
+                                                @Param("beforeId") Long beforeId,
+                                                Pageable pageable);
 
-    // 수신자 조회
-    List<Call> findByReceiverId(Long receiverId);
-}
\ No newline at end of file
+    // 수신 기록 (최신순, beforeId 미만) - 상대(발신자) 닉네임 / 첫 번째 이미지까지 한 번에
+    @Query("""
+           SELECT new com.siso.call.dto.response.CallResponseDto(
+               c.id, true, c.agoraToken, c.agoraChannelName, c.caller.id, c.receiver.id,
+               c.callStatus, c.duration, c.startTime,
+               c.caller.id, p.nickname,
+               (SELECT i.path FROM Image i
+                WHERE i.id = (SELECT MIN(i2.id) FROM Image i2 WHERE i2.user.id = c.caller.id)))
+           FROM Call c
+           LEFT JOIN UserProfile p ON p.user.id = c.caller.id
+           WHERE c.receiver.id = :receiverId AND c.id < :beforeId
+           ORDER BY c.id DESC
+           """)
+    List<CallResponseDto> findHistoryByReceiverId(@Param("receiverId") Long receiverId,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Pageable pageable);
+
+    // 진행 중 통화 (기동 시 LiveCallRegistry 복구용)
+    @Query("""
+           SELECT new com.siso.call.dto.ActiveCallRow(c.id, c.caller.id, c.receiver.id, c.callStatus, c.startTime)
+           FROM Call c
+           WHERE c.callStatus IN :statuses
+           """)
+    List<ActiveCallRow> findActiveCalls(@Param("statuses") Collection<CallStatus> statuses);
+}
@@ -0,0 +1,11 @@
+package com.siso.call.dto;
+
+import com.siso.call.domain.model.CallStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기동 시 진행 중 통화 복구용 한 행 (REQUESTED / ACCEPT)
+ */
+public record ActiveCallRow(Long id, Long callerId, Long receiverId, CallStatus callStatus, LocalDateTime startTime) {
+}
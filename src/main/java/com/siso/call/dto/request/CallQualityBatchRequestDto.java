@@ -0,0 +1,16 @@
+package com.siso.call.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 통화 품질 샘플 묶음 (클라이언트가 몇 초 ~ 수십 초 분량을 모아서 전송)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallQualityBatchRequestDto {
+    private List<CallQualitySampleDto> samples;
+}
@@ -0,0 +1,18 @@
+package com.siso.call.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트 Agora 통계 샘플 하나 (값이 없는 항목은 null)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallQualitySampleDto {
+    private Long timestamp;             // 측정 시각 (epoch ms, 없으면 서버 수신 시각)
+    private Integer rttMillis;
+    private Double packetLossPercent;   // 0 ~ 100
+    private Integer txKbps;
+    private Integer rxKbps;
+}
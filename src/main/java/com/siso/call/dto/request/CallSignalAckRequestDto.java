@@ -0,0 +1,11 @@
+package com.siso.call.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CallSignalAckRequestDto {
+    private String signalId;
+}
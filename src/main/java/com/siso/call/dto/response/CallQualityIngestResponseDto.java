@@ -0,0 +1,10 @@
+package com.siso.call.dto.response;
+
+/**
+ * 품질 샘플 수신 결과
+ */
+public record CallQualityIngestResponseDto(
+        int accepted,
+        int dropped                 // 버퍼가 가득 차 버린 수 (클라이언트는 재전송하지 않음)
+) {
+}
@@ -0,0 +1,31 @@
+package com.siso.call.dto.response;
+
+import com.siso.call.domain.model.CallQualityRollup;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통화 참여자별 품질 요약 (손실률은 0.1% 단위)
+ */
+public record CallQualityRollupDto(
+        Long callId,
+        Long userId,
+        int sampleCount,
+        Integer rttP50Ms,
+        Integer rttP95Ms,
+        Integer rttMaxMs,
+        Integer lossAvgPermille,
+        Integer lossP95Permille,
+        Integer txAvgKbps,
+        Integer rxAvgKbps,
+        LocalDateTime firstSampleAt,
+        LocalDateTime lastSampleAt
+) {
+    public static CallQualityRollupDto from(CallQualityRollup rollup) {
+        return new CallQualityRollupDto(rollup.getCallId(), rollup.getUserId(), rollup.getSampleCount(),
+                rollup.getRttP50Ms(), rollup.getRttP95Ms(), rollup.getRttMaxMs(),
+                rollup.getLossAvgPermille(), rollup.getLossP95Permille(),
+                rollup.getTxAvgKbps(), rollup.getRxAvgKbps(),
+                rollup.getFirstSampleAt(), rollup.getLastSampleAt());
+    }
+}
@@ -0,0 +1,16 @@
+package com.siso.call.dto.response;
+
+/**
+ * 품질 샘플 적재 통계 (서버 기동 이후 누적)
+ */
+public record CallQualityStatsDto(
+        long received,
+        long rejected,              // 진행 중이 아니거나 참여자가 아닌 통화로 온 샘플
+        long dropped,               // 버퍼가 가득 차 버린 샘플
+        long written,
+        long writeFailures,         // 배치 적재 실패로 버린 샘플
+        int buffered,
+        int openRollups,            // 진행 중 통화의 참여자별 누적 수
+        long rollupsWritten
+) {
+}
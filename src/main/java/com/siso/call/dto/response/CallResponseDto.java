@@ -5,18 +5,33 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CallResponseDto {
+    private Long id;
     private boolean accepted;
     private String token;
-    private String channelName;;
+    private String channelName;
     private Long callerId;
     private Long receiverId;
     private CallStatus callStatus;
     private Long duration; // 초 단위
+    private LocalDateTime startTime;
+
+    // 통화 상대 (발신 기록이면 수신자, 수신 기록이면 발신자)
+    private Long partnerId;
+    private String partnerNickname;
+    private String partnerImageUrl;
 
-    public CallResponseDto(boolean accepted, String token, String channelName, Long callerId, Long receiverId, CallStatus callStatus, Long duration) {
+    /**
+     * CallRepository 프로젝션 쿼리용 생성자 (상대 프로필까지 한 번에 조회)
+     */
+    public CallResponseDto(Long id, boolean accepted, String token, String channelName, Long callerId, Long receiverId,
+                           CallStatus callStatus, Long duration, LocalDateTime startTime,
+                           Long partnerId, String partnerNickname, String partnerImageUrl) {
+        this.id = id;
         this.accepted = accepted;
         this.token = token;
         this.channelName = channelName;
@@ -24,5 +39,9 @@ public class CallResponseDto {
         this.receiverId = receiverId;
         this.callStatus = callStatus;
         this.duration = duration;
+        this.startTime = startTime;
+        this.partnerId = partnerId;
+        this.partnerNickname = partnerNickname;
+        this.partnerImageUrl = partnerImageUrl;
     }
 }
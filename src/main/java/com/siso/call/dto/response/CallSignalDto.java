@@ -0,0 +1,27 @@
+package com.siso.call.dto.response;
+
+import com.siso.call.domain.model.CallStatus;
+
+import java.util.UUID;
+
+/**
+ * /user/queue/call 로 보내는 통화 시그널 (FCM 통화 알림의 data 와 같은 항목)
+ * 클라이언트는 받는 즉시 signalId 를 /app/call.ack 로 보내야 하며, 보내지 않으면 FCM 으로 다시 전송됨
+ */
+public record CallSignalDto(
+        String signalId,            // ack 용 시그널 ID
+        CallStatus status,          // REQUESTED / CANCELED / ACCEPT / DENY / ENDED
+        Long callId,
+        Long callerId,
+        String callerName,
+        String callerImage,
+        String agoraChannel,
+        String agoraToken,
+        long timestamp
+) {
+    public static CallSignalDto of(CallStatus status, Long callId, Long callerId, String callerName,
+                                   String callerImage, String agoraChannel, String agoraToken) {
+        return new CallSignalDto(UUID.randomUUID().toString(), status, callId, callerId, callerName, callerImage,
+                agoraChannel, agoraToken, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,14 @@
+package com.siso.call.dto.response;
+
+/**
+ * 통화 시그널링 전달 경로 통계 (서버 기동 이후 누적)
+ */
+public record CallSignalingStatsDto(
+        long websocketSent,         // 접속 중인 상대에게 /user/queue/call 로 보낸 수
+        long websocketAcked,        // 그중 ack 를 받아 FCM 을 생략한 수
+        long ackTimeouts,           // ack 가 없어 FCM 으로 넘긴 수
+        long offline,               // 접속 중이 아니어서 바로 FCM 으로 보낸 수
+        int pendingAcks,
+        long avgAckMillis           // 시그널 전송 ~ ack 평균 (벨이 울리기까지 걸린 시간)
+) {
+}
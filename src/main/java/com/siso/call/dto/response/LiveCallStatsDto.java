@@ -0,0 +1,15 @@
+package com.siso.call.dto.response;
+
+/**
+ * 진행 중 통화 현황 / 자동 종료 통계 (서버 기동 이후 누적)
+ */
+public record LiveCallStatsDto(
+        int ringing,                // 벨이 울리는 중 (REQUESTED)
+        int inCall,                 // 통화 중 (ACCEPT)
+        int busyUsers,
+        long busyRejections,        // 통화 중인 사용자에게 걸어 거절된 수
+        long ringTimeouts,          // 받지 않아 자동 취소된 수
+        long durationTimeouts,      // 최대 통화 시간을 넘어 자동 종료된 수
+        int pendingTimeouts         // 타이밍 휠에 걸려 있는 타임아웃 수
+) {
+}
@@ -0,0 +1,41 @@
+package com.siso.call.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중 통화 상태 / 타임아웃 설정 프로퍼티
+ *
+ * application.yml의 app.call.lifecycle 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.call.lifecycle")
+public class CallLifecycleProperties {
+
+    /**
+     * 수신자가 받지 않으면 자동 취소(CANCELED)할 때까지의 벨 시간 (초)
+     */
+    @Min(value = 5, message = "벨 시간은 5초 이상이어야 합니다")
+    private long ringTimeoutSeconds = 30;
+
+    /**
+     * 수락(ACCEPT) 후 최대 통화 시간 (분) - 지나면 자동 종료(ENDED)
+     */
+    @Min(value = 1, message = "최대 통화 시간은 1분 이상이어야 합니다")
+    private long maxDurationMinutes = 120;
+
+    /**
+     * 타이밍 휠 tick 간격 (밀리초) - 타임아웃 정확도
+     */
+    @Min(value = 10, message = "tick 간격은 10ms 이상이어야 합니다")
+    private long tickMillis = 500;
+
+    /**
+     * 타이밍 휠 슬롯 수 (2의 거듭제곱으로 올림) - tick 간격 x 슬롯 수가 한 바퀴
+     */
+    @Min(value = 16, message = "슬롯 수는 16 이상이어야 합니다")
+    private int wheelSize = 512;
+}
@@ -0,0 +1,52 @@
+package com.siso.call.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통화 품질 텔레메트리 설정 프로퍼티
+ *
+ * application.yml의 app.call.quality 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.call.quality")
+public class CallQualityProperties {
+
+    /**
+     * 수신 여부 - 끄면 샘플을 받기만 하고 버림
+     */
+    private boolean enabled = true;
+
+    /**
+     * 메모리에 쌓아 둘 최대 샘플 수 - 넘으면 새 샘플을 버림 (DB 가 느려도 요청 스레드를 막지 않도록)
+     */
+    @Min(value = 1000, message = "최대 버퍼 샘플 수는 1000 이상이어야 합니다")
+    private int maxBufferedSamples = 200000;
+
+    /**
+     * 요청 하나에 받을 최대 샘플 수 (넘는 샘플은 버림)
+     */
+    @Min(value = 1, message = "요청당 최대 샘플 수는 1 이상이어야 합니다")
+    private int maxSamplesPerRequest = 200;
+
+    /**
+     * 한 번의 배치 INSERT 로 적재할 샘플 수
+     */
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    private int batchSize = 1000;
+
+    /**
+     * 버퍼 적재 주기 (밀리초)
+     */
+    @Min(value = 100, message = "적재 주기는 100ms 이상이어야 합니다")
+    private long flushIntervalMillis = 1000;
+
+    /**
+     * 끝난 통화의 품질 요약을 저장하는 주기 (초)
+     */
+    @Min(value = 1, message = "요약 저장 주기는 1초 이상이어야 합니다")
+    private long rollupSweepSeconds = 10;
+}
@@ -0,0 +1,34 @@
+package com.siso.call.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통화 시그널링 설정 프로퍼티
+ *
+ * application.yml의 app.call.signaling 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.call.signaling")
+public class CallSignalingProperties {
+
+    /**
+     * 상대가 STOMP 로 접속 중이면 /user/queue/call 로 먼저 보내고 ack 가 없을 때만 FCM 전송
+     */
+    private boolean websocketFirst = true;
+
+    /**
+     * ack 대기 시간 (밀리초) - 지나면 FCM 으로 전송, 벨이 늦게 울리지 않도록 짧게
+     */
+    @Min(value = 100, message = "ack 대기 시간은 100ms 이상이어야 합니다")
+    private long ackTimeoutMillis = 1500;
+
+    /**
+     * 동시에 ack 를 기다릴 수 있는 최대 시그널 수 - 넘으면 바로 FCM 으로 전송
+     */
+    @Min(value = 1, message = "최대 ack 대기 수는 1 이상이어야 합니다")
+    private int maxPendingAcks = 10000;
+}
@@ -1,10 +1,15 @@
 package com.siso.call.presentation;
 
 import com.siso.call.application.AgoraCallService;
+import com.siso.call.application.CallSignalingService;
+import com.siso.call.application.LiveCallRegistry;
 import com.siso.call.dto.CallInfoDto;
 import com.siso.call.dto.request.CallRequestDto;
 import com.siso.call.dto.response.AgoraCallResponseDto;
+import com.siso.call.dto.response.CallSignalingStatsDto;
+import com.siso.call.dto.response.LiveCallStatsDto;
 import com.siso.common.response.SisoResponse;
+import com.siso.common.security.AdminGuard;
 import com.siso.common.web.CurrentUser;
 import com.siso.user.domain.model.User;
 import jakarta.validation.Valid;
@@ -16,6 +21,9 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/calls")
 public class AgoraCallController {
     private final AgoraCallService agoraCallService;
+    private final CallSignalingService callSignalingService;
+    private final LiveCallRegistry liveCallRegistry;
+    private final AdminGuard adminGuard;
 
     // 1. 통화 요청
     @PostMapping(value = "/request", produces = "application/json; charset=UTF-8")
@@ -54,4 +62,18 @@ public class AgoraCallController {
         AgoraCallResponseDto response = agoraCallService.cancelCall(user, callId);
         return SisoResponse.success(response);
     }
-}
\ No newline at end of file
+
+    // 6. 시그널링 전달 경로 통계 (WebSocket / FCM 폴백, 운영자만)
+    @GetMapping(value = "/signaling/stats", produces = "application/json; charset=UTF-8")
+    public SisoResponse<CallSignalingStatsDto> getSignalingStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(callSignalingService.getStats());
+    }
+
+    // 7. 진행 중 통화 현황 / 자동 종료 통계 (운영자만)
+    @GetMapping(value = "/live/stats", produces = "application/json; charset=UTF-8")
+    public SisoResponse<LiveCallStatsDto> getLiveStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(liveCallRegistry.getStats());
+    }
+}
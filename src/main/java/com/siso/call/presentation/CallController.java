@@ -16,15 +16,19 @@ import java.util.List;
 public class CallController {
     private final CallService callService;
 
-    // 1. 발신자 기준 통화 조회
+    // 1. 발신자 기준 통화 조회 (최신순, beforeId 기준 커서 페이지, size 기본 20 / 최대 100)
     @GetMapping(value = "/caller", produces = "application/json; charset=UTF-8")
-    public SisoResponse<List<CallResponseDto>> getCallsByCaller(@CurrentUser User caller) {
-        return SisoResponse.success(callService.getCallsByCaller(caller));
+    public SisoResponse<List<CallResponseDto>> getCallsByCaller(@CurrentUser User caller,
+                                                                @RequestParam(required = false) Long beforeId,
+                                                                @RequestParam(required = false) Integer size) {
+        return SisoResponse.success(callService.getCallsByCaller(caller, beforeId, size));
     }
 
-    // 2. 수신자 기준 통화 조회
+    // 2. 수신자 기준 통화 조회 (최신순, beforeId 기준 커서 페이지, size 기본 20 / 최대 100)
     @GetMapping(value = "/receiver", produces = "application/json; charset=UTF-8")
-    public SisoResponse<List<CallResponseDto>> getCallsByReceiver(@CurrentUser User receiver) {
-        return SisoResponse.success(callService.getCallsByReceiver(receiver));
+    public SisoResponse<List<CallResponseDto>> getCallsByReceiver(@CurrentUser User receiver,
+                                                                  @RequestParam(required = false) Long beforeId,
+                                                                  @RequestParam(required = false) Integer size) {
+        return SisoResponse.success(callService.getCallsByReceiver(receiver, beforeId, size));
     }
-}
\ No newline at end of file
+}
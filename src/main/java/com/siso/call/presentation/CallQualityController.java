@@ -0,0 +1,45 @@
+package com.siso.call.presentation;
+
+import com.siso.call.application.CallQualityService;
+import com.siso.call.dto.request.CallQualityBatchRequestDto;
+import com.siso.call.dto.response.CallQualityIngestResponseDto;
+import com.siso.call.dto.response.CallQualityRollupDto;
+import com.siso.call.dto.response.CallQualityStatsDto;
+import com.siso.common.response.SisoResponse;
+import com.siso.common.security.AdminGuard;
+import com.siso.common.web.CurrentUser;
+import com.siso.user.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/calls")
+@RequiredArgsConstructor
+public class CallQualityController {
+    private final CallQualityService callQualityService;
+    private final AdminGuard adminGuard;
+
+    // 1. 통화 품질 샘플 묶음 전송 (진행 중 통화의 참여자만)
+    @PostMapping(value = "/{callId}/quality", produces = "application/json; charset=UTF-8")
+    public SisoResponse<CallQualityIngestResponseDto> ingest(@CurrentUser User user,
+                                                             @PathVariable Long callId,
+                                                             @RequestBody CallQualityBatchRequestDto request) {
+        return SisoResponse.success(callQualityService.ingest(callId, user.getId(), request.getSamples()));
+    }
+
+    // 2. 끝난 통화의 참여자별 품질 요약 (통화 참여자만)
+    @GetMapping(value = "/{callId}/quality", produces = "application/json; charset=UTF-8")
+    public SisoResponse<List<CallQualityRollupDto>> getRollups(@CurrentUser User user,
+                                                               @PathVariable Long callId) {
+        return SisoResponse.success(callQualityService.getRollups(callId, user.getId()));
+    }
+
+    // 3. 수신 / 적재 통계 (운영자만)
+    @GetMapping(value = "/quality/stats", produces = "application/json; charset=UTF-8")
+    public SisoResponse<CallQualityStatsDto> getStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(callQualityService.getStats());
+    }
+}
@@ -0,0 +1,30 @@
+package com.siso.call.presentation;
+
+import com.siso.call.application.CallSignalingService;
+import com.siso.call.dto.request.CallSignalAckRequestDto;
+import com.siso.user.infrastructure.authentication.AccountAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+public class CallStompController {
+    private final CallSignalingService callSignalingService;
+
+    /**
+     * /user/queue/call 로 받은 통화 시그널 ack
+     * 클라이언트 → /app/call.ack
+     */
+    @MessageMapping("/call.ack") // /app/call.ack
+    public void acknowledge(@Payload CallSignalAckRequestDto requestDto,
+                            Principal principal) {
+        UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) principal;
+        AccountAdapter account = (AccountAdapter) auth.getPrincipal();
+        callSignalingService.acknowledge(account.getUser().getId(), requestDto.getSignalId());
+    }
+}
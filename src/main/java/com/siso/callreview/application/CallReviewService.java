@@ -10,6 +10,7 @@ import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
 import com.siso.user.domain.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,31 +22,39 @@ import java.util.stream.Collectors;
 public class CallReviewService {
     private final CallRepository callRepository;
     private final CallReviewRepository callReviewRepository;
+    private final UserRatingStatsService userRatingStatsService;
 
-    // 평가 작성
+    // 평가 작성 (통화 발신자가 수신자를 평가) + 수신자 평가 집계 반영
     @Transactional
     public CallReviewResponseDto createReview(User evaluator, CallReviewRequestDto request) {
         Call call = callRepository.findById(request.getCallId())
                 .orElseThrow(() -> new ExpectedException(ErrorCode.CALL_NOT_FOUND));
 
-        // 중복 평가 방지
-        callReviewRepository.findAllReviewsWrittenByUser(evaluator).stream()
-                .filter(cr -> cr.getCall().getId().equals(request.getCallId()))
-                .findFirst()
-                .ifPresent(cr -> { throw new ExpectedException(ErrorCode.REVIEW_ALREADY_EXISTS); });
+        // 작성자 확인 (수정과 같은 기준)
+        if (!call.getCaller().getId().equals(evaluator.getId())) {
+            throw new ExpectedException(ErrorCode.FORBIDDEN);
+        }
+        validateRating(request.getRating());
 
-        // Call 엔티티 메서드 사용
-        call.addCallReview(request.getComment(), request.getRating());
+        // 중복 평가 방지 - (call_id, evaluator_id) 유니크 인덱스 조회, 동시 요청은 유니크 제약이 막음
+        if (callReviewRepository.existsByCallIdAndEvaluatorId(call.getId(), evaluator.getId())) {
+            throw new ExpectedException(ErrorCode.REVIEW_ALREADY_EXISTS);
+        }
 
-        // 마지막으로 방금 추가한 CallReview를 DB에 저장
-        CallReview saved = callReviewRepository.save(
-                call.getCallReviews().get(call.getCallReviews().size() - 1)
-        );
+        // Call 엔티티 메서드 사용
+        CallReview saved;
+        try {
+            saved = callReviewRepository.saveAndFlush(
+                    call.addCallReview(evaluator, request.getComment(), request.getRating()));
+        } catch (DataIntegrityViolationException e) {
+            throw new ExpectedException(ErrorCode.REVIEW_ALREADY_EXISTS);
+        }
 
+        userRatingStatsService.recordRating(call.getReceiver().getId(), saved.getRating());
         return fromEntity(saved);
     }
 
-    // 평가 수정
+    // 평가 수정 + 평점이 바뀌면 수신자 평가 집계 반영
     @Transactional
     public CallReviewResponseDto updateReview(User evaluator, CallReviewRequestDto request) {
         CallReview review = callReviewRepository.findById(request.getId())
@@ -55,10 +64,22 @@ public class CallReviewService {
         if (!review.getCall().getCaller().getId().equals(evaluator.getId())) {
             throw new ExpectedException(ErrorCode.FORBIDDEN);
         }
+        validateRating(request.getRating());
 
+        Integer oldRating = review.getRating();
         review.updateRating(request.getRating());
         review.updateComment(request.getComment());
 
+        Long targetId = review.getCall().getReceiver().getId();
+        if (review.getEvaluator() == null) {
+            return fromEntity(review); // 작성자를 채우지 못한 중복 평가는 집계에 없음
+        }
+        if (UserRatingStatsService.isValidRating(oldRating)) {
+            userRatingStatsService.changeRating(targetId, oldRating, request.getRating());
+        } else {
+            userRatingStatsService.recordRating(targetId, request.getRating()); // 집계에 없던 평점
+        }
+
         return fromEntity(review);
     }
 
@@ -86,6 +107,12 @@ public class CallReviewService {
                 .collect(Collectors.toList());
     }
 
+    private static void validateRating(Integer rating) {
+        if (!UserRatingStatsService.isValidRating(rating)) {
+            throw new ExpectedException(ErrorCode.INVALID_REVIEW_RATING);
+        }
+    }
+
     // CallReview → DTO 변환 메서드
     private CallReviewResponseDto fromEntity(CallReview callReview) {
         return new CallReviewResponseDto(
@@ -0,0 +1,111 @@
+package com.siso.callreview.application;
+
+import com.siso.callreview.domain.repository.UserRatingStatsRepository;
+import com.siso.callreview.dto.response.UserRatingStatsResponseDto;
+import com.siso.common.migration.OneTimeTaskRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 받은 평가 집계 (user_rating_stats)
+ * - 평가 작성 / 수정과 같은 트랜잭션에서 증감 (평가 대상 한 행만 잠금)
+ * - 조회는 행 하나 (평균 / 분포를 읽을 때마다 call_reviews 를 집계하지 않음)
+ * - 배포 후 첫 기동에서 한 번만 call_reviews 를 집계한 값으로 덮어써 맞춤 (그 전에 들어온 증감도 바로잡힘)
+ * - 작성자(evaluator_id) 를 채우지 못한 평가 (같은 통화의 중복 평가) 는 집계에서 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRatingStatsService {
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+    static final String REBUILD_TASK = "user-rating-stats-rebuild-v1";
+
+    private final UserRatingStatsRepository userRatingStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final OneTimeTaskRunner oneTimeTaskRunner;
+
+    /**
+     * 기존 평가의 작성자(evaluator_id) 채우기 + 집계 테이블 재계산 (한 번만, one_time_tasks 기록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            oneTimeTaskRunner.runOnce(REBUILD_TASK, this::rebuild);
+        } catch (Exception e) {
+            log.error("[RATING] 평가 집계 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 작성자 채우기 + 집계 값으로 upsert - OneTimeTaskRunner 의 트랜잭션 안에서 실행
+     */
+    void rebuild() {
+        // 작성자 컬럼 추가 이전 평가는 통화 발신자가 작성자 (같은 통화에 중복된 행은 IGNORE 로 건너뛰어 NULL 로 남음)
+        int backfilled = jdbcTemplate.update("""
+                UPDATE IGNORE call_reviews cr JOIN calls c ON c.id = cr.call_id
+                SET cr.evaluator_id = c.caller_id
+                WHERE cr.evaluator_id IS NULL
+                """);
+        if (backfilled > 0) {
+            log.info("[RATING] 평가 작성자 채움: {}건", backfilled);
+        }
+
+        // 이미 트래픽을 받는 중이므로 비어 있을 때만 채우지 않고 집계 값으로 upsert (작성자가 NULL 인 중복 평가는 제외)
+        int affected = jdbcTemplate.update("""
+                INSERT INTO user_rating_stats
+                    (user_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+                SELECT c.receiver_id, COUNT(*), SUM(cr.rating),
+                       SUM(cr.rating = 1), SUM(cr.rating = 2), SUM(cr.rating = 3),
+                       SUM(cr.rating = 4), SUM(cr.rating = 5), NOW(6)
+                FROM call_reviews cr JOIN calls c ON c.id = cr.call_id
+                WHERE cr.rating BETWEEN 1 AND 5 AND cr.evaluator_id IS NOT NULL
+                GROUP BY c.receiver_id
+                ON DUPLICATE KEY UPDATE
+                    review_count = VALUES(review_count),
+                    rating_sum = VALUES(rating_sum),
+                    rating_1 = VALUES(rating_1),
+                    rating_2 = VALUES(rating_2),
+                    rating_3 = VALUES(rating_3),
+                    rating_4 = VALUES(rating_4),
+                    rating_5 = VALUES(rating_5),
+                    updated_at = VALUES(updated_at)
+                """);
+        log.info("[RATING] 평가 집계 재계산: affectedRows={}", affected);
+    }
+
+    /**
+     * 새 평가 반영 - 호출 측 트랜잭션에 참여
+     */
+    @Transactional
+    public void recordRating(Long targetId, int rating) {
+        userRatingStatsRepository.addRating(targetId, rating);
+    }
+
+    /**
+     * 평점 수정 반영 - 호출 측 트랜잭션에 참여
+     * 집계 행이 아직 없으면 (첫 기동의 재계산 전) 새 평점으로 행을 만듦, 이후 재계산이 실제 값으로 덮어씀
+     */
+    @Transactional
+    public void changeRating(Long targetId, int oldRating, int newRating) {
+        if (oldRating != newRating && userRatingStatsRepository.changeRating(targetId, oldRating, newRating) == 0) {
+            userRatingStatsRepository.addRating(targetId, newRating);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public UserRatingStatsResponseDto getStats(Long userId) {
+        return userRatingStatsRepository.findById(userId)
+                .map(UserRatingStatsResponseDto::from)
+                .orElseGet(() -> UserRatingStatsResponseDto.empty(userId));
+    }
+
+    public static boolean isValidRating(Integer rating) {
+        return rating != null && rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+}
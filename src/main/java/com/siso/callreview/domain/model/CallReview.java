@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.security.core.parameters.P;
 
 @Entity
-@Table(name = "call_reviews")
+@Table(name = "call_reviews", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_call_reviews_call_evaluator", columnNames = {"call_id", "evaluator_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CallReview extends BaseTime {
@@ -24,6 +26,11 @@ public class CallReview extends BaseTime {
     @JoinColumn(name = "call_id", nullable = false)
     private Call call;
 
+    // 작성자 (평가 대상은 통화 상대) - 통화당 작성자 한 명에 평가 하나
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "evaluator_id")
+    private User evaluator;
+
     @Column(name = "rating")
     private Integer rating;
 
@@ -31,8 +38,9 @@ public class CallReview extends BaseTime {
     private String comment;
 
     @Builder
-    public CallReview(Call call, Integer rating, String comment) {
+    public CallReview(Call call, User evaluator, Integer rating, String comment) {
         this.call = call;
+        this.evaluator = evaluator;
         this.rating = rating;
         this.comment = comment;
     }
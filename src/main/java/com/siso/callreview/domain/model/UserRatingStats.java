@@ -0,0 +1,56 @@
+package com.siso.callreview.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 받은 평가 집계 (평가 수 / 합계 / 1~5점 분포)
+ * 평가 작성 / 수정 트랜잭션 안에서 UserRatingStatsRepository 의 증감 쿼리로만 갱신 (읽을 때 집계하지 않음)
+ */
+@Entity
+@Table(name = "user_rating_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRatingStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public double getAverage() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    // 1점부터 5점까지 받은 횟수
+    public List<Long> getHistogram() {
+        return List.of(rating1, rating2, rating3, rating4, rating5);
+    }
+}
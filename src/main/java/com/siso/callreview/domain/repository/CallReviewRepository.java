@@ -10,6 +10,9 @@ import java.util.List;
 import java.util.Optional;
 
 public interface CallReviewRepository extends JpaRepository<CallReview, Long> {
+    // 같은 통화에 이미 작성한 평가가 있는지 (uk_call_reviews_call_evaluator 인덱스 조회)
+    boolean existsByCallIdAndEvaluatorId(Long callId, Long evaluatorId);
+
     // 내가 받은 평가 목록 조회 (내가 receiver일 때)
     @Query("SELECT cr FROM CallReview cr WHERE cr.call.receiver = :user")
     List<CallReview> findAllReceivedReviews(@Param("user") User user);
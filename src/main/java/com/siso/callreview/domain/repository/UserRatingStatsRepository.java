@@ -0,0 +1,42 @@
+package com.siso.callreview.domain.repository;
+
+import com.siso.callreview.domain.model.UserRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserRatingStatsRepository extends JpaRepository<UserRatingStats, Long> {
+    // 새 평가 반영 (행이 없으면 생성) - 행 잠금 한 번으로 끝나도록 upsert
+    @Modifying
+    @Query(value = """
+           INSERT INTO user_rating_stats
+               (user_id, review_count, rating_sum, rating_1, rating_2, rating_3, rating_4, rating_5, updated_at)
+           VALUES (:userId, 1, :rating, :rating = 1, :rating = 2, :rating = 3, :rating = 4, :rating = 5, NOW(6))
+           ON DUPLICATE KEY UPDATE
+               review_count = review_count + 1,
+               rating_sum = rating_sum + :rating,
+               rating_1 = rating_1 + (:rating = 1),
+               rating_2 = rating_2 + (:rating = 2),
+               rating_3 = rating_3 + (:rating = 3),
+               rating_4 = rating_4 + (:rating = 4),
+               rating_5 = rating_5 + (:rating = 5),
+               updated_at = NOW(6)
+           """, nativeQuery = true)
+    void addRating(@Param("userId") Long userId, @Param("rating") int rating);
+
+    // 평점 수정 반영 (평가 수는 그대로)
+    @Modifying
+    @Query(value = """
+           UPDATE user_rating_stats
+           SET rating_sum = rating_sum - :oldRating + :newRating,
+               rating_1 = rating_1 - (:oldRating = 1) + (:newRating = 1),
+               rating_2 = rating_2 - (:oldRating = 2) + (:newRating = 2),
+               rating_3 = rating_3 - (:oldRating = 3) + (:newRating = 3),
+               rating_4 = rating_4 - (:oldRating = 4) + (:newRating = 4),
+               rating_5 = rating_5 - (:oldRating = 5) + (:newRating = 5),
+               updated_at = NOW(6)
+           WHERE user_id = :userId
+           """, nativeQuery = true)
+    int changeRating(@Param("userId") Long userId, @Param("oldRating") int oldRating, @Param("newRating") int newRating);
+}
@@ -0,0 +1,24 @@
+package com.siso.callreview.dto.response;
+
+import com.siso.callreview.domain.model.UserRatingStats;
+
+import java.util.List;
+
+/**
+ * 사용자가 받은 평가 요약 (평가가 없으면 0)
+ */
+public record UserRatingStatsResponseDto(
+        Long userId,
+        long reviewCount,
+        double average,
+        List<Long> histogram        // 1점부터 5점까지 받은 횟수
+) {
+    public static UserRatingStatsResponseDto from(UserRatingStats stats) {
+        return new UserRatingStatsResponseDto(stats.getUserId(), stats.getReviewCount(), stats.getAverage(),
+                stats.getHistogram());
+    }
+
+    public static UserRatingStatsResponseDto empty(Long userId) {
+        return new UserRatingStatsResponseDto(userId, 0, 0.0, List.of(0L, 0L, 0L, 0L, 0L));
+    }
+}
@@ -1,8 +1,10 @@
 package com.siso.callreview.presentation;
 
 import com.siso.callreview.application.CallReviewService;
+import com.siso.callreview.application.UserRatingStatsService;
 import com.siso.callreview.dto.request.CallReviewRequestDto;
 import com.siso.callreview.dto.response.CallReviewResponseDto;
+import com.siso.callreview.dto.response.UserRatingStatsResponseDto;
 import com.siso.common.response.SisoResponse;
 import com.siso.common.web.CurrentUser;
 import com.siso.user.application.UserService;
@@ -19,6 +21,7 @@ import java.util.List;
 public class CallReviewController {
     private final CallReviewService callReviewService;
     private final UserService userService;
+    private final UserRatingStatsService userRatingStatsService;
 
     // 리뷰 작성
     @PostMapping(produces = "application/json; charset=UTF-8")
@@ -57,4 +60,10 @@ public class CallReviewController {
         List<CallReviewResponseDto> reviews = callReviewService.getMyWrittenReviews(evaluator);
         return SisoResponse.success(reviews);
     }
+
+    // 사용자가 받은 평가 요약 (평가 수 / 평균 / 1~5점 분포)
+    @GetMapping(value = "/stats/{userId}", produces = "application/json; charset=UTF-8")
+    public SisoResponse<UserRatingStatsResponseDto> getRatingStats(@PathVariable Long userId) {
+        return SisoResponse.success(userRatingStatsService.getStats(userId));
+    }
 }
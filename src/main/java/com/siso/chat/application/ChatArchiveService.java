@@ -0,0 +1,173 @@
+package com.siso.chat.application;
+
+import com.siso.chat.domain.repository.ChatMessageRepository;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.archive.ChatMessageArchive;
+import com.siso.chat.infrastructure.properties.ChatArchiveProperties;
+import com.siso.common.partition.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * 오래된 채팅 메시지를 채팅방별 압축 아카이브 파일로 옮기는 작업
+ * - 파일에 기록(fsync)한 뒤에만 DB 행을 삭제
+ * - 삭제 전에 중단되었다면 다음 실행에서 아카이브에 이미 있는지 확인 후 삭제만 수행
+ * - 진행 위치(afterId)를 아카이브 디렉터리에 기록해 다음 실행은 그 다음부터 읽음 (한 번에 끝나지 않는 과거 메시지)
+ * - chat_messages 가 월 파티션 테이블이면 월 경계까지 아카이브한 뒤 행 삭제 대신 DROP PARTITION
+ * - 아카이브 디렉터리가 별도 마운트(영구 볼륨)가 아니면 실행하지 않음 (DB 행이 유일한 사본이 되는 것을 막음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveService {
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageArchive chatMessageArchive;
+    private final ChatArchiveProperties properties;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    /**
+     * 매일 새벽 4시 30분 실행 (app.chat.archive.cron 으로 변경 가능)
+     */
+    @Scheduled(cron = "${app.chat.archive.cron:0 30 4 * * *}")
+    public void archiveOldMessages() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.isRequireMountedDirectory() && !chatMessageArchive.isOnMountedVolume()) {
+            log.error("[ARCHIVE] 아카이브 디렉터리가 영구 볼륨이 아님 - 실행하지 않음: {}", properties.getDirectory());
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getArchiveAfterDays());
+        // 파티션 테이블이면 파티션 단위로 지울 수 있도록 cutoff 를 월 시작으로 맞춤
+        boolean partitioned = partitionMaintenanceService.isPartitioned(PartitionMaintenanceService.CHAT_MESSAGES);
+        LocalDate monthStart = YearMonth.from(cutoff).atDay(1);
+        if (partitioned) {
+            cutoff = monthStart.atStartOfDay();
+        }
+        // 이전 실행이 끝내지 못한 구간부터 이어서 (파티션이면 행이 남아 있으므로 처음부터 다시 읽지 않도록)
+        // 파티션 테이블에서 지난 월을 끝내지 못했으면 그 월부터 마치고 파티션을 지움
+        long afterId = 0;
+        Optional<ChatMessageArchive.Cursor> cursor = chatMessageArchive.readCursor();
+        if (cursor.isPresent()) {
+            if (cursor.get().cutoff().equals(cutoff)) {
+                afterId = cursor.get().afterId();
+            } else if (partitioned && !cursor.get().completed() && cursor.get().cutoff().isBefore(cutoff)) {
+                cutoff = cursor.get().cutoff();
+                monthStart = cutoff.toLocalDate();
+                afterId = cursor.get().afterId();
+            }
+        }
+        log.info("[ARCHIVE] 아카이브 시작: cutoff={}, partitioned={}, afterId={}", cutoff, partitioned, afterId);
+
+        long archived = 0;
+        boolean exhausted = false;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<ChatMessageResponseDto> candidates = chatMessageRepository.findArchiveCandidates(
+                    cutoff, afterId, PageRequest.of(0, properties.getBatchSize()));
+            if (candidates.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+
+            // 채팅방별로 나눠 아카이브 (candidates 는 id 오름차순)
+            Map<Long, List<ChatMessageResponseDto>> byRoom = new LinkedHashMap<>();
+            candidates.forEach(m -> byRoom.computeIfAbsent(m.getChatRoomId(), id -> new ArrayList<>()).add(m));
+
+            List<Long> removable = new ArrayList<>(candidates.size());
+            boolean failed = false;
+            for (Map.Entry<Long, List<ChatMessageResponseDto>> entry : byRoom.entrySet()) {
+                try {
+                    removable.addAll(archiveRoom(entry.getKey(), entry.getValue(), !partitioned));
+                } catch (IOException e) {
+                    // 해당 방은 DB 에 그대로 두고 다음 실행에서 이 묶음부터 재시도
+                    log.error("[ARCHIVE] chatRoomId={} 아카이브 실패: {}", entry.getKey(), e.getMessage());
+                    failed = true;
+                }
+            }
+            if (!partitioned && !removable.isEmpty()) {
+                chatMessageRepository.deleteAllByIdInBatch(removable);
+            }
+            archived += removable.size();
+            if (failed) {
+                // 진행 위치를 넘기지 않음 - 옮긴 방은 다음 실행에서 이미 아카이브된 것으로 확인됨
+                break;
+            }
+
+            afterId = candidates.get(candidates.size() - 1).getId();
+            if (!saveCursor(new ChatMessageArchive.Cursor(cutoff, afterId, false))) {
+                break;
+            }
+            if (candidates.size() < properties.getBatchSize()) {
+                exhausted = true;
+                break;
+            }
+        }
+        log.info("[ARCHIVE] 아카이브 완료: archived={}, afterId={}, exhausted={}", archived, afterId, exhausted);
+        if (!exhausted) {
+            return; // 남은 구간은 다음 실행에서 afterId 부터
+        }
+
+        // 진행 위치가 cutoff 이전 마지막 메시지를 지난 경우에만 해당 월 파티션 삭제
+        if (partitioned) {
+            int dropped = partitionMaintenanceService.dropPartitionsBefore(PartitionMaintenanceService.CHAT_MESSAGES, monthStart);
+            log.info("[ARCHIVE] 아카이브된 파티션 삭제: before={}, partitions={}", monthStart, dropped);
+        }
+        saveCursor(new ChatMessageArchive.Cursor(cutoff, afterId, true));
+    }
+
+    private boolean saveCursor(ChatMessageArchive.Cursor cursor) {
+        try {
+            chatMessageArchive.writeCursor(cursor);
+            return true;
+        } catch (IOException e) {
+            log.error("[ARCHIVE] 진행 위치 기록 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 채팅방 하나의 메시지를 아카이브에 추가하고 DB 에서 지워도 되는 id 반환
+     * verifyArchived 가 false 면 (파티션 삭제 대기 중인 행) 이미 아카이브된 범위는 확인 없이 통과
+     */
+    private List<Long> archiveRoom(Long chatRoomId, List<ChatMessageResponseDto> messagesAsc,
+                                   boolean verifyArchived) throws IOException {
+        long lastArchivedId = chatMessageArchive.lastArchivedId(chatRoomId);
+
+        List<ChatMessageResponseDto> fresh = new ArrayList<>();
+        List<Long> already = new ArrayList<>();
+        for (ChatMessageResponseDto message : messagesAsc) {
+            if (message.getId() > lastArchivedId) {
+                fresh.add(message);
+            } else {
+                already.add(message.getId());
+            }
+        }
+
+        List<Long> removable = new ArrayList<>(messagesAsc.size());
+        if (!already.isEmpty() && !verifyArchived) {
+            removable.addAll(already);
+        } else if (!already.isEmpty()) {
+            // 지난 실행에서 파일 기록 후 삭제 전에 중단된 경우 → 실제로 들어 있는 것만 삭제
+            Set<Long> present = chatMessageArchive.find(chatRoomId, already).keySet();
+            removable.addAll(present);
+            if (present.size() < already.size()) {
+                log.warn("[ARCHIVE] chatRoomId={} 아카이브 범위 안에 있지만 없는 메시지 {}건은 DB에 유지",
+                        chatRoomId, already.size() - present.size());
+            }
+        }
+        if (!fresh.isEmpty()) {
+            chatMessageArchive.append(chatRoomId, fresh);
+            fresh.forEach(m -> removable.add(m.getId()));
+        }
+        return removable;
+    }
+}
@@ -7,25 +7,41 @@ import com.siso.chat.domain.repository.ChatRoomRepository;
 import com.siso.chat.dto.request.ChatMessageRequestDto;
 import com.siso.chat.dto.request.EditMessageRequestDto;
 import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.RecentMessageCache;
+import com.siso.chat.infrastructure.archive.ChatMessageArchive;
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
+import com.siso.common.partition.PartitionMaintenanceService;
+import com.siso.common.util.TransactionUtil;
 import com.siso.user.domain.model.User;
 import com.siso.notification.application.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
+    private static final int MAX_PAGE_SIZE = 200;
+    // 월 구간별로 나눠 조회하는 최대 구간 수 - 넘으면 남은 기간을 한 번에 조회
+    private static final int MAX_PARTITION_WINDOWS = 3;
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final NotificationService notificationService;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatSearchService chatSearchService;
+    private final ChatMessageArchive chatMessageArchive;
+    private final PartitionMaintenanceService partitionMaintenanceService;
 
     /**
      * 메시지 전송
@@ -70,19 +86,80 @@ public class ChatMessageService {
         ChatMessage saved = chatMessageRepository.save(message);
         log.info("Saved ChatMessage: id={}, content={}", saved.getId(), saved.getContent());
 
-        return toDto(saved);
+        ChatMessageResponseDto response = toDto(saved);
+        TransactionUtil.afterCommit(() -> {
+            recentMessageCache.append(response);
+            chatSearchService.onMessageSaved(response);
+        });
+        return response;
     }
 
     /**
-     * 채팅방의 메시지 조회
+     * 채팅방의 메시지 조회 (아카이브된 메시지 포함)
      */
     @Transactional(readOnly = true)
     public List<ChatMessageResponseDto> getMessages(Long chatRoomId) {
         log.info("Fetching messages for chatRoomId={}", chatRoomId);
-        return chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId)
+        List<ChatMessageResponseDto> hot = chatMessageRepository.findByChatRoomIdOrderByCreatedAtAsc(chatRoomId)
                 .stream()
                 .map(this::toDto)
                 .toList();
+        // 아카이브 후 파티션 삭제 전이면 같은 메시지가 양쪽에 있을 수 있으므로 DB 쪽 이전 것만 아카이브에서
+        long firstHotId = hot.isEmpty() ? Long.MAX_VALUE : hot.get(0).getId();
+        List<ChatMessageResponseDto> messages = new ArrayList<>(chatMessageArchive.readBefore(chatRoomId, firstHotId, Integer.MAX_VALUE));
+        messages.addAll(hot);
+        return messages;
+    }
+
+    /**
+     * 채팅방의 메시지 페이지 조회 (id 오름차순)
+     * - beforeMessageId 가 없으면 최근 메시지, 있으면 그 이전 메시지
+     * - 최근 메시지 캐시로 답할 수 있으면 DB 조회 없이 반환
+     * - DB 에서 모자라면 아카이브에서 이어서 읽음
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponseDto> getMessages(Long chatRoomId, Long beforeMessageId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        if (recentMessageCache.isEnabled()) {
+            Optional<List<ChatMessageResponseDto>> cached = beforeMessageId == null
+                    ? recentMessageCache.getRecent(chatRoomId, pageSize)
+                    : recentMessageCache.getBefore(chatRoomId, beforeMessageId, pageSize);
+            if (cached.isPresent()) {
+                log.debug("Recent message cache hit: chatRoomId={}, beforeMessageId={}, size={}", chatRoomId, beforeMessageId, pageSize);
+                return cached.get();
+            }
+        }
+
+        if (beforeMessageId != null) {
+            log.info("Fetching messages for chatRoomId={} before messageId={}", chatRoomId, beforeMessageId);
+            return withArchive(chatRoomId, beforeMessageId, pageSize,
+                    toAscending(findPageDesc(chatRoomId, beforeMessageId, pageSize)));
+        }
+
+        // 최근 메시지 캐시를 채울 수 있도록 버퍼 크기만큼은 읽어 둠
+        int fetchSize = recentMessageCache.isEnabled()
+                ? Math.max(pageSize, recentMessageCache.getMessagesPerRoom())
+                : pageSize;
+        log.info("Fetching recent messages for chatRoomId={} (fetchSize={})", chatRoomId, fetchSize);
+        if (!recentMessageCache.isEnabled()) {
+            List<ChatMessageResponseDto> latest = withArchive(chatRoomId, null, fetchSize,
+                    toAscending(findPageDesc(chatRoomId, null, fetchSize)));
+            return latest.subList(Math.max(0, latest.size() - pageSize), latest.size());
+        }
+
+        // 읽는 동안 커밋된 쓰기를 캐시가 모아 두었다가 fill 시 병합
+        recentMessageCache.beginLoad(chatRoomId);
+        List<ChatMessageResponseDto> latest;
+        try {
+            latest = withArchive(chatRoomId, null, fetchSize,
+                    toAscending(findPageDesc(chatRoomId, null, fetchSize)));
+        } catch (RuntimeException e) {
+            recentMessageCache.abortLoad(chatRoomId);
+            throw e;
+        }
+        recentMessageCache.fill(chatRoomId, latest, latest.size() < fetchSize);
+        return latest.subList(Math.max(0, latest.size() - pageSize), latest.size());
     }
 
     /**
@@ -100,10 +177,15 @@ public class ChatMessageService {
         }
 
         message.updateContent(requestDto.getNewContent());
-        chatMessageRepository.save(message);
+        chatMessageRepository.saveAndFlush(message); // updatedAt 반영
         log.info("Updated messageId={}", message.getId());
 
-        return toDto(message);
+        ChatMessageResponseDto response = toDto(message);
+        TransactionUtil.afterCommit(() -> {
+            recentMessageCache.update(response);
+            chatSearchService.onMessageSaved(response);
+        });
+        return response;
     }
 
     /**
@@ -121,22 +203,82 @@ public class ChatMessageService {
         }
 
         message.updateDelete(true);
-        chatMessageRepository.save(message);
+        chatMessageRepository.saveAndFlush(message); // updatedAt 반영
         log.info("Soft-deleted messageId={}", message.getId());
+
+        ChatMessageResponseDto response = toDto(message);
+        TransactionUtil.afterCommit(() -> {
+            recentMessageCache.update(response);
+            chatSearchService.onMessageSaved(response);
+        });
+    }
+
+    /**
+     * id 내림차순 페이지 조회 (beforeMessageId 가 없으면 최근 메시지)
+     * chat_messages 가 월 파티션 테이블이면 최신 월부터 구간별로 조회해 한 번에 파티션 하나만 읽음
+     * 조용한 채팅방에서 빈 달마다 쿼리가 나가지 않도록 MAX_PARTITION_WINDOWS 개 구간 뒤에는
+     * 남은 기간을 (chat_room_id, id) 인덱스로 한 번에 조회
+     */
+    private List<ChatMessage> findPageDesc(Long chatRoomId, Long beforeMessageId, int size) {
+        if (!partitionMaintenanceService.isPartitioned(PartitionMaintenanceService.CHAT_MESSAGES)) {
+            return beforeMessageId == null
+                    ? chatMessageRepository.findByChatRoomIdOrderByIdDesc(chatRoomId, PageRequest.of(0, size))
+                    : chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, beforeMessageId, PageRequest.of(0, size));
+        }
+
+        long beforeId = beforeMessageId != null ? beforeMessageId : Long.MAX_VALUE;
+        List<ChatMessage> page = new ArrayList<>(size);
+        List<PartitionMaintenanceService.Window> windows = partitionMaintenanceService.monthlyWindowsDesc(PartitionMaintenanceService.CHAT_MESSAGES);
+        for (int i = 0; i < windows.size() && page.size() < size; i++) {
+            PartitionMaintenanceService.Window window = windows.get(i);
+            List<ChatMessage> found = i < MAX_PARTITION_WINDOWS
+                    ? chatMessageRepository.findPageInWindow(chatRoomId, beforeId, window.from(), window.to(), PageRequest.of(0, size - page.size()))
+                    : chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, beforeId, PageRequest.of(0, size - page.size()));
+            page.addAll(found);
+            if (i >= MAX_PARTITION_WINDOWS) {
+                break; // 남은 기간 전체를 조회했음
+            }
+            if (!found.isEmpty()) {
+                beforeId = found.get(found.size() - 1).getId();
+            }
+        }
+        return page;
+    }
+
+    /**
+     * DB 결과가 wanted 개보다 적으면 그보다 오래된 메시지를 아카이브에서 앞에 채움
+     */
+    private List<ChatMessageResponseDto> withArchive(Long chatRoomId, Long beforeMessageId, int wanted,
+                                                     List<ChatMessageResponseDto> hotAsc) {
+        if (hotAsc.size() >= wanted || !chatMessageArchive.isEnabled()) {
+            return hotAsc;
+        }
+        long boundary = !hotAsc.isEmpty() ? hotAsc.get(0).getId()
+                : beforeMessageId != null ? beforeMessageId : Long.MAX_VALUE;
+        List<ChatMessageResponseDto> archived = chatMessageArchive.readBefore(chatRoomId, boundary, wanted - hotAsc.size());
+        if (archived.isEmpty()) {
+            return hotAsc;
+        }
+        List<ChatMessageResponseDto> merged = new ArrayList<>(archived.size() + hotAsc.size());
+        merged.addAll(archived);
+        merged.addAll(hotAsc);
+        return merged;
+    }
+
+    /**
+     * id 내림차순 조회 결과 → id 오름차순 DTO 목록
+     */
+    private List<ChatMessageResponseDto> toAscending(List<ChatMessage> messagesDesc) {
+        return messagesDesc.stream()
+                .sorted(Comparator.comparing(ChatMessage::getId))
+                .map(this::toDto)
+                .toList();
     }
 
     /**
      * ChatMessage → ChatMessageResponseDto 변환
      */
     private ChatMessageResponseDto toDto(ChatMessage message) {
-        return new ChatMessageResponseDto(
-                message.getId(),
-                message.getChatRoom().getId(),
-                message.getSender().getId(),
-                message.getContent(),
-                message.getCreatedAt(),
-                message.getUpdatedAt(),
-                message.isDeleted()
-        );
+        return ChatMessageResponseDto.fromEntity(message);
     }
 }
\ No newline at end of file
@@ -13,8 +13,10 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,15 +25,26 @@ public class ChatRoomMemberService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
 
+    /**
+     * 안 읽은 메시지 수 - lastReadMessageId 이후 상대방이 보낸 (삭제되지 않은) 메시지
+     * 채팅 목록 / 목록 갱신 / 동기화가 모두 이 기준 하나를 씀
+     */
     public int getUnreadCount(Long userId, Long chatRoomId) {
-        // chat_room_member 테이블에서 마지막 읽음 메시지 ID 또는 timestamp 확인
-        ChatRoomMember member = chatRoomMemberRepository.findByUserIdAndChatRoomId(userId, chatRoomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방 멤버를 찾을 수 없습니다."));
-
-        LocalDateTime lastReadAt = member.getLastReadAt(); // 마지막 읽은 시간
+        return getUnreadCounts(userId, List.of(chatRoomId)).getOrDefault(chatRoomId, 0);
+    }
 
-        // lastReadAt 이후에 생성된 메시지 수 조회
-        return chatMessageRepository.countByChatRoomIdAndCreatedAtAfter(chatRoomId, lastReadAt);
+    /**
+     * 여러 채팅방의 안 읽은 메시지 수를 한 번에 (없는 방은 빠짐 = 0)
+     */
+    public Map<Long, Integer> getUnreadCounts(Long userId, Collection<Long> chatRoomIds) {
+        Map<Long, Integer> unreadByRoom = new HashMap<>();
+        if (chatRoomIds.isEmpty()) {
+            return unreadByRoom;
+        }
+        for (Object[] row : chatMessageRepository.countUnreadByChatRoomIds(userId, chatRoomIds)) {
+            unreadByRoom.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return unreadByRoom;
     }
 
     /**
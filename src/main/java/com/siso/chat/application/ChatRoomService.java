@@ -5,16 +5,25 @@ import com.siso.chat.domain.repository.ChatMessageRepository;
 import com.siso.chat.domain.repository.ChatRoomMemberRepository;
 import com.siso.chat.domain.repository.ChatRoomRepository;
 import com.siso.chat.dto.request.ChatRoomRequestDto;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
 import com.siso.chat.dto.response.ChatRoomResponseDto;
+import com.siso.chat.infrastructure.RecentMessageCache;
+import com.siso.chat.infrastructure.archive.ChatMessageArchive;
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
+import com.siso.common.util.TransactionUtil;
+import com.siso.user.application.UserCardCache;
 import com.siso.user.domain.model.User;
+import com.siso.user.dto.UserCard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -24,13 +33,41 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final RecentMessageCache recentMessageCache;
+    private final ChatSearchService chatSearchService;
+    private final ChatMessageArchive chatMessageArchive;
+    private final UserCardCache userCardCache;
+    private final ChatRoomMemberService chatRoomMemberService;
+
+    /**
+     * pair_key 가 없는 기존 1:1 방 채우기 (이후 방 존재 확인 / 생성은 pair_key 로만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPairKeys() {
+        try {
+            int updated = chatRoomRepository.backfillPairKeys();
+            if (updated > 0) {
+                log.info("[CHAT] 채팅방 pair_key 채움: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("[CHAT] 채팅방 pair_key 채우기 실패: {}", e.getMessage(), e);
+        }
+    }
 
     public List<ChatRoomResponseDto> getChatRoomsForUser(User user) {
         Long userId = user.getId();
         log.info("getChatRoomsForUser() called for userId={}", userId);
 
-        return chatRoomRepository.findRoomsByUserId(userId)
-                .stream()
+        List<ChatRoom> chatRooms = chatRoomRepository.findRoomsByUserId(userId);
+
+        // 상대 닉네임 / 프로필 이미지는 사용자 카드로 한 번에 (상대 User / 이미지 엔티티를 방마다 읽지 않도록)
+        Map<Long, UserCard> partnerCards = userCardCache.getAll(chatRooms.stream()
+                .map(chatRoom -> getOtherMember(chatRoom, userId).getUser().getId())
+                .toList());
+        Map<Long, Integer> unreadByRoom = chatRoomMemberService.getUnreadCounts(userId,
+                chatRooms.stream().map(ChatRoom::getId).toList());
+
+        return chatRooms.stream()
                 .map(chatRoom -> {
                     log.info("Processing chatRoomId={}", chatRoom.getId());
 
@@ -39,26 +76,19 @@ public class ChatRoomService {
                     log.info("OtherMember for chatRoomId {} = {}", chatRoom.getId(), otherMember.getUser().getId());
 
                     // ✅ 메시지가 없을 수 있으므로 안전하게 조회
-                    ChatMessage lastMessage = getLastMessageSafely(chatRoom);
+                    ChatMessageResponseDto lastMessage = getLastMessageSafely(chatRoom);
                     log.info("LastMessage for chatRoomId {} = {}", chatRoom.getId(),
                             lastMessage != null ? lastMessage.getContent() : "NULL");
 
-                    int unreadCount = chatRoom.getChatRoomMembers().stream()
-                            .filter(m -> m.getUser().getId().equals(userId))
-                            .mapToInt(m -> lastMessage != null
-                                    && m.getLastReadMessageId() != null
-                                    && lastMessage.getId() > m.getLastReadMessageId() ? 1 : 0)
-                            .sum();
+                    int unreadCount = unreadByRoom.getOrDefault(chatRoom.getId(), 0);
                     log.info("UnreadCount for chatRoomId {} = {}", chatRoom.getId(), unreadCount);
 
-                    // ✅ 프로필 이미지 (무조건 otherMember 존재하므로 바로 접근 가능)
-                    String profileImagePath = otherMember.getUser().getImages().isEmpty()
-                            ? ""
-                            : otherMember.getUser().getImages().get(0).getPath();
+                    // ✅ 프로필 이미지 / 닉네임 (무조건 otherMember 존재하므로 바로 접근 가능)
+                    UserCard partnerCard = partnerCards.get(otherMember.getUser().getId());
+                    String profileImagePath = partnerCard.imageUrl();
                     log.info("ProfileImagePath for chatRoomId {} = {}", chatRoom.getId(), profileImagePath);
 
-                    // ✅ 닉네임 (무조건 존재한다고 가정)
-                    String nickname = otherMember.getUser().getUserProfile().getNickname();
+                    String nickname = partnerCard.displayName();
                     log.info("Nickname for chatRoomId {} = {}", chatRoom.getId(), nickname);
 
                     return new ChatRoomResponseDto(
@@ -94,6 +124,12 @@ public class ChatRoomService {
 
         if (allLeft) {
             chatRoomRepository.delete(chatRoom);
+            recentMessageCache.evict(chatRoom.getId());
+            Long chatRoomId = chatRoom.getId();
+            TransactionUtil.afterCommit(() -> {
+                chatSearchService.onChatRoomDeleted(chatRoomId);
+                chatMessageArchive.dropRoom(chatRoomId);
+            });
         }
     }
 
@@ -118,8 +154,11 @@ public class ChatRoomService {
                 .orElseThrow(() -> new ExpectedException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
-    private ChatMessage getLastMessageSafely(ChatRoom chatRoom) {
+    private ChatMessageResponseDto getLastMessageSafely(ChatRoom chatRoom) {
         return chatMessageRepository.findTopByChatRoomOrderByCreatedAtDesc(chatRoom)
+                .map(ChatMessageResponseDto::fromEntity)
+                // 모든 메시지가 아카이브로 옮겨진 방이면 아카이브의 마지막 메시지
+                .or(() -> chatMessageArchive.readBefore(chatRoom.getId(), Long.MAX_VALUE, 1).stream().findFirst())
                 .orElse(null); // ✅ 메시지 없으면 null
     }
 
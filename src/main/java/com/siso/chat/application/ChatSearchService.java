@@ -0,0 +1,262 @@
+package com.siso.chat.application;
+
+import com.siso.chat.domain.repository.ChatMessageRepository;
+import com.siso.chat.domain.repository.ChatRoomMemberRepository;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.archive.ChatMessageArchive;
+import com.siso.chat.infrastructure.properties.MessageSearchProperties;
+import com.siso.chat.infrastructure.search.BigramTokenizer;
+import com.siso.chat.infrastructure.search.MessageSearchIndex;
+import com.siso.common.exception.ErrorCode;
+import com.siso.common.exception.ExpectedException;
+import com.siso.user.domain.model.User;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 채팅방 메시지 검색
+ * - 바이그램 역색인으로 후보를 고르고, 후보만 PK 로 읽어 원문에 검색어가 실제로 있는지 확인
+ * - 기동 시 manifest 이후 변경분을 DB에서 읽어 색인을 따라잡음
+ * - 색인 파일은 언제든 다시 만들 수 있음 (디렉터리를 잃으면 DB + 아카이브에서 전체 재색인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSearchService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final long RECOVERY_MARGIN_MILLIS = 60_000; // 커밋 지연으로 빠지는 수정분 방지
+    private static final long RECOVERY_RETRY_MIN_MILLIS = 1_000;
+    private static final long RECOVERY_RETRY_MAX_MILLIS = 60_000;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final MessageSearchIndex messageSearchIndex;
+    private final MessageSearchProperties properties;
+    private final ChatMessageArchive chatMessageArchive;
+
+    private volatile boolean recovering;
+
+    /**
+     * 채팅방 메시지 검색 (id 내림차순)
+     *
+     * @param beforeMessageId 다음 페이지 조회 시 이전 결과의 마지막 id
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponseDto> search(Long chatRoomId, String query, Long beforeMessageId, int size, User user) {
+        if (!messageSearchIndex.isEnabled()) {
+            throw new ExpectedException(ErrorCode.SEARCH_UNAVAILABLE);
+        }
+        chatRoomMemberRepository.findMemberByChatRoomIdAndUserId(chatRoomId, user.getId())
+                .orElseThrow(() -> new ExpectedException(ErrorCode.NOT_CHATROOM_MEMBER));
+
+        List<String> tokens = BigramTokenizer.tokens(BigramTokenizer.normalize(query));
+        int[] terms = BigramTokenizer.terms(query);
+        if (terms.length == 0) {
+            throw new ExpectedException(ErrorCode.SEARCH_QUERY_TOO_SHORT);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long[] candidates = messageSearchIndex.candidates(chatRoomId, terms, beforeMessageId);
+        log.info("[search] chatRoomId={} userId={} terms={} candidates={}", chatRoomId, user.getId(), terms.length, candidates.length);
+
+        // 후보를 최신순으로 조금씩 확인 (수정/삭제로 더 이상 맞지 않는 후보는 버림)
+        List<ChatMessageResponseDto> results = new ArrayList<>(pageSize);
+        int batchSize = pageSize * 2;
+        for (int from = 0; from < candidates.length && results.size() < pageSize; from += batchSize) {
+            List<Long> ids = new ArrayList<>(batchSize);
+            for (int i = from; i < Math.min(from + batchSize, candidates.length); i++) {
+                ids.add(candidates[i]);
+            }
+            Map<Long, ChatMessageResponseDto> byId = new HashMap<>();
+            chatMessageRepository.findAllById(ids).forEach(m -> byId.put(m.getId(), ChatMessageResponseDto.fromEntity(m)));
+            if (byId.size() < ids.size()) {
+                // DB 에 없는 후보는 아카이브로 옮겨진 메시지일 수 있음
+                List<Long> missing = ids.stream().filter(id -> !byId.containsKey(id)).toList();
+                byId.putAll(chatMessageArchive.find(chatRoomId, missing));
+            }
+
+            for (Long id : ids) {
+                ChatMessageResponseDto message = byId.get(id);
+                if (message != null && matches(message, chatRoomId, tokens)) {
+                    results.add(message);
+                    if (results.size() == pageSize) {
+                        break;
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private boolean matches(ChatMessageResponseDto message, Long chatRoomId, List<String> tokens) {
+        if (message.isDeleted() || !message.getChatRoomId().equals(chatRoomId)) {
+            return false;
+        }
+        String content = BigramTokenizer.normalize(message.getContent());
+        return tokens.stream().allMatch(content::contains);
+    }
+
+    // ===== 색인 갱신 (커밋 후 호출) =====
+
+    public void onMessageSaved(ChatMessageResponseDto message) {
+        if (!messageSearchIndex.isEnabled()) {
+            return;
+        }
+        if (message.isDeleted()) {
+            messageSearchIndex.remove(message.getChatRoomId(), message.getId());
+        } else {
+            messageSearchIndex.index(message.getChatRoomId(), message.getId(), message.getContent());
+        }
+    }
+
+    public void onChatRoomDeleted(Long chatRoomId) {
+        if (messageSearchIndex.isEnabled()) {
+            messageSearchIndex.dropRoom(chatRoomId);
+        }
+    }
+
+    // ===== 기동 / 종료 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (!messageSearchIndex.isEnabled()) {
+            return;
+        }
+        MessageSearchIndex.Manifest manifest;
+        try {
+            manifest = messageSearchIndex.load();
+        } catch (IOException e) {
+            log.error("[SEARCH] 색인 로드 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 전체 재색인이 오래 걸릴 수 있으므로 별도 스레드에서 수행 (그동안 검색 결과는 일부만 나올 수 있음)
+        recovering = true;
+        messageSearchIndex.setManifestPaused(true);
+        Thread thread = new Thread(() -> catchUp(manifest), "chat-search-recovery");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * manifest 이후 변경분 색인 - 실패하면 진행 위치부터 간격을 늘려 재시도
+     * 새 메시지는 id keyset, 색인된 메시지의 수정/삭제는 updated_at 범위로 따로 읽음 (OR 로 묶으면 전체 스캔)
+     * 끝까지 따라잡은 뒤에만 manifest 갱신을 재개 (중간에 재개하면 빠진 구간이 watermark 아래로 묻힘)
+     */
+    private void catchUp(MessageSearchIndex.Manifest manifest) {
+        long indexedId = manifest.indexedMessageId();
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(Math.max(0, manifest.flushedAt() - RECOVERY_MARGIN_MILLIS)), ZoneId.systemDefault());
+        boolean archiveIndexed = indexedId > 0; // 색인이 처음부터 다시 만들어지는 경우에만 아카이브도 색인
+        Set<Long> archivedRoomsDone = new HashSet<>();
+        boolean changedIndexed = indexedId == 0; // 처음부터 다시 만들면 새 메시지 단계가 모두 읽음
+        long changedAfterId = 0;
+        long newAfterId = indexedId;
+        long total = 0;
+        long backoffMillis = RECOVERY_RETRY_MIN_MILLIS;
+        int batchSize = properties.getRecoveryBatchSize();
+        try {
+            while (recovering) {
+                try {
+                    if (!archiveIndexed) {
+                        total += indexArchive(archivedRoomsDone);
+                        archiveIndexed = true;
+                    }
+                    List<Object[]> rows = changedIndexed
+                            ? chatMessageRepository.findNewForSearchIndex(newAfterId, PageRequest.of(0, batchSize))
+                            : chatMessageRepository.findChangedForSearchIndex(since, changedAfterId, indexedId, PageRequest.of(0, batchSize));
+                    long lastId = applyRecoveryRows(rows);
+                    total += rows.size();
+                    backoffMillis = RECOVERY_RETRY_MIN_MILLIS;
+                    if (!changedIndexed) {
+                        changedAfterId = lastId > 0 ? lastId : changedAfterId;
+                        changedIndexed = rows.size() < batchSize;
+                        continue;
+                    }
+                    newAfterId = lastId > 0 ? lastId : newAfterId;
+                    if (rows.size() < batchSize) {
+                        messageSearchIndex.setManifestPaused(false);
+                        messageSearchIndex.flush();
+                        log.info("[SEARCH] 색인 복구 완료: messages={}", total);
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.error("[SEARCH] 색인 복구 실패 (changedAfterId={}, newAfterId={}), {}ms 후 재시도: {}",
+                            changedAfterId, newAfterId, backoffMillis, e.getMessage(), e);
+                    Thread.sleep(backoffMillis);
+                    backoffMillis = Math.min(backoffMillis * 2, RECOVERY_RETRY_MAX_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            recovering = false;
+        }
+    }
+
+    /**
+     * 복구 조회 결과 [id, chatRoomId, content, deleted] 반영
+     *
+     * @return 마지막 id (없으면 0)
+     */
+    private long applyRecoveryRows(List<Object[]> rows) {
+        long lastId = 0;
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            Long chatRoomId = (Long) row[1];
+            if ((Boolean) row[3]) {
+                messageSearchIndex.remove(chatRoomId, id);
+            } else {
+                messageSearchIndex.index(chatRoomId, id, (String) row[2]);
+            }
+            lastId = id;
+        }
+        return lastId;
+    }
+
+    /**
+     * DB 에서 지워진 (아카이브로 옮겨진) 메시지 색인 - 색인 디렉터리를 잃고 다시 만드는 경우
+     *
+     * @param doneRoomIds 이미 색인한 방 (색인 후 추가됨)
+     */
+    private long indexArchive(Set<Long> doneRoomIds) {
+        if (!chatMessageArchive.isEnabled()) {
+            return 0;
+        }
+        long total = 0;
+        for (Long chatRoomId : chatMessageArchive.archivedRoomIds()) {
+            if (doneRoomIds.contains(chatRoomId)) {
+                continue; // 재시도 시 이미 색인한 방은 건너뜀
+            }
+            for (ChatMessageResponseDto message : chatMessageArchive.readAll(chatRoomId)) {
+                onMessageSaved(message);
+                total++;
+            }
+            doneRoomIds.add(chatRoomId);
+        }
+        if (total > 0) {
+            log.info("[SEARCH] 아카이브 메시지 색인: messages={}", total);
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        recovering = false;
+        if (messageSearchIndex.isEnabled()) {
+            messageSearchIndex.flush();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.siso.chat.application;
+
+import com.siso.chat.domain.model.ChatMessage;
+import com.siso.chat.domain.model.ChatRoomMember;
+import com.siso.chat.domain.model.ChatRoomMemberStatus;
+import com.siso.chat.domain.repository.ChatMessageRepository;
+import com.siso.chat.domain.repository.ChatRoomMemberRepository;
+import com.siso.chat.dto.request.ChatSyncRequestDto;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.dto.response.ChatRoomSyncDto;
+import com.siso.chat.dto.response.ChatSyncResponseDto;
+import com.siso.user.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 앱 복귀 시 여러 채팅방의 변경분을 한 번에 동기화
+ * 채팅방 수와 무관하게 고정된 개수의 쿼리(멤버 / 새 메시지 수 / 변경 메시지 / 안 읽은 수)로 처리
+ * 수정/삭제는 since 보다 CHANGE_OVERLAP 만큼 앞에서부터 다시 내려줌
+ * (syncedAt 이전에 updatedAt 이 찍혔지만 조회 뒤에 커밋된 변경을 놓치지 않도록, 클라이언트는 id 로 덮어씀)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSyncService {
+    private static final int MAX_MESSAGES_PER_ROOM = 100; // 초과 시 truncated → 최근 메시지 페이지 재조회
+    static final Duration CHANGE_OVERLAP = Duration.ofSeconds(30); // 수정/삭제 트랜잭션 길이보다 넉넉하게
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatRoomMemberService chatRoomMemberService;
+
+    @Transactional(readOnly = true)
+    public ChatSyncResponseDto sync(ChatSyncRequestDto requestDto, User user) {
+        LocalDateTime syncedAt = LocalDateTime.now();
+        Map<Long, Long> requested = requestDto.getRooms() != null ? requestDto.getRooms() : Map.of();
+
+        // 1. 현재 참여 중인 채팅방
+        Set<Long> joinedRoomIds = new LinkedHashSet<>();
+        for (ChatRoomMember member : chatRoomMemberRepository.findByUserIdAndChatRoomMemberStatus(user.getId(), ChatRoomMemberStatus.JOINED)) {
+            joinedRoomIds.add(member.getChatRoom().getId());
+        }
+
+        List<Long> removedRoomIds = requested.keySet().stream()
+                .filter(roomId -> !joinedRoomIds.contains(roomId))
+                .sorted()
+                .toList();
+        List<Long> newRoomIds = joinedRoomIds.stream()
+                .filter(roomId -> !requested.containsKey(roomId))
+                .toList();
+
+        // 요청에 없던 방은 처음부터(0) 본 것으로 취급
+        Map<Long, Long> lastSeenByRoom = new HashMap<>();
+        for (Long roomId : joinedRoomIds) {
+            Long lastSeen = requested.get(roomId);
+            lastSeenByRoom.put(roomId, lastSeen != null ? lastSeen : 0L);
+        }
+        if (lastSeenByRoom.isEmpty()) {
+            return new ChatSyncResponseDto(syncedAt, List.of(), newRoomIds, removedRoomIds);
+        }
+
+        // 2. 새 메시지가 너무 많은 방은 메시지 본문을 내려주지 않음
+        Map<Long, Long> newCounts = chatMessageRepository.countNewMessagesByRoom(lastSeenByRoom);
+        Map<Long, Long> deltaTargets = new HashMap<>();
+        lastSeenByRoom.forEach((roomId, lastSeen) -> {
+            if (newCounts.getOrDefault(roomId, 0L) <= MAX_MESSAGES_PER_ROOM) {
+                deltaTargets.put(roomId, lastSeen);
+            }
+        });
+
+        // 3. 새 메시지 + (since - CHANGE_OVERLAP) 이후 수정/삭제 메시지
+        LocalDateTime changedSince = requestDto.getSince() != null ? requestDto.getSince().minus(CHANGE_OVERLAP) : null;
+        Map<Long, List<ChatMessageResponseDto>> messagesByRoom = new HashMap<>();
+        for (ChatMessage message : chatMessageRepository.findDeltaMessages(deltaTargets, changedSince)) {
+            messagesByRoom.computeIfAbsent(message.getChatRoom().getId(), id -> new ArrayList<>())
+                    .add(ChatMessageResponseDto.fromEntity(message));
+        }
+
+        // 4. 안 읽은 메시지 수
+        Map<Long, Integer> unreadByRoom = chatRoomMemberService.getUnreadCounts(user.getId(), joinedRoomIds);
+
+        List<ChatRoomSyncDto> rooms = new ArrayList<>();
+        for (Long roomId : joinedRoomIds) {
+            long lastSeen = lastSeenByRoom.get(roomId);
+            List<ChatMessageResponseDto> messages = messagesByRoom.getOrDefault(roomId, List.of());
+            boolean truncated = !deltaTargets.containsKey(roomId);
+            int unreadCount = unreadByRoom.getOrDefault(roomId, 0);
+
+            long lastMessageId = Math.max(lastSeen, messages.stream()
+                    .mapToLong(ChatMessageResponseDto::getId)
+                    .max()
+                    .orElse(0L));
+            rooms.add(new ChatRoomSyncDto(roomId, messages, unreadCount, lastMessageId, truncated));
+        }
+
+        log.info("[chatSync] userId={} requestedRooms={} joinedRooms={} newRooms={} removedRooms={}",
+                user.getId(), requested.size(), joinedRoomIds.size(), newRoomIds.size(), removedRoomIds.size());
+        return new ChatSyncResponseDto(syncedAt, rooms, newRoomIds, removedRoomIds);
+    }
+}
@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_room_id", columnList = "chat_room_id, id"),
+        @Index(name = "idx_chat_messages_updated_at", columnList = "updated_at") // 검색 색인 복구 시 수정분 범위 조회
+})
 @EqualsAndHashCode(callSuper = true)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,12 +18,13 @@ public class ChatMessage extends BaseTime {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 파티션 테이블은 외래키를 가질 수 없으므로 ddl-auto 가 FK 를 다시 만들지 않도록
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "sender_id", nullable = false)
+    @JoinColumn(name = "sender_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User sender;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id", nullable = false)
+    @JoinColumn(name = "chat_room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatRoom chatRoom;
 
     @Column(name = "content", nullable = false)
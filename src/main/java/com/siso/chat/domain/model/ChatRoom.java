@@ -10,7 +10,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_rooms_pair_key", columnNames = "pair_key")
+})
 @EqualsAndHashCode(callSuper = true)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,6 +25,10 @@ public class ChatRoom extends BaseTime {
     @JoinColumn(name = "call_id", nullable = false)
     private Call call;
 
+    // 1:1 방의 두 사용자 ("작은 id:큰 id") - 같은 두 사람 사이에는 방이 하나만 생기도록
+    @Column(name = "pair_key", length = 41)
+    private String pairKey;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "chat_status", nullable = false)
     private ChatRoomStatus chatRoomStatus;
@@ -53,6 +59,16 @@ public class ChatRoom extends BaseTime {
     public  ChatRoom(Call call, ChatRoomStatus chatRoomStatus) {
         this.call = call;
         this.chatRoomStatus = chatRoomStatus;
+        if (call != null && call.getCaller() != null && call.getReceiver() != null) {
+            this.pairKey = pairKey(call.getCaller().getId(), call.getReceiver().getId());
+        }
+    }
+
+    /**
+     * 두 사용자 id 를 순서와 무관한 키로 (a, b 와 b, a 가 같은 키)
+     */
+    public static String pairKey(Long userId, Long otherUserId) {
+        return Math.min(userId, otherUserId) + ":" + Math.max(userId, otherUserId);
     }
 
     public void updateChatRoomStatus(ChatRoomStatus chatRoomStatus) {
@@ -2,19 +2,93 @@ package com.siso.chat.domain.repository;
 
 import com.siso.chat.domain.model.ChatMessage;
 import com.siso.chat.domain.model.ChatRoom;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>  {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
     // 채팅방의 메시지를 보낸 시간 기준으로 정렬하여 조회
     List<ChatMessage> findByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
 
     // 가장 최근 메시지 하나만 가져오기
     Optional<ChatMessage> findTopByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom);
 
-    // 특정 채팅방에서 lastReadAt 이후 생성된 메시지 개수 조회
-    int countByChatRoomIdAndCreatedAtAfter(Long chatRoomId, LocalDateTime createdAt);
+    // 최근 메시지 페이지 조회 (id 내림차순)
+    List<ChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
+
+    // 특정 메시지 이전 페이지 조회 (id 내림차순)
+    List<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long id, Pageable pageable);
+
+    // 생성 시각 구간 [from, to) 안에서 특정 메시지 이전 페이지 조회 (월 파티션 하나만 읽도록 pruning)
+    @Query("""
+           SELECT m FROM ChatMessage m
+           WHERE m.chatRoom.id = :chatRoomId
+             AND m.id < :beforeId
+             AND m.createdAt >= :from
+             AND m.createdAt < :to
+           ORDER BY m.id DESC
+           """)
+    List<ChatMessage> findPageInWindow(@Param("chatRoomId") Long chatRoomId,
+                                       @Param("beforeId") Long beforeId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       Pageable pageable);
+
+    // 여러 채팅방의 안 읽은 메시지 수 (lastReadMessageId 이후 상대방 메시지) → [chatRoomId, count]
+    @Query("""
+           SELECT m.chatRoom.id, COUNT(m)
+           FROM ChatMessage m, ChatRoomMember mem
+           WHERE mem.chatRoom = m.chatRoom
+             AND mem.user.id = :userId
+             AND m.chatRoom.id IN :chatRoomIds
+             AND m.sender.id <> :userId
+             AND m.deleted = false
+             AND (mem.lastReadMessageId IS NULL OR m.id > mem.lastReadMessageId)
+           GROUP BY m.chatRoom.id
+           """)
+    List<Object[]> countUnreadByChatRoomIds(@Param("userId") Long userId, @Param("chatRoomIds") Collection<Long> chatRoomIds);
+
+    // 검색 색인 복구용 [id, chatRoomId, content, deleted] - afterId 이후 새 메시지 (PK keyset)
+    @Query("""
+           SELECT m.id, m.chatRoom.id, m.content, m.deleted
+           FROM ChatMessage m
+           WHERE m.id > :afterId
+           ORDER BY m.id
+           """)
+    List<Object[]> findNewForSearchIndex(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인 복구용 [id, chatRoomId, content, deleted] - since 이후 수정/삭제된 기존 메시지 (idx_chat_messages_updated_at 범위)
+    // 색인된 메시지(id <= indexedId)만, afterId 이후 id 순 (keyset)
+    @Query("""
+           SELECT m.id, m.chatRoom.id, m.content, m.deleted
+           FROM ChatMessage m
+           WHERE m.updatedAt > :since
+             AND m.id > :afterId
+             AND m.id <= :indexedId
+           ORDER BY m.id
+           """)
+    List<Object[]> findChangedForSearchIndex(@Param("since") LocalDateTime since,
+                                             @Param("afterId") Long afterId,
+                                             @Param("indexedId") Long indexedId,
+                                             Pageable pageable);
+
+    // 아카이브 대상 메시지 (cutoff 이전 생성) - afterId 이후 id 순 (keyset)
+    @Query("""
+           SELECT new com.siso.chat.dto.response.ChatMessageResponseDto(
+                  m.id, m.chatRoom.id, m.sender.id, m.content, m.createdAt, m.updatedAt, m.deleted)
+           FROM ChatMessage m
+           WHERE m.createdAt < :cutoff
+             AND m.id > :afterId
+           ORDER BY m.id
+           """)
+    List<ChatMessageResponseDto> findArchiveCandidates(@Param("cutoff") LocalDateTime cutoff,
+                                                       @Param("afterId") Long afterId,
+                                                       Pageable pageable);
 }
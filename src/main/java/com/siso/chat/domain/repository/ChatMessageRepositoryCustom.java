@@ -0,0 +1,15 @@
+package com.siso.chat.domain.repository;
+
+import com.siso.chat.domain.model.ChatMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+    // 채팅방별 기준 id 이후 메시지 개수 (chatRoomId -> count), 한 번의 GROUP BY 쿼리
+    Map<Long, Long> countNewMessagesByRoom(Map<Long, Long> lastSeenByRoom);
+
+    // 채팅방별 기준 id 이후 메시지 + changedSince 이후 수정/삭제된 메시지, 한 번의 쿼리
+    List<ChatMessage> findDeltaMessages(Map<Long, Long> lastSeenByRoom, LocalDateTime changedSince);
+}
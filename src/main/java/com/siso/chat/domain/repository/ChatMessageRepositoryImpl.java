@@ -0,0 +1,71 @@
+package com.siso.chat.domain.repository;
+
+import com.siso.chat.domain.model.ChatMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 채팅방마다 기준 id가 다른 조회를 (room = ? AND id > ?) OR ... 형태의 단일 쿼리로 처리
+ */
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Map<Long, Long> countNewMessagesByRoom(Map<Long, Long> lastSeenByRoom) {
+        if (lastSeenByRoom.isEmpty()) {
+            return Map.of();
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ChatMessage> m = query.from(ChatMessage.class);
+        Path<Long> roomId = m.get("chatRoom").get("id");
+
+        List<Predicate> perRoom = new ArrayList<>();
+        lastSeenByRoom.forEach((chatRoomId, lastSeenId) -> perRoom.add(cb.and(
+                cb.equal(roomId, chatRoomId),
+                cb.greaterThan(m.<Long>get("id"), lastSeenId)
+        )));
+
+        query.multiselect(roomId, cb.count(m))
+                .where(cb.or(perRoom.toArray(Predicate[]::new)))
+                .groupBy(roomId);
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple row : em.createQuery(query).getResultList()) {
+            counts.put(row.get(0, Long.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<ChatMessage> findDeltaMessages(Map<Long, Long> lastSeenByRoom, LocalDateTime changedSince) {
+        if (lastSeenByRoom.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ChatMessage> query = cb.createQuery(ChatMessage.class);
+        Root<ChatMessage> m = query.from(ChatMessage.class);
+        Path<Long> roomId = m.get("chatRoom").get("id");
+        Path<Long> id = m.get("id");
+
+        List<Predicate> perRoom = new ArrayList<>();
+        lastSeenByRoom.forEach((chatRoomId, lastSeenId) -> {
+            Predicate isNew = cb.greaterThan(id, lastSeenId);
+            Predicate changed = changedSince == null
+                    ? isNew
+                    : cb.or(isNew, cb.greaterThan(m.<LocalDateTime>get("updatedAt"), changedSince));
+            perRoom.add(cb.and(cb.equal(roomId, chatRoomId), changed));
+        });
+
+        query.select(m)
+                .where(cb.or(perRoom.toArray(Predicate[]::new)))
+                .orderBy(cb.asc(id));
+        return em.createQuery(query).getResultList();
+    }
+}
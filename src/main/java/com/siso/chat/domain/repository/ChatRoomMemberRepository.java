@@ -1,6 +1,7 @@
 package com.siso.chat.domain.repository;
 
 import com.siso.chat.domain.model.ChatRoomMember;
+import com.siso.chat.domain.model.ChatRoomMemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,4 +20,7 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     // 특정 사용자의 멤버 정보 조회
     @Query("SELECT m FROM ChatRoomMember m WHERE m.user.id = :userId AND m.chatRoom.id = :chatRoomId")
     Optional<ChatRoomMember> findByUserIdAndChatRoomId(@Param("userId") Long userId, @Param("chatRoomId") Long chatRoomId);
+
+    // 사용자가 참여 중인 채팅방 멤버 정보 조회
+    List<ChatRoomMember> findByUserIdAndChatRoomMemberStatus(Long userId, ChatRoomMemberStatus chatRoomMemberStatus);
 }
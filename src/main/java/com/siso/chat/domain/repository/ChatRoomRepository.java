@@ -1,15 +1,15 @@
 package com.siso.chat.domain.repository;
 
 import com.siso.chat.domain.model.ChatRoom;
-import com.siso.user.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
     // call.id 로 ChatRoom 찾기
     Optional<ChatRoom> findByCallId(Long callId);
 
@@ -17,15 +17,21 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT cr FROM ChatRoom cr " + "JOIN cr.chatRoomMembers m " + "WHERE m.user.id = :userId")
     List<ChatRoom> findRoomsByUserId(@Param("userId") Long userId);
 
-    // 채팅방 멤버들 사이에 채팅방 존재 여부 확인
-    @Query("""
-           SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
-           FROM ChatRoom c
-           JOIN c.chatRoomMembers m1
-           JOIN c.chatRoomMembers m2
-           WHERE m1.user = :user1
-             AND m2.user = :user2
-             AND SIZE(c.chatRoomMembers) = 2
-           """)
-    boolean existsByMembers(@Param("user1") User user1, @Param("user2") User user2);
+    // 두 사용자 사이의 1:1 채팅방 (pair_key 유니크 인덱스 한 번 조회)
+    Optional<ChatRoom> findByPairKey(String pairKey);
+
+    boolean existsByPairKey(String pairKey);
+
+    // pair_key 도입 이전 방 채우기 (멤버가 둘인 방만, 같은 두 사람의 중복 방은 IGNORE 로 건너뜀)
+    @Modifying
+    @Query(value = """
+           UPDATE IGNORE chat_rooms cr
+           JOIN (SELECT chat_room_id, MIN(user_id) AS low_id, MAX(user_id) AS high_id
+                 FROM chat_room_members
+                 GROUP BY chat_room_id
+                 HAVING COUNT(*) = 2) m ON m.chat_room_id = cr.id
+           SET cr.pair_key = CONCAT(m.low_id, ':', m.high_id)
+           WHERE cr.pair_key IS NULL
+           """, nativeQuery = true)
+    int backfillPairKeys();
 }
\ No newline at end of file
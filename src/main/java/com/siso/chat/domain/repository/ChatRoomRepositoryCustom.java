@@ -0,0 +1,6 @@
+package com.siso.chat.domain.repository;
+
+public interface ChatRoomRepositoryCustom {
+    // 1:1 채팅방 생성 - 같은 pair_key 가 이미 있으면 만들지 않음 (만들었으면 true)
+    boolean insertIfAbsent(Long callId, String chatStatus, String pairKey);
+}
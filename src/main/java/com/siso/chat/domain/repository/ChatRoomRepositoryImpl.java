@@ -0,0 +1,31 @@
+package com.siso.chat.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 1:1 채팅방 생성 - pair_key 유니크 인덱스의 중복 키 오류만 "이미 있음" 으로 처리
+ * - INSERT IGNORE 는 외래키 / NOT NULL 오류까지 경고로 바꿔 0 을 반환하므로 쓰지 않음
+ * - ON DUPLICATE KEY UPDATE 는 Connector/J 기본 설정 (useAffectedRows=false) 에서 중복이어도 1 을 반환해 구분할 수 없음
+ * - JdbcTemplate 예외는 바깥 트랜잭션을 rollback-only 로 만들지 않고, MariaDB 는 실패한 문장만 되돌리므로 잡고 계속 진행
+ */
+@RequiredArgsConstructor
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+    private static final String INSERT_ROOM = """
+            INSERT INTO chat_rooms (call_id, chat_status, pair_key, created_at, updated_at)
+            VALUES (?, ?, ?, NOW(6), NOW(6))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long callId, String chatStatus, String pairKey) {
+        try {
+            jdbcTemplate.update(INSERT_ROOM, callId, chatStatus, pairKey);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false; // 같은 두 사람의 방이 이미 있음 (동시에 종료한 상대가 먼저 만듦)
+        }
+    }
+}
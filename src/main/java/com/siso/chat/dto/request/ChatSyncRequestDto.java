@@ -0,0 +1,15 @@
+package com.siso.chat.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatSyncRequestDto {
+    private Map<Long, Long> rooms;      // chatRoomId -> 클라이언트가 마지막으로 본 messageId
+    private LocalDateTime since;        // 이전 동기화 응답의 syncedAt (수정/삭제 감지용, 없으면 새 메시지만)
+}
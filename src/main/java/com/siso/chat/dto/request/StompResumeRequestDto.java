@@ -0,0 +1,12 @@
+package com.siso.chat.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StompResumeRequestDto {
+    private Long epoch;    // 마지막으로 받은 프레임의 x-seq-epoch 헤더 (처음 연결이면 null)
+    private Long lastSeq;  // 마지막으로 받은 프레임의 x-seq 헤더
+}
@@ -1,5 +1,6 @@
 package com.siso.chat.dto.response;
 
+import com.siso.chat.domain.model.ChatMessage;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -24,4 +25,16 @@ public class ChatMessageResponseDto {
         this.updatedAt = updatedAt;
         this.deleted = deleted;
     }
+
+    public static ChatMessageResponseDto fromEntity(ChatMessage message) {
+        return new ChatMessageResponseDto(
+                message.getId(),
+                message.getChatRoom().getId(),
+                message.getSender().getId(),
+                message.getContent(),
+                message.getCreatedAt(),
+                message.getUpdatedAt(),
+                message.isDeleted()
+        );
+    }
 }
@@ -0,0 +1,12 @@
+package com.siso.chat.dto.response;
+
+import java.util.List;
+
+public record ChatRoomSyncDto(
+        Long chatRoomId,
+        List<ChatMessageResponseDto> messages, // 새 메시지 + since 직전부터 수정/삭제된 메시지 (id 오름차순, 이미 받은 메시지일 수 있으므로 id 로 덮어씀)
+        int unreadCount,
+        Long lastMessageId,
+        boolean truncated                      // 새 메시지가 너무 많아 생략됨 → 최근 메시지 페이지를 다시 조회
+) {
+}
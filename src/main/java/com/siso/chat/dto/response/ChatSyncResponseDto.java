@@ -0,0 +1,12 @@
+package com.siso.chat.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ChatSyncResponseDto(
+        LocalDateTime syncedAt,        // 다음 동기화 요청의 since 로 사용
+        List<ChatRoomSyncDto> rooms,
+        List<Long> newRoomIds,         // 요청에 없던 새 채팅방 → 채팅방 목록 재조회 필요
+        List<Long> removedRoomIds      // 나갔거나 삭제된 채팅방
+) {
+}
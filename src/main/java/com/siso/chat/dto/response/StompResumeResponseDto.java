@@ -0,0 +1,9 @@
+package com.siso.chat.dto.response;
+
+public record StompResumeResponseDto(
+        long epoch,            // 현재 시퀀스 스트림 식별자
+        long currentSeq,       // 서버가 마지막으로 부여한 시퀀스
+        int replayed,          // 재전송한 프레임 수
+        boolean resetRequired  // 빠진 프레임을 복구할 수 없음 → REST 로 전체 재조회
+) {
+}
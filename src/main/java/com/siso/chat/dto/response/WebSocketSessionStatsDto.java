@@ -0,0 +1,16 @@
+package com.siso.chat.dto.response;
+
+public record WebSocketSessionStatsDto(
+        String sessionId,
+        String userId,
+        int queuedFrames,
+        long queuedBytes,
+        long inFlightMillis,   // 현재 진행 중인 전송 경과 시간
+        long lastSendMillis,   // 마지막 전송에 걸린 시간
+        long maxSendMillis,    // 가장 오래 걸린 전송 시간
+        long sentFrames,
+        long droppedFrames,
+        long coalescedFrames,
+        boolean slow
+) {
+}
@@ -0,0 +1,34 @@
+package com.siso.chat.infrastructure;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP 세션을 Spring 기본 ConcurrentWebSocketSessionDecorator 대신 OutboundBackpressureSession 으로 감싸는 핸들러
+ * - 기본 데코레이터가 위에 있으면 송신이 한 프레임씩 직렬화되어 들어오므로 병합/삭제 정책이 동작하지 않음
+ * - 그래서 세션 데코레이트 지점 자체를 교체 (송신 큐는 OutboundBackpressureSession 하나만 둠)
+ */
+public class BackpressureSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+
+    public BackpressureSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                                   SubscribableChannel clientOutboundChannel,
+                                                   WebSocketSessionMonitor webSocketSessionMonitor) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.webSocketSessionMonitor = webSocketSessionMonitor;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return webSocketSessionMonitor.register(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        webSocketSessionMonitor.unregister(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
@@ -0,0 +1,302 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.WebSocketSessionStatsDto;
+import com.siso.chat.infrastructure.properties.WebSocketOutboundProperties;
+import com.siso.chat.infrastructure.properties.WebSocketOutboundProperties.OverflowPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 세션별 송신 큐를 직접 관리하는 WebSocketSession 데코레이터
+ * - 송신 요청은 큐에 쌓고 즉시 반환, 한 스레드만 실제 전송을 담당
+ * - 큐 한도를 넘으면 정책에 따라 비핵심 프레임 병합/삭제 또는 연결 종료
+ * - 전송 시간, 대기량, 삭제/병합 수를 기록해 느린 세션을 찾을 수 있게 함
+ */
+@Slf4j
+public class OutboundBackpressureSession extends WebSocketSessionDecorator {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final Pattern CHAT_ROOM_ID = Pattern.compile("\"chatRoomId\"\\s*:\\s*(\\d+)");
+
+    private final WebSocketOutboundProperties properties;
+    private final Deque<OutboundFrame> queue = new ArrayDeque<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private long queuedBytes; // queue 모니터로 보호
+    private volatile long inFlightSince; // 0이면 전송 중 아님
+    private volatile long lastSendMillis;
+    private volatile long maxSendMillis;
+    private volatile boolean closing;
+
+    private final AtomicLong sentFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicLong coalescedFrames = new AtomicLong();
+
+    public OutboundBackpressureSession(WebSocketSession delegate, WebSocketOutboundProperties properties) {
+        super(delegate);
+        this.properties = properties;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing) {
+            return;
+        }
+
+        // 이전 전송이 제한 시간을 넘도록 끝나지 않았다면 더 쌓지 않고 끊음
+        long since = inFlightSince;
+        if (since > 0 && System.currentTimeMillis() - since > properties.getSendTimeLimitMillis()) {
+            closeAsSlowConsumer("send time limit exceeded (" + (System.currentTimeMillis() - since) + "ms)");
+            return;
+        }
+
+        OutboundFrame frame = OutboundFrame.of(message, properties);
+        boolean accepted;
+        synchronized (queue) {
+            accepted = enqueue(frame);
+        }
+        if (!accepted) {
+            closeAsSlowConsumer("outbound queue overflow (policy=" + properties.getOverflowPolicy() + ")");
+            return;
+        }
+
+        flush();
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        closing = true;
+        clearQueue();
+        super.close(status);
+    }
+
+    // ===== 큐 관리 =====
+
+    private boolean enqueue(OutboundFrame frame) {
+        OverflowPolicy policy = properties.getOverflowPolicy();
+
+        // 같은 키의 비핵심 프레임이 대기 중이면 최신 것으로 교체
+        if (policy == OverflowPolicy.COALESCE && frame.coalesceKey() != null && !queue.isEmpty()) {
+            Iterator<OutboundFrame> it = queue.iterator();
+            while (it.hasNext()) {
+                OutboundFrame queued = it.next();
+                if (frame.coalesceKey().equals(queued.coalesceKey())) {
+                    it.remove();
+                    queuedBytes -= queued.size();
+                    coalescedFrames.incrementAndGet();
+                    break;
+                }
+            }
+        }
+
+        queue.addLast(frame);
+        queuedBytes += frame.size();
+
+        while (queue.size() > properties.getMaxQueuedFrames() || queuedBytes > properties.getMaxQueuedBytes()) {
+            if (policy == OverflowPolicy.DISCONNECT || !dropOldestNonCritical()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean dropOldestNonCritical() {
+        Iterator<OutboundFrame> it = queue.iterator();
+        while (it.hasNext()) {
+            OutboundFrame queued = it.next();
+            if (!queued.critical()) {
+                it.remove();
+                queuedBytes -= queued.size();
+                droppedFrames.incrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private OutboundFrame poll() {
+        synchronized (queue) {
+            OutboundFrame frame = queue.pollFirst();
+            if (frame != null) {
+                queuedBytes -= frame.size();
+            }
+            return frame;
+        }
+    }
+
+    private boolean isQueueEmpty() {
+        synchronized (queue) {
+            return queue.isEmpty();
+        }
+    }
+
+    private void clearQueue() {
+        synchronized (queue) {
+            queue.clear();
+            queuedBytes = 0;
+        }
+    }
+
+    /**
+     * 락을 얻은 스레드 하나만 실제 전송, 나머지는 큐에 쌓고 바로 반환
+     */
+    private void flush() throws IOException {
+        while (!closing && flushLock.tryLock()) {
+            try {
+                OutboundFrame next;
+                while (!closing && (next = poll()) != null) {
+                    long start = System.currentTimeMillis();
+                    inFlightSince = start;
+                    try {
+                        getDelegate().sendMessage(next.message());
+                        sentFrames.incrementAndGet();
+                    } finally {
+                        long elapsed = System.currentTimeMillis() - start;
+                        inFlightSince = 0;
+                        lastSendMillis = elapsed;
+                        if (elapsed > maxSendMillis) {
+                            maxSendMillis = elapsed;
+                        }
+                    }
+                }
+            } finally {
+                flushLock.unlock();
+            }
+
+            // 락 해제 직전에 들어온 프레임이 없으면 종료
+            if (isQueueEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private void closeAsSlowConsumer(String reason) {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        clearQueue();
+        log.warn("[WS BACKPRESSURE] sessionId={} userId={} 느린 클라이언트 연결 종료: {}", getId(), getUserId(), reason);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("[WS BACKPRESSURE] sessionId={} 연결 종료 실패: {}", getId(), e.getMessage());
+        }
+    }
+
+    // ===== 모니터링 =====
+
+    public String getUserId() {
+        Object userId = getAttributes().get("userId");
+        return userId != null ? String.valueOf(userId) : null;
+    }
+
+    public long getInFlightMillis() {
+        long since = inFlightSince;
+        return since > 0 ? System.currentTimeMillis() - since : 0;
+    }
+
+    public long getQueuedBytes() {
+        synchronized (queue) {
+            return queuedBytes;
+        }
+    }
+
+    public boolean isSlow() {
+        return getInFlightMillis() > properties.getSlowThresholdMillis()
+                || lastSendMillis > properties.getSlowThresholdMillis();
+    }
+
+    public WebSocketSessionStatsDto toStats() {
+        int queuedFrames;
+        long bytes;
+        synchronized (queue) {
+            queuedFrames = queue.size();
+            bytes = queuedBytes;
+        }
+        return new WebSocketSessionStatsDto(
+                getId(),
+                getUserId(),
+                queuedFrames,
+                bytes,
+                getInFlightMillis(),
+                lastSendMillis,
+                maxSendMillis,
+                sentFrames.get(),
+                droppedFrames.get(),
+                coalescedFrames.get(),
+                isSlow()
+        );
+    }
+
+    // ===== 프레임 분류 =====
+
+    /**
+     * 대기 중인 송신 프레임
+     * critical=false 인 프레임만 삭제/병합 대상
+     */
+    private record OutboundFrame(WebSocketMessage<?> message, int size, boolean critical, String coalesceKey) {
+
+        static OutboundFrame of(WebSocketMessage<?> message, WebSocketOutboundProperties properties) {
+            int size = message.getPayloadLength();
+            if (!(message instanceof TextMessage textMessage)) {
+                return new OutboundFrame(message, size, true, null);
+            }
+
+            String payload = textMessage.getPayload();
+            String destination = parseMessageDestination(payload);
+            if (destination == null || !isNonCritical(destination, properties)) {
+                // CONNECTED/RECEIPT/ERROR/heartbeat 및 일반 메시지는 절대 버리지 않음
+                return new OutboundFrame(message, size, true, null);
+            }
+
+            // 같은 목적지 + 같은 채팅방이면 최신 상태 하나만 의미 있음
+            Matcher matcher = CHAT_ROOM_ID.matcher(payload);
+            String key = matcher.find() ? destination + "|" + matcher.group(1) : destination;
+            return new OutboundFrame(message, size, false, key);
+        }
+
+        private static boolean isNonCritical(String destination, WebSocketOutboundProperties properties) {
+            for (String pattern : properties.getNonCriticalDestinations()) {
+                if (PATH_MATCHER.match(pattern, destination)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * STOMP MESSAGE 프레임의 destination 헤더 추출 (그 외 프레임은 null)
+         */
+        private static String parseMessageDestination(String payload) {
+            if (!payload.startsWith("MESSAGE\n")) {
+                return null;
+            }
+            int lineStart = "MESSAGE\n".length();
+            while (lineStart < payload.length()) {
+                int lineEnd = payload.indexOf('\n', lineStart);
+                if (lineEnd < 0 || lineEnd == lineStart) {
+                    return null; // 헤더 끝
+                }
+                if (payload.startsWith("destination:", lineStart)) {
+                    return payload.substring(lineStart + "destination:".length(), lineEnd);
+                }
+                lineStart = lineEnd + 1;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.properties.RecentMessageCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 채팅방별 최근 메시지 링 버퍼 캐시
+ * - 방마다 최근 N개의 메시지를 id 오름차순으로 보관
+ * - 전송/수정/삭제 커밋 시 갱신, 전체 방 수는 LRU로 제한
+ * - 최초 조회 시 DB에서 채운 뒤(complete)부터 조회에 사용
+ * - 버퍼가 없는 방의 쓰기는 버리고 조회가 채우도록 함 (쓰기만 있는 방이 LRU 자리를 차지하지 않도록)
+ *   단, DB 에서 읽는 중인 방의 쓰기는 따로 모아 두었다가 fill 시 병합
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentMessageCache {
+    private final RecentMessageCacheProperties properties;
+
+    // chatRoomId -> 링 버퍼 (접근 순서 LRU)
+    private final LinkedHashMap<Long, RoomBuffer> rooms = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+            return size() > properties.getMaxRooms();
+        }
+    };
+    // chatRoomId -> DB 에서 읽는 중인 방 (그 사이 커밋된 쓰기)
+    private final Map<Long, PendingLoad> loading = new HashMap<>();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getMessagesPerRoom() {
+        return properties.getMessagesPerRoom();
+    }
+
+    /**
+     * 최근 메시지 size개 조회 (캐시로 답할 수 없으면 empty)
+     */
+    public synchronized Optional<List<ChatMessageResponseDto>> getRecent(Long chatRoomId, int size) {
+        RoomBuffer buffer = rooms.get(chatRoomId);
+        if (buffer == null || !buffer.complete) {
+            return Optional.empty();
+        }
+        if (buffer.count < size && !buffer.exhaustive) {
+            return Optional.empty();
+        }
+        List<ChatMessageResponseDto> all = buffer.toList();
+        return Optional.of(tail(all, size));
+    }
+
+    /**
+     * beforeMessageId 이전 메시지 size개 조회 (캐시 범위를 벗어나면 empty)
+     */
+    public synchronized Optional<List<ChatMessageResponseDto>> getBefore(Long chatRoomId, Long beforeMessageId, int size) {
+        RoomBuffer buffer = rooms.get(chatRoomId);
+        if (buffer == null || !buffer.complete) {
+            return Optional.empty();
+        }
+        List<ChatMessageResponseDto> older = buffer.toList().stream()
+                .filter(m -> m.getId() < beforeMessageId)
+                .toList();
+        if (older.size() < size && !buffer.exhaustive) {
+            return Optional.empty();
+        }
+        return Optional.of(tail(older, size));
+    }
+
+    /**
+     * DB 에서 최신 메시지를 읽기 직전에 호출 - 이후 fill / abortLoad 전까지의 쓰기를 모아 둠
+     */
+    public synchronized void beginLoad(Long chatRoomId) {
+        loading.computeIfAbsent(chatRoomId, id -> new PendingLoad()).loaders++;
+    }
+
+    /**
+     * DB 조회가 실패해 fill 하지 않을 때 호출
+     */
+    public synchronized void abortLoad(Long chatRoomId) {
+        finishLoad(chatRoomId);
+    }
+
+    /**
+     * DB에서 읽은 최신 메시지로 버퍼를 채움 (beginLoad 이후 호출)
+     *
+     * @param latestAsc  최신 메시지 목록 (id 오름차순)
+     * @param exhaustive 채팅방의 전체 메시지를 모두 읽었는지 여부
+     */
+    public synchronized void fill(Long chatRoomId, List<ChatMessageResponseDto> latestAsc, boolean exhaustive) {
+        PendingLoad pending = finishLoad(chatRoomId);
+        RoomBuffer buffer = rooms.get(chatRoomId);
+        if (buffer == null) {
+            // 읽는 중에 방이 지워졌거나 모아 둘 쓰기가 너무 많았으면 채우지 않음 (다음 조회에서 다시 읽음)
+            if (pending == null || pending.overflowed) {
+                return;
+            }
+            buffer = new RoomBuffer(properties.getMessagesPerRoom());
+            rooms.put(chatRoomId, buffer);
+        }
+        if (pending != null) {
+            pending.writes.forEach(buffer::add);
+        }
+        // DB 조회 중 커밋된 메시지가 이미 버퍼에 들어와 있을 수 있으므로 덮어쓰지 않고 병합
+        buffer.merge(latestAsc, exhaustive);
+    }
+
+    /**
+     * 새 메시지 추가 (전송 커밋 후) - 버퍼가 없는 방이면 무시
+     */
+    public synchronized void append(ChatMessageResponseDto message) {
+        write(message, false);
+    }
+
+    /**
+     * 기존 메시지 교체 (수정/삭제 커밋 후) - 버퍼가 없는 방이면 무시
+     */
+    public synchronized void update(ChatMessageResponseDto message) {
+        write(message, true);
+    }
+
+    public synchronized void evict(Long chatRoomId) {
+        rooms.remove(chatRoomId);
+        loading.remove(chatRoomId);
+    }
+
+    public synchronized int getRoomCount() {
+        return rooms.size();
+    }
+
+    private void write(ChatMessageResponseDto message, boolean replaceOnly) {
+        RoomBuffer buffer = rooms.get(message.getChatRoomId());
+        if (buffer != null) {
+            if (replaceOnly) {
+                buffer.replace(message); // 버퍼 범위 밖의 오래된 메시지면 무시
+            } else {
+                buffer.add(message);
+            }
+            return;
+        }
+        PendingLoad pending = loading.get(message.getChatRoomId());
+        if (pending != null) {
+            pending.record(message, properties.getMessagesPerRoom());
+        }
+    }
+
+    private PendingLoad finishLoad(Long chatRoomId) {
+        PendingLoad pending = loading.get(chatRoomId);
+        if (pending != null && --pending.loaders <= 0) {
+            loading.remove(chatRoomId);
+        }
+        return pending;
+    }
+
+    private static List<ChatMessageResponseDto> tail(List<ChatMessageResponseDto> list, int size) {
+        return List.copyOf(list.subList(Math.max(0, list.size() - size), list.size()));
+    }
+
+    private static boolean isNewerOrSame(ChatMessageResponseDto candidate, ChatMessageResponseDto current) {
+        LocalDateTime a = candidate.getUpdatedAt();
+        LocalDateTime b = current.getUpdatedAt();
+        return a == null || b == null || !a.isBefore(b);
+    }
+
+    /**
+     * DB 조회 중인 방에 커밋된 쓰기 (버퍼 크기를 넘으면 채우기를 포기)
+     */
+    private static class PendingLoad {
+        private final List<ChatMessageResponseDto> writes = new ArrayList<>();
+        private int loaders;
+        private boolean overflowed;
+
+        void record(ChatMessageResponseDto message, int limit) {
+            if (writes.size() >= limit) {
+                overflowed = true;
+                return;
+            }
+            writes.add(message);
+        }
+    }
+
+    /**
+     * 고정 크기 링 버퍼 (id 오름차순 유지)
+     */
+    private static class RoomBuffer {
+        private final ChatMessageResponseDto[] ring;
+        private int head;        // 가장 오래된 메시지 위치
+        private int count;
+        private boolean complete;   // DB에서 채워져 최신 메시지를 빠짐없이 갖고 있음
+        private boolean exhaustive; // 채팅방의 전체 메시지를 갖고 있음 (DB에 더 오래된 메시지 없음)
+
+        RoomBuffer(int capacity) {
+            this.ring = new ChatMessageResponseDto[capacity];
+        }
+
+        private ChatMessageResponseDto at(int i) {
+            return ring[(head + i) % ring.length];
+        }
+
+        void add(ChatMessageResponseDto message) {
+            if (count > 0 && message.getId() <= at(count - 1).getId()) {
+                // 커밋 순서가 id 순서와 다를 때만 정렬 삽입
+                if (!replace(message)) {
+                    List<ChatMessageResponseDto> list = new ArrayList<>(toList());
+                    list.add(message);
+                    list.sort(Comparator.comparing(ChatMessageResponseDto::getId));
+                    rebuild(list);
+                }
+                return;
+            }
+            if (count < ring.length) {
+                ring[(head + count) % ring.length] = message;
+                count++;
+            } else {
+                ring[head] = message;
+                head = (head + 1) % ring.length;
+                exhaustive = false;
+            }
+        }
+
+        boolean replace(ChatMessageResponseDto message) {
+            for (int i = 0; i < count; i++) {
+                int idx = (head + i) % ring.length;
+                if (ring[idx].getId().equals(message.getId())) {
+                    if (isNewerOrSame(message, ring[idx])) {
+                        ring[idx] = message;
+                    }
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void merge(List<ChatMessageResponseDto> loadedAsc, boolean loadedExhaustive) {
+            Map<Long, ChatMessageResponseDto> byId = new TreeMap<>();
+            loadedAsc.forEach(m -> byId.put(m.getId(), m));
+            for (ChatMessageResponseDto buffered : toList()) {
+                byId.merge(buffered.getId(), buffered, (loaded, mine) -> isNewerOrSame(mine, loaded) ? mine : loaded);
+            }
+            rebuild(new ArrayList<>(byId.values()));
+            this.exhaustive = loadedExhaustive && byId.size() <= ring.length;
+            this.complete = true;
+        }
+
+        List<ChatMessageResponseDto> toList() {
+            List<ChatMessageResponseDto> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                list.add(at(i));
+            }
+            return list;
+        }
+
+        private void rebuild(List<ChatMessageResponseDto> sortedAsc) {
+            Arrays.fill(ring, null);
+            int from = Math.max(0, sortedAsc.size() - ring.length);
+            if (from > 0) {
+                exhaustive = false;
+            }
+            head = 0;
+            count = 0;
+            for (int i = from; i < sortedAsc.size(); i++) {
+                ring[count++] = sortedAsc.get(i);
+            }
+        }
+    }
+}
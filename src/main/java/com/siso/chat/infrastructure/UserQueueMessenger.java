@@ -0,0 +1,166 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.StompResumeResponseDto;
+import com.siso.chat.infrastructure.properties.WebSocketReplayProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * /user/queue/* 전송 래퍼 - 재연결 시 빠진 프레임만 다시 보내기 위한 시퀀스/버퍼 관리
+ * - 사용자별 단조 증가 시퀀스를 x-seq 헤더로, 스트림 식별자를 x-seq-epoch 헤더로 부여
+ * - 최근 프레임을 사용자별로 개수/시간 제한 버퍼에 보관
+ * - 클라이언트가 재연결 후 마지막 시퀀스를 보내면 그 이후 프레임만 해당 세션으로 재전송
+ * - 버퍼 범위를 벗어났거나 서버 재시작 등으로 스트림이 바뀌면 resetRequired 로 REST 재조회 유도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserQueueMessenger {
+    public static final String SEQ_HEADER = "x-seq";
+    public static final String EPOCH_HEADER = "x-seq-epoch";
+    private static final String RESUME_DESTINATION = "/queue/session-resume";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketReplayProperties properties;
+
+    // userId -> 시퀀스 스트림
+    private final Map<String, UserStream> streams = new ConcurrentHashMap<>();
+
+    public void sendToUser(Long userId, String destination, Object payload) {
+        sendToUser(String.valueOf(userId), destination, payload);
+    }
+
+    /**
+     * 시퀀스를 부여하고 버퍼에 기록한 뒤 사용자의 모든 세션으로 전송
+     * 오프라인 사용자에게 보낸 프레임도 버퍼에 남아 곧바로 재연결하면 재전송됨
+     */
+    public void sendToUser(String userId, String destination, Object payload) {
+        if (!properties.isEnabled()) {
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            return;
+        }
+
+        UserStream stream = streams.computeIfAbsent(userId, id -> new UserStream());
+        synchronized (stream) {
+            long seq = stream.append(destination, payload, properties);
+            // 락 안에서 전송해 브로커에 들어가는 순서와 시퀀스 순서를 일치시킴
+            messagingTemplate.convertAndSendToUser(userId, destination, payload,
+                    Map.of(SEQ_HEADER, String.valueOf(seq), EPOCH_HEADER, String.valueOf(stream.epoch)));
+        }
+    }
+
+    /**
+     * 재연결한 세션에 lastSeq 이후 프레임을 재전송하고 결과를 /user/queue/session-resume 으로 응답
+     *
+     * @param epoch   클라이언트가 마지막으로 받은 스트림 식별자 (처음 연결이면 null)
+     * @param lastSeq 클라이언트가 마지막으로 받은 시퀀스
+     */
+    public StompResumeResponseDto resume(String userId, String sessionId, Long epoch, Long lastSeq) {
+        StompResumeResponseDto result = replay(userId, sessionId, epoch, lastSeq != null ? lastSeq : 0L);
+        messagingTemplate.convertAndSendToUser(sessionId, RESUME_DESTINATION, result, sessionHeaders(sessionId, Map.of()));
+        log.info("[WS RESUME] userId={} sessionId={} epoch={} lastSeq={} -> replayed={} reset={}",
+                userId, sessionId, epoch, lastSeq, result.replayed(), result.resetRequired());
+        return result;
+    }
+
+    private StompResumeResponseDto replay(String userId, String sessionId, Long epoch, long lastSeq) {
+        UserStream stream = streams.computeIfAbsent(userId, id -> new UserStream());
+        synchronized (stream) {
+            stream.expire(properties);
+
+            // 다른 스트림(서버 재시작, 만료 후 재생성)의 시퀀스는 비교할 수 없음
+            if (epoch == null || epoch != stream.epoch) {
+                return new StompResumeResponseDto(stream.epoch, stream.seq, 0, epoch != null);
+            }
+            // 빠진 구간 일부가 이미 버퍼에서 밀려남
+            if (lastSeq < stream.seq && stream.oldestSeq() > lastSeq + 1) {
+                return new StompResumeResponseDto(stream.epoch, stream.seq, 0, true);
+            }
+
+            int replayed = 0;
+            for (Frame frame : stream.frames) {
+                if (frame.seq() <= lastSeq) {
+                    continue;
+                }
+                messagingTemplate.convertAndSendToUser(sessionId, frame.destination(), frame.payload(),
+                        sessionHeaders(sessionId, Map.of(
+                                SEQ_HEADER, String.valueOf(frame.seq()),
+                                EPOCH_HEADER, String.valueOf(stream.epoch))));
+                replayed++;
+            }
+            return new StompResumeResponseDto(stream.epoch, stream.seq, replayed, false);
+        }
+    }
+
+    /**
+     * 특정 세션 하나로만 보내기 위한 헤더 (user 자리에 sessionId 를 넣으면 해당 세션으로만 라우팅)
+     */
+    private MessageHeaders sessionHeaders(String sessionId, Map<String, String> nativeHeaders) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        nativeHeaders.forEach(accessor::setNativeHeader);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 보관 시간이 지난 프레임 정리, 비어 있는 스트림 제거
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void sweepExpired() {
+        streams.entrySet().removeIf(entry -> {
+            UserStream stream = entry.getValue();
+            synchronized (stream) {
+                stream.expire(properties);
+                return stream.frames.isEmpty();
+            }
+        });
+    }
+
+    public int getStreamCount() {
+        return streams.size();
+    }
+
+    private record Frame(long seq, String destination, Object payload, long sentAt) {
+    }
+
+    /**
+     * 사용자 한 명의 시퀀스 스트림 (인스턴스 모니터로 보호)
+     */
+    private static class UserStream {
+        private final long epoch = System.currentTimeMillis();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private long seq;
+
+        long append(String destination, Object payload, WebSocketReplayProperties properties) {
+            seq++;
+            frames.addLast(new Frame(seq, destination, payload, System.currentTimeMillis()));
+            while (frames.size() > properties.getMaxFramesPerUser()) {
+                frames.pollFirst();
+            }
+            return seq;
+        }
+
+        void expire(WebSocketReplayProperties properties) {
+            long threshold = System.currentTimeMillis() - properties.getTtlSeconds() * 1000;
+            while (!frames.isEmpty() && frames.peekFirst().sentAt() < threshold) {
+                frames.pollFirst();
+            }
+        }
+
+        long oldestSeq() {
+            return frames.isEmpty() ? seq + 1 : frames.peekFirst().seq();
+        }
+    }
+}
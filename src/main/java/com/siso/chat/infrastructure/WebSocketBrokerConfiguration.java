@@ -0,0 +1,25 @@
+package com.siso.chat.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * @EnableWebSocketMessageBroker 대신 사용하는 브로커 설정 (WebSocketConfig 등 Configurer 는 그대로 위임받음)
+ * SubProtocolWebSocketHandler 만 세션별 송신 큐를 쓰는 BackpressureSubProtocolWebSocketHandler 로 교체
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new BackpressureSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, webSocketSessionMonitor);
+    }
+}
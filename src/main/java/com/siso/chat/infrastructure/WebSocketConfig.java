@@ -12,9 +12,12 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
+/**
+ * STOMP 엔드포인트 / 브로커 / 인바운드 채널 설정
+ * 브로커 설정 활성화는 WebSocketBrokerConfiguration 이 담당 (세션별 송신 큐 교체를 위해 @EnableWebSocketMessageBroker 대신 사용)
+ */
 @RequiredArgsConstructor
 @Configuration
-@EnableWebSocketMessageBroker
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtChannelInterceptor jwtChannelInterceptor;
@@ -37,9 +40,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
-        registration.setSendTimeLimit(15_000)               // 메시지 전송 최대 시간 (15초)
-                .setSendBufferSizeLimit(512 * 1024)     // 버퍼 크기 (512KB)
-                .addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+        // 세션별 송신 큐 / 전송 시간 제한은 OutboundBackpressureSession 이 담당 (app.websocket.outbound)
+        registration.addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
                     @Override
                     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
                         log.error("[WebSocketTransportError] sessionId={}, cause={}", session.getId(), exception.getMessage(), exception);
@@ -0,0 +1,58 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.WebSocketSessionStatsDto;
+import com.siso.chat.infrastructure.properties.WebSocketOutboundProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결된 WebSocket 세션을 송신 큐 데코레이터로 감싸고 상태를 모아보는 레지스트리
+ * (Spring 기본 ConcurrentWebSocketSessionDecorator 자리에 들어감 - BackpressureSubProtocolWebSocketHandler)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketSessionMonitor {
+    private final WebSocketOutboundProperties properties;
+
+    // sessionId -> 데코레이트된 세션
+    private final Map<String, OutboundBackpressureSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 새 세션을 송신 큐 데코레이터로 감싸 등록 (BackpressureSubProtocolWebSocketHandler.decorateSession)
+     */
+    public OutboundBackpressureSession register(WebSocketSession session) {
+        OutboundBackpressureSession decorated = new OutboundBackpressureSession(session, properties);
+        sessions.put(session.getId(), decorated);
+        return decorated;
+    }
+
+    public void unregister(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 전송이 가장 오래 걸리고 있는 세션 순으로 조회
+     */
+    public List<WebSocketSessionStatsDto> getSlowestSessions(int limit) {
+        return sessions.values().stream()
+                .map(OutboundBackpressureSession::toStats)
+                .sorted(Comparator.comparingLong(WebSocketSessionStatsDto::inFlightMillis)
+                        .thenComparingLong(WebSocketSessionStatsDto::queuedBytes)
+                        .thenComparingLong(WebSocketSessionStatsDto::maxSendMillis)
+                        .reversed())
+                .limit(Math.max(1, limit))
+                .toList();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
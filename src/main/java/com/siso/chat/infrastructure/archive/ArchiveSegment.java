@@ -0,0 +1,339 @@
+package com.siso.chat.infrastructure.archive;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * 채팅방 아카이브 세그먼트 (append-only 데이터 파일 + 희소 인덱스 파일)
+ *
+ * - seg-{firstId}.dat : 메시지 N개씩 묶은 deflate 압축 블록을 이어 붙임
+ * - seg-{firstId}.idx : 블록마다 [firstId(long) lastId(long) offset(long) length(int) count(int)]
+ * - 인덱스 항목은 데이터 블록을 디스크에 쓴 뒤에 추가 → 인덱스에 없는 꼬리 데이터는 다음 append 때 덮어씀
+ * - 읽기는 두 파일을 메모리 매핑해 인덱스 이진 탐색 후 필요한 블록만 압축 해제
+ *
+ * 쓰기는 호출 측(채팅방 단위)에서 직렬화, 읽기는 매핑 스냅샷을 사용하므로 쓰기와 동시에 가능
+ */
+public final class ArchiveSegment {
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 8 + 4 + 4;
+
+    private final Long chatRoomId;
+    private final Path dataPath;
+    private final Path indexPath;
+    private volatile Snapshot snapshot;
+
+    private ArchiveSegment(Long chatRoomId, Path dataPath, Path indexPath) throws IOException {
+        this.chatRoomId = chatRoomId;
+        this.dataPath = dataPath;
+        this.indexPath = indexPath;
+        this.snapshot = map();
+    }
+
+    public static ArchiveSegment open(Long chatRoomId, Path dataPath) throws IOException {
+        return new ArchiveSegment(chatRoomId, dataPath, indexPathOf(dataPath));
+    }
+
+    public static ArchiveSegment create(Long chatRoomId, Path dataPath) throws IOException {
+        Files.createDirectories(dataPath.getParent());
+        Files.write(dataPath, new byte[0], StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        Files.write(indexPathOf(dataPath), new byte[0], StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        return open(chatRoomId, dataPath);
+    }
+
+    private static Path indexPathOf(Path dataPath) {
+        String name = dataPath.getFileName().toString();
+        return dataPath.resolveSibling(name.substring(0, name.length() - ".dat".length()) + ".idx");
+    }
+
+    // ===== 쓰기 =====
+
+    /**
+     * id 오름차순 메시지를 압축 블록으로 덧붙임 (모든 id 는 lastId 보다 커야 함)
+     */
+    public void append(List<ChatMessageResponseDto> messagesAsc, int messagesPerBlock) throws IOException {
+        if (messagesAsc.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        long offset = current.dataEnd();
+
+        ByteArrayOutputStream indexEntries = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexEntries);
+        try (FileChannel data = FileChannel.open(dataPath, StandardOpenOption.WRITE)) {
+            // 인덱스에 등록되지 않은 꼬리(이전 실패한 쓰기)는 버림
+            data.truncate(offset);
+            data.position(offset);
+            for (int from = 0; from < messagesAsc.size(); from += messagesPerBlock) {
+                List<ChatMessageResponseDto> block = messagesAsc.subList(from, Math.min(from + messagesPerBlock, messagesAsc.size()));
+                byte[] compressed = compress(block);
+                ByteBuffer buffer = ByteBuffer.wrap(compressed);
+                while (buffer.hasRemaining()) {
+                    data.write(buffer);
+                }
+                index.writeLong(block.get(0).getId());
+                index.writeLong(block.get(block.size() - 1).getId());
+                index.writeLong(offset);
+                index.writeInt(compressed.length);
+                index.writeInt(block.size());
+                offset += compressed.length;
+            }
+            data.force(true);
+        }
+
+        try (FileChannel idx = FileChannel.open(indexPath, StandardOpenOption.WRITE)) {
+            long indexEnd = (long) current.blockCount() * INDEX_ENTRY_BYTES;
+            idx.truncate(indexEnd);
+            idx.position(indexEnd);
+            ByteBuffer buffer = ByteBuffer.wrap(indexEntries.toByteArray());
+            while (buffer.hasRemaining()) {
+                idx.write(buffer);
+            }
+            idx.force(true);
+        }
+        snapshot = map();
+    }
+
+    // ===== 읽기 =====
+
+    public boolean isEmpty() {
+        return snapshot.blockCount() == 0;
+    }
+
+    public long firstId() {
+        Snapshot s = snapshot;
+        return s.blockCount() == 0 ? Long.MAX_VALUE : s.firstId(0);
+    }
+
+    public long lastId() {
+        Snapshot s = snapshot;
+        return s.blockCount() == 0 ? 0L : s.lastId(s.blockCount() - 1);
+    }
+
+    public long sizeBytes() {
+        return snapshot.dataEnd();
+    }
+
+    public Path getDataPath() {
+        return dataPath;
+    }
+
+    public Path getIndexPath() {
+        return indexPath;
+    }
+
+    /**
+     * beforeId 미만 메시지 중 최근 limit 개 (id 오름차순)
+     */
+    public List<ChatMessageResponseDto> readBefore(long beforeId, int limit) {
+        Snapshot s = snapshot;
+        // beforeId 미만 id 를 가진 마지막 블록 탐색
+        int low = 0;
+        int high = s.blockCount() - 1;
+        int last = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (s.firstId(mid) < beforeId) {
+                last = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        LinkedList<ChatMessageResponseDto> result = new LinkedList<>();
+        for (int block = last; block >= 0 && result.size() < limit; block--) {
+            List<ChatMessageResponseDto> messages = s.readBlock(block, chatRoomId);
+            for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                if (messages.get(i).getId() < beforeId) {
+                    result.addFirst(messages.get(i));
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 지정한 id 의 메시지 조회 (없는 id 는 무시)
+     */
+    public Map<Long, ChatMessageResponseDto> find(Collection<Long> ids) {
+        Snapshot s = snapshot;
+        Map<Integer, List<Long>> idsByBlock = new TreeMap<>();
+        for (Long id : ids) {
+            int block = s.blockOf(id);
+            if (block >= 0) {
+                idsByBlock.computeIfAbsent(block, b -> new ArrayList<>()).add(id);
+            }
+        }
+
+        Map<Long, ChatMessageResponseDto> found = new HashMap<>();
+        idsByBlock.forEach((block, wanted) -> {
+            Set<Long> wantedSet = new HashSet<>(wanted);
+            for (ChatMessageResponseDto message : s.readBlock(block, chatRoomId)) {
+                if (wantedSet.contains(message.getId())) {
+                    found.put(message.getId(), message);
+                }
+            }
+        });
+        return found;
+    }
+
+    public List<ChatMessageResponseDto> readAll() {
+        Snapshot s = snapshot;
+        List<ChatMessageResponseDto> result = new ArrayList<>();
+        for (int block = 0; block < s.blockCount(); block++) {
+            result.addAll(s.readBlock(block, chatRoomId));
+        }
+        return result;
+    }
+
+    // ===== 내부 구현 =====
+
+    private Snapshot map() throws IOException {
+        MappedByteBuffer index;
+        try (FileChannel idx = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            long usable = idx.size() - idx.size() % INDEX_ENTRY_BYTES; // 잘린 항목 무시
+            index = idx.map(FileChannel.MapMode.READ_ONLY, 0, usable);
+        }
+        int blockCount = index.capacity() / INDEX_ENTRY_BYTES;
+        long dataEnd = blockCount == 0 ? 0
+                : index.getLong((blockCount - 1) * INDEX_ENTRY_BYTES + 16) + index.getInt((blockCount - 1) * INDEX_ENTRY_BYTES + 24);
+
+        MappedByteBuffer data;
+        try (FileChannel dat = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            data = dat.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(dataEnd, dat.size()));
+        }
+        return new Snapshot(index, data, blockCount, dataEnd);
+    }
+
+    private static byte[] compress(List<ChatMessageResponseDto> block) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            for (ChatMessageResponseDto message : block) {
+                out.writeLong(message.getId());
+                out.writeLong(message.getSenderId());
+                out.writeLong(toMillis(message.getCreatedAt()));
+                out.writeLong(toMillis(message.getUpdatedAt()));
+                out.writeBoolean(message.isDeleted());
+                byte[] content = message.getContent() != null
+                        ? message.getContent().getBytes(StandardCharsets.UTF_8)
+                        : new byte[0];
+                out.writeInt(content.length);
+                out.write(content);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return millis != Long.MIN_VALUE ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * 특정 시점의 매핑 (append 후 새 스냅샷으로 교체)
+     */
+    private record Snapshot(MappedByteBuffer index, MappedByteBuffer data, int blockCount, long dataEnd) {
+
+        long firstId(int block) {
+            return index.getLong(block * INDEX_ENTRY_BYTES);
+        }
+
+        long lastId(int block) {
+            return index.getLong(block * INDEX_ENTRY_BYTES + 8);
+        }
+
+        /**
+         * id 를 포함할 수 있는 블록 번호 (없으면 -1)
+         */
+        int blockOf(long id) {
+            int low = 0;
+            int high = blockCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (lastId(mid) < id) {
+                    low = mid + 1;
+                } else if (firstId(mid) > id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        List<ChatMessageResponseDto> readBlock(int block, Long chatRoomId) {
+            int entry = block * INDEX_ENTRY_BYTES;
+            int offset = (int) index.getLong(entry + 16);
+            int length = index.getInt(entry + 24);
+            int count = index.getInt(entry + 28);
+
+            byte[] compressed = new byte[length];
+            data.get(offset, compressed);
+            byte[] raw = inflate(compressed);
+
+            List<ChatMessageResponseDto> messages = new ArrayList<>(count);
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+                for (int i = 0; i < count; i++) {
+                    long id = in.readLong();
+                    long senderId = in.readLong();
+                    LocalDateTime createdAt = fromMillis(in.readLong());
+                    LocalDateTime updatedAt = fromMillis(in.readLong());
+                    boolean deleted = in.readBoolean();
+                    byte[] content = new byte[in.readInt()];
+                    in.readFully(content);
+                    messages.add(new ChatMessageResponseDto(id, chatRoomId, senderId,
+                            new String(content, StandardCharsets.UTF_8), createdAt, updatedAt, deleted));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("손상된 아카이브 블록: block=" + block, e);
+            }
+            return messages;
+        }
+
+        private static byte[] inflate(byte[] compressed) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+                byte[] chunk = new byte[8192];
+                while (!inflater.finished()) {
+                    int n = inflater.inflate(chunk);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("압축 블록이 불완전합니다");
+                    }
+                    out.write(chunk, 0, n);
+                }
+                return out.toByteArray();
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("압축 블록 해제 실패", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.siso.chat.infrastructure.archive;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.properties.ChatArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방별 아카이브 (room-{chatRoomId}/seg-{firstId}.dat|.idx)
+ * - 세그먼트는 id 순으로 이어지며 마지막 세그먼트에만 덧붙임, 크기를 넘으면 새 세그먼트 시작
+ * - 방 단위로 처음 접근할 때 디렉터리를 열고 이후 재사용, 열린 방 수는 LRU 로 제한
+ * - 아카이브 작업의 진행 위치(cursor.properties)를 함께 보관해 실행이 나뉘어도 이어서 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchive {
+    private static final String CURSOR = "cursor.properties";
+
+    private final ChatArchiveProperties properties;
+
+    // chatRoomId -> 세그먼트 목록 (firstId 오름차순, 아카이브가 없으면 빈 목록), 접근 순서 LRU - rooms 모니터로 보호
+    private final LinkedHashMap<Long, RoomArchive> rooms = new LinkedHashMap<>(64, 0.75f, true);
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 아카이브 디렉터리가 루트 파일시스템과 다른 마운트인지 (컨테이너 쓰기 계층이면 false)
+     */
+    public boolean isOnMountedVolume() {
+        try {
+            Path dir = Paths.get(properties.getDirectory()).toAbsolutePath();
+            Files.createDirectories(dir);
+            return !Files.getFileStore(dir).equals(Files.getFileStore(dir.getRoot()));
+        } catch (IOException e) {
+            log.warn("[ARCHIVE] 아카이브 디렉터리 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public int getOpenRoomCount() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    /**
+     * id 오름차순 메시지를 아카이브에 추가 (마지막 아카이브 id 이하인 메시지는 호출 측에서 걸러야 함)
+     */
+    public void append(Long chatRoomId, List<ChatMessageResponseDto> messagesAsc) throws IOException {
+        while (true) {
+            RoomArchive room = room(chatRoomId);
+            synchronized (room) {
+                if (room.closed) {
+                    continue; // 그사이 LRU 에서 밀려남 → 디스크에서 다시 열기
+                }
+                ArchiveSegment tail = room.tail();
+                if (tail == null || tail.sizeBytes() >= properties.getMaxSegmentBytes()) {
+                    Path dataPath = roomDirectory(chatRoomId).resolve(String.format("seg-%019d.dat", messagesAsc.get(0).getId()));
+                    tail = ArchiveSegment.create(chatRoomId, dataPath);
+                    room.add(tail);
+                }
+                tail.append(messagesAsc, properties.getMessagesPerBlock());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 아카이브된 메시지 id (없으면 0)
+     */
+    public long lastArchivedId(Long chatRoomId) {
+        List<ArchiveSegment> segments = room(chatRoomId).segments;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (!segments.get(i).isEmpty()) {
+                return segments.get(i).lastId();
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * beforeId 미만 메시지 중 최근 limit 개 (id 오름차순)
+     */
+    public List<ChatMessageResponseDto> readBefore(Long chatRoomId, long beforeId, int limit) {
+        if (!properties.isEnabled() || limit <= 0) {
+            return List.of();
+        }
+        List<ArchiveSegment> segments = room(chatRoomId).segments;
+        LinkedList<ChatMessageResponseDto> result = new LinkedList<>();
+        for (int i = segments.size() - 1; i >= 0 && result.size() < limit; i--) {
+            ArchiveSegment segment = segments.get(i);
+            if (segment.firstId() >= beforeId) {
+                continue;
+            }
+            List<ChatMessageResponseDto> older = segment.readBefore(beforeId, limit - result.size());
+            result.addAll(0, older);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 지정한 id 의 아카이브 메시지 조회
+     */
+    public Map<Long, ChatMessageResponseDto> find(Long chatRoomId, Collection<Long> ids) {
+        if (!properties.isEnabled() || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ChatMessageResponseDto> found = new HashMap<>();
+        for (ArchiveSegment segment : room(chatRoomId).segments) {
+            List<Long> inRange = ids.stream()
+                    .filter(id -> id >= segment.firstId() && id <= segment.lastId())
+                    .toList();
+            if (!inRange.isEmpty()) {
+                found.putAll(segment.find(inRange));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 채팅방의 아카이브 메시지 전체 (id 오름차순)
+     */
+    public List<ChatMessageResponseDto> readAll(Long chatRoomId) {
+        if (!properties.isEnabled()) {
+            return List.of();
+        }
+        List<ChatMessageResponseDto> result = new ArrayList<>();
+        for (ArchiveSegment segment : room(chatRoomId).segments) {
+            result.addAll(segment.readAll());
+        }
+        return result;
+    }
+
+    /**
+     * 아카이브 파일이 있는 채팅방 id (검색 색인 재생성용)
+     */
+    public List<Long> archivedRoomIds() {
+        Path base = Paths.get(properties.getDirectory());
+        if (!properties.isEnabled() || !Files.isDirectory(base)) {
+            return List.of();
+        }
+        List<Long> roomIds = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(base, "room-*")) {
+            for (Path dir : stream) {
+                roomIds.add(Long.valueOf(dir.getFileName().toString().substring("room-".length())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Collections.sort(roomIds);
+        return roomIds;
+    }
+
+    /**
+     * 아카이브 작업의 진행 위치 (기록된 적이 없거나 읽을 수 없으면 empty → 처음부터)
+     */
+    public Optional<Cursor> readCursor() {
+        Path path = Paths.get(properties.getDirectory()).resolve(CURSOR);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            stored.load(in);
+            return Optional.of(new Cursor(
+                    LocalDateTime.parse(stored.getProperty("cutoff")),
+                    Long.parseLong(stored.getProperty("afterId", "0")),
+                    Boolean.parseBoolean(stored.getProperty("completed", "false"))));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ARCHIVE] 진행 위치 읽기 실패, 처음부터 진행: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 아카이브 작업의 진행 위치 기록 (임시 파일 후 교체)
+     */
+    public void writeCursor(Cursor cursor) throws IOException {
+        Path base = Paths.get(properties.getDirectory());
+        Path temp = base.resolve(CURSOR + ".tmp");
+        Properties stored = new Properties();
+        stored.setProperty("cutoff", cursor.cutoff().toString());
+        stored.setProperty("afterId", String.valueOf(cursor.afterId()));
+        stored.setProperty("completed", String.valueOf(cursor.completed()));
+        Files.createDirectories(base);
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            stored.store(out, "chat archive cursor");
+        }
+        Files.move(temp, base.resolve(CURSOR), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 채팅방 아카이브 삭제 (채팅방 삭제 시)
+     */
+    public void dropRoom(Long chatRoomId) {
+        RoomArchive removed;
+        synchronized (rooms) {
+            removed = rooms.remove(chatRoomId);
+        }
+        if (removed != null) {
+            removed.close();
+        }
+        if (removed == null && !Files.exists(roomDirectory(chatRoomId))) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(roomDirectory(chatRoomId))) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("[ARCHIVE] 파일 삭제 실패: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[ARCHIVE] chatRoomId={} 아카이브 삭제 실패: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private RoomArchive room(Long chatRoomId) {
+        RoomArchive room;
+        List<RoomArchive> evicted = new ArrayList<>();
+        synchronized (rooms) {
+            room = rooms.get(chatRoomId);
+            if (room != null) {
+                return room;
+            }
+            room = openRoom(chatRoomId);
+            rooms.put(chatRoomId, room);
+            // 가장 오래 쓰지 않은 방부터 밀어냄 (방금 연 방은 맨 뒤)
+            Iterator<RoomArchive> eldest = rooms.values().iterator();
+            while (rooms.size() > properties.getMaxOpenRooms()) {
+                evicted.add(eldest.next());
+                eldest.remove();
+            }
+        }
+        // 쓰기 중인 방이면 끝날 때까지 기다리므로 rooms 락 밖에서 닫음
+        evicted.forEach(RoomArchive::close);
+        return room;
+    }
+
+    private RoomArchive openRoom(Long chatRoomId) {
+        RoomArchive room = new RoomArchive();
+        Path dir = roomDirectory(chatRoomId);
+        if (!Files.isDirectory(dir)) {
+            return room;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "seg-*.dat")) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        files.sort(Comparator.naturalOrder()); // 0 채운 firstId 이므로 이름순 = id 순
+        for (Path file : files) {
+            try {
+                room.add(ArchiveSegment.open(chatRoomId, file));
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 세그먼트 열기 실패: " + file, e);
+            }
+        }
+        return room;
+    }
+
+    private Path roomDirectory(Long chatRoomId) {
+        return Paths.get(properties.getDirectory()).resolve("room-" + chatRoomId);
+    }
+
+    /**
+     * 채팅방 하나의 세그먼트 목록 (쓰기는 인스턴스 모니터로 직렬화, 읽기는 불변 목록 스냅샷)
+     */
+    private static class RoomArchive {
+        private volatile List<ArchiveSegment> segments = List.of();
+        private boolean closed; // 인스턴스 모니터로 보호
+
+        /**
+         * LRU 에서 밀려나거나 방이 삭제될 때 - 이후 쓰기는 새로 연 RoomArchive 로
+         * 매핑은 자바에서 직접 해제할 수 없어 참조를 놓으면 GC 가 해제 (진행 중인 읽기는 가진 스냅샷으로 안전하게 끝남)
+         */
+        synchronized void close() {
+            closed = true;
+        }
+
+        synchronized void add(ArchiveSegment segment) {
+            List<ArchiveSegment> next = new ArrayList<>(segments);
+            next.add(segment);
+            segments = List.copyOf(next);
+        }
+
+        ArchiveSegment tail() {
+            List<ArchiveSegment> current = segments;
+            return current.isEmpty() ? null : current.get(current.size() - 1);
+        }
+    }
+
+    /**
+     * 아카이브 작업 진행 위치 - cutoff 이전 메시지 중 afterId 까지 처리됨
+     *
+     * @param completed cutoff 이전 메시지를 모두 옮김 (파티션이면 삭제까지 끝남)
+     */
+    public record Cursor(LocalDateTime cutoff, long afterId, boolean completed) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.siso.chat.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 채팅 메시지 아카이브 설정 프로퍼티
+ *
+ * application.yml의 app.chat.archive 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.chat.archive")
+public class ChatArchiveProperties {
+
+    /**
+     * 아카이브 작업 및 아카이브 조회 사용 여부
+     * 아카이브된 메시지는 DB 에서 지워지고 이 디렉터리에만 남으므로 영구 볼륨을 준비한 뒤에만 켬
+     */
+    private boolean enabled = false;
+
+    /**
+     * 아카이브 파일 저장 디렉터리 (모든 인스턴스가 같은 볼륨을 봐야 함)
+     */
+    @NotBlank
+    private String directory = "./data/chat-archive";
+
+    /**
+     * 디렉터리가 루트 파일시스템과 다른 마운트(볼륨)일 때만 DB 행을 삭제
+     * 컨테이너 쓰기 계층에 기록하면 재배포 시 아카이브가 사라지므로 기본 true (로컬 개발에서만 끔)
+     */
+    private boolean requireMountedDirectory = true;
+
+    /**
+     * 동시에 열어 두는 채팅방 아카이브 수 (LRU, 넘치면 가장 오래 쓰지 않은 방의 매핑을 놓음)
+     */
+    @Min(value = 16, message = "열어 둘 채팅방 수는 16 이상이어야 합니다")
+    private int maxOpenRooms = 256;
+
+    /**
+     * 생성 후 이 기간(일)이 지난 메시지를 아카이브로 이동
+     */
+    @Min(value = 1, message = "아카이브 기준은 1일 이상이어야 합니다")
+    private int archiveAfterDays = 90;
+
+    /**
+     * 아카이브 작업 실행 주기 (cron)
+     */
+    @NotBlank
+    private String cron = "0 30 4 * * *";
+
+    /**
+     * 한 번에 DB에서 읽어 옮기는 메시지 수
+     */
+    @Min(value = 100, message = "배치 크기는 100 이상이어야 합니다")
+    private int batchSize = 1000;
+
+    /**
+     * 한 번 실행에서 처리할 최대 배치 수 (작업 시간 상한)
+     */
+    @Min(value = 1, message = "최대 배치 수는 1 이상이어야 합니다")
+    private int maxBatchesPerRun = 200;
+
+    /**
+     * 압축 블록 하나에 담는 메시지 수 (희소 인덱스 간격)
+     */
+    @Min(value = 8, message = "블록 크기는 8 이상이어야 합니다")
+    private int messagesPerBlock = 64;
+
+    /**
+     * 세그먼트 파일 최대 크기 - 넘으면 새 세그먼트로 이어 씀
+     */
+    @Min(value = 1024 * 1024, message = "세그먼트 크기는 1MB 이상이어야 합니다")
+    private long maxSegmentBytes = 64L * 1024 * 1024;
+}
@@ -0,0 +1,47 @@
+package com.siso.chat.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 검색 색인 설정 프로퍼티
+ *
+ * application.yml의 app.chat.search 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.chat.search")
+public class MessageSearchProperties {
+
+    /**
+     * 검색 색인 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 세그먼트 파일 저장 디렉터리
+     */
+    @NotBlank
+    private String directory = "./data/chat-search";
+
+    /**
+     * 메모리 색인의 posting 수가 이 값을 넘으면 세그먼트 파일로 내림
+     */
+    @Min(value = 1000, message = "flush 기준은 1000 이상이어야 합니다")
+    private int flushThresholdPostings = 200_000;
+
+    /**
+     * 채팅방당 세그먼트 파일이 이 개수를 넘으면 하나로 병합
+     */
+    @Min(value = 2, message = "병합 기준은 2 이상이어야 합니다")
+    private int maxSegmentsPerRoom = 8;
+
+    /**
+     * 기동 시 DB에서 색인을 따라잡을 때 한 번에 읽는 메시지 수
+     */
+    @Min(value = 100, message = "복구 배치 크기는 100 이상이어야 합니다")
+    private int recoveryBatchSize = 1000;
+}
@@ -0,0 +1,35 @@
+package com.siso.chat.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 최근 메시지 캐시 설정 프로퍼티
+ *
+ * application.yml의 app.chat.recent-messages 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.chat.recent-messages")
+public class RecentMessageCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 채팅방당 보관할 최근 메시지 수 (링 버퍼 크기)
+     */
+    @Min(value = 1, message = "채팅방당 메시지 수는 1개 이상이어야 합니다")
+    private int messagesPerRoom = 50;
+
+    /**
+     * 캐시에 유지할 최대 채팅방 수 (초과 시 가장 오래 안 쓰인 방부터 제거)
+     * 전체 메모리 상한 = maxRooms * messagesPerRoom 개 메시지
+     */
+    @Min(value = 1, message = "최대 채팅방 수는 1개 이상이어야 합니다")
+    private int maxRooms = 2_000;
+}
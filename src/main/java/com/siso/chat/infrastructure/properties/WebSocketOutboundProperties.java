@@ -0,0 +1,65 @@
+package com.siso.chat.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * WebSocket 세션별 송신 큐(backpressure) 설정 프로퍼티
+ *
+ * application.yml의 app.websocket.outbound 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.websocket.outbound")
+public class WebSocketOutboundProperties {
+
+    /**
+     * 세션당 대기 가능한 최대 프레임 수
+     */
+    @Min(value = 1, message = "최대 대기 프레임 수는 1개 이상이어야 합니다")
+    private int maxQueuedFrames = 256;
+
+    /**
+     * 세션당 대기 가능한 최대 바이트 수
+     */
+    @Min(value = 1024, message = "최대 대기 바이트는 최소 1KB 이상이어야 합니다")
+    private int maxQueuedBytes = 512 * 1024;
+
+    /**
+     * 한 프레임 전송이 이 시간(ms)을 넘기면 느린 클라이언트로 보고 연결을 끊음
+     */
+    @Min(value = 1000, message = "전송 제한 시간은 1초 이상이어야 합니다")
+    private long sendTimeLimitMillis = 15_000;
+
+    /**
+     * 진행 중인 전송이 이 시간(ms)을 넘기면 느린 세션으로 분류 (모니터링용)
+     */
+    private long slowThresholdMillis = 1_000;
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    @NotNull
+    private OverflowPolicy overflowPolicy = OverflowPolicy.COALESCE;
+
+    /**
+     * 버려지거나 병합되어도 되는 목적지 패턴 (Ant 스타일)
+     * 채팅 목록 갱신, 읽음 표시처럼 최신 상태만 의미 있는 프레임
+     */
+    @NotNull
+    private List<String> nonCriticalDestinations = List.of(
+            "/user/queue/chat-list",
+            "/user/queue/read-receipt/**"
+    );
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,   // 가장 오래된 비핵심 프레임부터 버림
+        COALESCE,      // 같은 키의 비핵심 프레임은 최신 것만 유지, 그래도 넘치면 DROP_OLDEST
+        DISCONNECT     // 즉시 연결 종료
+    }
+}
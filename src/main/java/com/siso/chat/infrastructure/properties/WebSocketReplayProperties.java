@@ -0,0 +1,34 @@
+package com.siso.chat.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 /user/queue 프레임 재전송(replay) 버퍼 설정 프로퍼티
+ *
+ * application.yml의 app.websocket.replay 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.websocket.replay")
+public class WebSocketReplayProperties {
+
+    /**
+     * 시퀀스 부여 및 재전송 버퍼 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 사용자당 보관할 최대 프레임 수
+     */
+    @Min(value = 1, message = "최대 프레임 수는 1개 이상이어야 합니다")
+    private int maxFramesPerUser = 200;
+
+    /**
+     * 프레임 보관 시간 (초) - 재연결이 이보다 늦으면 REST 재조회 필요
+     */
+    @Min(value = 1, message = "보관 시간은 1초 이상이어야 합니다")
+    private long ttlSeconds = 120;
+}
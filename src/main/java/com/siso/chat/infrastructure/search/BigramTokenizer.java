@@ -0,0 +1,86 @@
+package com.siso.chat.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글 친화적인 문자 바이그램 토크나이저
+ * - NFKC 정규화 + 소문자 변환 후 글자/숫자가 아닌 문자로 토큰 분리
+ * - 토큰 안의 인접한 두 글자를 (c1 << 16 | c2) int 하나로 표현
+ * - 형태소 분석 없이도 "안녕하세요" 안의 "하세" 같은 부분 문자열 검색이 가능
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 글자/숫자 토큰으로 분리
+     */
+    public static List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(normalized.substring(start));
+        }
+        return tokens;
+    }
+
+    /**
+     * 원문의 바이그램 term 목록 (정렬, 중복 제거)
+     */
+    public static int[] terms(String text) {
+        List<String> tokens = tokens(normalize(text));
+        int total = 0;
+        for (String token : tokens) {
+            total += Math.max(0, token.length() - 1);
+        }
+
+        int[] terms = new int[total];
+        int n = 0;
+        for (String token : tokens) {
+            for (int i = 0; i + 1 < token.length(); i++) {
+                terms[n++] = term(token.charAt(i), token.charAt(i + 1));
+            }
+        }
+        Arrays.sort(terms);
+        return distinct(terms);
+    }
+
+    private static int term(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int[] distinct(int[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+}
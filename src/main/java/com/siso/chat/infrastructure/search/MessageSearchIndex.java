@@ -0,0 +1,543 @@
+package com.siso.chat.infrastructure.search;
+
+import com.siso.chat.infrastructure.properties.MessageSearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방별 바이그램 역색인
+ * - 새 posting 은 방별 메모리 색인(memtable)에 쌓고, 주기적으로 불변 세그먼트 파일로 내림
+ * - 세그먼트는 메모리 매핑으로 읽고, 방별 세그먼트 수가 많아지면 하나로 병합
+ * - 삭제는 TOMBSTONE term 에 id 를 기록해 검색에서 제외, 병합 시 실제로 제거
+ * - 수정은 새 내용의 term 만 추가 → 옛 term 으로 걸린 후보는 검색 서비스가 원문 확인으로 걸러냄
+ * - manifest 에 마지막으로 파일에 반영된 메시지 id/시각을 기록해 재기동 시 그 이후만 다시 색인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageSearchIndex {
+    private static final int TOMBSTONE = -1; // 0xFFFF 0xFFFF - 바이그램으로는 나올 수 없는 값
+    private static final String MANIFEST = "manifest.properties";
+    private static final long[] EMPTY = new long[0];
+
+    private final MessageSearchProperties properties;
+
+    private final Map<Long, RoomIndex> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong pendingPostings = new AtomicLong();
+    private final AtomicLong maxIndexedId = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final Object flushLock = new Object();
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+    private volatile boolean manifestPaused; // DB 따라잡기 중에는 watermark 를 올리면 안 됨
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // ===== 색인 갱신 =====
+
+    /**
+     * 메시지 내용 색인 (전송/수정 커밋 후)
+     */
+    public void index(Long chatRoomId, Long messageId, String content) {
+        int[] terms = BigramTokenizer.terms(content);
+        if (terms.length == 0) {
+            return;
+        }
+        room(chatRoomId).add(terms, messageId);
+        pendingPostings.addAndGet(terms.length);
+        maxIndexedId.accumulateAndGet(messageId, Math::max);
+    }
+
+    /**
+     * 메시지 삭제 표시 (삭제 커밋 후)
+     */
+    public void remove(Long chatRoomId, Long messageId) {
+        room(chatRoomId).add(new int[]{TOMBSTONE}, messageId);
+        pendingPostings.incrementAndGet();
+    }
+
+    /**
+     * 채팅방 색인 전체 삭제 (채팅방 삭제 시)
+     */
+    public void dropRoom(Long chatRoomId) {
+        synchronized (flushLock) {
+            RoomIndex removed = rooms.remove(chatRoomId);
+            if (removed != null) {
+                deleteQuietly(roomDirectory(chatRoomId));
+            }
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 모든 term 을 포함하는 후보 메시지 id (내림차순)
+     * 후보는 상위 집합이므로 호출 측에서 원문으로 확인해야 함
+     *
+     * @param beforeMessageId 이 id 미만만 (null 이면 전체)
+     */
+    public long[] candidates(Long chatRoomId, int[] terms, Long beforeMessageId) {
+        RoomIndex room = rooms.get(chatRoomId);
+        if (room == null || terms.length == 0) {
+            return EMPTY;
+        }
+
+        // posting 이 짧은 term 부터 교집합
+        List<long[]> lists = new ArrayList<>(terms.length);
+        for (int term : terms) {
+            long[] postings = room.postings(term);
+            if (postings.length == 0) {
+                return EMPTY;
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        result = subtract(result, room.postings(TOMBSTONE));
+
+        long upper = beforeMessageId != null ? beforeMessageId : Long.MAX_VALUE;
+        int end = result.length;
+        while (end > 0 && result[end - 1] >= upper) {
+            end--;
+        }
+        long[] desc = new long[end];
+        for (int i = 0; i < end; i++) {
+            desc[i] = result[end - 1 - i];
+        }
+        return desc;
+    }
+
+    // ===== 세그먼트 관리 =====
+
+    /**
+     * 저장된 세그먼트 파일 로드 후 manifest 반환 (재색인 시작점)
+     */
+    public Manifest load() throws IOException {
+        Path base = baseDirectory();
+        Files.createDirectories(base);
+
+        long maxGeneration = 0;
+        try (DirectoryStream<Path> roomDirs = Files.newDirectoryStream(base, "room-*")) {
+            for (Path roomDir : roomDirs) {
+                Long chatRoomId = Long.valueOf(roomDir.getFileName().toString().substring("room-".length()));
+                List<Path> files = new ArrayList<>();
+                try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(roomDir, "seg-*.idx")) {
+                    segmentFiles.forEach(files::add);
+                }
+                files.sort(Comparator.naturalOrder());
+                RoomIndex room = room(chatRoomId);
+                for (Path file : files) {
+                    try {
+                        room.addSegment(SearchSegment.open(file));
+                        maxGeneration = Math.max(maxGeneration, generationOf(file));
+                    } catch (IOException e) {
+                        log.warn("[SEARCH] 손상된 세그먼트 무시: {} ({})", file, e.getMessage());
+                    }
+                }
+            }
+        }
+        generation.set(maxGeneration);
+
+        Manifest manifest = readManifest();
+        maxIndexedId.accumulateAndGet(manifest.indexedMessageId(), Math::max);
+        log.info("[SEARCH] 색인 로드 완료: rooms={}, indexedMessageId={}", rooms.size(), manifest.indexedMessageId());
+        return manifest;
+    }
+
+    /**
+     * 메모리 색인이 기준을 넘었거나 오래되었으면 파일로 내림
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void flushIfNeeded() {
+        if (!properties.isEnabled() || pendingPostings.get() == 0) {
+            return;
+        }
+        if (pendingPostings.get() >= properties.getFlushThresholdPostings()
+                || System.currentTimeMillis() - lastFlushMillis >= 60_000) {
+            flush();
+        }
+    }
+
+    /**
+     * 모든 방의 메모리 색인을 세그먼트 파일로 기록하고 manifest 갱신
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            // 스냅샷 이전 값을 기록해야 재기동 시 빠지는 구간이 없음
+            long watermark = maxIndexedId.get();
+            long startedAt = System.currentTimeMillis();
+            long flushed = 0;
+            boolean failed = false;
+
+            for (Map.Entry<Long, RoomIndex> entry : rooms.entrySet()) {
+                RoomIndex room = entry.getValue();
+                Map<Integer, long[]> frozen = room.freeze();
+                if (frozen == null) {
+                    continue;
+                }
+                try {
+                    Path dir = roomDirectory(entry.getKey());
+                    Files.createDirectories(dir);
+                    SearchSegment segment = SearchSegment.write(dir.resolve(segmentName()), frozen);
+                    room.commitFrozen(segment);
+                    flushed += frozen.values().stream().mapToLong(ids -> ids.length).sum();
+
+                    if (room.segmentCount() > properties.getMaxSegmentsPerRoom()) {
+                        compact(entry.getKey(), room);
+                    }
+                } catch (IOException e) {
+                    // 메모리 색인은 유지되고 다음 flush 에서 다시 시도
+                    room.unfreeze();
+                    log.error("[SEARCH] chatRoomId={} 세그먼트 기록 실패: {}", entry.getKey(), e.getMessage());
+                    failed = true;
+                    break;
+                }
+            }
+
+            pendingPostings.addAndGet(-flushed);
+            lastFlushMillis = startedAt;
+            if (failed || manifestPaused) {
+                return; // manifest 를 올리지 않아 재기동 시 빠진 구간부터 다시 색인
+            }
+            writeManifest(new Manifest(watermark, startedAt));
+            log.debug("[SEARCH] flush 완료: postings={}, watermark={}", flushed, watermark);
+        }
+    }
+
+    /**
+     * 방의 세그먼트를 하나로 병합하면서 삭제된 메시지 제거
+     */
+    private void compact(Long chatRoomId, RoomIndex room) throws IOException {
+        List<SearchSegment> segments = room.segments();
+        Set<Integer> terms = new HashSet<>();
+        for (SearchSegment segment : segments) {
+            for (int i = 0; i < segment.getTermCount(); i++) {
+                terms.add(segment.termAt(i));
+            }
+        }
+
+        long[] tombstones = union(segments, TOMBSTONE);
+        Map<Integer, long[]> merged = new HashMap<>();
+        for (int term : terms) {
+            if (term == TOMBSTONE) {
+                continue;
+            }
+            long[] ids = subtract(union(segments, term), tombstones);
+            if (ids.length > 0) {
+                merged.put(term, ids);
+            }
+        }
+
+        SearchSegment compacted = SearchSegment.write(roomDirectory(chatRoomId).resolve(segmentName()), merged);
+        room.replaceSegments(segments, compacted);
+        for (SearchSegment old : segments) {
+            Files.deleteIfExists(old.getPath());
+        }
+        log.info("[SEARCH] chatRoomId={} 세그먼트 병합: {} -> 1 (terms={}, tombstones={})",
+                chatRoomId, segments.size(), merged.size(), tombstones.length);
+    }
+
+    /**
+     * 재기동 후 DB에서 색인을 따라잡는 동안 manifest 갱신 중지
+     * (실시간 메시지로 watermark 가 앞서 나가면 중간 구간이 복구 대상에서 빠짐)
+     */
+    public void setManifestPaused(boolean paused) {
+        this.manifestPaused = paused;
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    public long getPendingPostings() {
+        return pendingPostings.get();
+    }
+
+    // ===== 내부 구현 =====
+
+    private RoomIndex room(Long chatRoomId) {
+        return rooms.computeIfAbsent(chatRoomId, id -> new RoomIndex());
+    }
+
+    private Path baseDirectory() {
+        return Paths.get(properties.getDirectory());
+    }
+
+    private Path roomDirectory(Long chatRoomId) {
+        return baseDirectory().resolve("room-" + chatRoomId);
+    }
+
+    private String segmentName() {
+        return String.format("seg-%012d.idx", generation.incrementAndGet());
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("seg-".length(), name.length() - ".idx".length()));
+    }
+
+    private Manifest readManifest() {
+        Path path = baseDirectory().resolve(MANIFEST);
+        if (!Files.exists(path)) {
+            return new Manifest(0L, 0L);
+        }
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            stored.load(in);
+            return new Manifest(
+                    Long.parseLong(stored.getProperty("indexedMessageId", "0")),
+                    Long.parseLong(stored.getProperty("flushedAt", "0")));
+        } catch (IOException | NumberFormatException e) {
+            log.warn("[SEARCH] manifest 읽기 실패, 전체 재색인: {}", e.getMessage());
+            return new Manifest(0L, 0L);
+        }
+    }
+
+    private void writeManifest(Manifest manifest) {
+        Path path = baseDirectory().resolve(MANIFEST);
+        Path temp = baseDirectory().resolve(MANIFEST + ".tmp");
+        Properties stored = new Properties();
+        stored.setProperty("indexedMessageId", String.valueOf(manifest.indexedMessageId()));
+        stored.setProperty("flushedAt", String.valueOf(manifest.flushedAt()));
+        try {
+            Files.createDirectories(baseDirectory());
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                stored.store(out, "chat search index");
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("[SEARCH] manifest 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("[SEARCH] 파일 삭제 실패: {}", path);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[SEARCH] 디렉터리 삭제 실패: {}", dir);
+        }
+    }
+
+    private static long[] union(List<SearchSegment> segments, int term) {
+        long[] result = EMPTY;
+        for (SearchSegment segment : segments) {
+            result = union(result, segment.postings(term));
+        }
+        return result;
+    }
+
+    static long[] union(long[] a, long[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        long[] out = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            out[n++] = next;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    static long[] subtract(long[] a, long[] removed) {
+        if (removed.length == 0 || a.length == 0) {
+            return a;
+        }
+        long[] out = new long[a.length];
+        int j = 0, n = 0;
+        for (long id : a) {
+            while (j < removed.length && removed[j] < id) {
+                j++;
+            }
+            if (j >= removed.length || removed[j] != id) {
+                out[n++] = id;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 재색인 시작점 - indexedMessageId 이후 생성, flushedAt 이후 수정된 메시지는 다시 색인해야 함
+     */
+    public record Manifest(long indexedMessageId, long flushedAt) {
+    }
+
+    /**
+     * 채팅방 하나의 색인 (memtable 은 인스턴스 모니터로 보호)
+     */
+    private static class RoomIndex {
+        private Map<Integer, PostingBuffer> memtable = new HashMap<>();
+        private Map<Integer, long[]> frozen;          // 파일로 기록 중인 memtable
+        private volatile List<SearchSegment> segments = List.of();
+
+        synchronized void add(int[] terms, long messageId) {
+            for (int term : terms) {
+                memtable.computeIfAbsent(term, t -> new PostingBuffer()).add(messageId);
+            }
+        }
+
+        long[] postings(int term) {
+            List<SearchSegment> current;
+            long[] result = EMPTY;
+            synchronized (this) {
+                // 세그먼트 목록과 memtable 을 같은 시점으로 읽어야 flush 중에도 빠지는 posting 이 없음
+                current = segments;
+                if (frozen != null) {
+                    result = union(result, frozen.getOrDefault(term, EMPTY));
+                }
+                PostingBuffer buffer = memtable.get(term);
+                if (buffer != null) {
+                    result = union(result, buffer.toSortedArray());
+                }
+            }
+            for (SearchSegment segment : current) {
+                result = union(result, segment.postings(term));
+            }
+            return result;
+        }
+
+        synchronized Map<Integer, long[]> freeze() {
+            if (memtable.isEmpty()) {
+                return null;
+            }
+            Map<Integer, long[]> snapshot = new HashMap<>(memtable.size() * 2);
+            memtable.forEach((term, buffer) -> snapshot.put(term, buffer.toSortedArray()));
+            frozen = snapshot;
+            memtable = new HashMap<>();
+            return snapshot;
+        }
+
+        synchronized void unfreeze() {
+            if (frozen == null) {
+                return;
+            }
+            frozen.forEach((term, ids) -> {
+                PostingBuffer buffer = memtable.computeIfAbsent(term, t -> new PostingBuffer());
+                for (long id : ids) {
+                    buffer.add(id);
+                }
+            });
+            frozen = null;
+        }
+
+        synchronized void commitFrozen(SearchSegment segment) {
+            addSegment(segment);
+            frozen = null;
+        }
+
+        synchronized void addSegment(SearchSegment segment) {
+            List<SearchSegment> next = new ArrayList<>(segments);
+            next.add(segment);
+            segments = List.copyOf(next);
+        }
+
+        synchronized void replaceSegments(List<SearchSegment> old, SearchSegment merged) {
+            List<SearchSegment> next = new ArrayList<>(segments);
+            next.removeAll(old);
+            next.add(0, merged);
+            segments = List.copyOf(next);
+        }
+
+        List<SearchSegment> segments() {
+            return segments;
+        }
+
+        int segmentCount() {
+            return segments.size();
+        }
+    }
+
+    /**
+     * 메시지 id 를 모으는 가변 배열 (대부분 오름차순으로 들어옴)
+     */
+    private static class PostingBuffer {
+        private long[] ids = new long[4];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                if (ids[size - 1] == id) {
+                    return;
+                }
+                sorted = false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toSortedArray() {
+            long[] copy = Arrays.copyOf(ids, size);
+            if (!sorted) {
+                Arrays.sort(copy);
+                int n = 0;
+                for (int i = 0; i < copy.length; i++) {
+                    if (n == 0 || copy[n - 1] != copy[i]) {
+                        copy[n++] = copy[i];
+                    }
+                }
+                copy = Arrays.copyOf(copy, n);
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.siso.chat.infrastructure.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 채팅방 하나의 불변 색인 세그먼트 파일 (읽기는 메모리 매핑)
+ *
+ * 파일 구조
+ * - header : magic(int) version(int) termCount(int) maxMessageId(long)
+ * - terms  : termCount × [term(int) offset(int) length(int)] - term 오름차순, 이진 탐색
+ * - postings : term별 메시지 id 오름차순을 delta + varint 로 압축
+ */
+public final class SearchSegment {
+    private static final int MAGIC = 0x53494458; // "SIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8;
+    private static final int TERM_ENTRY_BYTES = 4 + 4 + 4;
+    private static final long[] EMPTY = new long[0];
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int termCount;
+    private final long maxMessageId;
+    private final int postingsStart;
+
+    private SearchSegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Invalid search segment: " + path);
+        }
+        this.termCount = buffer.getInt(8);
+        this.maxMessageId = buffer.getLong(12);
+        this.postingsStart = HEADER_BYTES + termCount * TERM_ENTRY_BYTES;
+    }
+
+    public static SearchSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return new SearchSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * term → 정렬된 메시지 id 배열로 세그먼트를 기록 (임시 파일에 쓴 뒤 원자적 rename)
+     */
+    public static SearchSegment write(Path path, Map<Integer, long[]> postingsByTerm) throws IOException {
+        int[] terms = postingsByTerm.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        ByteArrayOutputStream postings = new ByteArrayOutputStream();
+        int[] offsets = new int[terms.length];
+        int[] lengths = new int[terms.length];
+        long maxMessageId = 0;
+        for (int i = 0; i < terms.length; i++) {
+            long[] ids = postingsByTerm.get(terms[i]);
+            offsets[i] = postings.size();
+            long previous = 0;
+            for (long id : ids) {
+                writeVarLong(postings, id - previous);
+                previous = id;
+            }
+            lengths[i] = postings.size() - offsets[i];
+            if (ids.length > 0) {
+                maxMessageId = Math.max(maxMessageId, ids[ids.length - 1]);
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(terms.length);
+            out.writeLong(maxMessageId);
+            for (int i = 0; i < terms.length; i++) {
+                out.writeInt(terms[i]);
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+            }
+            postings.writeTo(out);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    /**
+     * term 의 posting list (메시지 id 오름차순), 없으면 빈 배열
+     */
+    public long[] postings(int term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = HEADER_BYTES + mid * TERM_ENTRY_BYTES;
+            int value = buffer.getInt(entry);
+            if (value < term) {
+                low = mid + 1;
+            } else if (value > term) {
+                high = mid - 1;
+            } else {
+                return decode(postingsStart + buffer.getInt(entry + 4), buffer.getInt(entry + 8));
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * 병합용 전체 term 순회
+     */
+    public int termAt(int index) {
+        return buffer.getInt(HEADER_BYTES + index * TERM_ENTRY_BYTES);
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    public long getMaxMessageId() {
+        return maxMessageId;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    private long[] decode(int offset, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset).limit(offset + length);
+
+        long[] ids = new long[Math.min(length, 64)];
+        int n = 0;
+        long previous = 0;
+        while (slice.hasRemaining()) {
+            previous += readVarLong(slice);
+            if (n == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[n++] = previous;
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) {
+        try {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream 은 IOException 을 던지지 않음
+        }
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
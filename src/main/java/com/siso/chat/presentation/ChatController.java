@@ -4,11 +4,14 @@ import com.siso.chat.application.ChatMessageService;
 import com.siso.chat.application.ChatRoomLimitService;
 import com.siso.chat.application.ChatRoomMemberService;
 import com.siso.chat.application.ChatRoomService;
+import com.siso.chat.application.ChatSearchService;
+import com.siso.chat.application.ChatSyncService;
 import com.siso.chat.dto.request.*;
 import com.siso.chat.dto.response.ChatMessageResponseDto;
 import com.siso.chat.dto.response.ChatRoomLimitResponseDto;
 import com.siso.chat.dto.response.ChatRoomMemberResponseDto;
 import com.siso.chat.dto.response.ChatRoomResponseDto;
+import com.siso.chat.dto.response.ChatSyncResponseDto;
 import com.siso.common.response.SisoResponse;
 import com.siso.common.web.CurrentUser;
 import com.siso.user.domain.model.User;
@@ -26,6 +29,8 @@ public class ChatController {
     private final ChatRoomService chatRoomService;
     private final ChatRoomLimitService chatRoomLimitService;
     private final ChatRoomMemberService chatRoomMemberService;
+    private final ChatSyncService chatSyncService;
+    private final ChatSearchService chatSearchService;
 
     // ----------------- 메세지 관리 -----------------
     // 메시지 수정
@@ -45,12 +50,36 @@ public class ChatController {
     }
 
     // 특정 채팅방 메시지 조회
+    // size 를 주면 최근(또는 beforeMessageId 이전) 메시지 페이지만, 없으면 전체 조회
     @GetMapping(value = "/rooms/{chatRoomId}/messages", produces = "application/json; charset=UTF-8")
-    public SisoResponse<List<ChatMessageResponseDto>> getMessages(@PathVariable Long chatRoomId) {
-        List<ChatMessageResponseDto> messages = chatMessageService.getMessages(chatRoomId);
+    public SisoResponse<List<ChatMessageResponseDto>> getMessages(@PathVariable Long chatRoomId,
+                                                                  @RequestParam(name = "beforeMessageId", required = false) Long beforeMessageId,
+                                                                  @RequestParam(name = "size", required = false) Integer size) {
+        List<ChatMessageResponseDto> messages = size == null
+                ? chatMessageService.getMessages(chatRoomId)
+                : chatMessageService.getMessages(chatRoomId, beforeMessageId, size);
         return SisoResponse.success(messages);
     }
 
+    // 채팅방 메시지 검색 (최신순, beforeMessageId 로 다음 페이지)
+    @GetMapping(value = "/rooms/{chatRoomId}/messages/search", produces = "application/json; charset=UTF-8")
+    public SisoResponse<List<ChatMessageResponseDto>> searchMessages(@CurrentUser User user,
+                                                                     @PathVariable Long chatRoomId,
+                                                                     @RequestParam(name = "q") String query,
+                                                                     @RequestParam(name = "beforeMessageId", required = false) Long beforeMessageId,
+                                                                     @RequestParam(name = "size", defaultValue = "20") int size) {
+        List<ChatMessageResponseDto> messages = chatSearchService.search(chatRoomId, query, beforeMessageId, size, user);
+        return SisoResponse.success(messages);
+    }
+
+    // 앱 복귀 시 여러 채팅방 변경분 동기화 (새/수정/삭제 메시지 + 안 읽은 수)
+    @PostMapping(value = "/sync", produces = "application/json; charset=UTF-8")
+    public SisoResponse<ChatSyncResponseDto> sync(@CurrentUser User user,
+                                                  @RequestBody ChatSyncRequestDto requestDto) {
+        ChatSyncResponseDto response = chatSyncService.sync(requestDto, user);
+        return SisoResponse.success(response);
+    }
+
     // ----------------- 채팅방 관리 -----------------
     // 사용자의 채팅방 조회
     @GetMapping(value = "/rooms", produces = "application/json; charset=UTF-8")
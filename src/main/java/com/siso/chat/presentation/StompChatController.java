@@ -9,14 +9,15 @@ import com.siso.chat.dto.request.ChatReadRequestDto;
 import com.siso.chat.dto.response.ChatMessageResponseDto;
 import com.siso.chat.dto.response.ChatRoomMemberResponseDto;
 import com.siso.chat.infrastructure.OnlineUserRegistry;
-import com.siso.notification.application.NotificationService;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import com.siso.notification.application.MessageNotificationCoalescer;
+import com.siso.user.application.UserCardCache;
 import com.siso.user.domain.model.User;
 import com.siso.user.infrastructure.authentication.AccountAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Controller;
 
@@ -27,11 +28,12 @@ import java.util.List;
 @Controller
 @RequiredArgsConstructor
 public class StompChatController {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserQueueMessenger userQueueMessenger;
     private final ChatMessageService chatMessageService;
-    private final NotificationService notificationService;
+    private final MessageNotificationCoalescer messageNotificationCoalescer;
     private final ChatRoomMemberService chatRoomMemberService;
     private final OnlineUserRegistry onlineUserRegistry;
+    private final UserCardCache userCardCache;
 
     /**
      * 채팅 메시지 전송
@@ -54,27 +56,29 @@ public class StompChatController {
                 boolean isOnline = onlineUserRegistry.isOnline(String.valueOf(member.userId()));
                 log.info("[sendMessage] senderId={} -> member userId={} online={} | 현재 onlineUsers={}", sender.getId(), member.userId(), isOnline, onlineUserRegistry.getOnlineUsers().keySet());
 
+                // 오프라인이어도 재전송 버퍼에 남겨 곧바로 재연결하면 받을 수 있게 함
+                userQueueMessenger.sendToUser(
+                        member.userId(),
+                        "/queue/chat-room/" + requestDto.getChatRoomId(),
+                        savedMessage
+                );
                 if (isOnline) {
-                    log.info("[sendMessage] Member userId={} online={} -> Sending WS message", member.userId(), isOnline);
-                    messagingTemplate.convertAndSendToUser(
-                            String.valueOf(member.userId()),
-                            "/queue/chat-room/" + requestDto.getChatRoomId(),
-                            savedMessage
-                    );
+                    log.info("[sendMessage] Member userId={} online={} -> Sent WS message", member.userId(), isOnline);
                 } else {
                     log.info("[sendMessage] Member userId={} online={} -> Sending Notification", member.userId(), isOnline);
-                    notificationService.sendMessageNotification(
+                    messageNotificationCoalescer.notifyMessage(
                             member.userId(),
                             sender.getId(),
-                            sender.getUserProfile() != null ? sender.getUserProfile().getNickname() : "익명",
+                            userCardCache.get(sender.getId()).displayName(),
+                            requestDto.getChatRoomId(),
                             savedMessage.getContent()
                     );
                 }
 
                 // 채팅 목록 unread count 증가
                 int unreadCount = chatRoomMemberService.getUnreadCount(member.userId(), requestDto.getChatRoomId());
-                messagingTemplate.convertAndSendToUser(
-                        String.valueOf(member.userId()),
+                userQueueMessenger.sendToUser(
+                        member.userId(),
                         "/queue/chat-list",
                         new ChatListUpdateDto(requestDto.getChatRoomId(), unreadCount)
                 );
@@ -104,8 +108,8 @@ public class StompChatController {
         if (isOnline) {
             log.info("[readMessage] OtherMember userId={} online={} -> Sending WS read receipt",
                     otherMember.getUser().getId(), isOnline);
-            messagingTemplate.convertAndSendToUser(
-                    String.valueOf(otherMember.getUser().getId()),
+            userQueueMessenger.sendToUser(
+                    otherMember.getUser().getId(),
                     "/queue/read-receipt/" + requestDto.getChatRoomId(),
                     requestDto
             );
@@ -116,8 +120,8 @@ public class StompChatController {
 
         // unread count 감소
         int unreadCount = chatRoomMemberService.getUnreadCount(user.getId(), requestDto.getChatRoomId());
-        messagingTemplate.convertAndSendToUser(
-                String.valueOf(user.getId()),
+        userQueueMessenger.sendToUser(
+                user.getId(),
                 "/queue/chat-list",
                 new ChatListUpdateDto(requestDto.getChatRoomId(), unreadCount)
         );
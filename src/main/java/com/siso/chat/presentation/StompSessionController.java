@@ -0,0 +1,35 @@
+package com.siso.chat.presentation;
+
+import com.siso.chat.dto.request.StompResumeRequestDto;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import com.siso.user.infrastructure.authentication.AccountAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+public class StompSessionController {
+    private final UserQueueMessenger userQueueMessenger;
+
+    /**
+     * 재연결 후 놓친 프레임 재전송 요청
+     * 클라이언트 → /app/session.resume (구독을 마친 뒤 마지막으로 받은 x-seq-epoch, x-seq 전송)
+     * 결과 → /user/queue/session-resume (resetRequired=true 이면 REST 로 전체 재조회)
+     */
+    @MessageMapping("/session.resume") // /app/session.resume
+    public void resume(@Payload StompResumeRequestDto requestDto,
+                       @Header("simpSessionId") String sessionId,
+                       Principal principal) {
+        UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) principal;
+        AccountAdapter account = (AccountAdapter) auth.getPrincipal();
+        String userId = String.valueOf(account.getUser().getId());
+
+        userQueueMessenger.resume(userId, sessionId, requestDto.getEpoch(), requestDto.getLastSeq());
+    }
+}
@@ -0,0 +1,31 @@
+package com.siso.chat.presentation;
+
+import com.siso.chat.dto.response.WebSocketSessionStatsDto;
+import com.siso.chat.infrastructure.WebSocketSessionMonitor;
+import com.siso.common.response.SisoResponse;
+import com.siso.common.security.AdminGuard;
+import com.siso.common.web.CurrentUser;
+import com.siso.user.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/chats/ws")
+@RequiredArgsConstructor
+public class WebSocketMonitorController {
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final AdminGuard adminGuard;
+
+    // 송신이 밀려 있는 느린 세션 조회 (운영자만)
+    @GetMapping(value = "/sessions/slowest", produces = "application/json; charset=UTF-8")
+    public SisoResponse<List<WebSocketSessionStatsDto>> getSlowestSessions(@CurrentUser User user,
+                                                                           @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        adminGuard.check(user);
+        return SisoResponse.success(webSocketSessionMonitor.getSlowestSessions(limit));
+    }
+}
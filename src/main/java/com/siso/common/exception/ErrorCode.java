@@ -45,6 +45,8 @@ public enum ErrorCode {
     NOT_YOUR_MESSAGE(HttpStatus.FORBIDDEN, "자신의 메시지만 수정/삭제할 수 있습니다."),
     MESSAGE_LIMIT_EXCEEDED(HttpStatus.FORBIDDEN, "메시지 전송 횟수 제한을 초과했습니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    SEARCH_QUERY_TOO_SHORT(HttpStatus.BAD_REQUEST, "검색어는 두 글자 이상이어야 합니다."),
+    SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "메시지 검색을 사용할 수 없습니다."),
 
     // 채팅방 멤버
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 멤버를 찾을 수 없습니다."),
@@ -53,8 +55,12 @@ public enum ErrorCode {
     // 통화 리뷰
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "통화 리뷰가 없습니다."),
     REVIEW_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 평가를 작성하셨습니다."),
+    INVALID_REVIEW_RATING(HttpStatus.BAD_REQUEST, "평점은 1점에서 5점 사이여야 합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "권한이 없습니다."),
 
+    // 알림
+    BROADCAST_NOT_FOUND(HttpStatus.NOT_FOUND, "공지 전송 내역을 찾을 수 없습니다."),
+
     // 신고
     REPORTER_NOT_FOUND(HttpStatus.NOT_FOUND, "신고자를 찾을 수 없습니다."),
     REPORTED_USER_NOT_FOUND(HttpStatus.NOT_FOUND, "피신고자를 찾을 수 없습니다."),
@@ -0,0 +1,137 @@
+package com.siso.common.firebase.application;
+
+import com.siso.common.firebase.domain.repository.FcmTokenRepository;
+import com.siso.common.firebase.infrastructure.properties.DeliveryProfileCacheProperties;
+import com.siso.user.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 푸시 수신 정보 캐시
+ * - 알림 수신 여부 + 활성 FCM 토큰 목록을 함께 보관해 전송 시 DB 조회를 생략
+ * - 토큰 등록/비활성화, 수신 설정 변경이 커밋되면 해당 사용자만 무효화
+ * - 이미 활성으로 확인한 (사용자, 토큰) 등록 요청은 DB 조회 없이 넘김
+ * - 조회 중 무효화가 일어나면 읽은 값을 캐시에 넣지 않음 (오래된 값이 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryProfileCache {
+
+    private final UserRepository userRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final DeliveryProfileCacheProperties properties;
+
+    // 무효화 횟수 - 조회 전후 값이 다르면 조회 결과를 버림
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // userId -> 수신 정보 (접근 순서 LRU)
+    private final LinkedHashMap<Long, Entry> profiles = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > properties.getMaxUsers();
+        }
+    };
+
+    // token -> 활성으로 확인한 등록 (토큰은 기기 하나에 대응하므로 토큰 기준)
+    private final LinkedHashMap<String, Registration> registrations = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Registration> eldest) {
+            return size() > properties.getMaxUsers();
+        }
+    };
+
+    /**
+     * 사용자의 푸시 수신 정보 (차단/탈퇴/없는 사용자는 수신 안 함)
+     */
+    public DeliveryProfile get(Long userId) {
+        if (properties.isEnabled()) {
+            synchronized (this) {
+                Entry entry = profiles.get(userId);
+                if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                    return entry.profile;
+                }
+            }
+        }
+
+        long seen = invalidations.get();
+        DeliveryProfile profile = load(userId);
+        if (properties.isEnabled()) {
+            synchronized (this) {
+                if (invalidations.get() == seen) {
+                    profiles.put(userId, new Entry(profile, System.currentTimeMillis() + properties.getTtlSeconds() * 1000));
+                }
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * 같은 사용자의 같은 토큰이 최근 활성으로 확인되었는지
+     */
+    public synchronized boolean isRegistered(Long userId, String token) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Registration registration = registrations.get(token);
+        return registration != null
+                && registration.userId.equals(userId)
+                && registration.confirmedAt + properties.getRegistrationTtlSeconds() * 1000 > System.currentTimeMillis();
+    }
+
+    public synchronized void rememberRegistration(Long userId, String token) {
+        if (properties.isEnabled()) {
+            registrations.put(token, new Registration(userId, System.currentTimeMillis()));
+        }
+    }
+
+    public synchronized void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        profiles.remove(userId);
+    }
+
+    public synchronized void invalidate(Collection<Long> userIds) {
+        invalidations.incrementAndGet();
+        userIds.forEach(profiles::remove);
+    }
+
+    /**
+     * 비활성화된 토큰의 등록 확인 기록 제거
+     */
+    public synchronized void forgetTokens(Collection<String> tokens) {
+        tokens.forEach(registrations::remove);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        profiles.clear();
+        registrations.clear();
+    }
+
+    private DeliveryProfile load(Long userId) {
+        boolean subscribed = userRepository.findNotificationSubscribedById(userId).orElse(false);
+        if (!subscribed) {
+            return new DeliveryProfile(false, List.of());
+        }
+        return new DeliveryProfile(true, List.copyOf(fcmTokenRepository.findActiveTokensByUserId(userId)));
+    }
+
+    /**
+     * 푸시 수신 정보 (subscribed 가 false 면 tokens 는 비어 있음)
+     */
+    public record DeliveryProfile(boolean subscribed, List<String> tokens) {
+    }
+
+    private record Entry(DeliveryProfile profile, long expiresAt) {
+    }
+
+    private record Registration(Long userId, long confirmedAt) {
+    }
+}
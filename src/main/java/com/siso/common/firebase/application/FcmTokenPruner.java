@@ -0,0 +1,107 @@
+package com.siso.common.firebase.application;
+
+import com.siso.common.firebase.dto.FcmTokenStatsDto;
+import com.siso.common.firebase.infrastructure.properties.FcmTokenPruningProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 무효 FCM 토큰 정리
+ * - 전송 결과의 무효 토큰(UNREGISTERED 등)을 모아 주기적으로 한 번의 UPDATE ... IN (...) 으로 비활성화
+ * - 전송 스레드는 집합에 넣기만 하고 DB 를 기다리지 않음
+ * - 장기간 등록 갱신이 없는 토큰도 매일 비활성화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenPruner {
+
+    private final FcmTokenService fcmTokenService;
+    private final FcmTokenPruningProperties properties;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder sentTokens = new LongAdder();
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LongAdder deactivatedInvalid = new LongAdder();
+    private final LongAdder deactivatedStale = new LongAdder();
+
+    /**
+     * 전송 결과 보고 (FirebaseService 에서 배치 전송마다 호출)
+     */
+    public void report(int requested, Collection<String> invalid) {
+        sentTokens.add(requested);
+        if (invalid == null || invalid.isEmpty()) {
+            return;
+        }
+        invalidTokens.add(invalid.size());
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (String token : invalid) {
+            if (pending.size() >= properties.getMaxPending()) {
+                log.warn("[FCM] 무효 토큰 대기열이 가득 차 일부를 다음 전송으로 미룸: pending={}", pending.size());
+                return;
+            }
+            pending.add(token);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.fcm.token-pruning.flush-interval-millis:5000}")
+    public void flushInvalid() {
+        while (!pending.isEmpty()) {
+            List<String> batch = new ArrayList<>(properties.getBatchSize());
+            Iterator<String> it = pending.iterator();
+            while (it.hasNext() && batch.size() < properties.getBatchSize()) {
+                batch.add(it.next());
+                it.remove();
+            }
+            try {
+                int updated = fcmTokenService.deactivateTokens(batch);
+                deactivatedInvalid.add(updated);
+                log.info("[FCM] 무효 토큰 비활성화: reported={}, deactivated={}", batch.size(), updated);
+            } catch (Exception e) {
+                log.error("[FCM] 무효 토큰 비활성화 실패: {}", e.getMessage(), e);
+                pending.addAll(batch); // 다음 주기에 다시 시도
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.fcm.token-pruning.stale-sweep-cron:0 40 3 * * *}")
+    public void sweepStale() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getStaleAfterDays());
+        int updated = fcmTokenService.deactivateStaleTokens(cutoff);
+        deactivatedStale.add(updated);
+        log.info("[FCM] 미사용 토큰 비활성화: lastSeenBefore={}, deactivated={}", cutoff, updated);
+    }
+
+    public FcmTokenStatsDto getStats() {
+        long sent = sentTokens.sum();
+        long invalid = invalidTokens.sum();
+        return new FcmTokenStatsDto(
+                fcmTokenService.countTokens(true),
+                fcmTokenService.countTokens(false),
+                sent,
+                invalid,
+                sent == 0 ? 0.0 : (double) invalid / sent,
+                deactivatedInvalid.sum(),
+                deactivatedStale.sum(),
+                pending.size()
+        );
+    }
+}
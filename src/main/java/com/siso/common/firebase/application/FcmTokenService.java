@@ -3,11 +3,17 @@ package com.siso.common.firebase.application;
 
 import com.siso.common.firebase.domain.model.FcmToken;
 import com.siso.common.firebase.domain.repository.FcmTokenRepository;
+import com.siso.common.firebase.dto.FcmTokenCursorRow;
+import com.siso.common.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,11 +32,13 @@ import java.util.Optional;
 public class FcmTokenService {
     
     private final FcmTokenRepository fcmTokenRepository;
+    private final DeliveryProfileCache deliveryProfileCache;
     
     /**
      * FCM 토큰을 저장하거나 업데이트합니다.
      * 
      * 토큰 유효성 검증, 중복 방지, 비활성 토큰 재활성화를 모두 처리합니다.
+     * 최근 활성으로 확인한 (사용자, 토큰)이면 DB 조회 없이 바로 반환합니다.
      * 
      * @param userId 사용자 ID
      * @param token FCM 토큰 문자열
@@ -44,6 +52,11 @@ public class FcmTokenService {
         }
         
         String trimmedToken = token.trim();
+
+        // 앱 실행마다 호출되므로 이미 확인한 토큰이면 조회 없이 종료
+        if (deliveryProfileCache.isRegistered(userId, trimmedToken)) {
+            return;
+        }
         
         // 2. 해당 사용자에게 이미 동일한 토큰이 있는지 확인 (활성화 상태 무관)
         Optional<FcmToken> existingUserToken = fcmTokenRepository.findByUserIdAndToken(userId, trimmedToken);
@@ -51,13 +64,19 @@ public class FcmTokenService {
         if (existingUserToken.isPresent()) {
             FcmToken userToken = existingUserToken.get();
             if (userToken.isActive()) {
-                // 이미 활성화된 토큰이면 로그만 출력
+                // 이미 활성화된 토큰이면 사용 시각만 갱신 (하루 한 번만 기록)
+                if (userToken.getLastSeenAt() == null || userToken.getLastSeenAt().isBefore(LocalDateTime.now().minusDays(1))) {
+                    userToken.setLastSeenAt(LocalDateTime.now());
+                }
                 log.info("FCM token already exists and active for user: {}", userId);
             } else {
                 // 비활성화된 토큰을 재활성화
                 userToken.setActive(true);
+                userToken.setLastSeenAt(LocalDateTime.now());
+                TransactionUtil.afterCommit(() -> deliveryProfileCache.invalidate(userId));
                 log.info("Reactivated existing FCM token for user: {}", userId);
             }
+            TransactionUtil.afterCommit(() -> deliveryProfileCache.rememberRegistration(userId, trimmedToken));
             return;
         }
         
@@ -77,9 +96,17 @@ public class FcmTokenService {
                 .userId(userId)
                 .token(trimmedToken)
                 .isActive(true)
+                .lastSeenAt(LocalDateTime.now())
                 .build();
         fcmTokenRepository.save(fcmToken);
         log.info("Saved new FCM token for user: {}", userId);
+
+        List<Long> changedUserIds = new ArrayList<>(otherUserTokens.stream().map(FcmToken::getUserId).toList());
+        changedUserIds.add(userId);
+        TransactionUtil.afterCommit(() -> {
+            deliveryProfileCache.invalidate(changedUserIds);
+            deliveryProfileCache.rememberRegistration(userId, trimmedToken);
+        });
     }
     
     /**
@@ -103,10 +130,62 @@ public class FcmTokenService {
         fcmTokenRepository.findByUserIdAndToken(userId, trimmedToken)
                 .ifPresent(fcmToken -> {
                     fcmToken.setActive(false);
+                    TransactionUtil.afterCommit(() -> {
+                        deliveryProfileCache.invalidate(userId);
+                        deliveryProfileCache.forgetTokens(List.of(trimmedToken));
+                    });
                     log.info("Deactivated FCM token for user: {}", userId);
                 });
     }
     
+    /**
+     * 지정한 토큰을 모두 비활성화합니다.
+     *
+     * FCM 전송 결과에서 무효로 판정된 토큰을 FcmTokenPruner 가 모아서 호출합니다.
+     *
+     * @param tokens 비활성화할 FCM 토큰 목록
+     * @return 비활성화된 토큰 수
+     */
+    @Transactional
+    public int deactivateTokens(Collection<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = fcmTokenRepository.findActiveUserIdsByTokens(tokens);
+        int updated = fcmTokenRepository.deactivateByTokens(tokens);
+        TransactionUtil.afterCommit(() -> {
+            deliveryProfileCache.invalidate(userIds);
+            deliveryProfileCache.forgetTokens(tokens);
+        });
+        return updated;
+    }
+
+    /**
+     * 마지막 등록 갱신이 cutoff 이전인 토큰을 비활성화합니다.
+     *
+     * @param cutoff 기준 시각
+     * @return 비활성화된 토큰 수
+     */
+    @Transactional
+    public int deactivateStaleTokens(LocalDateTime cutoff) {
+        int updated = fcmTokenRepository.deactivateStale(cutoff);
+        if (updated > 0) {
+            TransactionUtil.afterCommit(deliveryProfileCache::invalidateAll);
+        }
+        return updated;
+    }
+
+    /**
+     * 활성화 상태별 토큰 수를 조회합니다.
+     *
+     * @param active 활성화 상태
+     * @return 토큰 수
+     */
+    @Transactional(readOnly = true)
+    public long countTokens(boolean active) {
+        return fcmTokenRepository.countByIsActive(active);
+    }
+
     /**
      * 특정 사용자의 활성화된 모든 FCM 토큰을 조회합니다.
      * 
@@ -130,4 +209,18 @@ public class FcmTokenService {
     public List<String> getActiveTokensByUserIds(List<Long> userIds) {
         return fcmTokenRepository.findActiveTokensByUserIds(userIds);
     }
+
+    /**
+     * 알림을 수신하는 사용자의 활성 토큰을 afterId 다음부터 최대 size 개 조회합니다.
+     * 
+     * 전체 공지처럼 대상이 많은 전송은 이 메소드로 묶음 단위로 나눠 읽습니다.
+     * 
+     * @param afterId 이전 묶음의 마지막 토큰 ID (처음이면 0)
+     * @param size 묶음 크기
+     * @return 토큰 ID / 토큰 문자열 목록 (id 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<FcmTokenCursorRow> getActiveTokensAfter(long afterId, int size) {
+        return fcmTokenRepository.findActiveTokensAfter(afterId, PageRequest.of(0, size));
+    }
 }
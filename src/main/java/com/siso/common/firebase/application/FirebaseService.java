@@ -26,18 +26,36 @@ public class FirebaseService {
 
     private static final int DEFAULT_BATCH_SIZE = 500;   // FCM 권장 상한
     private final MulticastResultConfig multicast;       // 배치 멀티캐스트 헬퍼
+    private final FcmTokenPruner fcmTokenPruner;         // 무효 토큰 비활성화
 
-    public void sendNotification(Collection<String> tokens,
+    /**
+     * 알림 전송 (결과 요약 반환 - 호출 측에서 재시도 여부 판단)
+     */
+    public MulticastResultConfig.SendMulticastResult sendNotification(Collection<String> tokens,
                                  String title,
                                  String body,
                                  String type,
                                  String notificationId,
                                  String url,
                                  Map<String, String> extraData) {
+        return sendNotification(tokens, title, body, type, notificationId, url, extraData, null);
+    }
+
+    /**
+     * 알림 전송 - collapseKey 가 같은 이전 알림은 기기에서 새 알림으로 대체됨
+     */
+    public MulticastResultConfig.SendMulticastResult sendNotification(Collection<String> tokens,
+                                 String title,
+                                 String body,
+                                 String type,
+                                 String notificationId,
+                                 String url,
+                                 Map<String, String> extraData,
+                                 String collapseKey) {
 
         if (tokens == null || tokens.isEmpty()) {
             log.warn("No FCM tokens provided, skipping notification send");
-            return;
+            return multicast.sendMulticastResult(tokens, title, body, null, DEFAULT_BATCH_SIZE, false);
         }
 
         // 데이터 페이로드 구성
@@ -49,17 +67,19 @@ public class FirebaseService {
 
         // 배치 전송 + 결과 요약
         MulticastResultConfig.SendMulticastResult result = multicast.sendMulticastResult(
-                tokens, title, body, data, DEFAULT_BATCH_SIZE, false
+                tokens, title, body, data, collapseKey, DEFAULT_BATCH_SIZE, false
         );
 
         log.info("Notification sent: type={}, requested={}, success={}, failure={}, invalidTokens={}",
                 type, result.getRequestedCount(), result.getSuccessCount(),
                 result.getFailureCount(), result.getInvalidTokens().size());
 
+        // 만료/무효 토큰은 비동기로 모아서 비활성화
+        fcmTokenPruner.report(result.getRequestedCount(), result.getInvalidTokens());
         if (!result.getInvalidTokens().isEmpty()) {
-            // TODO: 만료/무효 토큰 정리 로직 연결 (예: DB에서 삭제)
             log.warn("Invalid FCM tokens detected: {}", result.getInvalidTokens().size());
         }
+        return result;
     }
 
     /**
@@ -98,8 +118,8 @@ public class FirebaseService {
                 result.getRequestedCount(), result.getSuccessCount(),
                 result.getFailureCount(), result.getInvalidTokens().size());
 
+        fcmTokenPruner.report(result.getRequestedCount(), result.getInvalidTokens());
         if (!result.getInvalidTokens().isEmpty()) {
-            // TODO: 만료/무효 토큰 정리 로직 연결
             log.warn("Invalid FCM tokens detected (CALL): {}", result.getInvalidTokens().size());
         }
     }
@@ -4,6 +4,8 @@ import com.siso.common.domain.BaseTime;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 /**
  * FCM(Firebase Cloud Messaging) 토큰 엔티티
  * 
@@ -53,4 +55,11 @@ public class FcmToken extends BaseTime {
      */
     @Column(name = "is_active", columnDefinition = "TINYINT(1) DEFAULT 1", nullable = false)
     private boolean isActive = true;
+
+    /**
+     * 마지막으로 앱에서 토큰을 등록(갱신)한 시각
+     * 장기간 갱신이 없는 토큰은 미사용 기기로 보고 비활성화합니다.
+     */
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
 }
@@ -1,11 +1,16 @@
 package com.siso.common.firebase.domain.repository;
 
 import com.siso.common.firebase.domain.model.FcmToken;
+import com.siso.common.firebase.dto.FcmTokenCursorRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,4 +83,62 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
      */
     @Query("SELECT f.token FROM FcmToken f WHERE f.userId IN :userIds AND f.isActive = true")
     List<String> findActiveTokensByUserIds(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 알림을 수신하는 사용자의 활성 토큰을 afterId 다음부터 id 순으로 한 묶음 조회합니다.
+     *
+     * 전체 공지 전송 시 사용됩니다. id 커서로 앞으로만 읽으므로 묶음 크기만큼만 메모리에 올라가고,
+     * 마지막 id 를 체크포인트로 남기면 중단된 위치부터 이어서 읽을 수 있습니다.
+     *
+     * @param afterId 이전 묶음의 마지막 토큰 ID (처음이면 0)
+     * @param pageable 묶음 크기
+     * @return 토큰 ID / 토큰 문자열 목록 (id 오름차순)
+     */
+    @Query("""
+           SELECT new com.siso.common.firebase.dto.FcmTokenCursorRow(f.id, f.token)
+           FROM FcmToken f, User u
+           WHERE u.id = f.userId AND f.isActive = true AND f.id > :afterId
+             AND u.notificationSubscribed = true AND u.isBlock = false AND u.isDeleted = false
+           ORDER BY f.id
+           """)
+    List<FcmTokenCursorRow> findActiveTokensAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 지정한 토큰 중 활성 토큰의 소유자 ID 를 조회합니다.
+     *
+     * @param tokens FCM 토큰 문자열 목록
+     * @return 사용자 ID 목록 (중복 제거)
+     */
+    @Query("SELECT DISTINCT f.userId FROM FcmToken f WHERE f.token IN :tokens AND f.isActive = true")
+    List<Long> findActiveUserIdsByTokens(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * 지정한 토큰을 모두 비활성화합니다.
+     *
+     * FCM 이 무효(UNREGISTERED 등)로 응답한 토큰을 한 번에 정리할 때 사용됩니다.
+     *
+     * @param tokens FCM 토큰 문자열 목록
+     * @return 비활성화된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FcmToken f SET f.isActive = false WHERE f.token IN :tokens AND f.isActive = true")
+    int deactivateByTokens(@Param("tokens") Collection<String> tokens);
+
+    /**
+     * 마지막 등록 갱신이 cutoff 이전인 활성 토큰을 비활성화합니다.
+     *
+     * @param cutoff 기준 시각
+     * @return 비활성화된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FcmToken f SET f.isActive = false WHERE f.isActive = true AND COALESCE(f.lastSeenAt, f.updatedAt, f.createdAt) < :cutoff")
+    int deactivateStale(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 활성화 상태별 토큰 수를 조회합니다.
+     *
+     * @param isActive 활성화 상태
+     * @return 토큰 수
+     */
+    long countByIsActive(boolean isActive);
 }
@@ -0,0 +1,15 @@
+package com.siso.common.firebase.dto;
+
+/**
+ * 가짜 FCM 전송 벤치마크 결과
+ */
+public record FcmBenchmarkResponseDto(
+        int devices,
+        int batches,
+        int maxInFlightBatches,
+        long elapsedMillis,
+        int successCount,
+        int failureCount,
+        int invalidTokens
+) {
+}
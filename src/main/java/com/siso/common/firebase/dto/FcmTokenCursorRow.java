@@ -0,0 +1,7 @@
+package com.siso.common.firebase.dto;
+
+/**
+ * id 커서로 나눠 읽는 활성 토큰 한 행
+ */
+public record FcmTokenCursorRow(Long id, String token) {
+}
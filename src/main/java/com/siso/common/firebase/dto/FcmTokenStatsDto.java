@@ -0,0 +1,16 @@
+package com.siso.common.firebase.dto;
+
+/**
+ * FCM 토큰 상태 통계 (서버 기동 이후 누적)
+ */
+public record FcmTokenStatsDto(
+        long activeTokens,          // 현재 활성 토큰 수
+        long inactiveTokens,        // 현재 비활성 토큰 수
+        long sentTokens,            // 전송 시도한 토큰 수
+        long invalidTokens,         // FCM 이 무효로 응답한 토큰 수
+        double deadTokenRatio,      // invalidTokens / sentTokens
+        long deactivatedInvalid,    // 무효 응답으로 비활성화한 토큰 수
+        long deactivatedStale,      // 장기 미사용으로 비활성화한 토큰 수
+        int pendingInvalid          // 비활성화 대기 중인 무효 토큰 수
+) {
+}
@@ -0,0 +1,66 @@
+package com.siso.common.firebase.infrastructure;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.siso.common.firebase.infrastructure.properties.FcmMulticastProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 로컬 벤치마크용 가짜 FCM 전송 (app.fcm.multicast.transport=fake)
+ * - 배치마다 설정한 지연 후 응답, 토큰별로 정해진 비율만큼 UNAVAILABLE / UNREGISTERED 실패
+ * - 실제 기기로는 아무것도 보내지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.fcm.multicast", name = "transport", havingValue = "fake")
+public class FakeFcmTransport implements FcmTransport {
+
+    private final FcmMulticastProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "fake-fcm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FakeFcmTransport(FcmMulticastProperties properties) {
+        this.properties = properties;
+        log.warn("[FCM] 가짜 전송 사용 중 - 푸시가 실제로 전송되지 않습니다");
+    }
+
+    @Override
+    public CompletableFuture<List<FcmSendOutcome>> send(MulticastMessage message, List<String> tokens, boolean dryRun) {
+        CompletableFuture<List<FcmSendOutcome>> result = new CompletableFuture<>();
+        long latency = properties.getFakeLatencyMillis();
+        long jitter = latency > 0 ? ThreadLocalRandom.current().nextLong(latency / 4 + 1) : 0;
+        scheduler.schedule(() -> result.complete(outcomes(tokens)), latency + jitter, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    private List<FcmSendOutcome> outcomes(List<String> tokens) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<FcmSendOutcome> outcomes = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            double roll = random.nextDouble();
+            if (roll < properties.getFakeInvalidRate()) {
+                outcomes.add(FcmSendOutcome.failure(token, MessagingErrorCode.UNREGISTERED, "fake: unregistered"));
+            } else if (roll < properties.getFakeInvalidRate() + properties.getFakeUnavailableRate()) {
+                outcomes.add(FcmSendOutcome.failure(token, MessagingErrorCode.UNAVAILABLE, "fake: unavailable"));
+            } else {
+                outcomes.add(FcmSendOutcome.success(token));
+            }
+        }
+        return outcomes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
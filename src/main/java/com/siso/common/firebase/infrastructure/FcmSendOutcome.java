@@ -0,0 +1,23 @@
+package com.siso.common.firebase.infrastructure;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * 토큰 하나의 전송 결과 (실패 시 errorCode 는 알 수 없으면 null)
+ * batchFailure 는 토큰별 응답이 아니라 배치 전체 실패(타임아웃 / 요청 오류)를 토큰마다 풀어 쓴 결과
+ */
+public record FcmSendOutcome(String token, boolean success, MessagingErrorCode errorCode, String errorMessage,
+                             boolean batchFailure) {
+
+    public static FcmSendOutcome success(String token) {
+        return new FcmSendOutcome(token, true, null, null, false);
+    }
+
+    public static FcmSendOutcome failure(String token, MessagingErrorCode errorCode, String errorMessage) {
+        return new FcmSendOutcome(token, false, errorCode, errorMessage, false);
+    }
+
+    public static FcmSendOutcome batchFailure(String token, MessagingErrorCode errorCode, String errorMessage) {
+        return new FcmSendOutcome(token, false, errorCode, errorMessage, true);
+    }
+}
@@ -0,0 +1,15 @@
+package com.siso.common.firebase.infrastructure;
+
+import com.google.firebase.messaging.MulticastMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 멀티캐스트 배치 하나를 비동기로 전송하는 전송 계층
+ * 결과는 tokens 와 같은 순서의 토큰별 결과, 배치 전체 실패는 예외로 완료
+ */
+public interface FcmTransport {
+
+    CompletableFuture<List<FcmSendOutcome>> send(MulticastMessage message, List<String> tokens, boolean dryRun);
+}
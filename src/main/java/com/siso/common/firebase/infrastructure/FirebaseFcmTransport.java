@@ -0,0 +1,57 @@
+package com.siso.common.firebase.infrastructure;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Firebase Admin SDK 의 sendEachForMulticastAsync 로 전송
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.fcm.multicast", name = "transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmTransport implements FcmTransport {
+
+    @Override
+    public CompletableFuture<List<FcmSendOutcome>> send(MulticastMessage message, List<String> tokens, boolean dryRun) {
+        CompletableFuture<List<FcmSendOutcome>> result = new CompletableFuture<>();
+        ApiFutures.addCallback(FirebaseMessaging.getInstance().sendEachForMulticastAsync(message, dryRun),
+                new ApiFutureCallback<BatchResponse>() {
+                    @Override
+                    public void onSuccess(BatchResponse response) {
+                        result.complete(toOutcomes(response, tokens));
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                },
+                Runnable::run);
+        return result;
+    }
+
+    private static List<FcmSendOutcome> toOutcomes(BatchResponse response, List<String> tokens) {
+        List<SendResponse> responses = response.getResponses();
+        List<FcmSendOutcome> outcomes = new ArrayList<>(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse r = responses.get(i);
+            if (r.isSuccessful()) {
+                outcomes.add(FcmSendOutcome.success(tokens.get(i)));
+            } else {
+                outcomes.add(FcmSendOutcome.failure(tokens.get(i),
+                        r.getException() != null ? r.getException().getMessagingErrorCode() : null,
+                        r.getException() != null ? r.getException().getMessage() : "Unknown error"));
+            }
+        }
+        return outcomes;
+    }
+}
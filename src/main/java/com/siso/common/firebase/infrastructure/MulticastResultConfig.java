@@ -1,23 +1,30 @@
 package com.siso.common.firebase.infrastructure;
 
 import com.google.firebase.messaging.*;
+import com.siso.common.firebase.infrastructure.properties.FcmMulticastProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * FCM 멀티캐스트 전송 헬퍼
- * - 배치 단위로 sendEachForMulticast 호출
+ * - 배치 단위로 나눠 FcmTransport 로 비동기 전송 (동시 배치 수 제한)
  * - 성공/실패/무효 토큰 결과 수집
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class MulticastResultConfig {
 
+    private final FcmTransport transport;
+    private final FcmMulticastProperties properties;
+
     // ===== 결과 DTO =====
     @Data
     @Builder
@@ -39,6 +46,35 @@ public class MulticastResultConfig {
                                                    Map<String, String> data,
                                                    int batchSize,
                                                    boolean dryRun) {
+        return sendMulticastResult(tokens, title, body, data, null, batchSize, dryRun);
+    }
+
+    /**
+     * collapseKey 를 지정하면 같은 키의 이전 알림을 기기에서 대체합니다. (Android collapse_key, iOS apns-collapse-id)
+     */
+    public SendMulticastResult sendMulticastResult(Collection<String> tokens,
+                                                   String title,
+                                                   String body,
+                                                   Map<String, String> data,
+                                                   String collapseKey,
+                                                   int batchSize,
+                                                   boolean dryRun) {
+        return sendMulticastResult(tokens, title, body, data, collapseKey, batchSize, dryRun, properties.getMaxInFlightBatches());
+    }
+
+    /**
+     * 배치를 최대 maxInFlightBatches 개까지 동시에 전송하고, 완료되는 대로 결과를 모읍니다.
+     * - 배치마다 batchTimeoutMillis 안에 응답이 없으면 해당 배치는 실패로 집계
+     * - UNAVAILABLE / INTERNAL 응답 토큰만 지수 백오프 + 지터 후 재전송
+     */
+    public SendMulticastResult sendMulticastResult(Collection<String> tokens,
+                                                   String title,
+                                                   String body,
+                                                   Map<String, String> data,
+                                                   String collapseKey,
+                                                   int batchSize,
+                                                   boolean dryRun,
+                                                   int maxInFlightBatches) {
 
         if (tokens == null || tokens.isEmpty()) {
             return SendMulticastResult.builder()
@@ -51,49 +87,31 @@ public class MulticastResultConfig {
         }
 
         List<List<String>> batches = splitIntoBatches(new ArrayList<>(tokens), Math.max(1, batchSize));
+        MessageTemplate template = new MessageTemplate(title, body, data, collapseKey, dryRun);
+
+        Semaphore inFlight = new Semaphore(Math.max(1, maxInFlightBatches));
+        Queue<FcmSendOutcome> outcomes = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>(batches.size());
+        for (List<String> batch : batches) {
+            inFlight.acquireUninterruptibly();
+            pending.add(sendWithRetry(batch, template, 0)
+                    .thenAccept(outcomes::addAll)
+                    .whenComplete((ignored, error) -> inFlight.release()));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
 
         int totalSuccess = 0;
         int totalFailure = 0;
         Map<String, String> tokenErrors = new LinkedHashMap<>();
         List<String> invalidTokens = new ArrayList<>();
-
-        for (List<String> batch : batches) {
-            MulticastMessage.Builder builder = MulticastMessage.builder()
-                    .addAllTokens(batch)
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(body)
-                            .build());
-
-            if (data != null && !data.isEmpty()) {
-                data.forEach(builder::putData);
-            }
-
-            try {
-                BatchResponse response = FirebaseMessaging.getInstance()
-                        .sendEachForMulticast(builder.build(), dryRun);
-
-                totalSuccess += response.getSuccessCount();
-                totalFailure += response.getFailureCount();
-
-                List<SendResponse> responses = response.getResponses();
-                for (int i = 0; i < responses.size(); i++) {
-                    SendResponse r = responses.get(i);
-                    String token = batch.get(i);
-
-                    if (!r.isSuccessful()) {
-                        String msg = (r.getException() != null)
-                                ? r.getException().getMessage()
-                                : "Unknown error";
-                        tokenErrors.put(token, msg);
-                        if (isInvalidToken(r)) invalidTokens.add(token);
-                    }
-                }
-            } catch (FirebaseMessagingException e) {
-                for (String token : batch) tokenErrors.put(token, e.getMessage());
-                totalFailure += batch.size();
-                log.error("FCM batch send failed: {}", e.getMessage(), e);
+        for (FcmSendOutcome outcome : outcomes) {
+            if (outcome.success()) {
+                totalSuccess++;
+                continue;
             }
+            totalFailure++;
+            tokenErrors.put(outcome.token(), outcome.errorMessage());
+            if (isInvalidToken(outcome)) invalidTokens.add(outcome.token());
         }
 
         SendMulticastResult result = SendMulticastResult.builder()
@@ -104,13 +122,91 @@ public class MulticastResultConfig {
                 .tokenErrors(tokenErrors)
                 .build();
 
-        log.info("[FCM] requested={}, success={}, failure={}, invalidTokens={}",
-                result.getRequestedCount(), result.getSuccessCount(),
+        log.info("[FCM] requested={}, batches={}, success={}, failure={}, invalidTokens={}",
+                result.getRequestedCount(), batches.size(), result.getSuccessCount(),
                 result.getFailureCount(), result.getInvalidTokens().size());
 
         return result;
     }
 
+    /**
+     * 배치 하나 전송 - 일시적 오류 토큰만 골라 재전송하고 최종 토큰별 결과로 완료 (예외로 끝나지 않음)
+     */
+    private CompletableFuture<List<FcmSendOutcome>> sendWithRetry(List<String> tokens, MessageTemplate template, int attempt) {
+        CompletableFuture<List<FcmSendOutcome>> sent;
+        try {
+            sent = transport.send(template.build(tokens), tokens, template.dryRun());
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent
+                .orTimeout(properties.getBatchTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, error) -> error == null ? result : failAll(tokens, error))
+                .thenCompose(result -> {
+                    List<String> retryable = result.stream()
+                            .filter(o -> !o.success() && isRetryable(o.errorCode()))
+                            .map(FcmSendOutcome::token)
+                            .toList();
+                    if (retryable.isEmpty() || attempt >= properties.getMaxRetries()) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    long backoff = properties.getRetryBaseMillis() << Math.min(attempt, 10);
+                    long delay = backoff + ThreadLocalRandom.current().nextLong(backoff + 1);
+                    log.debug("[FCM] 재전송 예약: tokens={}, attempt={}, delay={}ms", retryable.size(), attempt + 1, delay);
+
+                    Set<String> retrying = new HashSet<>(retryable);
+                    List<FcmSendOutcome> settled = result.stream().filter(o -> !retrying.contains(o.token())).toList();
+                    return CompletableFuture.supplyAsync(() -> retryable,
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(retry -> sendWithRetry(retry, template, attempt + 1))
+                            .thenApply(retried -> {
+                                List<FcmSendOutcome> merged = new ArrayList<>(settled);
+                                merged.addAll(retried);
+                                return merged;
+                            });
+                });
+    }
+
+    /**
+     * 배치 전체 실패 (타임아웃 / 요청 오류) 를 토큰별 실패로 변환 - 토큰 탓이 아니므로 무효 토큰으로 정리하지 않음
+     */
+    private static List<FcmSendOutcome> failAll(List<String> tokens, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        MessagingErrorCode code = cause instanceof FirebaseMessagingException fme ? fme.getMessagingErrorCode() : null;
+        String message = cause instanceof TimeoutException ? "FCM batch timed out" : cause.getMessage();
+        log.error("FCM batch send failed: {}", message, cause);
+        return tokens.stream().map(token -> FcmSendOutcome.batchFailure(token, code, message)).toList();
+    }
+
+    /**
+     * 배치마다 토큰만 바꿔 MulticastMessage 생성
+     */
+    private record MessageTemplate(String title, String body, Map<String, String> data, String collapseKey, boolean dryRun) {
+
+        MulticastMessage build(List<String> tokens) {
+            MulticastMessage.Builder builder = MulticastMessage.builder()
+                    .addAllTokens(tokens)
+                    .setNotification(Notification.builder()
+                            .setTitle(title)
+                            .setBody(body)
+                            .build());
+
+            if (data != null && !data.isEmpty()) {
+                data.forEach(builder::putData);
+            }
+            if (collapseKey != null) {
+                builder.setAndroidConfig(AndroidConfig.builder()
+                        .setCollapseKey(collapseKey)
+                        .build());
+                builder.setApnsConfig(ApnsConfig.builder()
+                        .putHeader("apns-collapse-id", collapseKey)
+                        .setAps(Aps.builder().build())
+                        .build());
+            }
+            return builder.build();
+        }
+    }
+
     // ===== 유틸 =====
     private static List<List<String>> splitIntoBatches(List<String> tokens, int batchSize) {
         List<List<String>> out = new ArrayList<>();
@@ -120,18 +216,23 @@ public class MulticastResultConfig {
         return out;
     }
 
-    /** 만료/무효 토큰 판별 */
-    private static boolean isInvalidToken(SendResponse r) {
-        if (r == null || r.isSuccessful() || r.getException() == null) return false;
-        MessagingErrorCode code = r.getException().getMessagingErrorCode();
-        if (code == null) return false;
-        switch (code) {
+    /**
+     * 만료/무효 토큰 판별 - FCM 이 그 토큰에 대해 직접 돌려준 응답만 본다
+     * INVALID_ARGUMENT 는 페이로드 오류로도 오므로 토큰 정리 대상에서 뺌
+     */
+    private static boolean isInvalidToken(FcmSendOutcome outcome) {
+        if (outcome.batchFailure() || outcome.errorCode() == null) return false;
+        switch (outcome.errorCode()) {
             case UNREGISTERED:      // 등록 취소/만료
-            case INVALID_ARGUMENT:  // 형식 오류
             case SENDER_ID_MISMATCH:
                 return true;
             default:
                 return false;
         }
     }
-}
\ No newline at end of file
+
+    /** 재시도하면 성공할 수 있는 일시적 오류 */
+    private static boolean isRetryable(MessagingErrorCode code) {
+        return code == MessagingErrorCode.UNAVAILABLE || code == MessagingErrorCode.INTERNAL;
+    }
+}
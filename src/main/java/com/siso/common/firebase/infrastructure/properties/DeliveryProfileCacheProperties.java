@@ -0,0 +1,41 @@
+package com.siso.common.firebase.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 푸시 수신 정보(알림 수신 여부 + 활성 토큰) 캐시 설정 프로퍼티
+ *
+ * application.yml의 app.fcm.delivery-cache 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.fcm.delivery-cache")
+public class DeliveryProfileCacheProperties {
+
+    /**
+     * 캐시 사용 여부 - 끄면 매 전송마다 DB 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 최대 사용자 수 (LRU)
+     */
+    @Min(value = 1, message = "최대 사용자 수는 1 이상이어야 합니다")
+    private int maxUsers = 10000;
+
+    /**
+     * 항목 유효 시간 (초) - 변경 시 즉시 무효화하므로 다른 인스턴스의 변경 반영용
+     */
+    @Min(value = 1, message = "유효 시간은 1초 이상이어야 합니다")
+    private long ttlSeconds = 600;
+
+    /**
+     * 이미 활성으로 확인한 (사용자, 토큰) 등록 요청을 DB 조회 없이 넘기는 기간 (초)
+     * 토큰 last_seen_at 은 이 주기로만 갱신됨
+     */
+    @Min(value = 1, message = "등록 확인 유지 시간은 1초 이상이어야 합니다")
+    private long registrationTtlSeconds = 86400;
+}
@@ -0,0 +1,68 @@
+package com.siso.common.firebase.infrastructure.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 멀티캐스트 배치 전송 설정 프로퍼티
+ *
+ * application.yml의 app.fcm.multicast 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.fcm.multicast")
+public class FcmMulticastProperties {
+
+    /**
+     * 전송 방식 - firebase (실제 FCM) | fake (로컬 벤치마크용 가짜 전송)
+     */
+    private String transport = "firebase";
+
+    /**
+     * 동시에 전송 중일 수 있는 배치(최대 500 토큰) 수 - 1 이면 순차 전송
+     */
+    @Min(value = 1, message = "동시 배치 수는 1 이상이어야 합니다")
+    private int maxInFlightBatches = 8;
+
+    /**
+     * 배치 하나의 응답 대기 시간 (밀리초) - 넘으면 해당 배치는 실패로 집계 (중복 전송 방지를 위해 재시도 안 함)
+     */
+    @Min(value = 100, message = "배치 타임아웃은 100ms 이상이어야 합니다")
+    private long batchTimeoutMillis = 10000;
+
+    /**
+     * UNAVAILABLE / INTERNAL 응답 토큰의 최대 재시도 횟수
+     */
+    @Min(value = 0, message = "재시도 횟수는 0 이상이어야 합니다")
+    private int maxRetries = 2;
+
+    /**
+     * 재시도 대기 시간 (밀리초) - 시도마다 두 배, 여기에 0~100% 지터를 더함
+     */
+    @Min(value = 1, message = "재시도 대기 시간은 1ms 이상이어야 합니다")
+    private long retryBaseMillis = 200;
+
+    /**
+     * [fake] 배치 응답 지연 (밀리초)
+     */
+    @Min(value = 0, message = "지연 시간은 0 이상이어야 합니다")
+    private long fakeLatencyMillis = 80;
+
+    /**
+     * [fake] 토큰별 UNAVAILABLE 응답 비율
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double fakeUnavailableRate = 0.01;
+
+    /**
+     * [fake] 토큰별 UNREGISTERED 응답 비율
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double fakeInvalidRate = 0.02;
+}
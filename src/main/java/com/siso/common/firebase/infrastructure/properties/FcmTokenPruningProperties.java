@@ -0,0 +1,51 @@
+package com.siso.common.firebase.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 무효 FCM 토큰 정리 설정 프로퍼티
+ *
+ * application.yml의 app.fcm.token-pruning 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.fcm.token-pruning")
+public class FcmTokenPruningProperties {
+
+    /**
+     * 전송 결과에서 무효 토큰을 모아 비활성화할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 모아둔 무효 토큰을 DB 에 반영하는 주기 (밀리초)
+     */
+    @Min(value = 100, message = "반영 주기는 100ms 이상이어야 합니다")
+    private long flushIntervalMillis = 5000;
+
+    /**
+     * UPDATE ... WHERE token IN (...) 한 번에 넣을 토큰 수
+     */
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    private int batchSize = 500;
+
+    /**
+     * 반영 대기 중인 무효 토큰 상한 - 넘으면 새로 들어온 토큰은 버림 (다음 전송에서 다시 보고됨)
+     */
+    @Min(value = 1, message = "대기 토큰 상한은 1 이상이어야 합니다")
+    private int maxPending = 10000;
+
+    /**
+     * 이 기간 동안 등록(앱 실행) 갱신이 없는 토큰은 비활성화 (일)
+     */
+    @Min(value = 1, message = "미사용 기간은 1일 이상이어야 합니다")
+    private int staleAfterDays = 60;
+
+    /**
+     * 미사용 토큰 정리 실행 주기 (cron)
+     */
+    private String staleSweepCron = "0 40 3 * * *";
+}
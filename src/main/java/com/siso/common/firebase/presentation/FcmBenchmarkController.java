@@ -0,0 +1,59 @@
+package com.siso.common.firebase.presentation;
+
+import com.siso.common.firebase.dto.FcmBenchmarkResponseDto;
+import com.siso.common.firebase.infrastructure.MulticastResultConfig;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 가짜 FCM 전송으로 멀티캐스트 처리량을 측정하는 API
+ *
+ * app.fcm.multicast.transport=fake 일 때만 등록됩니다.
+ * 같은 토큰 수로 maxInFlightBatches 를 바꿔가며 순차(1) / 동시 전송 시간을 비교할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/fcm/benchmark")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.fcm.multicast", name = "transport", havingValue = "fake")
+@Tag(name = "Firebase Cloud Messaging", description = "FCM 관련 API")
+public class FcmBenchmarkController {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MulticastResultConfig multicast;
+
+    @PostMapping(produces = "application/json; charset=UTF-8")
+    @Operation(summary = "멀티캐스트 벤치마크", description = "가짜 전송으로 지정한 기기 수만큼 멀티캐스트 전송 시간을 측정합니다.")
+    public ResponseEntity<FcmBenchmarkResponseDto> run(@RequestParam(name = "devices", defaultValue = "20000") int devices,
+                                                       @RequestParam(name = "maxInFlightBatches", defaultValue = "8") int maxInFlightBatches) {
+        List<String> tokens = IntStream.range(0, Math.max(1, devices))
+                .mapToObj(i -> "bench-token-" + i)
+                .toList();
+
+        long startedAt = System.nanoTime();
+        MulticastResultConfig.SendMulticastResult result = multicast.sendMulticastResult(
+                tokens, "benchmark", "benchmark", Map.of("type", "BENCHMARK"), null, BATCH_SIZE, true, maxInFlightBatches);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        return ResponseEntity.ok(new FcmBenchmarkResponseDto(
+                tokens.size(),
+                (tokens.size() + BATCH_SIZE - 1) / BATCH_SIZE,
+                maxInFlightBatches,
+                elapsedMillis,
+                result.getSuccessCount(),
+                result.getFailureCount(),
+                result.getInvalidTokens().size()
+        ));
+    }
+}
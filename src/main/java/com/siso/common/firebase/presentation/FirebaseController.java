@@ -1,9 +1,13 @@
 package com.siso.common.firebase.presentation;
 
 import com.siso.common.firebase.application.FirebaseService;
+import com.siso.common.firebase.application.FcmTokenPruner;
 import com.siso.common.firebase.application.FcmTokenService;
 import com.siso.common.firebase.dto.FirebaseMessageRequestDto;
 import com.siso.common.firebase.dto.FcmTokenRequestDto;
+import com.siso.common.firebase.dto.FcmTokenStatsDto;
+import com.siso.common.security.AdminGuard;
+import com.siso.common.web.CurrentUser;
 import com.siso.user.domain.model.User;
 import com.siso.user.domain.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +38,9 @@ public class FirebaseController {
 
     private final FirebaseService firebaseService;
     private final FcmTokenService fcmTokenService;
+    private final FcmTokenPruner fcmTokenPruner;
     private final UserRepository userRepository;
+    private final AdminGuard adminGuard;
 
     /**
      * FCM 토큰을 등록하거나 업데이트합니다.
@@ -81,6 +87,21 @@ public class FirebaseController {
         }
     }
 
+    /**
+     * FCM 토큰 상태 통계를 조회합니다.
+     * <p>
+     * 활성/비활성 토큰 수와 서버 기동 이후 무효 토큰 비율, 자동 비활성화 건수를 반환합니다. (운영자만)
+     *
+     * @param user 현재 사용자
+     * @return 토큰 통계
+     */
+    @GetMapping(value = "/token/stats", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "FCM 토큰 통계", description = "무효 토큰 비율과 자동 정리 현황을 조회합니다.")
+    public ResponseEntity<FcmTokenStatsDto> getTokenStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return ResponseEntity.ok(fcmTokenPruner.getStats());
+    }
+
     /**
      * 특정 사용자에게 푸시 알림을 전송합니다.
      * <p>
@@ -0,0 +1,28 @@
+package com.siso.common.migration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번만 실행할 데이터 작업 (백필 / 재집계) 의 실행 기록
+ * OneTimeTaskRunner 가 작업과 같은 트랜잭션에서 행을 넣으므로 행이 있으면 완료된 작업
+ */
+@Entity
+@Table(name = "one_time_tasks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OneTimeTask {
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
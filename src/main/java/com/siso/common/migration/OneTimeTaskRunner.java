@@ -0,0 +1,44 @@
+package com.siso.common.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 데이터 작업을 서버 전체에서 한 번만 실행
+ * - one_time_tasks 에 작업 이름을 넣고 같은 트랜잭션에서 작업 실행 (실패하면 기록도 롤백되어 다음 기동에서 다시)
+ * - 여러 인스턴스가 동시에 기동하면 나중 인스턴스는 PK 잠금에서 기다렸다가 중복 키로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OneTimeTaskRunner {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 처음이면 작업을 실행하고 기록
+     *
+     * @param name 작업 이름 (내용을 바꿔 다시 실행해야 하면 새 이름으로)
+     * @param task 실행할 작업 (기록과 같은 트랜잭션)
+     * @return 이번에 실행했으면 true, 이미 실행된 작업이면 false
+     */
+    public boolean runOnce(String name, Runnable task) {
+        Boolean ran = transactionTemplate.execute(status -> {
+            try {
+                jdbcTemplate.update("INSERT INTO one_time_tasks (name, applied_at) VALUES (?, NOW(6))", name);
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+            task.run();
+            return true;
+        });
+        if (Boolean.TRUE.equals(ran)) {
+            log.info("[ONE-TIME TASK] 실행 완료: {}", name);
+        }
+        return Boolean.TRUE.equals(ran);
+    }
+}
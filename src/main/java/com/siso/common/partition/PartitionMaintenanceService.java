@@ -0,0 +1,263 @@
+package com.siso.common.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * chat_messages / notifications 월 단위 RANGE 파티션 관리 (MariaDB)
+ * - PARTITION BY RANGE (TO_DAYS(created_at)), 파티션 이름은 pYYYYMM, 마이그레이션 이전 데이터는 p_old, 끝은 pmax
+ * - 파티션 키가 PK 에 포함되어야 하므로 PK 는 (id, created_at), 파티션 테이블은 외래키를 가질 수 없어 FK 제거
+ * - 매일 미래 월 파티션을 pmax 에서 분리(비어 있으므로 즉시 끝남)하고, 보관 기간이 지난 파티션은 DROP PARTITION
+ * - 조회 쪽은 파티션 경계를 받아 created_at 조건을 붙여 파티션 pruning 이 되도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+    public static final String CHAT_MESSAGES = "chat_messages";
+    public static final String NOTIFICATIONS = "notifications";
+
+    private static final List<String> TABLES = List.of(CHAT_MESSAGES, NOTIFICATIONS);
+    private static final long TO_DAYS_EPOCH = 719_528; // TO_DAYS('1970-01-01')
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(9999, 12, 31, 0, 0); // DATETIME 상한
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionProperties properties;
+
+    // table -> 파티션 목록 (경계 오름차순), 파티션되지 않은 테이블은 없음
+    private final Map<String, List<PartitionInfo>> partitions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                if (loadPartitions(table).isEmpty() && properties.isAutoMigrate()) {
+                    migrate(table);
+                }
+            } catch (Exception e) {
+                log.error("[PARTITION] {} 파티션 초기화 실패: {}", table, e.getMessage(), e);
+            }
+        }
+        maintain();
+    }
+
+    /**
+     * 미래 월 파티션 준비 + 보관 기간이 지난 notifications 파티션 삭제
+     * (chat_messages 는 아카이브 작업이 옮긴 뒤 dropPartitionsBefore 로 삭제)
+     */
+    @Scheduled(cron = "${app.db.partitioning.cron:0 10 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                if (!loadPartitions(table).isEmpty()) {
+                    ensureFuturePartitions(table);
+                }
+            } catch (Exception e) {
+                log.error("[PARTITION] {} 미래 파티션 생성 실패: {}", table, e.getMessage(), e);
+            }
+        }
+        try {
+            dropPartitionsBefore(NOTIFICATIONS, notificationRetentionBoundary());
+        } catch (Exception e) {
+            log.error("[PARTITION] {} 만료 파티션 삭제 실패: {}", NOTIFICATIONS, e.getMessage(), e);
+        }
+    }
+
+    // ===== 조회 지원 =====
+
+    public boolean isPartitioned(String table) {
+        return properties.isEnabled() && !partitions.getOrDefault(table, List.of()).isEmpty();
+    }
+
+    /**
+     * 최신 월부터 과거로 내려가는 조회 구간 목록 [from, to)
+     * 구간 하나가 파티션 하나에 대응하므로 구간별 조회는 파티션 하나만 읽음
+     * 파티션되지 않은 테이블이면 전체 기간 하나
+     */
+    public List<Window> monthlyWindowsDesc(String table) {
+        List<PartitionInfo> current = partitions.getOrDefault(table, List.of());
+        if (!isPartitioned(table)) {
+            return List.of(new Window(BEGINNING, END));
+        }
+        List<Window> windows = new ArrayList<>();
+        LocalDate nextMonth = YearMonth.now().plusMonths(1).atDay(1);
+        LocalDate previousBound = null;
+        for (PartitionInfo partition : current) {
+            LocalDate from = previousBound;
+            previousBound = partition.upperBound();
+            if (from != null && from.isAfter(nextMonth)) {
+                break; // 아직 비어 있는 미래 파티션
+            }
+            LocalDateTime to = partition.upperBound() != null ? partition.upperBound().atStartOfDay() : END;
+            windows.add(new Window(from != null ? from.atStartOfDay() : BEGINNING, to));
+        }
+        Collections.reverse(windows);
+        return windows;
+    }
+
+    /**
+     * 조회 하한 - 이보다 오래된 행은 조회하지 않아 그 파티션은 pruning 됨 (파티션되지 않았으면 null)
+     * - p_old 는 마이그레이션 때 created_at 이 없던 행(1970-01-01)만 담으므로 첫 월 파티션의 하한부터
+     * - notifications 는 보관 기간 시작 월부터 (그 이전 파티션은 다음 유지 작업에서 DROP 될 대상)
+     */
+    public LocalDateTime retainedSince(String table) {
+        if (!isPartitioned(table)) {
+            return null;
+        }
+        LocalDateTime since = BEGINNING;
+        for (PartitionInfo partition : partitions.get(table)) {
+            if (!partition.name().equals("p_old") && partition.upperBound() != null) {
+                since = partition.upperBound().minusMonths(1).atStartOfDay();
+                break;
+            }
+        }
+        if (NOTIFICATIONS.equals(table)) {
+            LocalDateTime retention = notificationRetentionBoundary().atStartOfDay();
+            if (retention.isAfter(since)) {
+                since = retention;
+            }
+        }
+        return since;
+    }
+
+    // ===== 파티션 유지 =====
+
+    /**
+     * 상한이 boundary 이하인 파티션을 DROP PARTITION (행 단위 DELETE 없이 즉시 공간 회수)
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int dropPartitionsBefore(String table, LocalDate boundary) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        List<String> expired = loadPartitions(table).stream()
+                .filter(p -> p.upperBound() != null && !p.upperBound().isAfter(boundary))
+                .map(PartitionInfo::name)
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + String.join(", ", expired));
+        loadPartitions(table);
+        log.info("[PARTITION] {} 파티션 삭제: {}", table, expired);
+        return expired.size();
+    }
+
+    private LocalDate notificationRetentionBoundary() {
+        return YearMonth.now().minusMonths(properties.getNotificationRetentionMonths()).atDay(1);
+    }
+
+    private void ensureFuturePartitions(String table) {
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= properties.getMonthsAhead(); i++, month = month.plusMonths(1)) {
+            LocalDate upper = month.plusMonths(1).atDay(1);
+            boolean exists = partitions.getOrDefault(table, List.of()).stream()
+                    .anyMatch(p -> upper.equals(p.upperBound()));
+            if (exists) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION pmax INTO ("
+                    + partitionClause(month) + ", PARTITION pmax VALUES LESS THAN MAXVALUE)");
+            log.info("[PARTITION] {} 파티션 추가: {}", table, month.format(PARTITION_NAME));
+            loadPartitions(table);
+        }
+    }
+
+    /**
+     * 파티션되지 않은 테이블을 월 단위 파티션 테이블로 변환
+     * 가장 오래된 데이터의 월부터 다음 달까지 월 파티션을 만들고, created_at 이 없는 행은 p_old 로
+     */
+    private void migrate(String table) {
+        log.warn("[PARTITION] {} 파티션 변환 시작 (테이블 재작성)", table);
+
+        // 1. 파티션 테이블은 외래키를 지원하지 않음 (엔티티는 @ForeignKey(NO_CONSTRAINT) 라 ddl-auto 가 다시 만들지 않음)
+        List<String> foreignKeys = jdbcTemplate.queryForList("""
+                SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+                """, String.class, table);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        // 2. 파티션 키를 PK 에 포함
+        jdbcTemplate.update("UPDATE " + table + " SET created_at = '1970-01-01' WHERE created_at IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table
+                + " MODIFY created_at DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+
+        // 3. 월 파티션 생성
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + table + " WHERE created_at > '1970-01-01'", LocalDateTime.class);
+        YearMonth first = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+        StringJoiner clauses = new StringJoiner(", ");
+        clauses.add("PARTITION p_old VALUES LESS THAN (TO_DAYS('" + first.atDay(1) + "'))");
+        for (YearMonth month = first; !month.isAfter(YearMonth.now().plusMonths(1)); month = month.plusMonths(1)) {
+            clauses.add(partitionClause(month));
+        }
+        clauses.add("PARTITION pmax VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + table + " PARTITION BY RANGE (TO_DAYS(created_at)) (" + clauses + ")");
+
+        List<PartitionInfo> created = loadPartitions(table);
+        log.warn("[PARTITION] {} 파티션 변환 완료: partitions={}, droppedForeignKeys={}", table, created.size(), foreignKeys);
+    }
+
+    private static String partitionClause(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME)
+                + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "'))";
+    }
+
+    private List<PartitionInfo> loadPartitions(String table) {
+        List<PartitionInfo> loaded = jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new PartitionInfo(rs.getString(1), toDate(rs.getString(2))),
+                table);
+        if (loaded.isEmpty()) {
+            partitions.remove(table);
+        } else {
+            partitions.put(table, List.copyOf(loaded));
+        }
+        return loaded;
+    }
+
+    private static LocalDate toDate(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(Long.parseLong(description.trim()) - TO_DAYS_EPOCH);
+    }
+
+    /**
+     * 파티션 하나 (upperBound 는 VALUES LESS THAN 의 날짜, MAXVALUE 면 null)
+     */
+    private record PartitionInfo(String name, LocalDate upperBound) {
+    }
+
+    /**
+     * 조회 구간 [from, to)
+     */
+    public record Window(LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.siso.common.partition;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 단위 RANGE 파티션 설정 프로퍼티 (chat_messages, notifications)
+ *
+ * application.yml의 app.db.partitioning 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.db.partitioning")
+public class PartitionProperties {
+
+    /**
+     * 파티션 관리 사용 여부 (MariaDB 전용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 기동 시 파티션되지 않은 테이블을 월 단위 파티션 테이블로 변환
+     * 테이블 전체를 다시 쓰므로 점검 시간에만 켤 것
+     */
+    private boolean autoMigrate = false;
+
+    /**
+     * 미리 만들어 둘 미래 월 파티션 수
+     */
+    @Min(value = 1, message = "미리 만들 파티션 수는 1 이상이어야 합니다")
+    private int monthsAhead = 3;
+
+    /**
+     * notifications 보관 개월 수 - 이보다 오래된 월 파티션은 DROP PARTITION
+     */
+    @Min(value = 1, message = "알림 보관 기간은 1개월 이상이어야 합니다")
+    private int notificationRetentionMonths = 3;
+
+    /**
+     * 파티션 유지 작업 실행 주기 (cron)
+     */
+    private String cron = "0 10 3 * * *";
+}
@@ -0,0 +1,26 @@
+package com.siso.common.security;
+
+import com.siso.common.exception.ErrorCode;
+import com.siso.common.exception.ExpectedException;
+import com.siso.user.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영 / 통계 API 접근 확인
+ * /api/** 는 SecurityConfig 에서 permitAll 이므로 컨트롤러에서 @CurrentUser 로 받은 사용자를 직접 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminGuard {
+    private final AdminProperties properties;
+
+    /**
+     * 인증되지 않았거나 운영자가 아니면 ACCESS_DENIED
+     */
+    public void check(User user) {
+        if (user == null || user.getId() == null || !properties.getUserIds().contains(user.getId())) {
+            throw new ExpectedException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+}
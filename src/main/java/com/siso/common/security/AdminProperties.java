@@ -0,0 +1,24 @@
+package com.siso.common.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운영자 설정 프로퍼티
+ *
+ * application.yml의 app.admin 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.admin")
+public class AdminProperties {
+
+    /**
+     * 운영 / 통계 API 를 호출할 수 있는 사용자 ID (비어 있으면 아무도 호출할 수 없음)
+     */
+    private List<Long> userIds = new ArrayList<>();
+}
@@ -0,0 +1,179 @@
+package com.siso.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠 (타임아웃 등록 / 취소 O(1))
+ *
+ * 통화 벨 / 최대 통화 시간처럼 대부분 취소되는 대량의 타임아웃에 사용합니다.
+ * - 슬롯 수(2의 거듭제곱) x tick 간격이 한 바퀴, 그보다 먼 타임아웃은 남은 바퀴 수(rounds)를 들고 대기
+ * - 등록은 큐에 넣기만 하고 슬롯 배치 / 만료 처리는 워커 스레드 하나가 tick 마다 수행 (슬롯은 워커 스레드만 접근)
+ * - 취소는 플래그만 세우고, 워커가 해당 슬롯을 지날 때 제거
+ * - 만료 작업은 워커 스레드에서 바로 실행되므로 오래 걸리는 작업은 호출 측에서 다른 스레드로 넘겨야 함
+ * - 정확도는 tick 간격 단위 (일찍 실행되지 않고, 최대 tick 만큼 늦게 실행)
+ */
+@Slf4j
+public class HashedTimingWheel {
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout>[] wheel;
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread worker;
+    private final long startedAt;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis, wheelSize 는 0보다 커야 합니다");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.wheel = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.startedAt = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delay 뒤에 task 실행 예약
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = elapsedNanos() + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 등록되어 아직 실행 / 취소되지 않은 타임아웃 수
+     */
+    public int pendingTimeouts() {
+        return pending.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long nextTickAt = (tick + 1) * tickNanos;
+            long sleepNanos = nextTickAt - elapsedNanos();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferRegistrations();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferRegistrations() {
+        Timeout timeout;
+        while ((timeout = registrations.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            // tick t 슬롯은 (t + 1) x tick 시각에 처리되므로 그 시각이 deadline 이상인 첫 tick (올림)
+            long dueTick = Math.max(0, (timeout.deadline + tickNanos - 1) / tickNanos - 1);
+            timeout.rounds = (dueTick - tick) / wheel.length;
+            // 이미 지난 타임아웃은 이번 tick 슬롯에 넣어 바로 실행
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.rounds <= 0) {
+                iterator.remove();
+                if (timeout.expire()) {
+                    try {
+                        timeout.task.run();
+                    } catch (Exception e) {
+                        log.warn("[TIMING WHEEL] 만료 작업 실패: {}", e.getMessage(), e);
+                    }
+                }
+            } else {
+                timeout.rounds--;
+            }
+        }
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * 예약된 타임아웃 하나 - cancel 과 만료 중 먼저 일어난 쪽만 적용됨
+     */
+    public final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline; // 휠 시작 기준 나노초
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long rounds; // 워커 스레드만 접근
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return 아직 실행되지 않아 취소되었으면 true
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private boolean expire() {
+            if (state.compareAndSet(WAITING, EXPIRED)) {
+                pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.siso.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 공통 유틸리티
+ *
+ * 캐시 갱신, 인메모리 큐 적재처럼 DB 커밋이 확정된 뒤에만 실행해야 하는 작업에 사용합니다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 실행 (트랜잭션 밖이면 즉시 실행)
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백된 후 실행 (트랜잭션 밖이면 실행하지 않음)
+     *
+     * 커밋 전에 미리 잡아 둔 인메모리 상태를 되돌릴 때 사용합니다.
+     *
+     * @param action 롤백 후 실행할 작업
+     */
+    public static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
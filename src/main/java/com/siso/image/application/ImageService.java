@@ -6,8 +6,10 @@ import com.siso.image.domain.repository.ImageRepository;
 import com.siso.image.dto.request.ImageRequestDto;
 import com.siso.image.dto.response.ImageResponseDto;
 import com.siso.image.infrastructure.properties.ImageProperties;
+import com.siso.user.application.UserCardCache;
 import com.siso.user.domain.model.User;
 import com.siso.user.domain.repository.UserRepository;
+import com.siso.common.util.TransactionUtil;
 import com.siso.common.util.UserValidationUtil;
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
@@ -52,6 +54,7 @@ public class ImageService {
     private final S3PresignedUrlUtil s3PresignedUrlUtil;
     private final ImageCountValidationUtil imageCountValidationUtil;
     private final PresignedUrlManagementUtil presignedUrlManagementUtil;
+    private final UserCardCache userCardCache;
 
     // ===================== 공개 API 메서드들 =====================
 
@@ -96,6 +99,8 @@ public class ImageService {
 
             uploaded.add(ImageResponseDto.fromEntity(saved));
         }
+        // 대표 이미지가 바뀌었을 수 있으므로 사용자 카드 무효화
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(userId));
         log.info("다중 이미지 업로드 완료 - 사용자: {}, 업로드된 파일 수: {}", userId, uploaded.size());
         return uploaded;
     }
@@ -182,6 +187,9 @@ public class ImageService {
         // Presigned URL 재생성
         presignedUrlManagementUtil.generateAndSavePresignedUrl(existing, PresignedUrlType.DEFAULT);
         
+        Long ownerId = existing.getUser().getId();
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(ownerId));
+
         log.info("이미지 파일 교체 완료 - id: {}, oldKey: {}, newKey: {}", id, oldKey, newKey);
         return ImageResponseDto.fromEntity(existing);
     }
@@ -195,7 +203,9 @@ public class ImageService {
         String key = s3KeyUtil.extractKey(image.getPath());
         s3DeleteUtil.safeDeleteS3(key);
 
+        Long ownerId = image.getUser().getId();
         imageRepository.delete(image);
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(ownerId));
         log.info("이미지 삭제 완료 - ID: {}, key: {}", id, key);
     }
 
@@ -0,0 +1,122 @@
+package com.siso.notification.application;
+
+import com.siso.notification.domain.model.Notification;
+import com.siso.notification.infrastructure.properties.PushCoalescingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 오프라인 수신자의 채팅 푸시를 (수신자, 채팅방) 단위로 묶음
+ * - 구간의 첫 메시지는 즉시 알림 (collapseKey = 채팅방)
+ * - 구간 안의 이후 메시지는 개수만 세고, 구간이 끝나면 같은 알림 행을 갱신해 한 번 더 푸시 ("새 메시지 N개")
+ * - 기기에서는 같은 collapseKey 의 이전 알림이 대체되므로 알림이 하나만 남음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageNotificationCoalescer {
+
+    private final NotificationService notificationService;
+    private final PushCoalescingProperties properties;
+
+    // (receiverId, chatRoomId) -> 진행 중인 묶음 구간
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 오프라인 멤버에게 채팅 메시지 알림
+     */
+    public void notifyMessage(Long receiverId, Long senderId, String senderNickname, Long chatRoomId, String content) {
+        if (!properties.isEnabled()) {
+            notificationService.sendMessageNotification(receiverId, senderId, senderNickname, chatRoomId, content);
+            return;
+        }
+
+        Key key = new Key(receiverId, chatRoomId);
+        AtomicReference<Window> started = new AtomicReference<>();
+        windows.compute(key, (k, window) -> {
+            if (window == null) {
+                Window fresh = new Window(System.currentTimeMillis());
+                started.set(fresh);
+                return fresh;
+            }
+            window.add(senderId, senderNickname, content);
+            return window;
+        });
+
+        Window window = started.get();
+        if (window == null) {
+            return; // 구간이 끝날 때 묶어서 전송
+        }
+        try {
+            Notification notification = notificationService.sendMessageNotification(
+                    receiverId, senderId, senderNickname, chatRoomId, content);
+            window.notificationId = notification.getId();
+        } catch (RuntimeException e) {
+            windows.remove(key, window);
+            throw e;
+        }
+    }
+
+    /**
+     * 끝난 구간 정리 - 구간 안에 쌓인 메시지가 있으면 묶음 알림 전송
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushExpired() {
+        long expiredBefore = System.currentTimeMillis() - properties.getWindowMillis();
+        for (Key key : windows.keySet()) {
+            AtomicReference<Window> expired = new AtomicReference<>();
+            windows.computeIfPresent(key, (k, window) -> {
+                if (window.startedAt > expiredBefore) {
+                    return window;
+                }
+                expired.set(window);
+                return null;
+            });
+
+            Window window = expired.get();
+            if (window == null || window.pending == 0) {
+                continue;
+            }
+            try {
+                notificationService.updateMessageNotification(window.notificationId, key.receiverId(),
+                        window.lastSenderId, window.lastSenderNickname, key.chatRoomId(),
+                        window.pending + 1, window.lastContent);
+            } catch (Exception e) {
+                log.error("[PUSH] 묶음 알림 전송 실패: receiverId={}, chatRoomId={}, pending={}",
+                        key.receiverId(), key.chatRoomId(), window.pending, e);
+            }
+        }
+    }
+
+    private record Key(Long receiverId, Long chatRoomId) {
+    }
+
+    /**
+     * 묶음 구간 하나 (add 는 compute 안에서만 호출되어 키 단위로 직렬화)
+     */
+    private static class Window {
+        private final long startedAt;
+        private volatile Long notificationId;
+        private int pending;
+        private Long lastSenderId;
+        private String lastSenderNickname;
+        private String lastContent;
+
+        Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        void add(Long senderId, String senderNickname, String content) {
+            pending++;
+            lastSenderId = senderId;
+            lastSenderNickname = senderNickname;
+            lastContent = content;
+        }
+    }
+}
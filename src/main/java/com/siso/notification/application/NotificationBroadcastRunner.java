@@ -0,0 +1,176 @@
+package com.siso.notification.application;
+
+import com.siso.common.firebase.application.FcmTokenPruner;
+import com.siso.common.firebase.application.FcmTokenService;
+import com.siso.common.firebase.dto.FcmTokenCursorRow;
+import com.siso.common.firebase.infrastructure.MulticastResultConfig;
+import com.siso.notification.domain.model.NotificationBroadcast;
+import com.siso.notification.infrastructure.properties.NotificationBroadcastProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 공지 푸시 전송 워커
+ * - 활성 토큰을 id 커서로 chunkSize 개씩 읽어 멀티캐스트 전송 (메모리 사용량은 대상 수와 무관)
+ * - 묶음마다 마지막 토큰 id 를 체크포인트로 기록하고 점유를 연장, 취소되었으면 멈춤
+ * - 초당 전송 수를 messagesPerSecond 이하로 맞춤
+ * - 전송 중 종료되면 점유 만료 후 (이 인스턴스든 다른 인스턴스든) 체크포인트 다음 토큰부터 이어서 전송
+ *   (기록 전이던 묶음 하나는 다시 전송될 수 있음)
+ */
+@Slf4j
+@Component
+public class NotificationBroadcastRunner {
+    public static final String NOTICE_TYPE = "NOTICE";
+    private static final int FCM_BATCH_SIZE = 500;   // FCM 권장 상한
+
+    private final NotificationBroadcastService notificationBroadcastService;
+    private final FcmTokenService fcmTokenService;
+    private final FcmTokenPruner fcmTokenPruner;
+    private final MulticastResultConfig multicast;
+    private final NotificationBroadcastProperties properties;
+
+    private final ExecutorService runner;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NotificationBroadcastRunner(NotificationBroadcastService notificationBroadcastService,
+                                       FcmTokenService fcmTokenService,
+                                       FcmTokenPruner fcmTokenPruner,
+                                       MulticastResultConfig multicast,
+                                       NotificationBroadcastProperties properties) {
+        this.notificationBroadcastService = notificationBroadcastService;
+        this.fcmTokenService = fcmTokenService;
+        this.fcmTokenPruner = fcmTokenPruner;
+        this.multicast = multicast;
+        this.properties = properties;
+        // 깨우기 요청이 몰려도 대기 중인 것 하나만 남김
+        this.runner = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+            Thread thread = new Thread(runnable, "notification-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 새 브로드캐스트가 생성되었을 때 호출 (호출 스레드는 기다리지 않음)
+     */
+    public void wakeUp() {
+        if (properties.isEnabled()) {
+            runner.execute(this::runPending);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.broadcast.poll-interval-millis:10000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 전송 중이던 브로드캐스트는 점유 만료 후 체크포인트부터 이어서 전송됨
+        runner.shutdownNow();
+    }
+
+    private void runPending() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Optional<NotificationBroadcast> claimed = notificationBroadcastService.claim();
+                if (claimed.isEmpty()) {
+                    return;
+                }
+                run(claimed.get());
+            }
+        } catch (Exception e) {
+            log.error("[BROADCAST] 브로드캐스트 조회 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void run(NotificationBroadcast broadcast) {
+        Long broadcastId = broadcast.getId();
+        String claimToken = broadcast.getClaimToken();
+        long afterId = broadcast.getLastTokenId();
+        log.info("[BROADCAST] 전송 시작: id={}, afterTokenId={}", broadcastId, afterId);
+
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("type", NOTICE_TYPE);
+        data.put("broadcastId", String.valueOf(broadcastId));
+        if (broadcast.getUrl() != null) data.put("url", broadcast.getUrl());
+
+        long startedAt = System.nanoTime();
+        long sent = 0;
+        try {
+            while (true) {
+                List<FcmTokenCursorRow> chunk = fcmTokenService.getActiveTokensAfter(afterId, properties.getChunkSize());
+                if (chunk.isEmpty()) {
+                    notificationBroadcastService.complete(broadcastId, claimToken);
+                    log.info("[BROADCAST] 전송 완료: id={}, sentThisRun={}, elapsed={}ms",
+                            broadcastId, sent, (System.nanoTime() - startedAt) / 1_000_000);
+                    return;
+                }
+
+                List<String> tokens = chunk.stream().map(FcmTokenCursorRow::token).toList();
+                MulticastResultConfig.SendMulticastResult result = multicast.sendMulticastResult(
+                        tokens, broadcast.getTitle(), broadcast.getMessage(), data, null,
+                        FCM_BATCH_SIZE, false, properties.getMaxInFlightBatches());
+                fcmTokenPruner.report(result.getRequestedCount(), result.getInvalidTokens());
+
+                afterId = chunk.get(chunk.size() - 1).id();
+                boolean proceed = notificationBroadcastService.checkpoint(broadcastId, claimToken, afterId, result.getRequestedCount(),
+                        result.getSuccessCount(), result.getFailureCount(), result.getInvalidTokens().size());
+                if (!proceed) {
+                    log.info("[BROADCAST] 취소되었거나 다른 워커가 가져가 중단: id={}, lastTokenId={}", broadcastId, afterId);
+                    return;
+                }
+
+                sent += tokens.size();
+                if (!pace(sent, startedAt)) {
+                    return;
+                }
+            }
+        } catch (OptimisticLockingFailureException e) {
+            // 체크포인트를 읽은 뒤 취소되었거나 점유가 만료되어 다른 워커가 가져감
+            log.info("[BROADCAST] 다른 변경과 충돌해 중단: id={}, lastTokenId={}", broadcastId, afterId);
+        } catch (Exception e) {
+            log.error("[BROADCAST] 전송 실패, 점유 만료 후 lastTokenId={} 부터 재개: id={}, error={}",
+                    afterId, broadcastId, e.getMessage(), e);
+            notificationBroadcastService.recordError(broadcastId, claimToken, e.getMessage());
+        }
+    }
+
+    /**
+     * 지금까지 보낸 수가 초당 전송 상한을 넘지 않도록 대기
+     *
+     * @return 인터럽트(종료)되면 false
+     */
+    private boolean pace(long sent, long startedAt) {
+        long expectedNanos = sent * 1_000_000_000L / properties.getMessagesPerSecond();
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.siso.notification.application;
+
+import com.siso.common.exception.ErrorCode;
+import com.siso.common.exception.ExpectedException;
+import com.siso.notification.domain.model.NotificationBroadcast;
+import com.siso.notification.domain.repository.NotificationBroadcastRepository;
+import com.siso.notification.dto.request.BroadcastCreateRequestDto;
+import com.siso.notification.dto.response.BroadcastResponseDto;
+import com.siso.notification.infrastructure.properties.NotificationBroadcastProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 전체 공지 푸시 생성/조회/상태 변경
+ * - 생성은 행만 기록하고 전송은 NotificationBroadcastRunner 가 수행 (관리자만 생성/조회/취소)
+ * - 점유 / 체크포인트 기록은 각각 짧은 트랜잭션 (FCM 호출은 트랜잭션 밖에서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationBroadcastService {
+
+    private final NotificationBroadcastRepository notificationBroadcastRepository;
+    private final NotificationBroadcastProperties properties;
+
+    @Transactional
+    public BroadcastResponseDto create(Long adminId, BroadcastCreateRequestDto requestDto) {
+        checkAdmin(adminId);
+        NotificationBroadcast broadcast = notificationBroadcastRepository.save(NotificationBroadcast.builder()
+                .title(requestDto.getTitle())
+                .message(requestDto.getMessage())
+                .url(requestDto.getUrl())
+                .createdBy(adminId)
+                .build());
+        log.info("[BROADCAST] 생성: id={}, createdBy={}", broadcast.getId(), adminId);
+        return BroadcastResponseDto.from(broadcast);
+    }
+
+    @Transactional(readOnly = true)
+    public BroadcastResponseDto get(Long adminId, Long broadcastId) {
+        checkAdmin(adminId);
+        return BroadcastResponseDto.from(find(broadcastId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BroadcastResponseDto> getRecent(Long adminId) {
+        checkAdmin(adminId);
+        return notificationBroadcastRepository.findTop20ByOrderByIdDesc().stream()
+                .map(BroadcastResponseDto::from)
+                .toList();
+    }
+
+    /**
+     * 취소 - 전송 중이면 다음 체크포인트에서 멈춤
+     */
+    @Transactional
+    public BroadcastResponseDto cancel(Long adminId, Long broadcastId) {
+        checkAdmin(adminId);
+        NotificationBroadcast broadcast = find(broadcastId);
+        if (!broadcast.isFinished()) {
+            broadcast.cancel();
+            log.info("[BROADCAST] 취소: id={}, lastTokenId={}", broadcastId, broadcast.getLastTokenId());
+        }
+        return BroadcastResponseDto.from(broadcast);
+    }
+
+    // ===== 워커용 =====
+
+    /**
+     * 전송할 브로드캐스트 하나를 점유 (조건부 UPDATE 후 토큰으로 조회)
+     * 체크포인트 없이 최대 시도 횟수를 넘겨 점유된 행은 (워커가 오류 기록 없이 죽은 경우) FAILED 로 끝내고 다음 행을 봄
+     */
+    @Transactional
+    public Optional<NotificationBroadcast> claim() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            String claimToken = UUID.randomUUID().toString();
+            if (notificationBroadcastRepository.claimNext(now, leaseUntil(), claimToken) == 0) {
+                return Optional.empty();
+            }
+            NotificationBroadcast broadcast = notificationBroadcastRepository.findByClaimToken(claimToken).orElseThrow();
+            if (broadcast.getAttempts() <= properties.getMaxAttempts()) {
+                return Optional.of(broadcast);
+            }
+            broadcast.fail(broadcast.getLastError() != null ? broadcast.getLastError() : "최대 시도 횟수 초과");
+            log.error("[BROADCAST] 최대 시도 횟수 초과로 중단: id={}, lastTokenId={}", broadcast.getId(), broadcast.getLastTokenId());
+        }
+    }
+
+    /**
+     * 묶음 하나 전송 결과와 체크포인트 기록, 점유 연장
+     * 점유 토큰이 다르면 기록하지 않음, 읽은 뒤 다른 워커가 가져가거나 취소되면 @Version 충돌로 커밋 실패
+     *
+     * @return 계속 전송해도 되면 true (취소되었거나 다른 워커가 가져갔으면 false)
+     */
+    @Transactional
+    public boolean checkpoint(Long broadcastId, String claimToken, long lastTokenId,
+                              long requested, long success, long failure, long invalid) {
+        NotificationBroadcast broadcast = notificationBroadcastRepository.findById(broadcastId).orElse(null);
+        if (broadcast == null || !broadcast.isClaimedBy(claimToken)) {
+            return false;
+        }
+        broadcast.checkpoint(lastTokenId, requested, success, failure, invalid, leaseUntil());
+        return true;
+    }
+
+    /**
+     * 전송 완료 기록 (점유 토큰이 같을 때만)
+     */
+    @Transactional
+    public void complete(Long broadcastId, String claimToken) {
+        notificationBroadcastRepository.findById(broadcastId)
+                .filter(broadcast -> broadcast.isClaimedBy(claimToken))
+                .ifPresent(NotificationBroadcast::complete);
+    }
+
+    /**
+     * 전송 중 오류 기록 - 상태와 점유는 그대로 두어 점유 만료 후 체크포인트부터 다시 전송
+     * 체크포인트 없이 최대 시도 횟수만큼 실패했으면 FAILED 로 끝냄
+     */
+    @Transactional
+    public void recordError(Long broadcastId, String claimToken, String error) {
+        notificationBroadcastRepository.findById(broadcastId)
+                .filter(broadcast -> broadcast.isClaimedBy(claimToken))
+                .ifPresent(broadcast -> {
+                    if (broadcast.getAttempts() < properties.getMaxAttempts()) {
+                        broadcast.recordError(error);
+                        return;
+                    }
+                    broadcast.fail(error);
+                    log.error("[BROADCAST] 최대 시도 횟수 초과로 중단: id={}, attempts={}, lastTokenId={}, error={}",
+                            broadcastId, broadcast.getAttempts(), broadcast.getLastTokenId(), error);
+                });
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(properties.getLeaseSeconds());
+    }
+
+    private NotificationBroadcast find(Long broadcastId) {
+        return notificationBroadcastRepository.findById(broadcastId)
+                .orElseThrow(() -> new ExpectedException(ErrorCode.BROADCAST_NOT_FOUND));
+    }
+
+    private void checkAdmin(Long userId) {
+        if (userId == null || !properties.getAdminUserIds().contains(userId)) {
+            throw new ExpectedException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.siso.notification.application;
+
+import com.siso.chat.infrastructure.OnlineUserRegistry;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.dto.response.NotificationDeliveryStatsDto;
+import com.siso.notification.dto.response.NotificationFrameDto;
+import com.siso.notification.infrastructure.properties.NotificationDeliveryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 전달 경로 선택 - 접속 중이면 WebSocket, 아니면 FCM
+ * - 접속 중인 수신자에게 /user/queue/notifications 프레임을 보내고 ack 를 기다림
+ * - ack 가 오면 onAck, 대기 시간 안에 오지 않으면 onFallback (FCM 전송) 을 한 번만 실행
+ * - 대기 중에는 전송 스레드를 붙잡지 않음, outbox 행은 점유 상태로 남아 서버가 죽으면 점유 만료 후 재전송
+ */
+@Slf4j
+@Component
+public class NotificationDeliveryRouter {
+    public static final String DESTINATION = "/queue/notifications";
+
+    private final OnlineUserRegistry onlineUserRegistry;
+    private final UserQueueMessenger userQueueMessenger;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationDeliveryProperties properties;
+
+    // deliveryId(outbox id) -> ack 대기
+    private final Map<Long, PendingAck> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+
+    private final LongAdder websocketSent = new LongAdder();
+    private final LongAdder websocketAcked = new LongAdder();
+    private final LongAdder ackTimeouts = new LongAdder();
+    private final LongAdder offline = new LongAdder();
+    private final LongAdder ackMillisSum = new LongAdder();
+
+    public NotificationDeliveryRouter(OnlineUserRegistry onlineUserRegistry,
+                                      UserQueueMessenger userQueueMessenger,
+                                      NotificationOutboxService notificationOutboxService,
+                                      NotificationDeliveryProperties properties) {
+        this.onlineUserRegistry = onlineUserRegistry;
+        this.userQueueMessenger = userQueueMessenger;
+        this.notificationOutboxService = notificationOutboxService;
+        this.properties = properties;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-ack-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 접속 중이면 WebSocket 으로 보내고 true (결과는 onAck / onFallback 으로 전달)
+     * 접속 중이 아니거나 대기 수가 가득 차면 false - 호출 측이 바로 FCM 전송
+     */
+    public boolean tryWebSocket(NotificationOutbox outbox, Runnable onAck, Runnable onFallback) {
+        if (!properties.isWebsocketFirst()
+                || !properties.getWebsocketFirstTypes().contains(outbox.getType())
+                || !onlineUserRegistry.isOnline(String.valueOf(outbox.getReceiverId()))
+                || pending.size() >= properties.getMaxPendingAcks()) {
+            offline.increment();
+            return false;
+        }
+
+        Long deliveryId = outbox.getId();
+        PendingAck ack = new PendingAck(outbox.getReceiverId(), System.currentTimeMillis(), onAck, onFallback);
+        pending.put(deliveryId, ack);
+        try {
+            userQueueMessenger.sendToUser(outbox.getReceiverId(), DESTINATION, new NotificationFrameDto(
+                    deliveryId,
+                    outbox.getNotificationId(),
+                    outbox.getType(),
+                    outbox.getTitle(),
+                    outbox.getMessage(),
+                    outbox.getUrl(),
+                    notificationOutboxService.readExtraData(outbox)));
+            timer.schedule(() -> expire(deliveryId, ack), properties.getAckTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            pending.remove(deliveryId, ack);
+            log.warn("[DELIVERY] WebSocket 전송 실패, FCM 으로 전송: deliveryId={}, error={}", deliveryId, e.getMessage());
+            offline.increment();
+            return false;
+        }
+        websocketSent.increment();
+        return true;
+    }
+
+    /**
+     * 클라이언트 ack - 수신자 본인의 ack 만 인정
+     */
+    public void acknowledge(Long userId, Long deliveryId) {
+        if (deliveryId == null) {
+            return;
+        }
+        PendingAck ack = pending.get(deliveryId);
+        if (ack == null || !ack.receiverId.equals(userId) || !pending.remove(deliveryId, ack)) {
+            return; // 이미 처리됨 (늦은 ack / 중복 ack)
+        }
+        websocketAcked.increment();
+        ackMillisSum.add(System.currentTimeMillis() - ack.sentAt);
+        ack.onAck.run();
+    }
+
+    public NotificationDeliveryStatsDto getStats() {
+        long acked = websocketAcked.sum();
+        return new NotificationDeliveryStatsDto(
+                websocketSent.sum(),
+                acked,
+                ackTimeouts.sum(),
+                offline.sum(),
+                pending.size(),
+                acked == 0 ? 0 : ackMillisSum.sum() / acked
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 대기 중인 행은 점유 만료 후 다른 인스턴스(또는 재시작 후)가 다시 전송
+        timer.shutdownNow();
+    }
+
+    private void expire(Long deliveryId, PendingAck ack) {
+        if (!pending.remove(deliveryId, ack)) {
+            return;
+        }
+        ackTimeouts.increment();
+        log.debug("[DELIVERY] ack 없음, FCM 으로 전송: deliveryId={}, receiverId={}", deliveryId, ack.receiverId);
+        ack.onFallback.run();
+    }
+
+    private record PendingAck(Long receiverId, long sentAt, Runnable onAck, Runnable onFallback) {
+    }
+}
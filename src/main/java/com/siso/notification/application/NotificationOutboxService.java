@@ -0,0 +1,165 @@
+package com.siso.notification.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siso.notification.domain.model.Notification;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.NotificationType;
+import com.siso.notification.domain.model.OutboxStatus;
+import com.siso.notification.domain.repository.NotificationOutboxRepository;
+import com.siso.notification.infrastructure.properties.NotificationOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 푸시 전송 outbox 기록/상태 변경
+ * - enqueue 는 호출 측 트랜잭션에 참여해 알림 행과 함께 커밋
+ * - claim / 결과 기록은 각각 짧은 트랜잭션 (FCM 호출은 트랜잭션 밖에서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final TypeReference<Map<String, String>> EXTRA_DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 저장된 알림의 푸시 전송을 outbox 에 기록
+     */
+    @Transactional
+    public NotificationOutbox enqueue(Notification notification, Map<String, String> extraData) {
+        return enqueue(notification, extraData, null);
+    }
+
+    /**
+     * collapseKey 를 붙여 기록 - 같은 키의 이전 푸시는 기기에서 대체됨
+     */
+    @Transactional
+    public NotificationOutbox enqueue(Notification notification, Map<String, String> extraData, String collapseKey) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .notificationId(notification.getId())
+                .receiverId(notification.getReceiverId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .url(notification.getUrl())
+                .extraData(writeExtraData(extraData))
+                .collapseKey(collapseKey)
+                .build();
+        return notificationOutboxRepository.save(outbox);
+    }
+
+    /**
+     * 해당 레인에서 전송할 차례가 된 행을 최대 limit 개 점유
+     * - 조건부 UPDATE 로 토큰을 찍은 뒤 그 토큰으로 다시 조회 (한 번의 claim 에 토큰 하나)
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(NotificationType type, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusSeconds(properties.getLeaseSeconds());
+        String claimToken = UUID.randomUUID().toString();
+        int claimed = notificationOutboxRepository.claimBatch(type.name(), now, leaseUntil, claimToken, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return notificationOutboxRepository.findByClaimTokenOrderById(claimToken);
+    }
+
+    /**
+     * 전송 완료 기록 - claim 에서 받은 점유 토큰이 그대로일 때만
+     */
+    @Transactional
+    public void markSent(NotificationOutbox claimed) {
+        int updated = notificationOutboxRepository.markSent(claimed.getId(), claimed.getClaimToken(), LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("[OUTBOX] 점유가 만료된 행의 완료 기록 무시: outboxId={}", claimed.getId());
+        }
+    }
+
+    /**
+     * 전송 실패 기록 - 최대 시도 횟수 전이면 지수 백오프로 재시도 예약 (점유 토큰이 그대로일 때만)
+     */
+    @Transactional
+    public void markAttemptFailed(NotificationOutbox claimed, String error) {
+        Long outboxId = claimed.getId();
+        LocalDateTime now = LocalDateTime.now();
+        String lastError = NotificationOutbox.truncateError(error);
+        if (claimed.getAttempts() >= properties.getMaxAttempts()) {
+            if (notificationOutboxRepository.markAttemptFailed(outboxId, claimed.getClaimToken(), OutboxStatus.FAILED,
+                    claimed.getNextAttemptAt(), lastError, now) == 0) {
+                log.warn("[OUTBOX] 점유가 만료된 행의 실패 기록 무시: outboxId={}", outboxId);
+                return;
+            }
+            log.error("[OUTBOX] 푸시 전송 최종 실패: outboxId={}, notificationId={}, attempts={}, error={}",
+                    outboxId, claimed.getNotificationId(), claimed.getAttempts(), error);
+            return;
+        }
+        long delay = Math.min(properties.getRetryMaxSeconds(),
+                properties.getRetryBaseSeconds() << Math.min(claimed.getAttempts() - 1, 20));
+        if (notificationOutboxRepository.markAttemptFailed(outboxId, claimed.getClaimToken(), OutboxStatus.PENDING,
+                now.plusSeconds(delay), lastError, now) == 0) {
+            log.warn("[OUTBOX] 점유가 만료된 행의 실패 기록 무시: outboxId={}", outboxId);
+            return;
+        }
+        log.warn("[OUTBOX] 푸시 전송 재시도 예약: outboxId={}, attempts={}, delay={}s, error={}",
+                outboxId, claimed.getAttempts(), delay, error);
+    }
+
+    /**
+     * 알림 종류별 전송 대기 행 수
+     */
+    @Transactional(readOnly = true)
+    public Map<NotificationType, Long> countPendingByType() {
+        Map<NotificationType, Long> counts = new EnumMap<>(NotificationType.class);
+        for (Object[] row : notificationOutboxRepository.countPendingByType()) {
+            counts.put((NotificationType) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * 보관 기간이 지난 SENT / FAILED 행 삭제
+     */
+    @Transactional
+    public int purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minusDays(properties.getRetentionDays());
+        return notificationOutboxRepository.deleteFinishedBefore(List.of(OutboxStatus.SENT, OutboxStatus.FAILED), before);
+    }
+
+    public Map<String, String> readExtraData(NotificationOutbox outbox) {
+        if (outbox.getExtraData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(outbox.getExtraData(), EXTRA_DATA_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("[OUTBOX] extraData 파싱 실패: outboxId={}", outbox.getId());
+            return null;
+        }
+    }
+
+    private String writeExtraData(Map<String, String> extraData) {
+        if (extraData == null || extraData.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(extraData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid notification extra data", e);
+        }
+    }
+}
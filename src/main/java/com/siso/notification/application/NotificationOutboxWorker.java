@@ -0,0 +1,318 @@
+package com.siso.notification.application;
+
+import com.siso.common.firebase.application.DeliveryProfileCache;
+import com.siso.common.firebase.application.FirebaseService;
+import com.siso.common.firebase.infrastructure.MulticastResultConfig;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.NotificationType;
+import com.siso.notification.dto.response.OutboxLaneStatsDto;
+import com.siso.notification.infrastructure.properties.NotificationOutboxProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * outbox 행을 가져와 FCM 으로 전송하는 워커
+ * - 알림 종류(NotificationType)별 레인마다 전용 스레드 풀과 동시 전송 상한을 둠
+ * - CALL 레인은 항상 먼저 가져가고, CALL 이 밀려 있는 동안 나머지 레인은 가져가지 않음 (엄격한 우선순위)
+ * - 커밋 직후 wakeUp(type) 으로 해당 레인을 즉시 깨우고, 재시도/누락분은 주기 폴링으로 처리
+ * - 수신자가 STOMP 로 접속 중이면 NotificationDeliveryRouter 로 먼저 보내고, ack 가 없을 때만 FCM 전송
+ * - 점유 후 결과를 기록하기 전에 종료되면 점유 시간이 지난 뒤 다시 전송 (최소 한 번 전송)
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationOutboxProperties properties;
+    private final FirebaseService firebaseService;
+    private final DeliveryProfileCache deliveryProfileCache;
+    private final NotificationDeliveryRouter notificationDeliveryRouter;
+
+    private final Map<NotificationType, Lane> lanes = new EnumMap<>(NotificationType.class);
+
+    public NotificationOutboxWorker(NotificationOutboxService notificationOutboxService,
+                                    NotificationOutboxProperties properties,
+                                    FirebaseService firebaseService,
+                                    DeliveryProfileCache deliveryProfileCache,
+                                    NotificationDeliveryRouter notificationDeliveryRouter) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.properties = properties;
+        this.firebaseService = firebaseService;
+        this.deliveryProfileCache = deliveryProfileCache;
+        this.notificationDeliveryRouter = notificationDeliveryRouter;
+        for (NotificationType type : NotificationType.values()) {
+            lanes.put(type, new Lane(type, properties.lane(type)));
+        }
+    }
+
+    /**
+     * 새 outbox 행이 커밋되었을 때 호출 (호출 스레드는 기다리지 않음)
+     */
+    public void wakeUp(NotificationType type) {
+        lanes.get(type).wakeUp();
+    }
+
+    public void wakeUp() {
+        lanes.values().forEach(Lane::wakeUp);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval-millis:1000}")
+    public void poll() {
+        lanes.get(NotificationType.CALL).drain();
+        lanes.values().stream()
+                .filter(lane -> lane.type != NotificationType.CALL)
+                .forEach(Lane::drain);
+    }
+
+    /**
+     * 하루 한 번 처리가 끝난 outbox 행 정리
+     */
+    @Scheduled(cron = "0 20 3 * * *")
+    public void purge() {
+        int deleted = notificationOutboxService.purgeFinished();
+        if (deleted > 0) {
+            log.info("[OUTBOX] 처리 완료 행 삭제: {}", deleted);
+        }
+    }
+
+    /**
+     * 레인별 큐 깊이 / 지연 시간
+     */
+    public List<OutboxLaneStatsDto> getLaneStats() {
+        Map<NotificationType, Long> pending = notificationOutboxService.countPendingByType();
+        return lanes.values().stream()
+                .map(lane -> lane.toStats(pending.getOrDefault(lane.type, 0L)))
+                .toList();
+    }
+
+    private void deliver(Lane lane, NotificationOutbox outbox) {
+        Long receiverId = outbox.getReceiverId();
+        try {
+            DeliveryProfileCache.DeliveryProfile profile = deliveryProfileCache.get(receiverId);
+            if (!profile.subscribed()) {
+                log.info("User {} has disabled notifications, skipping FCM send", receiverId);
+                notificationOutboxService.markSent(outbox);
+                lane.recordSent(outbox);
+                return;
+            }
+
+            // 접속 중이면 WebSocket 으로 보내고 결과는 ack / 대기 시간 초과 콜백에서 처리
+            boolean routed = notificationDeliveryRouter.tryWebSocket(outbox,
+                    () -> executeOn(lane, () -> {
+                        notificationOutboxService.markSent(outbox);
+                        lane.recordSent(outbox);
+                    }),
+                    () -> executeOn(lane, () -> deliverPush(lane, outbox, deliveryProfileCache.get(receiverId).tokens())));
+            if (!routed) {
+                deliverPush(lane, outbox, profile.tokens());
+            }
+        } catch (Exception e) {
+            log.error("Failed to send notification to user: {}", receiverId, e);
+            notificationOutboxService.markAttemptFailed(outbox, e.getMessage());
+            lane.failedAttempts.increment();
+        }
+    }
+
+    private void deliverPush(Lane lane, NotificationOutbox outbox, List<String> tokens) {
+        Long receiverId = outbox.getReceiverId();
+        try {
+            if (tokens.isEmpty()) {
+                log.warn("No active FCM tokens found for user: {}", receiverId);
+                notificationOutboxService.markSent(outbox);
+                lane.recordSent(outbox);
+                return;
+            }
+
+            MulticastResultConfig.SendMulticastResult result = firebaseService.sendNotification(
+                    tokens,
+                    outbox.getTitle(),
+                    outbox.getMessage(),
+                    outbox.getType().name(),
+                    String.valueOf(outbox.getNotificationId()),
+                    outbox.getUrl(),
+                    notificationOutboxService.readExtraData(outbox),
+                    outbox.getCollapseKey()
+            );
+
+            // 무효 토큰 외의 이유로 한 건도 전달되지 않았으면 (FCM 장애 등) 재시도
+            int retryableFailures = result.getFailureCount() - result.getInvalidTokens().size();
+            if (result.getSuccessCount() == 0 && retryableFailures > 0) {
+                notificationOutboxService.markAttemptFailed(outbox,
+                        "FCM delivery failed for all tokens: " + result.getTokenErrors().values().stream().findFirst().orElse(""));
+                lane.failedAttempts.increment();
+                return;
+            }
+
+            notificationOutboxService.markSent(outbox);
+            lane.recordSent(outbox);
+            log.info("Notification sent successfully to user: {} with {} tokens", receiverId, tokens.size());
+        } catch (Exception e) {
+            log.error("Failed to send notification to user: {}", receiverId, e);
+            notificationOutboxService.markAttemptFailed(outbox, e.getMessage());
+            lane.failedAttempts.increment();
+        }
+    }
+
+    /**
+     * ack / 폴백 콜백을 레인 전송 스레드에서 실행 (STOMP 인바운드 스레드, 타이머 스레드를 붙잡지 않도록)
+     * 종료 중이면 버림 - 점유 시간이 지나면 다시 전송됨
+     */
+    private void executeOn(Lane lane, Runnable task) {
+        try {
+            lane.senders.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[OUTBOX] {} 전송 결과 처리 실패: {}", lane.type, e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("[OUTBOX] {} 종료 중 - 점유 만료 후 재전송", lane.type);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes.values()) {
+            lane.dispatcher.shutdownNow();
+            lane.senders.shutdown();
+        }
+        for (Lane lane : lanes.values()) {
+            if (!lane.senders.awaitTermination(10, TimeUnit.SECONDS)) {
+                lane.senders.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * CALL 레인이 가져갈 행을 다 가져가지 못했으면 (DB 에 더 남아 있으면) true
+     */
+    private boolean callBacklogged() {
+        return lanes.get(NotificationType.CALL).backlogged;
+    }
+
+    /**
+     * 알림 종류 하나의 전송 레인 (전용 디스패처 + 전송 스레드 풀 + 동시 전송 상한)
+     */
+    private class Lane {
+        private final NotificationType type;
+        private final NotificationOutboxProperties.Lane config;
+        private final ExecutorService dispatcher;
+        private final ExecutorService senders;
+        private final Semaphore inFlight;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean backlogged;
+
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failedAttempts = new LongAdder();
+        private final LongAdder latencySum = new LongAdder();
+        private final AtomicLong maxLatency = new AtomicLong();
+        private volatile long lastLatency;
+
+        Lane(NotificationType type, NotificationOutboxProperties.Lane config) {
+            String name = type.name().toLowerCase();
+            this.type = type;
+            this.config = config;
+            // 깨우기 요청이 몰려도 대기 중인 것 하나만 남김
+            this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(1), namedThreads("outbox-" + name + "-dispatch"), new ThreadPoolExecutor.DiscardPolicy());
+            this.senders = Executors.newFixedThreadPool(config.getWorkerThreads(), namedThreads("outbox-" + name + "-send"));
+            this.inFlight = new Semaphore(config.getMaxInFlight());
+        }
+
+        void wakeUp() {
+            dispatcher.execute(this::drain);
+        }
+
+        void drain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                while (true) {
+                    if (type != NotificationType.CALL && callBacklogged()) {
+                        return; // CALL 이 밀려 있으면 양보, CALL 이 비면 다음 폴링에서 이어서
+                    }
+                    int capacity = Math.min(properties.getBatchSize(), inFlight.availablePermits());
+                    if (capacity <= 0) {
+                        backlogged = true;
+                        return; // 전송이 끝나 자리가 나면 다음 폴링에서 이어서
+                    }
+                    List<NotificationOutbox> claimed = notificationOutboxService.claim(type, capacity);
+                    for (NotificationOutbox outbox : claimed) {
+                        inFlight.acquireUninterruptibly();
+                        try {
+                            senders.execute(() -> {
+                                try {
+                                    deliver(this, outbox);
+                                } finally {
+                                    inFlight.release();
+                                }
+                            });
+                        } catch (RejectedExecutionException e) {
+                            inFlight.release(); // 종료 중 - 점유 시간이 지나면 다시 전송됨
+                            return;
+                        }
+                    }
+                    if (claimed.size() < capacity) {
+                        backlogged = false;
+                        return;
+                    }
+                }
+            } catch (Exception e) {
+                log.error("[OUTBOX] {} outbox 조회 실패: {}", type, e.getMessage(), e);
+            } finally {
+                draining.set(false);
+            }
+        }
+
+        void recordSent(NotificationOutbox outbox) {
+            sent.increment();
+            if (outbox.getCreatedAt() == null) {
+                return;
+            }
+            long latency = Math.max(0, Duration.between(outbox.getCreatedAt(), LocalDateTime.now()).toMillis());
+            latencySum.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+            lastLatency = latency;
+        }
+
+        OutboxLaneStatsDto toStats(long pending) {
+            long sentCount = sent.sum();
+            return new OutboxLaneStatsDto(
+                    type,
+                    config.getWorkerThreads(),
+                    config.getMaxInFlight(),
+                    config.getMaxInFlight() - inFlight.availablePermits(),
+                    pending,
+                    sentCount,
+                    failedAttempts.sum(),
+                    sentCount == 0 ? 0 : latencySum.sum() / sentCount,
+                    maxLatency.get(),
+                    lastLatency
+            );
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
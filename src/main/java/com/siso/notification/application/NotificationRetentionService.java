@@ -0,0 +1,137 @@
+package com.siso.notification.application;
+
+import com.siso.notification.domain.repository.NotificationRepository;
+import com.siso.notification.dto.response.NotificationRetentionStatsDto;
+import com.siso.notification.infrastructure.UnreadCountCache;
+import com.siso.notification.infrastructure.properties.NotificationRetentionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 보관 기간이 지난 알림 정리 작업
+ * - 읽은 알림은 readDays, 읽지 않은 알림은 unreadDays 가 지나면 삭제
+ * - PK id 범위 단위 DELETE 를 범위마다 별도 트랜잭션으로 실행하고 범위 사이에 쉬어 잠금 / 복제 지연을 작게 유지
+ * - 삭제 범위의 상한은 기준 시각 이후 첫 알림 id (created_at 인덱스로 조회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+    private final NotificationRepository notificationRepository;
+    private final NotificationRetentionProperties properties;
+    private final UnreadCountCache unreadCountCache;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final LongAdder totalDeletedRead = new LongAdder();
+    private final LongAdder totalDeletedUnread = new LongAdder();
+    private final LongAdder totalRuns = new LongAdder();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile LocalDateTime lastFinishedAt;
+    private volatile long lastRunDeletedRead;
+    private volatile long lastRunDeletedUnread;
+    private volatile long lastRunChunks;
+    private volatile long lastRunMillis;
+    // 다음 실행을 이어서 시작할 id (지난 실행이 maxChunksPerRun 에서 멈춘 경우)
+    private volatile long resumeFromId;
+
+    /**
+     * 매일 새벽 3시 50분 실행 (app.notification.retention.cron 으로 변경 가능)
+     */
+    @Scheduled(cron = "${app.notification.retention.cron:0 50 3 * * *}")
+    public void purgeExpired() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        lastStartedAt = LocalDateTime.now();
+        long deletedRead = 0;
+        long deletedUnread = 0;
+        long chunks = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime readCutoff = now.minusDays(properties.getReadDays());
+            LocalDateTime unreadCutoff = now.minusDays(properties.getUnreadDays());
+            LocalDateTime latestCutoff = readCutoff.isAfter(unreadCutoff) ? readCutoff : unreadCutoff;
+
+            Long minId = notificationRepository.findMinId();
+            if (minId == null) {
+                return;
+            }
+            long fromId = Math.max(minId, resumeFromId);
+            long toIdExclusive = upperBound(latestCutoff);
+            log.info("[RETENTION] 알림 정리 시작: ids=[{}, {}), readCutoff={}, unreadCutoff={}",
+                    fromId, toIdExclusive, readCutoff, unreadCutoff);
+
+            while (fromId < toIdExclusive && chunks < properties.getMaxChunksPerRun()) {
+                long toId = Math.min(fromId + properties.getChunkIdRange(), toIdExclusive);
+                int removedRead = notificationRepository.deleteCreatedBeforeInRange(fromId, toId, true, readCutoff);
+                int removedUnread = notificationRepository.deleteCreatedBeforeInRange(fromId, toId, false, unreadCutoff);
+                deletedRead += removedRead;
+                deletedUnread += removedUnread;
+                totalDeletedRead.add(removedRead);
+                totalDeletedUnread.add(removedUnread);
+                chunks++;
+                fromId = toId;
+                if (removedRead + removedUnread > 0 && properties.getPauseMillis() > 0) {
+                    TimeUnit.MILLISECONDS.sleep(properties.getPauseMillis());
+                }
+            }
+            // 다 못 했으면 다음 실행에서 이어서, 끝까지 했으면 처음부터 (읽음 처리로 새로 대상이 된 행)
+            resumeFromId = fromId < toIdExclusive ? fromId : 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[RETENTION] 알림 정리 실패: {}", e.getMessage(), e);
+        } finally {
+            // 읽지 않은 알림이 지워졌으면 캐시된 안 읽은 수를 다시 세도록 함
+            if (deletedUnread > 0) {
+                unreadCountCache.invalidateAll();
+            }
+            lastRunDeletedRead = deletedRead;
+            lastRunDeletedUnread = deletedUnread;
+            lastRunChunks = chunks;
+            lastRunMillis = System.currentTimeMillis() - startedAt;
+            lastFinishedAt = LocalDateTime.now();
+            totalRuns.increment();
+            running.set(false);
+            log.info("[RETENTION] 알림 정리 완료: read={}, unread={}, chunks={}, elapsed={}ms",
+                    deletedRead, deletedUnread, chunks, lastRunMillis);
+        }
+    }
+
+    public NotificationRetentionStatsDto getStats() {
+        return new NotificationRetentionStatsDto(
+                running.get(),
+                lastStartedAt,
+                lastFinishedAt,
+                lastRunDeletedRead,
+                lastRunDeletedUnread,
+                lastRunChunks,
+                lastRunMillis,
+                totalDeletedRead.sum(),
+                totalDeletedUnread.sum(),
+                totalRuns.sum()
+        );
+    }
+
+    /**
+     * 기준 시각 이후 생성된 첫 알림 id (없으면 최대 id + 1) - 그 이전 id 만 정리 대상
+     */
+    private long upperBound(LocalDateTime cutoff) {
+        List<Long> first = notificationRepository.findFirstIdCreatedSince(cutoff, PageRequest.of(0, 1));
+        if (!first.isEmpty()) {
+            return first.get(0);
+        }
+        Long maxId = notificationRepository.findMaxId();
+        return maxId == null ? 0 : maxId + 1;
+    }
+}
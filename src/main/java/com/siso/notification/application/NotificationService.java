@@ -1,19 +1,22 @@
 package com.siso.notification.application;
 
-import com.siso.common.firebase.application.FirebaseService;
-import com.siso.common.firebase.application.FcmTokenService;
+import com.siso.common.partition.PartitionMaintenanceService;
+import com.siso.common.util.TransactionUtil;
 import com.siso.notification.domain.model.Notification;
 import com.siso.notification.domain.model.NotificationType;
 import com.siso.notification.domain.repository.NotificationRepository;
 import com.siso.notification.dto.response.NotificationResponseDto;
 import com.siso.notification.dto.response.UnreadCountResponseDto;
-import com.siso.user.domain.model.User;
-import com.siso.user.domain.repository.UserRepository;
+import com.siso.notification.infrastructure.UnreadCountCache;
+import com.siso.notification.infrastructure.properties.NotificationStreamProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,14 +25,20 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     private final NotificationRepository notificationRepository;
-    private final FirebaseService firebaseService;
-    private final FcmTokenService fcmTokenService;
-    private final UserRepository userRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationOutboxWorker notificationOutboxWorker;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationStreamProperties notificationStreamProperties;
 
     /**
-     * 알림을 생성하고 FCM을 통해 푸시 알림을 전송합니다.
+     * 알림을 저장하고 푸시 전송을 outbox 에 기록합니다.
+     * 호출 측 트랜잭션에 참여하며, FCM 전송은 커밋 후 NotificationOutboxWorker 가 비동기로 수행합니다.
      */
     @Transactional
     public Notification createAndSendNotification(Long receiverId,
@@ -40,63 +49,102 @@ public class NotificationService {
                                                   String url,
                                                   NotificationType type,
                                                   Map<String, String> extraData) {
-        try {
-            // 1. 데이터베이스에 알림 저장
-            Notification notification = Notification.builder()
-                    .receiverId(receiverId)
-                    .senderId(senderId)
-                    .senderNickname(senderNickname)
-                    .title(title)
-                    .message(message)
-                    .url(url)
-                    .type(type)
-                    .isRead(false)
-                    .build();
-
-            notification = notificationRepository.save(notification);
-            log.info("Notification saved to database with ID: {}", notification.getId());
-
-            // 2. 사용자의 알림 구독 상태 확인
-            User receiver = userRepository.findById(receiverId)
-                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + receiverId));
-
-            if (!receiver.isNotificationSubscribed()) {
-                log.info("User {} has disabled notifications, skipping FCM send", receiverId);
-                return notification;
-            }
+        return createAndSendNotification(receiverId, senderId, senderNickname, title, message, url, type, extraData, null);
+    }
 
-            // 3. FCM 토큰 조회
-            List<String> tokens = fcmTokenService.getActiveTokensByUserId(receiverId);
-            if (tokens.isEmpty()) {
-                log.warn("No active FCM tokens found for user: {}", receiverId);
-                return notification;
-            }
+    /**
+     * collapseKey 를 붙여 알림 저장 및 푸시 기록 - 같은 키의 이전 푸시는 기기에서 대체됩니다.
+     */
+    @Transactional
+    public Notification createAndSendNotification(Long receiverId,
+                                                  Long senderId,
+                                                  String senderNickname,
+                                                  String title,
+                                                  String message,
+                                                  String url,
+                                                  NotificationType type,
+                                                  Map<String, String> extraData,
+                                                  String collapseKey) {
+        // 1. 데이터베이스에 알림 저장
+        Notification notification = Notification.builder()
+                .receiverId(receiverId)
+                .senderId(senderId)
+                .senderNickname(senderNickname)
+                .title(title)
+                .message(message)
+                .url(url)
+                .type(type)
+                .isRead(false)
+                .build();
 
-            // 4. FCM 푸시 알림 전송 (통화/메시지/매칭 모두 동일 메소드 사용)
-            firebaseService.sendNotification(
-                    tokens,
-                    title,
-                    message,
-                    type.name(),
-                    String.valueOf(notification.getId()),
-                    url,
-                    extraData
-            );
-
-            log.info("Notification sent successfully to user: {} with {} tokens", receiverId, tokens.size());
-            return notification;
-
-        } catch (Exception e) {
-            log.error("Failed to send notification to user: {}", receiverId, e);
-            throw e;
+        notification = notificationRepository.save(notification);
+        log.info("Notification saved to database with ID: {}", notification.getId());
+
+        // 2. 같은 트랜잭션에 푸시 전송 기록, 커밋되면 워커를 깨움
+        notificationOutboxService.enqueue(notification, extraData, collapseKey);
+        NotificationType lane = notification.getType();
+        NotificationResponseDto created = NotificationResponseDto.fromEntity(notification);
+        TransactionUtil.afterCommit(() -> {
+            unreadCountCache.increment(receiverId);
+            notificationOutboxWorker.wakeUp(lane);
+            notificationStreamService.publishNotification(receiverId, created);
+            publishUnreadCount(receiverId);
+        });
+        return notification;
+    }
+
+    /**
+     * 묶음 구간 동안 쌓인 채팅 메시지를 기존 알림 행 하나로 합치고, 같은 collapseKey 로 다시 푸시합니다.
+     * 기존 알림이 없으면 (삭제/파티션 정리 등) 새로 만듭니다.
+     */
+    @Transactional
+    public Notification updateMessageNotification(Long notificationId, Long receiverId, Long senderId, String senderNickname,
+                                                  Long chatRoomId, int messageCount, String lastContent) {
+        String title = senderNickname + "님의 메시지";
+        String message = "새 메시지 " + messageCount + "개: " + preview(lastContent);
+        Map<String, String> extraData = Map.of(
+                "senderId", String.valueOf(senderId),
+                "chatRoomId", String.valueOf(chatRoomId),
+                "messageCount", String.valueOf(messageCount)
+        );
+
+        Notification notification = notificationId == null ? null : notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            return createAndSendNotification(receiverId, senderId, senderNickname, title, message, "/chat/" + senderId,
+                    NotificationType.MESSAGE, extraData, messageCollapseKey(chatRoomId));
         }
+
+        boolean wasRead = notification.isRead();
+        notification.setSenderId(senderId);
+        notification.setSenderNickname(senderNickname);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notification.setRead(false);
+
+        notificationOutboxService.enqueue(notification, extraData, messageCollapseKey(chatRoomId));
+        NotificationResponseDto updated = NotificationResponseDto.fromEntity(notification);
+        TransactionUtil.afterCommit(() -> {
+            if (wasRead) {
+                unreadCountCache.increment(receiverId);
+            }
+            notificationOutboxWorker.wakeUp(NotificationType.MESSAGE);
+            notificationStreamService.publishNotification(receiverId, updated);
+            if (wasRead) {
+                publishUnreadCount(receiverId);
+            }
+        });
+        log.info("Message notification {} aggregated: chatRoomId={}, count={}", notificationId, chatRoomId, messageCount);
+        return notification;
     }
 
     // ========================= 조회/읽음 처리 =========================
 
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getNotificationsByUserId(Long userId) {
-        List<Notification> notifications = notificationRepository.findByReceiverIdOrderByCreatedAtDesc(userId);
+        LocalDateTime since = partitionMaintenanceService.retainedSince(PartitionMaintenanceService.NOTIFICATIONS);
+        List<Notification> notifications = since == null
+                ? notificationRepository.findByReceiverIdOrderByCreatedAtDesc(userId)
+                : notificationRepository.findByReceiverIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(userId, since);
         return notifications.stream()
                 .map(NotificationResponseDto::fromEntity)
                 .collect(Collectors.toList());
@@ -104,15 +152,42 @@ public class NotificationService {
 
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getUnreadNotificationsByUserId(Long userId) {
-        List<Notification> notifications = notificationRepository.findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(userId);
+        LocalDateTime since = partitionMaintenanceService.retainedSince(PartitionMaintenanceService.NOTIFICATIONS);
+        List<Notification> notifications = since == null
+                ? notificationRepository.findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(userId)
+                : notificationRepository.findByReceiverIdAndIsReadFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(userId, since);
         return notifications.stream()
                 .map(NotificationResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 알림 한 페이지 조회 (최신순) - beforeId 가 없으면 가장 최근 페이지, 있으면 그 id 이전
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationResponseDto> getNotificationsByUserId(Long userId, Long beforeId, int size) {
+        return notificationRepository.findPageByReceiverId(userId, cursor(beforeId), retainedSince(), pageRequest(size))
+                .stream()
+                .map(NotificationResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 읽지 않은 알림 한 페이지 조회 (최신순)
+     */
     @Transactional(readOnly = true)
+    public List<NotificationResponseDto> getUnreadNotificationsByUserId(Long userId, Long beforeId, int size) {
+        return notificationRepository.findUnreadPageByReceiverId(userId, cursor(beforeId), retainedSince(), pageRequest(size))
+                .stream()
+                .map(NotificationResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 안 읽은 알림 개수 - 캐시에 있으면 DB 를 조회하지 않음
+     */
     public UnreadCountResponseDto getUnreadCount(Long userId) {
-        long count = notificationRepository.countUnreadByReceiverId(userId);
+        long count = unreadCountCache.get(userId, () -> countUnread(userId));
         return UnreadCountResponseDto.builder()
                 .unreadCount(count)
                 .build();
@@ -122,17 +197,80 @@ public class NotificationService {
     public void markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("Notification not found with id: " + notificationId));
+        boolean wasUnread = !notification.isRead();
         notification.setRead(true);
         notificationRepository.save(notification);
+        if (wasUnread) {
+            Long receiverId = notification.getReceiverId();
+            TransactionUtil.afterCommit(() -> {
+                unreadCountCache.decrement(receiverId);
+                publishUnreadCount(receiverId);
+            });
+        }
         log.info("Notification marked as read: {}", notificationId);
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadByReceiverId(userId);
+        LocalDateTime since = partitionMaintenanceService.retainedSince(PartitionMaintenanceService.NOTIFICATIONS);
+        if (since == null) {
+            notificationRepository.markAllAsReadByReceiverId(userId);
+        } else {
+            notificationRepository.markAllAsReadByReceiverIdSince(userId, since);
+        }
+        TransactionUtil.afterCommit(() -> {
+            unreadCountCache.reset(userId);
+            publishUnreadCount(userId);
+        });
         log.info("All notifications marked as read for user: {}", userId);
     }
 
+    /**
+     * 알림 SSE 스트림 연결
+     * lastEventId 가 있으면 그 이후 알림을 먼저 다시 보내고, 현재 안 읽은 수를 보냄
+     * (등록 후 재전송하므로 그 사이 생성된 알림은 두 번 갈 수 있음 - 클라이언트는 id 로 중복 제거)
+     */
+    public SseEmitter openStream(Long userId, Long lastEventId) {
+        SseEmitter emitter = notificationStreamService.connect(userId);
+        if (lastEventId != null && notificationStreamProperties.getReplayLimit() > 0) {
+            List<Notification> missed = notificationRepository.findAfterByReceiverId(userId, lastEventId, retainedSince(),
+                    PageRequest.of(0, notificationStreamProperties.getReplayLimit()));
+            for (Notification notification : missed) {
+                if (!notificationStreamService.sendNotification(emitter, NotificationResponseDto.fromEntity(notification))) {
+                    return emitter;
+                }
+            }
+        }
+        notificationStreamService.sendUnreadCount(emitter, getUnreadCount(userId).getUnreadCount());
+        return emitter;
+    }
+
+    private void publishUnreadCount(Long userId) {
+        if (notificationStreamService.isConnected(userId)) {
+            notificationStreamService.publishUnreadCount(userId, getUnreadCount(userId).getUnreadCount());
+        }
+    }
+
+    private long countUnread(Long userId) {
+        LocalDateTime since = partitionMaintenanceService.retainedSince(PartitionMaintenanceService.NOTIFICATIONS);
+        return since == null
+                ? notificationRepository.countUnreadByReceiverId(userId)
+                : notificationRepository.countUnreadByReceiverIdSince(userId, since);
+    }
+
+    private LocalDateTime retainedSince() {
+        LocalDateTime since = partitionMaintenanceService.retainedSince(PartitionMaintenanceService.NOTIFICATIONS);
+        return since != null ? since : BEGINNING;
+    }
+
+    private static Long cursor(Long beforeId) {
+        return beforeId != null ? beforeId : Long.MAX_VALUE;
+    }
+
+    private static PageRequest pageRequest(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
     // ========================= 알림 전송 편의 메소드 =========================
 
     public Notification sendMatchingNotification(Long receiverId, Long senderId, String senderNickname) {
@@ -145,20 +283,38 @@ public class NotificationService {
     }
 
     public Notification sendMessageNotification(Long receiverId, Long senderId, String senderNickname, String messageContent) {
+        return sendMessageNotification(receiverId, senderId, senderNickname, null, messageContent);
+    }
+
+    /**
+     * 채팅 메시지 알림 - chatRoomId 를 주면 채팅방 단위 collapseKey 를 붙여 이후 묶음 알림이 이 알림을 대체
+     */
+    public Notification sendMessageNotification(Long receiverId, Long senderId, String senderNickname,
+                                                Long chatRoomId, String messageContent) {
         String title = senderNickname + "님의 메시지";
-        String message = messageContent.length() > 50 ? messageContent.substring(0, 50) + "..." : messageContent;
+        String message = preview(messageContent);
         String url = "/chat/" + senderId;
 
         Map<String, String> extraData = Map.of(
                 "senderId", String.valueOf(senderId),
-                "chatRoomId", String.valueOf(senderId) // 1:1 채팅에서는 senderId를 채팅방 ID로 사용
+                // 채팅방을 모르는 호출(구 API)은 1:1 채팅에서 senderId를 채팅방 ID로 사용
+                "chatRoomId", String.valueOf(chatRoomId != null ? chatRoomId : senderId)
         );
 
         return createAndSendNotification(receiverId, senderId, senderNickname, title, message, url,
-                NotificationType.MESSAGE, extraData);
+                NotificationType.MESSAGE, extraData, chatRoomId == null ? null : messageCollapseKey(chatRoomId));
+    }
+
+    private static String preview(String messageContent) {
+        return messageContent.length() > 50 ? messageContent.substring(0, 50) + "..." : messageContent;
+    }
+
+    private static String messageCollapseKey(Long chatRoomId) {
+        return "chat-" + chatRoomId;
     }
 
 
+    @Transactional
     public Notification sendCallNotification(Long receiverId, Long senderId, String senderNickname,
                                              Long callId, String channelName, String agoraToken, String callerImage) {
         String title = "통화 요청";
@@ -184,6 +340,7 @@ public class NotificationService {
     /**
      * 수신자에게 발신자가 통화를 취소했음을 알림
      */
+    @Transactional
     public Notification sendCallCanceledNotification(Long receiverId, Long callerId, Long callId) {
         String title = "통화 취소";
         String message = "상대방이 통화를 취소했습니다.";
@@ -211,6 +368,7 @@ public class NotificationService {
     /**
      * 발신자에게 수신자가 통화를 수락했음을 알림
      */
+    @Transactional
     public Notification sendCallAcceptedNotification(Long receiverId, Long callId,
                                                      String channelName, String agoraToken) {
         String title = "통화 수락";
@@ -233,6 +391,7 @@ public class NotificationService {
     /**
      * 발신자에게 수신자가 통화를 거절했음을 알림
      */
+    @Transactional
     public Notification sendCallDeniedNotification(Long receiverId, Long callId) {
         String title = "통화 거절";
         String message = "상대방이 통화를 거절했습니다.";
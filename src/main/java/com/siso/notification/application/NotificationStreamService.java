@@ -0,0 +1,229 @@
+package com.siso.notification.application;
+
+import com.siso.notification.dto.response.NotificationResponseDto;
+import com.siso.notification.dto.response.UnreadCountResponseDto;
+import com.siso.notification.infrastructure.properties.NotificationStreamProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 알림 SSE 연결 관리
+ * - notification 이벤트는 알림 id 를 이벤트 id 로 보내 재연결 시 Last-Event-ID 로 이어받을 수 있게 함
+ * - unread-count 이벤트는 id 없이 보냄 (마지막 이벤트 id 를 바꾸지 않음)
+ * - 전송은 별도 스레드에서 수행하고, 실패한 연결은 즉시 제거
+ * - 전송 대기열은 크기 제한, 밀린 전송이 많은 연결은 닫아 재연결(Last-Event-ID 재전송)로 따라오게 함
+ * - 하트비트는 이미 밀린 전송이 있는 연결에는 보내지 않음 (그 전송이 연결 확인을 겸함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService {
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final NotificationStreamProperties properties;
+
+    // userId -> 연결 목록 (연결 순서)
+    private final Map<Long, CopyOnWriteArrayList<Connection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        sender = new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getSendQueueCapacity()), runnable -> {
+            Thread thread = new Thread(runnable, "notification-sse-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(connection -> connection.emitter.complete()));
+        emitters.clear();
+    }
+
+    /**
+     * 새 연결 등록 - 사용자당 최대 연결 수를 넘으면 가장 오래된 연결을 닫음
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMillis());
+        Connection connection = new Connection(emitter);
+        CopyOnWriteArrayList<Connection> list = emitters.compute(userId, (id, current) -> {
+            CopyOnWriteArrayList<Connection> connections = current != null ? current : new CopyOnWriteArrayList<>();
+            connections.add(connection);
+            return connections;
+        });
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(() -> remove(userId, connection));
+        emitter.onError(e -> remove(userId, connection));
+
+        while (list.size() > properties.getMaxConnectionsPerUser()) {
+            close(userId, list.get(0));
+        }
+        log.debug("[SSE] 연결: userId={}, connections={}", userId, list.size());
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        List<Connection> list = emitters.get(userId);
+        return list != null && !list.isEmpty();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 연결 직후 한 연결에만 보내는 이벤트 (재전송 / 현재 안 읽은 수) - 요청 스레드에서 바로 전송
+     */
+    public boolean sendNotification(SseEmitter emitter, NotificationResponseDto notification) {
+        return send(emitter, notificationEvent(notification));
+    }
+
+    public boolean sendUnreadCount(SseEmitter emitter, long unreadCount) {
+        return send(emitter, unreadCountEvent(unreadCount));
+    }
+
+    /**
+     * 사용자의 모든 연결에 새 알림 전송
+     */
+    public void publishNotification(Long userId, NotificationResponseDto notification) {
+        publish(userId, notificationEvent(notification));
+    }
+
+    /**
+     * 사용자의 모든 연결에 안 읽은 수 전송
+     */
+    public void publishUnreadCount(Long userId, long unreadCount) {
+        publish(userId, unreadCountEvent(unreadCount));
+    }
+
+    /**
+     * 유휴 연결이 프록시에서 끊기지 않도록 주석 이벤트 전송, 끊긴 연결은 이때 정리됨
+     */
+    @Scheduled(fixedDelayString = "${app.notification.stream.heartbeat-millis:15000}")
+    public void heartbeat() {
+        emitters.forEach((userId, list) -> list.forEach(connection -> {
+            if (connection.pending.get() == 0) {
+                enqueue(userId, connection, SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    private void publish(Long userId, SseEmitter.SseEventBuilder event) {
+        List<Connection> list = emitters.get(userId);
+        if (list == null || list.isEmpty()) {
+            return;
+        }
+        for (Connection connection : list) {
+            enqueue(userId, connection, event);
+        }
+    }
+
+    /**
+     * 전송 스레드에 넘김 - 밀린 전송이 상한을 넘거나 대기열이 가득 차면 연결을 닫음
+     */
+    private void enqueue(Long userId, Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.pending.incrementAndGet() > properties.getMaxPendingPerConnection()) {
+            connection.pending.decrementAndGet();
+            log.warn("[SSE] 전송이 밀린 연결 닫음: userId={}", userId);
+            close(userId, connection);
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    if (connection.closing || !send(connection.emitter, event)) {
+                        remove(userId, connection);
+                    }
+                } finally {
+                    if (connection.pending.decrementAndGet() == 0 && connection.closing) {
+                        connection.emitter.complete();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            connection.pending.decrementAndGet();
+            if (!sender.isShutdown()) {
+                log.warn("[SSE] 전송 대기열 가득 참 - 연결 닫음: userId={}", userId);
+                close(userId, connection);
+            }
+        }
+    }
+
+    /**
+     * 연결 제거 후 닫음 - 전송 중인 작업이 있으면 (쓰기 중 complete 가 막히지 않도록) 마지막 작업이 닫음
+     */
+    private void close(Long userId, Connection connection) {
+        remove(userId, connection);
+        connection.closing = true;
+        if (connection.pending.get() == 0) {
+            connection.emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 연결
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder notificationEvent(NotificationResponseDto notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(NOTIFICATION_EVENT)
+                .reconnectTime(properties.getReconnectMillis())
+                .data(notification, MediaType.APPLICATION_JSON);
+    }
+
+    private SseEmitter.SseEventBuilder unreadCountEvent(long unreadCount) {
+        return SseEmitter.event()
+                .name(UNREAD_COUNT_EVENT)
+                .data(UnreadCountResponseDto.builder().unreadCount(unreadCount).build(), MediaType.APPLICATION_JSON);
+    }
+
+    private void remove(Long userId, Connection connection) {
+        emitters.computeIfPresent(userId, (id, current) -> {
+            if (current.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * 연결 하나 (pending = 대기열에 있거나 전송 중인 작업 수)
+     */
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean closing;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.siso.notification.domain.model;
+
+public enum BroadcastStatus {
+    PENDING("전송 대기"),
+    RUNNING("전송 중"),
+    COMPLETED("전송 완료"),
+    CANCELED("전송 취소"),
+    FAILED("전송 실패");
+
+    private final String description;
+
+    BroadcastStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -8,7 +8,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_receiver_id", columnList = "receiver_id, id"),
+        @Index(name = "idx_notifications_receiver_unread", columnList = "receiver_id, is_read, id"),
+        @Index(name = "idx_notifications_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,135 @@
+package com.siso.notification.domain.model;
+
+import com.siso.common.domain.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 사용자 공지 푸시 (브로드캐스트)
+ * 활성 FCM 토큰을 id 순으로 나눠 보내며, 보낸 마지막 토큰 id 를 체크포인트로 기록해 중단되면 그 다음부터 이어서 전송
+ * 점유할 때마다 claimToken 을 새로 발급하고 체크포인트 / 완료는 같은 토큰일 때만 기록, 동시 갱신은 @Version 으로 막음
+ * 체크포인트 없이 점유만 반복되면 (같은 지점에서 계속 실패) 최대 시도 횟수에서 FAILED 로 끝냄
+ */
+@Entity
+@Table(name = "notification_broadcasts", indexes = {
+        @Index(name = "idx_notification_broadcasts_status_lease", columnList = "status, lease_until"),
+        @Index(name = "idx_notification_broadcasts_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationBroadcast extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(length = 255)
+    private String url;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BroadcastStatus status;
+
+    // 체크포인트 - 이 id 까지의 토큰은 전송 완료
+    @Column(name = "last_token_id", nullable = false)
+    private long lastTokenId;
+
+    @Column(name = "requested_count", nullable = false)
+    private long requestedCount;
+
+    @Column(name = "success_count", nullable = false)
+    private long successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private long failureCount;
+
+    @Column(name = "invalid_count", nullable = false)
+    private long invalidCount;
+
+    // 전송 중인 워커의 점유 만료 시각 (체크포인트마다 연장, 워커가 죽으면 이후 다른 워커가 이어서 전송)
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 현재 점유한 워커 - 점유 만료 후 다른 워커가 가져가면 바뀜
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    // 마지막 체크포인트 이후 점유 횟수 (체크포인트마다 0 으로)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Builder
+    public NotificationBroadcast(String title, String message, String url, Long createdBy) {
+        this.title = title;
+        this.message = message;
+        this.url = url;
+        this.createdBy = createdBy;
+        this.status = BroadcastStatus.PENDING;
+    }
+
+    public boolean isClaimedBy(String claimToken) {
+        return status == BroadcastStatus.RUNNING && claimToken != null && claimToken.equals(this.claimToken);
+    }
+
+    public void checkpoint(long lastTokenId, long requested, long success, long failure, long invalid, LocalDateTime leaseUntil) {
+        this.lastTokenId = lastTokenId;
+        this.requestedCount += requested;
+        this.successCount += success;
+        this.failureCount += failure;
+        this.invalidCount += invalid;
+        this.leaseUntil = leaseUntil;
+        this.lastError = null;
+        this.attempts = 0;
+    }
+
+    public void complete() {
+        this.status = BroadcastStatus.COMPLETED;
+        this.leaseUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        this.status = BroadcastStatus.CANCELED;
+        this.leaseUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void recordError(String error) {
+        this.lastError = error == null ? null : error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    public void fail(String error) {
+        recordError(error);
+        this.status = BroadcastStatus.FAILED;
+        this.leaseUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == BroadcastStatus.COMPLETED || status == BroadcastStatus.CANCELED || status == BroadcastStatus.FAILED;
+    }
+}
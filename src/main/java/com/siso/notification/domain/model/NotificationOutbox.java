@@ -0,0 +1,93 @@
+package com.siso.notification.domain.model;
+
+import com.siso.common.domain.BaseTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 푸시 전송 대기열 (transactional outbox)
+ * 알림 행과 같은 트랜잭션에 기록되고, 커밋 후 워커가 꺼내 FCM 으로 전송
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_type_status_next", columnList = "type, status, next_attempt_at"),
+        @Index(name = "idx_notification_outbox_claim_token", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(length = 255)
+    private String url;
+
+    // FCM data 페이로드 추가 항목 (JSON)
+    @Column(name = "extra_data", columnDefinition = "TEXT")
+    private String extraData;
+
+    // 같은 키의 이전 푸시를 기기에서 대체 (채팅방 단위 묶음 알림)
+    @Column(name = "collapse_key", length = 100)
+    private String collapseKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // PENDING 이면 다음 시도 시각, IN_FLIGHT 이면 점유 만료 시각 (워커가 죽으면 이후 다시 가져감)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 점유할 때마다 새로 발급 - 결과 기록은 이 값이 같을 때만 반영 (점유 만료 후 다른 워커가 다시 가져간 경우 무시)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Builder
+    public NotificationOutbox(Long notificationId, Long receiverId, String title, String message,
+                              NotificationType type, String url, String extraData, String collapseKey) {
+        this.notificationId = notificationId;
+        this.receiverId = receiverId;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+        this.url = url;
+        this.extraData = extraData;
+        this.collapseKey = collapseKey;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static String truncateError(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,19 @@
+package com.siso.notification.domain.model;
+
+public enum OutboxStatus {
+    PENDING("전송 대기"),
+    IN_FLIGHT("전송 중"),
+    SENT("전송 완료"),
+    FAILED("전송 실패");
+
+    private final String description;
+
+    OutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.siso.notification.domain.repository;
+
+import com.siso.notification.domain.model.NotificationBroadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 공지 브로드캐스트 레포지토리
+ */
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    /**
+     * 전송할 브로드캐스트 하나를 점유 상태(RUNNING)로 바꾸고 점유 토큰을 기록합니다.
+     * RUNNING 이면서 점유 시간이 지난 행은 전송 중 종료된 워커의 것이므로 체크포인트부터 이어서 전송합니다.
+     * 조건부 UPDATE 라 여러 워커가 동시에 실행해도 한 워커만 가져가며 (FOR UPDATE SKIP LOCKED 는 MariaDB 10.6 부터),
+     * 이전 점유자가 들고 있는 엔티티는 version 이 올라가 이후 갱신이 충돌로 실패합니다.
+     *
+     * @param now 현재 시각
+     * @param leaseUntil 점유 만료 시각
+     * @param claimToken 이번 점유에 쓸 토큰 ({@link #findByClaimToken} 으로 조회)
+     * @return 점유한 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_broadcasts
+            SET status = 'RUNNING', lease_until = :leaseUntil, claim_token = :claimToken, attempts = attempts + 1,
+                started_at = COALESCE(started_at, :now), version = version + 1, updated_at = :now
+            WHERE status IN ('PENDING', 'RUNNING') AND (lease_until IS NULL OR lease_until <= :now)
+            ORDER BY id
+            LIMIT 1
+            """, nativeQuery = true)
+    int claimNext(@Param("now") LocalDateTime now,
+                  @Param("leaseUntil") LocalDateTime leaseUntil,
+                  @Param("claimToken") String claimToken);
+
+    /**
+     * 점유 토큰으로 점유한 브로드캐스트를 조회합니다.
+     *
+     * @param claimToken {@link #claimNext} 에 넘긴 토큰
+     * @return 점유한 브로드캐스트
+     */
+    Optional<NotificationBroadcast> findByClaimToken(String claimToken);
+
+    /**
+     * 최근 브로드캐스트 목록을 조회합니다.
+     *
+     * @return 최근 20건 (최신순)
+     */
+    List<NotificationBroadcast> findTop20ByOrderByIdDesc();
+}
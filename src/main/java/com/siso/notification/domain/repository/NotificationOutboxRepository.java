@@ -0,0 +1,111 @@
+package com.siso.notification.domain.repository;
+
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 푸시 전송 outbox 레포지토리
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 전송할 차례가 된 outbox 행을 최대 limit 개 점유 상태(IN_FLIGHT)로 바꾸고 점유 토큰을 기록합니다.
+     * 조건부 UPDATE 이므로 여러 워커(인스턴스)가 동시에 실행해도 한 행은 한 워커만 가져갑니다
+     * (먼저 갱신한 쪽이 커밋하면 뒤의 UPDATE 는 바뀐 next_attempt_at 을 보고 건너뜀).
+     * IN_FLIGHT 이면서 점유 시간이 지난 행은 전송 중 종료된 워커의 것이므로 다시 가져갑니다.
+     * FOR UPDATE SKIP LOCKED 는 MariaDB 10.6 부터라 쓰지 않습니다.
+     *
+     * @param type 알림 종류 (전송 레인)
+     * @param now 현재 시각
+     * @param leaseUntil 점유 만료 시각
+     * @param claimToken 이번 점유에 쓸 토큰 ({@link #findByClaimTokenOrderById} 로 점유한 행을 조회)
+     * @param limit 최대 행 수
+     * @return 점유한 행 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET status = 'IN_FLIGHT', attempts = attempts + 1, next_attempt_at = :leaseUntil,
+                claim_token = :claimToken, updated_at = :now
+            WHERE type = :type AND status IN ('PENDING', 'IN_FLIGHT') AND next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    int claimBatch(@Param("type") String type,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("claimToken") String claimToken,
+                   @Param("limit") int limit);
+
+    /**
+     * 점유 토큰으로 점유한 행을 조회합니다.
+     *
+     * @param claimToken {@link #claimBatch} 에 넘긴 토큰
+     * @return 점유한 outbox 행 목록 (id 오름차순)
+     */
+    List<NotificationOutbox> findByClaimTokenOrderById(String claimToken);
+
+    /**
+     * 점유한 행을 전송 완료로 기록합니다.
+     * 점유 토큰이 다르면 (점유 만료 후 다른 워커가 다시 가져갔으면) 갱신하지 않습니다.
+     *
+     * @return 갱신한 행 수 (0 이면 오래된 점유의 결과)
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = com.siso.notification.domain.model.OutboxStatus.SENT, o.lastError = NULL, o.updatedAt = :now
+            WHERE o.id = :id AND o.claimToken = :claimToken
+              AND o.status = com.siso.notification.domain.model.OutboxStatus.IN_FLIGHT
+            """)
+    int markSent(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    /**
+     * 점유한 행의 전송 실패를 기록합니다 (PENDING 이면 nextAttemptAt 에 재시도, FAILED 면 종료).
+     * 점유 토큰이 다르면 갱신하지 않습니다.
+     *
+     * @return 갱신한 행 수 (0 이면 오래된 점유의 결과)
+     */
+    @Modifying
+    @Query("""
+            UPDATE NotificationOutbox o
+            SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :error, o.updatedAt = :now
+            WHERE o.id = :id AND o.claimToken = :claimToken
+              AND o.status = com.siso.notification.domain.model.OutboxStatus.IN_FLIGHT
+            """)
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("claimToken") String claimToken,
+                          @Param("status") OutboxStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 알림 종류별 전송 대기 행 수를 조회합니다.
+     *
+     * @return [NotificationType, count] 목록
+     */
+    @Query("SELECT o.type, COUNT(o) FROM NotificationOutbox o WHERE o.status = com.siso.notification.domain.model.OutboxStatus.PENDING GROUP BY o.type")
+    List<Object[]> countPendingByType();
+
+    /**
+     * 처리가 끝난 오래된 outbox 행을 삭제합니다.
+     *
+     * @param statuses 삭제할 상태
+     * @param before 이 시각 이전에 마지막으로 갱신된 행
+     * @return 삭제한 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status IN :statuses AND o.updatedAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<OutboxStatus> statuses, @Param("before") LocalDateTime before);
+}
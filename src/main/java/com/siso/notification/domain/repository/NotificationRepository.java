@@ -1,11 +1,15 @@
 package com.siso.notification.domain.repository;
 
 import com.siso.notification.domain.model.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -27,6 +31,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * @return 해당 사용자의 알림 목록 (최신순)
      */
     List<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId);
+
+    /**
+     * 특정 시각 이후 사용자가 받은 알림을 최신순으로 조회합니다.
+     * 월 파티션 테이블에서 남아 있는 파티션만 읽도록 생성 시각 하한을 붙입니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param since 생성 시각 하한
+     * @return 해당 사용자의 알림 목록 (최신순)
+     */
+    List<Notification> findByReceiverIdAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(Long receiverId, LocalDateTime since);
     
     /**
      * 특정 사용자가 받은 읽지 않은 알림을 최신순으로 조회합니다.
@@ -35,7 +49,74 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * @return 해당 사용자의 읽지 않은 알림 목록 (최신순)
      */
     List<Notification> findByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(Long receiverId);
+
+    /**
+     * 특정 시각 이후 사용자가 받은 읽지 않은 알림을 최신순으로 조회합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param since 생성 시각 하한
+     * @return 해당 사용자의 읽지 않은 알림 목록 (최신순)
+     */
+    List<Notification> findByReceiverIdAndIsReadFalseAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(Long receiverId, LocalDateTime since);
     
+    /**
+     * 사용자가 받은 알림을 id 역순으로 beforeId 이전부터 한 페이지 조회합니다 (커서 페이지네이션).
+     * (receiver_id, id) 인덱스를 역방향으로 읽으므로 이력 길이와 무관하게 페이지 크기만큼만 읽습니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param beforeId 이 id 미만만 조회 (첫 페이지는 Long.MAX_VALUE)
+     * @param since 생성 시각 하한
+     * @param pageable 페이지 크기
+     * @return 알림 목록 (최신순)
+     */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.receiverId = :receiverId AND n.id < :beforeId AND n.createdAt >= :since
+           ORDER BY n.id DESC
+           """)
+    List<Notification> findPageByReceiverId(@Param("receiverId") Long receiverId,
+                                            @Param("beforeId") Long beforeId,
+                                            @Param("since") LocalDateTime since,
+                                            Pageable pageable);
+
+    /**
+     * 사용자가 받은 읽지 않은 알림을 id 역순으로 beforeId 이전부터 한 페이지 조회합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param beforeId 이 id 미만만 조회 (첫 페이지는 Long.MAX_VALUE)
+     * @param since 생성 시각 하한
+     * @param pageable 페이지 크기
+     * @return 읽지 않은 알림 목록 (최신순)
+     */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.receiverId = :receiverId AND n.isRead = false AND n.id < :beforeId AND n.createdAt >= :since
+           ORDER BY n.id DESC
+           """)
+    List<Notification> findUnreadPageByReceiverId(@Param("receiverId") Long receiverId,
+                                                  @Param("beforeId") Long beforeId,
+                                                  @Param("since") LocalDateTime since,
+                                                  Pageable pageable);
+
+    /**
+     * 사용자가 받은 알림 중 afterId 이후 알림을 id 순으로 조회합니다 (SSE 재연결 시 놓친 알림 재전송).
+     *
+     * @param receiverId 수신자 ID
+     * @param afterId 클라이언트가 마지막으로 받은 알림 ID
+     * @param since 생성 시각 하한
+     * @param pageable 최대 개수
+     * @return 알림 목록 (오래된 순)
+     */
+    @Query("""
+           SELECT n FROM Notification n
+           WHERE n.receiverId = :receiverId AND n.id > :afterId AND n.createdAt >= :since
+           ORDER BY n.id ASC
+           """)
+    List<Notification> findAfterByReceiverId(@Param("receiverId") Long receiverId,
+                                             @Param("afterId") Long afterId,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
+
     /**
      * 특정 사용자의 읽지 않은 알림 개수를 조회합니다.
      * 
@@ -44,12 +125,80 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.receiverId = :receiverId AND n.isRead = false")
     long countUnreadByReceiverId(@Param("receiverId") Long receiverId);
+
+    /**
+     * 특정 시각 이후 사용자의 읽지 않은 알림 개수를 조회합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param since 생성 시각 하한
+     * @return 읽지 않은 알림 개수
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.receiverId = :receiverId AND n.isRead = false AND n.createdAt >= :since")
+    long countUnreadByReceiverIdSince(@Param("receiverId") Long receiverId, @Param("since") LocalDateTime since);
     
     /**
      * 특정 사용자의 모든 알림을 읽음 처리합니다.
      * 
      * @param receiverId 수신자 ID
      */
+    @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false")
     void markAllAsReadByReceiverId(@Param("receiverId") Long receiverId);
+
+    /**
+     * 특정 시각 이후 사용자의 모든 알림을 읽음 처리합니다.
+     *
+     * @param receiverId 수신자 ID
+     * @param since 생성 시각 하한
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiverId = :receiverId AND n.isRead = false AND n.createdAt >= :since")
+    void markAllAsReadByReceiverIdSince(@Param("receiverId") Long receiverId, @Param("since") LocalDateTime since);
+
+    /**
+     * 가장 오래된 알림 ID 를 조회합니다.
+     *
+     * @return 최소 ID (알림이 없으면 null)
+     */
+    @Query("SELECT MIN(n.id) FROM Notification n")
+    Long findMinId();
+
+    /**
+     * 가장 최근 알림 ID 를 조회합니다.
+     *
+     * @return 최대 ID (알림이 없으면 null)
+     */
+    @Query("SELECT MAX(n.id) FROM Notification n")
+    Long findMaxId();
+
+    /**
+     * 생성 시각이 cutoff 이상인 첫 알림 ID 를 조회합니다. 정리 작업의 id 상한으로 사용합니다.
+     *
+     * @param cutoff 기준 시각
+     * @param pageable 1건
+     * @return 알림 ID 목록 (최대 1건)
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.createdAt >= :cutoff ORDER BY n.createdAt ASC, n.id ASC")
+    List<Long> findFirstIdCreatedSince(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * id 범위 [fromId, toId) 안에서 읽음 상태가 isRead 이고 cutoff 이전에 생성된 알림을 삭제합니다.
+     * 범위마다 별도 트랜잭션으로 실행되어 잠금이 짧게 유지됩니다.
+     *
+     * @param fromId 범위 시작 (포함)
+     * @param toId 범위 끝 (제외)
+     * @param isRead 읽음 상태
+     * @param cutoff 이 시각 이전 생성된 알림 삭제
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+           DELETE FROM Notification n
+           WHERE n.id >= :fromId AND n.id < :toId AND n.isRead = :isRead AND n.createdAt < :cutoff
+           """)
+    int deleteCreatedBeforeInRange(@Param("fromId") Long fromId,
+                                   @Param("toId") Long toId,
+                                   @Param("isRead") boolean isRead,
+                                   @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,30 @@
+package com.siso.notification.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 공지 푸시 생성 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastCreateRequestDto {
+
+    @NotBlank
+    @Size(max = 50)
+    @Schema(description = "공지 제목", example = "서비스 점검 안내")
+    private String title;
+
+    @NotBlank
+    @Schema(description = "공지 내용", example = "오늘 새벽 2시부터 4시까지 서비스 점검이 진행됩니다.")
+    private String message;
+
+    @Size(max = 255)
+    @Schema(description = "이동할 URL", example = "/notice/1")
+    private String url;
+}
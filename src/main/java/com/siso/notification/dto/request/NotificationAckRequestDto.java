@@ -0,0 +1,11 @@
+package com.siso.notification.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationAckRequestDto {
+    private Long deliveryId;
+}
@@ -0,0 +1,45 @@
+package com.siso.notification.dto.response;
+
+import com.siso.notification.domain.model.BroadcastStatus;
+import com.siso.notification.domain.model.NotificationBroadcast;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 공지 푸시 진행 상황
+ */
+public record BroadcastResponseDto(
+        Long id,
+        String title,
+        String message,
+        String url,
+        BroadcastStatus status,
+        long lastTokenId,           // 체크포인트 (이 토큰 id 까지 전송 완료)
+        long requestedCount,
+        long successCount,
+        long failureCount,
+        long invalidCount,          // 무효 토큰 (비활성화 예정)
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String lastError
+) {
+    public static BroadcastResponseDto from(NotificationBroadcast broadcast) {
+        return new BroadcastResponseDto(
+                broadcast.getId(),
+                broadcast.getTitle(),
+                broadcast.getMessage(),
+                broadcast.getUrl(),
+                broadcast.getStatus(),
+                broadcast.getLastTokenId(),
+                broadcast.getRequestedCount(),
+                broadcast.getSuccessCount(),
+                broadcast.getFailureCount(),
+                broadcast.getInvalidCount(),
+                broadcast.getCreatedAt(),
+                broadcast.getStartedAt(),
+                broadcast.getFinishedAt(),
+                broadcast.getLastError()
+        );
+    }
+}
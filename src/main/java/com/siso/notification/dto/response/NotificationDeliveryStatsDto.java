@@ -0,0 +1,14 @@
+package com.siso.notification.dto.response;
+
+/**
+ * 알림 전달 경로 통계 (서버 기동 이후 누적)
+ */
+public record NotificationDeliveryStatsDto(
+        long websocketSent,         // 접속 중인 수신자에게 WebSocket 으로 보낸 수
+        long websocketAcked,        // 그중 ack 를 받아 FCM 을 생략한 수
+        long ackTimeouts,           // ack 가 없어 FCM 으로 넘긴 수
+        long offline,               // 접속 중이 아니어서 바로 FCM 으로 보낸 수
+        int pendingAcks,            // 현재 ack 대기 중인 수
+        long avgAckMillis           // 프레임 전송 ~ ack 평균
+) {
+}
@@ -0,0 +1,20 @@
+package com.siso.notification.dto.response;
+
+import com.siso.notification.domain.model.NotificationType;
+
+import java.util.Map;
+
+/**
+ * /user/queue/notifications 로 보내는 알림 프레임
+ * 클라이언트는 표시 후 deliveryId 를 /app/notifications.ack 로 보내야 하며, 보내지 않으면 FCM 으로 다시 전송됨
+ */
+public record NotificationFrameDto(
+        Long deliveryId,            // ack 용 전송 ID
+        Long notificationId,        // 중복 표시 방지용 (FCM 폴백과 같은 알림일 수 있음)
+        NotificationType type,
+        String title,
+        String message,
+        String url,
+        Map<String, String> data
+) {
+}
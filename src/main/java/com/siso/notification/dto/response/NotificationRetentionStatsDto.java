@@ -0,0 +1,20 @@
+package com.siso.notification.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 정리 작업 상태 (서버 기동 이후 누적)
+ */
+public record NotificationRetentionStatsDto(
+        boolean running,
+        LocalDateTime lastStartedAt,
+        LocalDateTime lastFinishedAt,
+        long lastRunDeletedRead,
+        long lastRunDeletedUnread,
+        long lastRunChunks,
+        long lastRunMillis,
+        long totalDeletedRead,
+        long totalDeletedUnread,
+        long totalRuns
+) {
+}
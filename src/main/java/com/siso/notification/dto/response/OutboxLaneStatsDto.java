@@ -0,0 +1,20 @@
+package com.siso.notification.dto.response;
+
+import com.siso.notification.domain.model.NotificationType;
+
+/**
+ * 알림 전송 레인 상태 (서버 기동 이후 누적)
+ */
+public record OutboxLaneStatsDto(
+        NotificationType type,
+        int workerThreads,
+        int maxInFlight,
+        int inFlight,               // 현재 이 인스턴스에서 전송 중/대기 중인 행 수
+        long pending,               // DB 에 전송 대기 중인 행 수 (모든 인스턴스)
+        long sent,
+        long failedAttempts,
+        long avgLatencyMillis,      // outbox 기록 ~ 전송 완료 평균
+        long maxLatencyMillis,
+        long lastLatencyMillis
+) {
+}
@@ -0,0 +1,124 @@
+package com.siso.notification.infrastructure;
+
+import com.siso.notification.infrastructure.properties.UnreadCountCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 안 읽은 알림 수 캐시
+ * - 알림 생성 커밋 시 +1, 읽음 처리 시 -1, 전체 읽음 시 0 (캐시에 있는 사용자만)
+ * - 캐시에 없으면 DB 에서 세어 채움, 세는 동안 해당 사용자 값이 바뀌었거나 전체 무효화가 있었으면 채우지 않음
+ * - 전체 사용자 수는 LRU 로 제한
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCountCache {
+    private final UnreadCountCacheProperties properties;
+
+    // 변경 순번 - 사용자별 마지막 변경 순번이 조회 시작 이후면 조회 결과를 버림
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<Long, Long> lastChanged = new ConcurrentHashMap<>();
+    // 마지막 전체 무효화 순번 - 캐시에 없던 사용자를 세던 조회도 버리도록
+    private volatile long invalidatedAllAt;
+    private volatile long sweptAt;
+
+    // userId -> 안 읽은 수 (접근 순서 LRU)
+    private final LinkedHashMap<Long, Entry> counts = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > properties.getMaxUsers();
+        }
+    };
+
+    /**
+     * 안 읽은 수 조회 (없으면 loader 로 DB 에서 세어 채움)
+     */
+    public long get(Long userId, LongSupplier loader) {
+        if (!properties.isEnabled()) {
+            return loader.getAsLong();
+        }
+        OptionalLong cached = cached(userId);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+
+        long startedAt = clock.get();
+        long count = loader.getAsLong();
+        synchronized (this) {
+            if (invalidatedAllAt <= startedAt && lastChanged.getOrDefault(userId, 0L) <= startedAt) {
+                counts.put(userId, new Entry(count, System.currentTimeMillis() + properties.getTtlSeconds() * 1000));
+            }
+        }
+        return count;
+    }
+
+    public void increment(Long userId) {
+        add(userId, 1);
+    }
+
+    public void decrement(Long userId) {
+        add(userId, -1);
+    }
+
+    public synchronized void reset(Long userId) {
+        touch(userId);
+        Entry entry = counts.get(userId);
+        if (entry != null) {
+            counts.put(userId, new Entry(0, entry.expiresAt));
+        }
+    }
+
+    public synchronized void invalidate(Long userId) {
+        touch(userId);
+        counts.remove(userId);
+    }
+
+    /**
+     * 대상 사용자를 알 수 없는 일괄 변경 (보관 기간 정리 등) 후 전체 무효화
+     */
+    public synchronized void invalidateAll() {
+        invalidatedAllAt = clock.incrementAndGet();
+        counts.clear();
+    }
+
+    /**
+     * 조회 중 경합 판단용 변경 순번 정리 (조회는 이 주기보다 훨씬 짧으므로 지난 주기 이전 기록은 불필요)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweepChanges() {
+        long before = sweptAt;
+        sweptAt = clock.get();
+        lastChanged.values().removeIf(changed -> changed <= before);
+    }
+
+    private synchronized OptionalLong cached(Long userId) {
+        Entry entry = counts.get(userId);
+        if (entry == null || entry.expiresAt <= System.currentTimeMillis()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(entry.count);
+    }
+
+    private synchronized void add(Long userId, long delta) {
+        touch(userId);
+        Entry entry = counts.get(userId);
+        if (entry != null) {
+            counts.put(userId, new Entry(Math.max(0, entry.count + delta), entry.expiresAt));
+        }
+    }
+
+    private void touch(Long userId) {
+        lastChanged.put(userId, clock.incrementAndGet());
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.siso.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 전체 공지 푸시 (브로드캐스트) 설정 프로퍼티
+ *
+ * application.yml의 app.notification.broadcast 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.broadcast")
+public class NotificationBroadcastProperties {
+
+    /**
+     * 브로드캐스트 전송 워커 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 브로드캐스트를 생성/취소할 수 있는 사용자 ID
+     */
+    private List<Long> adminUserIds = new ArrayList<>();
+
+    /**
+     * 한 번에 읽어 보낼 토큰 수 (메모리에 올라가는 최대 토큰 수)
+     */
+    @Min(value = 1, message = "묶음 크기는 1 이상이어야 합니다")
+    private int chunkSize = 5000;
+
+    /**
+     * 동시에 전송 중인 500 토큰 배치 수 - 일반 알림 전송과 별도로 제한
+     */
+    @Min(value = 1, message = "동시 배치 수는 1 이상이어야 합니다")
+    private int maxInFlightBatches = 4;
+
+    /**
+     * 초당 최대 전송 토큰 수 (FCM 프로젝트 할당량보다 낮게)
+     */
+    @Min(value = 1, message = "초당 전송 수는 1 이상이어야 합니다")
+    private int messagesPerSecond = 5000;
+
+    /**
+     * 점유 시간 (초) - 체크포인트마다 연장, 갱신 없이 지나면 다른 워커가 이어서 전송
+     */
+    @Min(value = 10, message = "점유 시간은 10초 이상이어야 합니다")
+    private long leaseSeconds = 120;
+
+    /**
+     * 체크포인트 없이 점유할 수 있는 최대 횟수 - 넘으면 FAILED 로 끝냄 (같은 지점에서 반복 실패)
+     */
+    @Min(value = 1, message = "최대 시도 횟수는 1 이상이어야 합니다")
+    private int maxAttempts = 5;
+
+    /**
+     * 대기 중인 브로드캐스트 확인 주기 (밀리초)
+     */
+    @Min(value = 100, message = "확인 주기는 100ms 이상이어야 합니다")
+    private long pollIntervalMillis = 10000;
+}
@@ -0,0 +1,44 @@
+package com.siso.notification.infrastructure.properties;
+
+import com.siso.notification.domain.model.NotificationType;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 알림 전달 경로 설정 프로퍼티
+ *
+ * application.yml의 app.notification.delivery 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.delivery")
+public class NotificationDeliveryProperties {
+
+    /**
+     * 수신자가 STOMP 로 접속 중이면 /user/queue/notifications 로 먼저 보내고 ack 가 없을 때만 FCM 전송
+     */
+    private boolean websocketFirst = true;
+
+    /**
+     * WebSocket 우선 전달 대상 알림 종류
+     * CALL 은 CallSignalingService 가 /user/queue/call 로 먼저 보내고 ack 가 없을 때만 outbox 에 기록하므로 제외
+     */
+    private Set<NotificationType> websocketFirstTypes = EnumSet.of(NotificationType.MESSAGE, NotificationType.MATCHING);
+
+    /**
+     * ack 대기 시간 (밀리초) - 지나면 FCM 으로 전송, outbox 점유 시간(lease-seconds)보다 짧아야 함
+     */
+    @Min(value = 100, message = "ack 대기 시간은 100ms 이상이어야 합니다")
+    private long ackTimeoutMillis = 3000;
+
+    /**
+     * 동시에 ack 를 기다릴 수 있는 최대 전송 수 - 넘으면 바로 FCM 으로 전송
+     */
+    @Min(value = 1, message = "최대 ack 대기 수는 1 이상이어야 합니다")
+    private int maxPendingAcks = 10000;
+}
@@ -0,0 +1,97 @@
+package com.siso.notification.infrastructure.properties;
+
+import com.siso.notification.domain.model.NotificationType;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 푸시 알림 outbox 워커 설정 프로퍼티
+ *
+ * application.yml의 app.notification.outbox 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.outbox")
+public class NotificationOutboxProperties {
+
+    /**
+     * 알림 종류별 전송 레인 (스레드 수, 동시 전송 상한)
+     * CALL 레인은 항상 먼저 가져가며, CALL 이 밀려 있으면 나머지 레인은 양보
+     */
+    private Map<NotificationType, Lane> lanes = new EnumMap<>(Map.of(
+            NotificationType.CALL, new Lane(4, 100),
+            NotificationType.MESSAGE, new Lane(4, 200),
+            NotificationType.MATCHING, new Lane(2, 100)
+    ));
+
+    /**
+     * 한 번에 점유할 행 수
+     */
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    private int batchSize = 50;
+
+    /**
+     * 폴링 주기 (밀리초) - 커밋 직후에도 즉시 깨우므로 재시도/누락 대비용
+     */
+    @Min(value = 100, message = "폴링 주기는 100ms 이상이어야 합니다")
+    private long pollIntervalMillis = 1000;
+
+    /**
+     * 가져간 행의 점유 시간 (초) - 이 시간 안에 결과가 기록되지 않으면 다른 워커가 다시 전송
+     */
+    @Min(value = 1, message = "점유 시간은 1초 이상이어야 합니다")
+    private long leaseSeconds = 60;
+
+    /**
+     * 최대 전송 시도 횟수 - 넘으면 FAILED
+     */
+    @Min(value = 1, message = "최대 시도 횟수는 1 이상이어야 합니다")
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 대기 시간 (초) - 시도마다 두 배씩 증가
+     */
+    @Min(value = 1, message = "재시도 대기 시간은 1초 이상이어야 합니다")
+    private long retryBaseSeconds = 5;
+
+    /**
+     * 재시도 대기 시간 상한 (초)
+     */
+    @Min(value = 1, message = "재시도 대기 상한은 1초 이상이어야 합니다")
+    private long retryMaxSeconds = 600;
+
+    /**
+     * SENT / FAILED 행 보관 기간 (일)
+     */
+    @Min(value = 1, message = "보관 기간은 1일 이상이어야 합니다")
+    private int retentionDays = 7;
+
+    public Lane lane(NotificationType type) {
+        return lanes.getOrDefault(type, new Lane(1, 50));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        /**
+         * 레인 전용 FCM 전송 스레드 수
+         */
+        @Min(value = 1, message = "워커 스레드 수는 1개 이상이어야 합니다")
+        private int workerThreads = 2;
+
+        /**
+         * 레인에서 동시에 전송 중일 수 있는 최대 outbox 행 수 (레인 큐 상한)
+         */
+        @Min(value = 1, message = "최대 전송 중 개수는 1개 이상이어야 합니다")
+        private int maxInFlight = 100;
+    }
+}
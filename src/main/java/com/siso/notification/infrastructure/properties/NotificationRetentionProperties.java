@@ -0,0 +1,52 @@
+package com.siso.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 보관 기간 / 정리 작업 설정 프로퍼티
+ *
+ * application.yml의 app.notification.retention 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.retention")
+public class NotificationRetentionProperties {
+
+    /**
+     * 정리 작업 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 읽은 알림 보관 기간 (일)
+     */
+    @Min(value = 1, message = "보관 기간은 1일 이상이어야 합니다")
+    private int readDays = 30;
+
+    /**
+     * 읽지 않은 알림 보관 기간 (일)
+     */
+    @Min(value = 1, message = "보관 기간은 1일 이상이어야 합니다")
+    private int unreadDays = 90;
+
+    /**
+     * 한 번의 DELETE 가 다루는 id 범위 크기 - 트랜잭션 하나가 잠그는 행 수 상한
+     */
+    @Min(value = 1, message = "id 범위 크기는 1 이상이어야 합니다")
+    private int chunkIdRange = 5000;
+
+    /**
+     * 범위 사이 대기 시간 (밀리초) - 복제 지연 방지
+     */
+    @Min(value = 0, message = "대기 시간은 0 이상이어야 합니다")
+    private long pauseMillis = 200;
+
+    /**
+     * 한 번 실행에서 처리할 최대 범위 수 - 남은 범위는 다음 실행에서 이어서
+     */
+    @Min(value = 1, message = "최대 범위 수는 1 이상이어야 합니다")
+    private int maxChunksPerRun = 2000;
+}
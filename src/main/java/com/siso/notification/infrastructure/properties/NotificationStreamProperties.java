@@ -0,0 +1,65 @@
+package com.siso.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 SSE 스트림 설정 프로퍼티
+ *
+ * application.yml의 app.notification.stream 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.stream")
+public class NotificationStreamProperties {
+
+    /**
+     * 연결 유지 시간 (밀리초) - 지나면 서버가 닫고 클라이언트가 Last-Event-ID 로 재연결
+     */
+    @Min(value = 1000, message = "연결 유지 시간은 1초 이상이어야 합니다")
+    private long timeoutMillis = 1_800_000;
+
+    /**
+     * 하트비트 주기 (밀리초) - 프록시 유휴 타임아웃보다 짧게
+     */
+    @Min(value = 1000, message = "하트비트 주기는 1초 이상이어야 합니다")
+    private long heartbeatMillis = 15_000;
+
+    /**
+     * 클라이언트 재연결 대기 시간 (밀리초, SSE retry 필드)
+     */
+    @Min(value = 0, message = "재연결 대기 시간은 0 이상이어야 합니다")
+    private long reconnectMillis = 3_000;
+
+    /**
+     * 사용자당 최대 연결 수 - 넘으면 가장 오래된 연결을 닫음
+     */
+    @Min(value = 1, message = "사용자당 최대 연결 수는 1 이상이어야 합니다")
+    private int maxConnectionsPerUser = 5;
+
+    /**
+     * 재연결 시 Last-Event-ID 이후로 다시 보내는 최대 알림 수
+     */
+    @Min(value = 0, message = "재전송 알림 수는 0 이상이어야 합니다")
+    private int replayLimit = 100;
+
+    /**
+     * 이벤트 전송 스레드 수 - 느린 클라이언트가 트랜잭션 커밋 스레드를 막지 않도록 별도 스레드에서 전송
+     */
+    @Min(value = 1, message = "전송 스레드 수는 1 이상이어야 합니다")
+    private int senderThreads = 2;
+
+    /**
+     * 전송 대기 작업 수 상한 - 가득 차면 새 이벤트를 받을 연결을 닫음 (클라이언트가 Last-Event-ID 로 재연결)
+     */
+    @Min(value = 100, message = "전송 대기열 크기는 100 이상이어야 합니다")
+    private int sendQueueCapacity = 10_000;
+
+    /**
+     * 연결당 밀린 전송 수 상한 - 넘으면 따라오지 못하는 연결로 보고 닫음
+     */
+    @Min(value = 1, message = "연결당 밀린 전송 수는 1 이상이어야 합니다")
+    private int maxPendingPerConnection = 32;
+}
@@ -0,0 +1,28 @@
+package com.siso.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 푸시 묶음 전송 설정 프로퍼티
+ *
+ * application.yml의 app.notification.coalescing 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.coalescing")
+public class PushCoalescingProperties {
+
+    /**
+     * (수신자, 채팅방) 단위 묶음 전송 사용 여부 - 끄면 메시지마다 알림
+     */
+    private boolean enabled = true;
+
+    /**
+     * 묶음 구간 (밀리초) - 첫 메시지는 즉시, 구간 안의 이후 메시지는 구간이 끝날 때 한 번에
+     */
+    @Min(value = 1000, message = "묶음 구간은 1초 이상이어야 합니다")
+    private long windowMillis = 10000;
+}
@@ -0,0 +1,34 @@
+package com.siso.notification.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 안 읽은 알림 수 캐시 설정 프로퍼티
+ *
+ * application.yml의 app.notification.unread-count 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.notification.unread-count")
+public class UnreadCountCacheProperties {
+
+    /**
+     * 캐시 사용 여부 - 끄면 매번 COUNT 쿼리
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 최대 사용자 수 (LRU)
+     */
+    @Min(value = 1, message = "최대 사용자 수는 1 이상이어야 합니다")
+    private int maxUsers = 50000;
+
+    /**
+     * 항목 유효 시간 (초) - 보관 기간 만료 등 캐시 밖에서 바뀐 값 반영용
+     */
+    @Min(value = 1, message = "유효 시간은 1초 이상이어야 합니다")
+    private long ttlSeconds = 600;
+}
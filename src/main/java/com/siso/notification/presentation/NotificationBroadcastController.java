@@ -0,0 +1,93 @@
+package com.siso.notification.presentation;
+
+import com.siso.common.response.SisoResponse;
+import com.siso.common.web.CurrentUser;
+import com.siso.notification.application.NotificationBroadcastRunner;
+import com.siso.notification.application.NotificationBroadcastService;
+import com.siso.notification.dto.request.BroadcastCreateRequestDto;
+import com.siso.notification.dto.response.BroadcastResponseDto;
+import com.siso.user.domain.model.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 전체 공지 푸시 관리 API (관리자 전용)
+ * 
+ * app.notification.broadcast.admin-user-ids 에 등록된 사용자만 사용할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/notifications/broadcasts")
+@RequiredArgsConstructor
+@Tag(name = "Notification Broadcast API", description = "전체 공지 푸시 관리자 API")
+public class NotificationBroadcastController {
+
+    private final NotificationBroadcastService notificationBroadcastService;
+    private final NotificationBroadcastRunner notificationBroadcastRunner;
+
+    /**
+     * 전체 공지 푸시를 생성합니다. 전송은 백그라운드에서 진행됩니다.
+     * 
+     * @param user 현재 로그인한 관리자
+     * @param requestDto 공지 내용
+     * @return 생성된 브로드캐스트
+     */
+    @PostMapping(produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전체 공지 전송", description = "알림을 수신하는 모든 사용자의 기기로 공지 푸시를 전송합니다.")
+    public SisoResponse<BroadcastResponseDto> createBroadcast(
+            @CurrentUser User user,
+            @Valid @RequestBody BroadcastCreateRequestDto requestDto) {
+        BroadcastResponseDto broadcast = notificationBroadcastService.create(user.getId(), requestDto);
+        notificationBroadcastRunner.wakeUp();
+        return SisoResponse.success(broadcast);
+    }
+
+    /**
+     * 최근 전체 공지 푸시 목록을 조회합니다.
+     * 
+     * @param user 현재 로그인한 관리자
+     * @return 최근 20건 (최신순)
+     */
+    @GetMapping(produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전체 공지 목록 조회", description = "최근 전체 공지 푸시 20건과 진행 상황을 조회합니다.")
+    public SisoResponse<List<BroadcastResponseDto>> getBroadcasts(@CurrentUser User user) {
+        return SisoResponse.success(notificationBroadcastService.getRecent(user.getId()));
+    }
+
+    /**
+     * 전체 공지 푸시 진행 상황을 조회합니다.
+     * 
+     * @param user 현재 로그인한 관리자
+     * @param broadcastId 브로드캐스트 ID
+     * @return 진행 상황
+     */
+    @GetMapping(value = "/{broadcastId}", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전체 공지 진행 상황 조회", description = "전송한 토큰 수, 성공/실패 수, 체크포인트를 조회합니다.")
+    public SisoResponse<BroadcastResponseDto> getBroadcast(
+            @CurrentUser User user,
+            @Parameter(description = "브로드캐스트 ID", example = "1")
+            @PathVariable Long broadcastId) {
+        return SisoResponse.success(notificationBroadcastService.get(user.getId(), broadcastId));
+    }
+
+    /**
+     * 전체 공지 푸시를 취소합니다. 전송 중이면 현재 묶음까지만 전송됩니다.
+     * 
+     * @param user 현재 로그인한 관리자
+     * @param broadcastId 브로드캐스트 ID
+     * @return 취소된 브로드캐스트
+     */
+    @PatchMapping(value = "/{broadcastId}/cancel", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전체 공지 취소", description = "대기 중이거나 전송 중인 전체 공지 푸시를 취소합니다.")
+    public SisoResponse<BroadcastResponseDto> cancelBroadcast(
+            @CurrentUser User user,
+            @Parameter(description = "브로드캐스트 ID", example = "1")
+            @PathVariable Long broadcastId) {
+        return SisoResponse.success(notificationBroadcastService.cancel(user.getId(), broadcastId));
+    }
+}
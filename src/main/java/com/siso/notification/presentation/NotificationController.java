@@ -1,19 +1,30 @@
 package com.siso.notification.presentation;
 
 import com.siso.common.response.SisoResponse;
+import com.siso.common.security.AdminGuard;
 import com.siso.common.web.CurrentUser;
+import com.siso.notification.application.NotificationDeliveryRouter;
+import com.siso.notification.application.NotificationOutboxWorker;
+import com.siso.notification.application.NotificationRetentionService;
 import com.siso.notification.application.NotificationService;
 import com.siso.notification.dto.request.NotificationCreateRequestDto;
+import com.siso.notification.dto.response.NotificationDeliveryStatsDto;
 import com.siso.notification.dto.response.NotificationResponseDto;
+import com.siso.notification.dto.response.NotificationRetentionStatsDto;
+import com.siso.notification.dto.response.OutboxLaneStatsDto;
 import com.siso.notification.dto.response.UnreadCountResponseDto;
 import com.siso.notification.domain.model.Notification;
+import com.siso.user.application.UserCardCache;
 import com.siso.user.domain.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -33,6 +44,11 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationOutboxWorker notificationOutboxWorker;
+    private final NotificationDeliveryRouter notificationDeliveryRouter;
+    private final NotificationRetentionService notificationRetentionService;
+    private final UserCardCache userCardCache;
+    private final AdminGuard adminGuard;
 
     /**
      * 새로운 알림을 생성하고 전송합니다.
@@ -46,8 +62,7 @@ public class NotificationController {
     public SisoResponse<NotificationResponseDto> createNotification(
             @CurrentUser User user,
             @Valid @RequestBody NotificationCreateRequestDto requestDto) {
-        String senderNickname = user.getUserProfile() != null ? 
-            user.getUserProfile().getNickname() : "익명";
+        String senderNickname = userCardCache.get(user.getId()).displayName();
         
         Notification notification = notificationService.createAndSendNotification(
                 requestDto.getReceiverId(),
@@ -63,28 +78,48 @@ public class NotificationController {
     }
 
     /**
-     * 현재 사용자의 모든 알림을 조회합니다.
+     * 현재 사용자의 알림을 조회합니다.
+     * size 를 주면 beforeId 이전(없으면 최신) 알림 한 페이지만, 없으면 전체를 조회합니다.
      * 
      * @param user 현재 로그인한 사용자
+     * @param beforeId 이전 페이지의 마지막 알림 ID
+     * @param size 페이지 크기
      * @return 알림 목록 (최신순)
      */
     @GetMapping(produces = "application/json; charset=UTF-8")
-    @Operation(summary = "알림 목록 조회", description = "현재 사용자의 모든 알림을 최신순으로 조회합니다.")
-    public SisoResponse<List<NotificationResponseDto>> getNotifications(@CurrentUser User user) {
-        List<NotificationResponseDto> notifications = notificationService.getNotificationsByUserId(user.getId());
+    @Operation(summary = "알림 목록 조회", description = "현재 사용자의 알림을 최신순으로 조회합니다. size 를 주면 beforeId 기준 커서 페이지로 조회합니다.")
+    public SisoResponse<List<NotificationResponseDto>> getNotifications(
+            @CurrentUser User user,
+            @Parameter(description = "이 ID 이전 알림부터 조회", example = "100")
+            @RequestParam(name = "beforeId", required = false) Long beforeId,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
+        List<NotificationResponseDto> notifications = size == null
+                ? notificationService.getNotificationsByUserId(user.getId())
+                : notificationService.getNotificationsByUserId(user.getId(), beforeId, size);
         return SisoResponse.success(notifications);
     }
 
     /**
      * 현재 사용자의 읽지 않은 알림을 조회합니다.
+     * size 를 주면 beforeId 이전(없으면 최신) 알림 한 페이지만, 없으면 전체를 조회합니다.
      * 
      * @param user 현재 로그인한 사용자
+     * @param beforeId 이전 페이지의 마지막 알림 ID
+     * @param size 페이지 크기
      * @return 읽지 않은 알림 목록 (최신순)
      */
     @GetMapping(value = "/unread", produces = "application/json; charset=UTF-8")
-    @Operation(summary = "읽지 않은 알림 조회", description = "현재 사용자의 읽지 않은 알림을 최신순으로 조회합니다.")
-    public SisoResponse<List<NotificationResponseDto>> getUnreadNotifications(@CurrentUser User user) {
-        List<NotificationResponseDto> notifications = notificationService.getUnreadNotificationsByUserId(user.getId());
+    @Operation(summary = "읽지 않은 알림 조회", description = "현재 사용자의 읽지 않은 알림을 최신순으로 조회합니다. size 를 주면 beforeId 기준 커서 페이지로 조회합니다.")
+    public SisoResponse<List<NotificationResponseDto>> getUnreadNotifications(
+            @CurrentUser User user,
+            @Parameter(description = "이 ID 이전 알림부터 조회", example = "100")
+            @RequestParam(name = "beforeId", required = false) Long beforeId,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(name = "size", required = false) Integer size) {
+        List<NotificationResponseDto> notifications = size == null
+                ? notificationService.getUnreadNotificationsByUserId(user.getId())
+                : notificationService.getUnreadNotificationsByUserId(user.getId(), beforeId, size);
         return SisoResponse.success(notifications);
     }
 
@@ -101,6 +136,67 @@ public class NotificationController {
         return SisoResponse.success(unreadCount);
     }
 
+    /**
+     * 새 알림과 안 읽은 알림 개수 변경을 SSE 로 받습니다.
+     * 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터)를 주면 그 이후 알림을 다시 받습니다.
+     * 
+     * @param user 현재 로그인한 사용자
+     * @param lastEventIdHeader 마지막으로 받은 알림 ID (브라우저 EventSource 자동 전송)
+     * @param lastEventIdParam 마지막으로 받은 알림 ID (헤더를 보낼 수 없는 클라이언트용)
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "알림 스트림 구독", description = "notification / unread-count 이벤트를 SSE 로 전송합니다. 주기적으로 하트비트 주석을 보냅니다.")
+    public SseEmitter streamNotifications(
+            @CurrentUser User user,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 알림 ID", example = "100")
+            @RequestParam(name = "lastEventId", required = false) Long lastEventIdParam,
+            HttpServletResponse response) {
+        response.setHeader("X-Accel-Buffering", "no"); // 프록시 버퍼링 비활성화
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return notificationService.openStream(user.getId(), lastEventId);
+    }
+
+    /**
+     * 알림 종류별 전송 레인 상태를 조회합니다. (운영자만)
+     * 
+     * @param user 현재 로그인한 사용자
+     * @return 레인별 큐 깊이 및 전송 지연 시간
+     */
+    @GetMapping(value = "/outbox/lanes", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전송 레인 상태 조회", description = "알림 종류별 대기 행 수와 전송 지연 시간을 조회합니다.")
+    public SisoResponse<List<OutboxLaneStatsDto>> getOutboxLanes(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(notificationOutboxWorker.getLaneStats());
+    }
+
+    /**
+     * WebSocket 우선 전달 / FCM 폴백 통계를 조회합니다. (운영자만)
+     * 
+     * @param user 현재 로그인한 사용자
+     * @return 전달 경로별 누적 건수 및 ack 지연 시간
+     */
+    @GetMapping(value = "/delivery/stats", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "전달 경로 통계 조회", description = "WebSocket 으로 전달된 알림 수, ack 없이 FCM 으로 넘긴 수 등을 조회합니다.")
+    public SisoResponse<NotificationDeliveryStatsDto> getDeliveryStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(notificationDeliveryRouter.getStats());
+    }
+
+    /**
+     * 보관 기간이 지난 알림 정리 작업 상태를 조회합니다. (운영자만)
+     * 
+     * @param user 현재 로그인한 사용자
+     * @return 마지막 실행 / 누적 삭제 건수
+     */
+    @GetMapping(value = "/retention/stats", produces = "application/json; charset=UTF-8")
+    @Operation(summary = "알림 정리 작업 상태 조회", description = "읽은/읽지 않은 알림 삭제 건수와 마지막 실행 시각을 조회합니다.")
+    public SisoResponse<NotificationRetentionStatsDto> getRetentionStats(@CurrentUser User user) {
+        adminGuard.check(user);
+        return SisoResponse.success(notificationRetentionService.getStats());
+    }
+
     /**
      * 특정 알림을 읽음 처리합니다.
      * 
@@ -142,8 +238,7 @@ public class NotificationController {
             @CurrentUser User user,
             @Parameter(description = "수신자 ID", example = "1")
             @RequestParam Long receiverId) {
-        String senderNickname = user.getUserProfile() != null ? 
-            user.getUserProfile().getNickname() : "익명";
+        String senderNickname = userCardCache.get(user.getId()).displayName();
         
         Notification notification = notificationService.sendMatchingNotification(receiverId, user.getId(), senderNickname);
         return SisoResponse.success(NotificationResponseDto.fromEntity(notification));
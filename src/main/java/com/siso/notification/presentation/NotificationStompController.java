@@ -0,0 +1,30 @@
+package com.siso.notification.presentation;
+
+import com.siso.notification.application.NotificationDeliveryRouter;
+import com.siso.notification.dto.request.NotificationAckRequestDto;
+import com.siso.user.infrastructure.authentication.AccountAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationStompController {
+    private final NotificationDeliveryRouter notificationDeliveryRouter;
+
+    /**
+     * /user/queue/notifications 로 받은 알림 ack
+     * 클라이언트 → /app/notifications.ack
+     */
+    @MessageMapping("/notifications.ack") // /app/notifications.ack
+    public void acknowledge(@Payload NotificationAckRequestDto requestDto,
+                            Principal principal) {
+        UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) principal;
+        AccountAdapter account = (AccountAdapter) auth.getPrincipal();
+        notificationDeliveryRouter.acknowledge(account.getUser().getId(), requestDto.getDeliveryId());
+    }
+}
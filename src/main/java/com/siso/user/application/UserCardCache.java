@@ -0,0 +1,94 @@
+package com.siso.user.application;
+
+import com.siso.user.domain.repository.UserRepository;
+import com.siso.user.dto.UserCard;
+import com.siso.user.infrastructure.properties.UserCardCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 카드 캐시 (userId -> 닉네임 / 대표 이미지 / 나이 / 성별)
+ * - 통화 알림, 채팅 알림, 채팅 목록에서 상대 표시용으로 User / UserProfile / Image 엔티티를 읽지 않도록
+ * - 없는 항목은 프로젝션 쿼리 한 번으로 여러 명을 함께 조회
+ * - 프로필 / 이미지 변경이 커밋되면 해당 사용자만 무효화
+ * - 조회 중 무효화가 일어나면 읽은 값을 캐시에 넣지 않음 (오래된 값이 남지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCardCache {
+
+    private final UserRepository userRepository;
+    private final UserCardCacheProperties properties;
+
+    // 무효화 횟수 - 조회 전후 값이 다르면 조회 결과를 버림
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // userId -> 카드 (접근 순서 LRU)
+    private final LinkedHashMap<Long, Entry> cards = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > properties.getMaxUsers();
+        }
+    };
+
+    /**
+     * 사용자 카드 (없는 사용자면 항목이 모두 null 인 카드)
+     */
+    public UserCard get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자 카드 - 캐시에 없는 사용자만 한 번에 조회
+     */
+    public Map<Long, UserCard> getAll(Collection<Long> userIds) {
+        Map<Long, UserCard> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            for (Long userId : userIds) {
+                Entry entry = properties.isEnabled() ? cards.get(userId) : null;
+                if (entry != null && entry.expiresAt > now) {
+                    result.put(userId, entry.card);
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long seen = invalidations.get();
+        Map<Long, UserCard> loaded = new HashMap<>();
+        userRepository.findCardsByIdIn(missing).forEach(card -> loaded.put(card.userId(), card));
+        missing.forEach(userId -> loaded.putIfAbsent(userId, UserCard.unknown(userId)));
+        result.putAll(loaded);
+
+        if (properties.isEnabled()) {
+            synchronized (this) {
+                if (invalidations.get() == seen) {
+                    long expiresAt = System.currentTimeMillis() + properties.getTtlSeconds() * 1000;
+                    loaded.forEach((userId, card) -> cards.put(userId, new Entry(card, expiresAt)));
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        cards.remove(userId);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        cards.clear();
+    }
+
+    private record Entry(UserCard card, long expiresAt) {
+    }
+}
@@ -4,13 +4,16 @@ import com.siso.user.domain.model.User;
 import com.siso.user.domain.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+// 탈퇴 후 30일이 지난 사용자를 영구 삭제 (되돌릴 수 없으므로 app.user.cleanup.enabled=true 일 때만 등록)
 @Component
+@ConditionalOnProperty(prefix = "app.user.cleanup", name = "enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class UserCleanupScheduler {
     private final UserRepository userRepository;
@@ -2,6 +2,7 @@ package com.siso.user.application;
 
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
+import com.siso.common.util.TransactionUtil;
 import com.siso.image.dto.response.ImageResponseDto;
 import com.siso.user.domain.model.User;
 import com.siso.user.domain.model.UserProfile;
@@ -23,6 +24,7 @@ import java.util.Objects;
 public class UserProfileService {
     private final UserProfileRepository userProfileRepository;
     private final ImageRepository imageRepository;
+    private final UserCardCache userCardCache;
 
     // 사용자 프로필 존재 여부 확인
     public boolean existsByUserId(Long userId) {
@@ -69,6 +71,7 @@ public class UserProfileService {
                 .meetings(Objects.requireNonNullElse(dto.getMeetings(), List.of()))
                 .build();
         UserProfile savedProfile = userProfileRepository.save(profile);
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(user.getId()));
         return toDto(savedProfile);
     }
 
@@ -87,15 +90,17 @@ public class UserProfileService {
         profile.updateProfile(dto); // nickname, age, sex, preferenceSex 등 세팅
 
         UserProfile savedProfile = userProfileRepository.save(profile);
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(currentUser.getId()));
         return toDto(savedProfile);
     }
 
     // 삭제
     public void delete(Long id) {
-        if (!userProfileRepository.existsById(id)) {
-            throw new ExpectedException(ErrorCode.PROFILE_NOT_FOUND);
-        }
-        userProfileRepository.deleteById(id);
+        UserProfile profile = userProfileRepository.findById(id)
+                .orElseThrow(() -> new ExpectedException(ErrorCode.PROFILE_NOT_FOUND));
+        Long userId = profile.getUser().getId();
+        userProfileRepository.delete(profile);
+        TransactionUtil.afterCommit(() -> userCardCache.invalidate(userId));
     }
 
     // 프로필 이미지 설정 (PATCH)
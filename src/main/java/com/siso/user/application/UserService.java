@@ -3,6 +3,8 @@ package com.siso.user.application;
 import com.siso.chat.infrastructure.OnlineUserRegistry;
 import com.siso.common.exception.ErrorCode;
 import com.siso.common.exception.ExpectedException;
+import com.siso.common.firebase.application.DeliveryProfileCache;
+import com.siso.common.util.TransactionUtil;
 import com.siso.user.domain.model.PresenceStatus;
 import com.siso.user.domain.model.User;
 import com.siso.user.domain.repository.UserRepository;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final OnlineUserRegistry onlineUserRegistry;
+    private final DeliveryProfileCache deliveryProfileCache;
+    private final UserCardCache userCardCache;
 
 
     public User getUserById(Long userId) {
@@ -38,6 +42,10 @@ public class UserService {
     public void deleteUser(User user) {
         user.deleteUser();
         userRepository.save(user);
+        TransactionUtil.afterCommit(() -> {
+            deliveryProfileCache.invalidate(user.getId());
+            userCardCache.invalidate(user.getId());
+        });
     }
 
     // 하드 삭제 (스케줄러에서 호출)
@@ -45,6 +53,7 @@ public class UserService {
     public void hardDeleteUser(User user) {
         if (user.isEligibleForHardDelete()) {
             userRepository.delete(user);
+            TransactionUtil.afterCommit(() -> userCardCache.invalidate(user.getId()));
         }
     }
 
@@ -52,6 +61,7 @@ public class UserService {
     public void updateNotificationSubscribed(User user, boolean subscribed) {
         user.updateNotificationSubScribed(subscribed);
         userRepository.save(user);
+        TransactionUtil.afterCommit(() -> deliveryProfileCache.invalidate(user.getId()));
     }
 
     @Transactional
@@ -2,12 +2,14 @@ package com.siso.user.domain.repository;
 
 import com.siso.user.domain.model.Provider;
 import com.siso.user.domain.model.User;
+import com.siso.user.dto.UserCard;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,10 @@ public interface UserRepository extends Repository<User, Long> {
 
     boolean existsById(Long userId);
 
+    // 알림 수신 여부만 조회 (차단/탈퇴 사용자는 빈 값)
+    @Query("SELECT u.notificationSubscribed FROM User u WHERE u.id = :id AND u.isBlock = false AND u.isDeleted = false")
+    Optional<Boolean> findNotificationSubscribedById(@Param("id") Long id);
+
     User save(User user);
 
     // 하드 삭제용 메서드
@@ -36,12 +42,15 @@ public interface UserRepository extends Repository<User, Long> {
 
     User getReferenceById(Long id);
 
+    // 사용자 카드 일괄 조회 (닉네임 / 첫 번째 이미지 / 나이 / 성별) - UserCardCache 용
     @Query("""
-    select distinct u
-    from User u
-    left join fetch u.images
-    left join fetch u.userProfile
-    where u.id = :id and u.isBlock = false and u.isDeleted = false
-""")
-    Optional<User> findByIdWithImagesAndProfile(@Param("id") Long id);
+           SELECT new com.siso.user.dto.UserCard(u.id, p.nickname,
+               (SELECT i.path FROM Image i
+                WHERE i.id = (SELECT MIN(i2.id) FROM Image i2 WHERE i2.user.id = u.id)),
+               p.age, p.sex)
+           FROM User u
+           LEFT JOIN u.userProfile p
+           WHERE u.id IN :ids
+           """)
+    List<UserCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
 }
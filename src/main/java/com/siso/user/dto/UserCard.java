@@ -0,0 +1,23 @@
+package com.siso.user.dto;
+
+import com.siso.user.domain.model.Sex;
+
+/**
+ * 알림 / 채팅 / 통화에서 상대를 표시할 때 쓰는 사용자 요약 (프로필이나 이미지가 없으면 해당 항목은 null)
+ */
+public record UserCard(Long userId, String nickname, String imagePath, Integer age, Sex sex) {
+
+    public static UserCard unknown(Long userId) {
+        return new UserCard(userId, null, null, null, null);
+    }
+
+    // 닉네임 (프로필이 없으면 "익명")
+    public String displayName() {
+        return nickname != null ? nickname : "익명";
+    }
+
+    // 대표 이미지 (첫 번째 이미지 S3 URL, 없으면 빈 문자열)
+    public String imageUrl() {
+        return imagePath != null ? imagePath : "";
+    }
+}
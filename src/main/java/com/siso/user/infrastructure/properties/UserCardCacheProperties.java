@@ -0,0 +1,34 @@
+package com.siso.user.infrastructure.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 카드(닉네임 / 대표 이미지 / 나이 / 성별) 캐시 설정 프로퍼티
+ *
+ * application.yml의 app.user.card-cache 설정을 타입 안전하게 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.user.card-cache")
+public class UserCardCacheProperties {
+
+    /**
+     * 캐시 사용 여부 - 끄면 매번 DB 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 최대 사용자 수 (LRU)
+     */
+    @Min(value = 1, message = "최대 사용자 수는 1 이상이어야 합니다")
+    private int maxUsers = 20000;
+
+    /**
+     * 항목 유효 시간 (초) - 변경 시 즉시 무효화하므로 다른 인스턴스의 변경 반영용
+     */
+    @Min(value = 1, message = "유효 시간은 1초 이상이어야 합니다")
+    private long ttlSeconds = 600;
+}
@@ -0,0 +1,185 @@
+package com.siso.call.application;
+
+import com.siso.call.domain.model.CallQualityRollup;
+import com.siso.call.domain.repository.CallQualityRollupRepository;
+import com.siso.call.domain.repository.CallRepository;
+import com.siso.call.dto.request.CallQualitySampleDto;
+import com.siso.call.dto.response.CallQualityIngestResponseDto;
+import com.siso.call.dto.response.CallQualityStatsDto;
+import com.siso.call.infrastructure.properties.CallQualityProperties;
+import com.siso.common.exception.ExpectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 샘플 수신 상한 / 버퍼 상한, 배치마다 트랜잭션 하나로 적재, 끝난 통화의 요약 저장 후 늦은 샘플 거절을 확인
+ */
+class CallQualityServiceTest {
+    private static final Long CALL_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<CallQualityRollup> savedRollups = new ArrayList<>();
+
+    private LiveCallRegistry liveCallRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private CallQualityProperties properties;
+    private CallQualityService callQualityService;
+
+    @BeforeEach
+    void setUp() {
+        liveCallRegistry = mock(LiveCallRegistry.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        CallQualityRollupRepository callQualityRollupRepository = mock(CallQualityRollupRepository.class);
+        properties = new CallQualityProperties();
+        // 주기 작업이 테스트 도중 끼어들지 않도록 길게 (적재 / 요약은 직접 호출)
+        properties.setFlushIntervalMillis(3_600_000);
+        properties.setRollupSweepSeconds(3_600);
+
+        when(liveCallRegistry.isParticipant(CALL_ID, USER_ID)).thenReturn(true);
+        when(liveCallRegistry.isActive(anyLong())).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            Collection<?> batch = invocation.getArgument(1);
+            batchSizes.add(batch.size());
+            return new int[0][];
+        });
+        when(callQualityRollupRepository.save(any())).thenAnswer(invocation -> {
+            CallQualityRollup rollup = invocation.getArgument(0);
+            savedRollups.add(rollup);
+            return rollup;
+        });
+
+        callQualityService = new CallQualityService(liveCallRegistry, mock(CallRepository.class),
+                callQualityRollupRepository, jdbcTemplate, transactionTemplate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callQualityService.shutdown();
+    }
+
+    @Test
+    void nonParticipantIsRejected() {
+        assertThatThrownBy(() -> callQualityService.ingest(CALL_ID, 99L, samples(2)))
+                .isInstanceOf(ExpectedException.class);
+
+        assertThat(callQualityService.getStats().rejected()).isEqualTo(2L);
+    }
+
+    @Test
+    void samplesBeyondPerRequestLimitAreDropped() {
+        properties.setMaxSamplesPerRequest(3);
+
+        CallQualityIngestResponseDto response = callQualityService.ingest(CALL_ID, USER_ID, samples(5));
+
+        assertThat(response.accepted()).isEqualTo(3);
+        assertThat(response.dropped()).isEqualTo(2);
+    }
+
+    @Test
+    void fullBufferDropsNewSamples() {
+        properties.setMaxBufferedSamples(2);
+
+        assertThat(callQualityService.ingest(CALL_ID, USER_ID, samples(3)).accepted()).isEqualTo(2);
+        assertThat(callQualityService.ingest(CALL_ID, USER_ID, samples(1)).accepted()).isZero();
+        assertThat(callQualityService.getStats().buffered()).isEqualTo(2);
+    }
+
+    @Test
+    void flushWritesEachBatchInOneTransaction() {
+        properties.setBatchSize(2);
+        callQualityService.ingest(CALL_ID, USER_ID, samples(5));
+
+        flush();
+
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        CallQualityStatsDto stats = callQualityService.getStats();
+        assertThat(stats.written()).isEqualTo(5L);
+        assertThat(stats.buffered()).isZero();
+    }
+
+    @Test
+    void failedBatchIsCountedNotRethrown() {
+        doThrow(new IllegalStateException("db down")).when(transactionTemplate).executeWithoutResult(any());
+        callQualityService.ingest(CALL_ID, USER_ID, samples(3));
+
+        flush();
+
+        assertThat(callQualityService.getStats().writeFailures()).isEqualTo(3L);
+        assertThat(callQualityService.getStats().written()).isZero();
+    }
+
+    @Test
+    void endedCallIsSummarizedOnceAndLateSamplesAreRefused() {
+        callQualityService.ingest(CALL_ID, USER_ID, samples(4));
+        when(liveCallRegistry.isActive(CALL_ID)).thenReturn(false);
+
+        ReflectionTestUtils.invokeMethod(callQualityService, "closeEndedCalls");
+
+        assertThat(savedRollups).hasSize(1);
+        CallQualityRollup rollup = savedRollups.get(0);
+        assertThat(rollup.getSampleCount()).isEqualTo(4);
+        assertThat(rollup.getRttP50Ms()).isEqualTo(80);
+        assertThat(rollup.getLossAvgPermille()).isEqualTo(15);
+
+        // 참여자 확인을 통과한 늦은 샘플은 요약이 다시 만들어지지 않도록 받지 않음
+        assertThat(callQualityService.ingest(CALL_ID, USER_ID, samples(1)).accepted()).isZero();
+        ReflectionTestUtils.invokeMethod(callQualityService, "closeEndedCalls");
+        assertThat(savedRollups).hasSize(1);
+    }
+
+    private void flush() {
+        ReflectionTestUtils.invokeMethod(callQualityService, "flush");
+    }
+
+    private static List<CallQualitySampleDto> samples(int count) {
+        List<CallQualitySampleDto> samples = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            samples.add(sample(80, 1.5));
+        }
+        return samples;
+    }
+
+    private static CallQualitySampleDto sample(int rttMillis, double packetLossPercent) {
+        try {
+            Constructor<CallQualitySampleDto> constructor = CallQualitySampleDto.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            CallQualitySampleDto sample = constructor.newInstance();
+            ReflectionTestUtils.setField(sample, "rttMillis", rttMillis);
+            ReflectionTestUtils.setField(sample, "packetLossPercent", packetLossPercent);
+            ReflectionTestUtils.setField(sample, "txKbps", 500);
+            return sample;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.siso.call.application;
+
+import com.siso.call.domain.model.CallStatus;
+import com.siso.call.dto.response.CallSignalDto;
+import com.siso.call.dto.response.CallSignalingStatsDto;
+import com.siso.call.infrastructure.properties.CallSignalingProperties;
+import com.siso.chat.infrastructure.OnlineUserRegistry;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 통화 시그널이 ack 를 받으면 FCM 을 생략하고, ack 가 없거나 상대가 접속 중이 아니면 FCM 폴백을 한 번만 실행하는지 확인
+ */
+class CallSignalingServiceTest {
+    private static final Long RECEIVER_ID = 200L;
+
+    private final AtomicInteger fallbacks = new AtomicInteger();
+    private final CountDownLatch fellBack = new CountDownLatch(1);
+
+    private OnlineUserRegistry onlineUserRegistry;
+    private UserQueueMessenger userQueueMessenger;
+    private CallSignalingProperties properties;
+    private CallSignalingService callSignalingService;
+
+    @BeforeEach
+    void setUp() {
+        onlineUserRegistry = mock(OnlineUserRegistry.class);
+        userQueueMessenger = mock(UserQueueMessenger.class);
+        properties = new CallSignalingProperties();
+        properties.setAckTimeoutMillis(100);
+        callSignalingService = new CallSignalingService(onlineUserRegistry, userQueueMessenger, properties);
+
+        when(onlineUserRegistry.isOnline(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callSignalingService.shutdown();
+    }
+
+    @Test
+    void ackedSignalSkipsFcm() throws Exception {
+        CallSignalDto signal = signal();
+
+        callSignalingService.signal(RECEIVER_ID, signal, this::fallback);
+        verify(userQueueMessenger).sendToUser(eq(RECEIVER_ID), eq(CallSignalingService.DESTINATION), eq(signal));
+
+        callSignalingService.acknowledge(RECEIVER_ID, signal.signalId());
+        callSignalingService.acknowledge(RECEIVER_ID, signal.signalId()); // 중복 ack
+
+        assertThat(fellBack.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        CallSignalingStatsDto stats = callSignalingService.getStats();
+        assertThat(stats.websocketSent()).isEqualTo(1L);
+        assertThat(stats.websocketAcked()).isEqualTo(1L);
+        assertThat(stats.pendingAcks()).isZero();
+    }
+
+    @Test
+    void missingAckFallsBackToFcmOnce() throws Exception {
+        CallSignalDto signal = signal();
+
+        callSignalingService.signal(RECEIVER_ID, signal, this::fallback);
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        callSignalingService.acknowledge(RECEIVER_ID, signal.signalId()); // 대기 시간이 지난 뒤 도착한 ack
+
+        assertThat(fallbacks).hasValue(1);
+        assertThat(callSignalingService.getStats().ackTimeouts()).isEqualTo(1L);
+        assertThat(callSignalingService.getStats().websocketAcked()).isZero();
+    }
+
+    @Test
+    void ackFromAnotherUserIsIgnored() throws Exception {
+        CallSignalDto signal = signal();
+
+        callSignalingService.signal(RECEIVER_ID, signal, this::fallback);
+        callSignalingService.acknowledge(999L, signal.signalId());
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(callSignalingService.getStats().websocketAcked()).isZero();
+    }
+
+    @Test
+    void offlineReceiverGoesStraightToFcm() throws Exception {
+        when(onlineUserRegistry.isOnline(String.valueOf(RECEIVER_ID))).thenReturn(false);
+
+        callSignalingService.signal(RECEIVER_ID, signal(), this::fallback);
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(userQueueMessenger, never()).sendToUser(anyLong(), anyString(), any());
+        assertThat(callSignalingService.getStats().offline()).isEqualTo(1L);
+    }
+
+    @Test
+    void pendingAckLimitSendsStraightToFcm() throws Exception {
+        properties.setMaxPendingAcks(1);
+        properties.setAckTimeoutMillis(5_000);
+
+        callSignalingService.signal(RECEIVER_ID, signal(), null);
+        callSignalingService.signal(RECEIVER_ID, signal(), this::fallback);
+
+        assertThat(fellBack.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(userQueueMessenger, times(1)).sendToUser(anyLong(), anyString(), any());
+        assertThat(callSignalingService.getStats().pendingAcks()).isEqualTo(1);
+    }
+
+    @Test
+    void frameSendFailureFallsBackToFcm() throws Exception {
+        doThrow(new IllegalStateException("broker down")).when(userQueueMessenger).sendToUser(anyLong(), anyString(), any());
+
+        callSignalingService.signal(RECEIVER_ID, signal(), this::fallback);
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(callSignalingService.getStats().pendingAcks()).isZero();
+        assertThat(callSignalingService.getStats().websocketSent()).isZero();
+    }
+
+    private void fallback() {
+        fallbacks.incrementAndGet();
+        fellBack.countDown();
+    }
+
+    private static CallSignalDto signal() {
+        return CallSignalDto.of(CallStatus.REQUESTED, 1L, 100L, "caller", null, "channel", "token");
+    }
+}
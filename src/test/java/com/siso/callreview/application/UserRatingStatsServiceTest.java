@@ -0,0 +1,110 @@
+package com.siso.callreview.application;
+
+import com.siso.callreview.domain.repository.UserRatingStatsRepository;
+import com.siso.common.migration.OneTimeTaskRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 평가 작성 / 수정이 집계 행 upsert / 증감으로 반영되고, 재집계는 한 번만 실행되며 작성자 없는 평가를 빼는지 확인
+ */
+class UserRatingStatsServiceTest {
+    private static final Long TARGET_ID = 7L;
+
+    private final List<String> executedSql = new ArrayList<>();
+
+    private UserRatingStatsRepository userRatingStatsRepository;
+    private OneTimeTaskRunner oneTimeTaskRunner;
+    private UserRatingStatsService userRatingStatsService;
+
+    @BeforeEach
+    void setUp() {
+        userRatingStatsRepository = mock(UserRatingStatsRepository.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        oneTimeTaskRunner = mock(OneTimeTaskRunner.class);
+        userRatingStatsService = new UserRatingStatsService(userRatingStatsRepository, jdbcTemplate, oneTimeTaskRunner);
+
+        when(jdbcTemplate.update(anyString())).thenAnswer(invocation -> {
+            executedSql.add(invocation.getArgument(0));
+            return 0;
+        });
+    }
+
+    @Test
+    void newReviewUpsertsTargetRow() {
+        userRatingStatsService.recordRating(TARGET_ID, 4);
+
+        verify(userRatingStatsRepository).addRating(TARGET_ID, 4);
+    }
+
+    @Test
+    void ratingChangeAdjustsExistingRow() {
+        when(userRatingStatsRepository.changeRating(TARGET_ID, 2, 5)).thenReturn(1);
+
+        userRatingStatsService.changeRating(TARGET_ID, 2, 5);
+
+        verify(userRatingStatsRepository).changeRating(TARGET_ID, 2, 5);
+        verify(userRatingStatsRepository, never()).addRating(anyLong(), anyInt());
+    }
+
+    @Test
+    void ratingChangeWithoutRowUpsertsNewRating() {
+        when(userRatingStatsRepository.changeRating(TARGET_ID, 2, 5)).thenReturn(0);
+
+        userRatingStatsService.changeRating(TARGET_ID, 2, 5);
+
+        verify(userRatingStatsRepository).addRating(TARGET_ID, 5);
+    }
+
+    @Test
+    void unchangedRatingTouchesNothing() {
+        userRatingStatsService.changeRating(TARGET_ID, 3, 3);
+
+        verifyNoInteractions(userRatingStatsRepository);
+    }
+
+    @Test
+    void firstStartRebuildsWithoutNullEvaluators() {
+        when(oneTimeTaskRunner.runOnce(eq(UserRatingStatsService.REBUILD_TASK), any())).thenAnswer(invocation -> {
+            Runnable task = invocation.getArgument(1);
+            task.run();
+            return true;
+        });
+
+        userRatingStatsService.initialize();
+
+        assertThat(executedSql).hasSize(2);
+        assertThat(executedSql.get(0)).contains("SET cr.evaluator_id = c.caller_id");
+        assertThat(executedSql.get(1)).contains("INSERT INTO user_rating_stats", "cr.evaluator_id IS NOT NULL");
+    }
+
+    @Test
+    void laterStartsSkipRebuild() {
+        when(oneTimeTaskRunner.runOnce(eq(UserRatingStatsService.REBUILD_TASK), any())).thenReturn(false);
+
+        userRatingStatsService.initialize();
+
+        assertThat(executedSql).isEmpty();
+    }
+
+    @Test
+    void validRatingIsOneToFive() {
+        assertThat(UserRatingStatsService.isValidRating(1)).isTrue();
+        assertThat(UserRatingStatsService.isValidRating(5)).isTrue();
+        assertThat(UserRatingStatsService.isValidRating(0)).isFalse();
+        assertThat(UserRatingStatsService.isValidRating(6)).isFalse();
+        assertThat(UserRatingStatsService.isValidRating(null)).isFalse();
+    }
+}
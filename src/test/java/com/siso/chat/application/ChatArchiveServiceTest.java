@@ -0,0 +1,114 @@
+package com.siso.chat.application;
+
+import com.siso.chat.domain.repository.ChatMessageRepository;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.archive.ChatMessageArchive;
+import com.siso.chat.infrastructure.properties.ChatArchiveProperties;
+import com.siso.common.partition.PartitionMaintenanceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 한 번에 끝나지 않는 과거 메시지를 실행마다 이어서 옮기고, 끝까지 옮긴 뒤에만 파티션을 지우는지 확인
+ */
+class ChatArchiveServiceTest {
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(400);
+
+    @TempDir
+    Path dir;
+
+    private final List<ChatMessageResponseDto> table = new ArrayList<>(); // chat_messages 대역 (id 오름차순)
+    private final List<Long> requestedAfterIds = new ArrayList<>();
+    private ChatMessageRepository chatMessageRepository;
+    private PartitionMaintenanceService partitionMaintenanceService;
+    private ChatMessageArchive archive;
+    private ChatArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        ChatArchiveProperties properties = new ChatArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(dir.toString());
+        properties.setRequireMountedDirectory(false);
+        properties.setBatchSize(10);
+        properties.setMaxBatchesPerRun(1);
+        archive = new ChatMessageArchive(properties);
+
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        when(chatMessageRepository.findArchiveCandidates(any(), anyLong(), any())).thenAnswer(invocation -> {
+            LocalDateTime cutoff = invocation.getArgument(0);
+            long afterId = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            requestedAfterIds.add(afterId);
+            return table.stream()
+                    .filter(m -> m.getCreatedAt().isBefore(cutoff) && m.getId() > afterId)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        partitionMaintenanceService = mock(PartitionMaintenanceService.class);
+        when(partitionMaintenanceService.isPartitioned(PartitionMaintenanceService.CHAT_MESSAGES)).thenReturn(true);
+
+        service = new ChatArchiveService(chatMessageRepository, archive, properties, partitionMaintenanceService);
+        for (long id = 1; id <= 25; id++) {
+            table.add(new ChatMessageResponseDto(id, id % 2 + 1, 100L, "메시지 " + id, OLD, null, false));
+        }
+    }
+
+    @Test
+    void backlogLargerThanOneRunResumesFromCursor() {
+        service.archiveOldMessages();
+        service.archiveOldMessages();
+
+        // 파티션 모드에서는 행이 남아 있어도 처음부터 다시 읽지 않음
+        assertThat(requestedAfterIds).containsExactly(0L, 10L);
+        assertThat(archive.lastArchivedId(1L) + archive.lastArchivedId(2L)).isEqualTo(20 + 19);
+        verify(partitionMaintenanceService, never()).dropPartitionsBefore(any(), any());
+    }
+
+    @Test
+    void partitionIsDroppedOnlyAfterCursorPassesLastMessage() {
+        service.archiveOldMessages();
+        service.archiveOldMessages();
+        service.archiveOldMessages(); // 21..25 → 끝
+
+        verify(partitionMaintenanceService, times(1))
+                .dropPartitionsBefore(eq(PartitionMaintenanceService.CHAT_MESSAGES), any(LocalDate.class));
+        assertThat(archive.readAll(1L)).hasSize(12);
+        assertThat(archive.readAll(2L)).hasSize(13);
+        assertThat(archive.readCursor().orElseThrow().completed()).isTrue();
+
+        // 끝난 뒤 실행은 같은 구간을 다시 옮기지 않음
+        service.archiveOldMessages();
+        assertThat(archive.readAll(1L)).hasSize(12);
+        assertThat(requestedAfterIds.get(requestedAfterIds.size() - 1)).isEqualTo(25L);
+    }
+
+    @Test
+    void nonPartitionedRunDeletesArchivedRows() {
+        when(partitionMaintenanceService.isPartitioned(PartitionMaintenanceService.CHAT_MESSAGES)).thenReturn(false);
+        doAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            table.removeIf(m -> ids.contains(m.getId()));
+            return null;
+        }).when(chatMessageRepository).deleteAllByIdInBatch(any());
+
+        service.archiveOldMessages();
+
+        assertThat(table).hasSize(15);
+        verify(partitionMaintenanceService, never()).dropPartitionsBefore(any(), any());
+    }
+}
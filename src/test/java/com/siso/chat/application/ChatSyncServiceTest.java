@@ -0,0 +1,120 @@
+package com.siso.chat.application;
+
+import com.siso.chat.domain.model.ChatMessage;
+import com.siso.chat.domain.model.ChatRoom;
+import com.siso.chat.domain.model.ChatRoomMember;
+import com.siso.chat.domain.model.ChatRoomMemberStatus;
+import com.siso.chat.domain.repository.ChatMessageRepository;
+import com.siso.chat.domain.repository.ChatRoomMemberRepository;
+import com.siso.chat.dto.request.ChatSyncRequestDto;
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.dto.response.ChatSyncResponseDto;
+import com.siso.user.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이전 동기화의 syncedAt 보다 먼저 updatedAt 이 찍혔지만 그 조회 뒤에 커밋된 수정이 다음 동기화에서 내려가는지 확인
+ */
+class ChatSyncServiceTest {
+    private static final Long ROOM_ID = 1L;
+    private static final LocalDateTime SYNCED_AT = LocalDateTime.of(2026, 3, 1, 12, 0, 0);
+
+    private final List<ChatMessage> table = new ArrayList<>(); // changedSince 로 거르는 chat_messages 대역
+    private ChatMessageRepository chatMessageRepository;
+    private ChatSyncService chatSyncService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        ChatRoomMemberRepository chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+        ChatRoomMemberService chatRoomMemberService = mock(ChatRoomMemberService.class);
+        chatSyncService = new ChatSyncService(chatMessageRepository, chatRoomMemberRepository, chatRoomMemberService);
+
+        user = mock(User.class);
+        when(user.getId()).thenReturn(10L);
+        ChatRoom room = mock(ChatRoom.class);
+        when(room.getId()).thenReturn(ROOM_ID);
+        ChatRoomMember member = mock(ChatRoomMember.class);
+        when(member.getChatRoom()).thenReturn(room);
+        when(chatRoomMemberRepository.findByUserIdAndChatRoomMemberStatus(10L, ChatRoomMemberStatus.JOINED))
+                .thenReturn(List.of(member));
+        when(chatRoomMemberService.getUnreadCounts(any(), any())).thenReturn(Map.of());
+        when(chatMessageRepository.countNewMessagesByRoom(anyMap())).thenReturn(Map.of());
+        when(chatMessageRepository.findDeltaMessages(anyMap(), any())).thenAnswer(invocation -> {
+            Map<Long, Long> lastSeenByRoom = invocation.getArgument(0);
+            LocalDateTime changedSince = invocation.getArgument(1);
+            return table.stream()
+                    .filter(m -> m.getId() > lastSeenByRoom.get(ROOM_ID)
+                            || (changedSince != null && m.getUpdatedAt().isAfter(changedSince)))
+                    .toList();
+        });
+    }
+
+    @Test
+    void editStampedBeforeSyncedAtButCommittedLaterIsReturned() {
+        // 이전 동기화(syncedAt) 직전에 수정 시각이 찍혔지만 그 동기화의 조회 뒤에 커밋됨
+        table.add(message(5L, SYNCED_AT.minusSeconds(1), "edited"));
+
+        ChatSyncResponseDto response = chatSyncService.sync(request(Map.of(ROOM_ID, 5L), SYNCED_AT), user);
+
+        List<ChatMessageResponseDto> messages = response.rooms().get(0).messages();
+        assertThat(messages).hasSize(1);
+        assertThat(messages.get(0).getContent()).isEqualTo("edited");
+    }
+
+    @Test
+    void changesOlderThanOverlapAreNotResent() {
+        table.add(message(5L, SYNCED_AT.minus(ChatSyncService.CHANGE_OVERLAP).minusSeconds(1), "old edit"));
+
+        ChatSyncResponseDto response = chatSyncService.sync(request(Map.of(ROOM_ID, 5L), SYNCED_AT), user);
+
+        assertThat(response.rooms().get(0).messages()).isEmpty();
+    }
+
+    @Test
+    void withoutSinceOnlyNewMessagesAreReturned() {
+        table.add(message(5L, SYNCED_AT, "seen"));
+        table.add(message(6L, SYNCED_AT, "new"));
+
+        ChatSyncResponseDto response = chatSyncService.sync(request(Map.of(ROOM_ID, 5L), null), user);
+
+        assertThat(response.rooms().get(0).messages()).hasSize(1);
+        assertThat(response.rooms().get(0).lastMessageId()).isEqualTo(6L);
+    }
+
+    private ChatMessage message(Long id, LocalDateTime updatedAt, String content) {
+        ChatRoom room = mock(ChatRoom.class);
+        when(room.getId()).thenReturn(ROOM_ID);
+        User sender = mock(User.class);
+        when(sender.getId()).thenReturn(20L);
+        ChatMessage message = mock(ChatMessage.class);
+        when(message.getId()).thenReturn(id);
+        when(message.getChatRoom()).thenReturn(room);
+        when(message.getSender()).thenReturn(sender);
+        when(message.getContent()).thenReturn(content);
+        when(message.getCreatedAt()).thenReturn(updatedAt);
+        when(message.getUpdatedAt()).thenReturn(updatedAt);
+        return message;
+    }
+
+    private static ChatSyncRequestDto request(Map<Long, Long> rooms, LocalDateTime since) {
+        ChatSyncRequestDto request = BeanUtils.instantiateClass(ChatSyncRequestDto.class);
+        ReflectionTestUtils.setField(request, "rooms", rooms);
+        ReflectionTestUtils.setField(request, "since", since);
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package com.siso.chat.domain.repository;
+
+import com.siso.chat.domain.model.ChatRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 두 사람의 방은 pair_key 중복으로 한 번만 만들어지고, 중복 키가 아닌 무결성 오류는 숨기지 않는지 확인
+ */
+class ChatRoomRepositoryImplTest {
+    private JdbcTemplate jdbcTemplate;
+    private ChatRoomRepositoryImpl chatRoomRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        chatRoomRepository = new ChatRoomRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void pairKeyIgnoresOrder() {
+        assertThat(ChatRoom.pairKey(3L, 12L)).isEqualTo("3:12");
+        assertThat(ChatRoom.pairKey(12L, 3L)).isEqualTo(ChatRoom.pairKey(3L, 12L));
+    }
+
+    @Test
+    void secondInsertForSamePairIsRejectedByUniqueKey() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenReturn(1)
+                .thenThrow(new DuplicateKeyException("Duplicate entry '3:12' for key 'uk_chat_rooms_pair_key'"));
+
+        assertThat(chatRoomRepository.insertIfAbsent(1L, "LIMITED", ChatRoom.pairKey(3L, 12L))).isTrue();
+        assertThat(chatRoomRepository.insertIfAbsent(2L, "LIMITED", ChatRoom.pairKey(12L, 3L))).isFalse();
+    }
+
+    @Test
+    void otherIntegrityErrorsAreNotSwallowed() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("Cannot add or update a child row: a foreign key constraint fails"));
+
+        assertThatThrownBy(() -> chatRoomRepository.insertIfAbsent(999L, "LIMITED", "3:12"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,166 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.WebSocketSessionStatsDto;
+import com.siso.chat.infrastructure.properties.WebSocketOutboundProperties;
+import com.siso.chat.infrastructure.properties.WebSocketOutboundProperties.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 첫 전송이 멈춘 느린 세션에서 송신 큐 넘침 정책이 실제로 적용되는지 확인
+ */
+class OutboundBackpressureSessionTest {
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+    private WebSocketSession delegate;
+    private WebSocketOutboundProperties properties;
+    private Thread firstSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("s-1");
+        when(delegate.isOpen()).thenReturn(true);
+        // 첫 프레임 전송에서 releaseSend 가 열릴 때까지 멈추는 느린 클라이언트
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            if (sendStarted.getCount() > 0) {
+                sendStarted.countDown();
+                releaseSend.await(5, TimeUnit.SECONDS);
+            }
+            delivered.add(String.valueOf(message.getPayload()));
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        properties = new WebSocketOutboundProperties();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseSend.countDown();
+        if (firstSender != null) {
+            firstSender.join(5_000);
+        }
+    }
+
+    @Test
+    void coalescesNonCriticalFramesWithSameRoomWhileSendIsStalled() throws Exception {
+        properties.setOverflowPolicy(OverflowPolicy.COALESCE);
+        OutboundBackpressureSession session = stallFirstSend();
+
+        session.sendMessage(chatList(7, 1));
+        session.sendMessage(chatList(7, 2));
+        session.sendMessage(chatList(7, 3));
+
+        WebSocketSessionStatsDto stats = session.toStats();
+        assertThat(stats.coalescedFrames()).isEqualTo(2);
+        assertThat(stats.queuedFrames()).isEqualTo(1);
+
+        releaseAndWait();
+        assertThat(delivered).hasSize(2);
+        assertThat(delivered.get(1)).contains("\"unreadCount\":3");
+    }
+
+    @Test
+    void dropsOldestNonCriticalFrameWhenQueueIsFull() throws Exception {
+        properties.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        properties.setMaxQueuedFrames(2);
+        OutboundBackpressureSession session = stallFirstSend();
+
+        session.sendMessage(chatList(7, 1));
+        session.sendMessage(chatList(8, 1));
+        session.sendMessage(chatList(9, 1));
+
+        assertThat(session.toStats().droppedFrames()).isEqualTo(1);
+
+        releaseAndWait();
+        assertThat(delivered).hasSize(3);
+        assertThat(delivered.get(1)).contains("\"chatRoomId\":8");
+        assertThat(delivered.get(2)).contains("\"chatRoomId\":9");
+        verify(delegate, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    void closesSessionWhenQueueOverflowsWithDisconnectPolicy() throws Exception {
+        properties.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+        properties.setMaxQueuedFrames(1);
+        OutboundBackpressureSession session = stallFirstSend();
+
+        session.sendMessage(chatList(7, 1));
+        session.sendMessage(chatList(8, 1));
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(session.toStats().queuedFrames()).isZero();
+    }
+
+    @Test
+    void neverDropsCriticalFrames() throws Exception {
+        properties.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        properties.setMaxQueuedFrames(1);
+        OutboundBackpressureSession session = stallFirstSend();
+
+        session.sendMessage(message("/user/queue/chat-room/7", "{\"chatRoomId\":7}"));
+        session.sendMessage(message("/user/queue/chat-room/7", "{\"chatRoomId\":7}"));
+
+        assertThat(session.toStats().droppedFrames()).isZero();
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    void subProtocolHandlerDecoratesSessionsWithOutboundQueue() {
+        WebSocketSessionMonitor monitor = new WebSocketSessionMonitor(properties);
+        BackpressureSubProtocolWebSocketHandler handler = new BackpressureSubProtocolWebSocketHandler(
+                mock(MessageChannel.class), mock(SubscribableChannel.class), monitor);
+
+        assertThat(handler.decorateSession(delegate)).isInstanceOf(OutboundBackpressureSession.class);
+        assertThat(monitor.getSessionCount()).isEqualTo(1);
+    }
+
+    /**
+     * 다른 스레드에서 첫 프레임을 보내 delegate 전송이 멈춘 상태를 만듦
+     */
+    private OutboundBackpressureSession stallFirstSend() throws Exception {
+        OutboundBackpressureSession session = new OutboundBackpressureSession(delegate, properties);
+        firstSender = new Thread(() -> {
+            try {
+                session.sendMessage(message("/user/queue/chat-room/1", "{\"chatRoomId\":1}"));
+            } catch (Exception ignored) {
+            }
+        });
+        firstSender.start();
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return session;
+    }
+
+    private void releaseAndWait() throws InterruptedException {
+        releaseSend.countDown();
+        firstSender.join(5_000);
+    }
+
+    private static TextMessage chatList(long chatRoomId, int unreadCount) {
+        return message("/user/queue/chat-list",
+                "{\"chatRoomId\":" + chatRoomId + ",\"unreadCount\":" + unreadCount + "}");
+    }
+
+    private static TextMessage message(String destination, String body) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\nsubscription:sub-0\n\n" + body + "\u0000");
+    }
+}
@@ -0,0 +1,100 @@
+package com.siso.chat.infrastructure;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.properties.RecentMessageCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기만 있는 방이 LRU 자리를 차지하지 않고, 읽는 중에 커밋된 쓰기는 fill 에 병합되는지 확인
+ */
+class RecentMessageCacheTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private RecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RecentMessageCacheProperties properties = new RecentMessageCacheProperties();
+        properties.setMessagesPerRoom(3);
+        properties.setMaxRooms(2);
+        cache = new RecentMessageCache(properties);
+    }
+
+    @Test
+    void appendToColdRoomDoesNotEvictWarmRooms() {
+        warm(1L, message(1L, 10L, "a"));
+        warm(2L, message(2L, 20L, "b"));
+
+        cache.append(message(3L, 30L, "c"));
+        cache.update(message(4L, 40L, "d"));
+
+        assertThat(cache.getRoomCount()).isEqualTo(2);
+        assertThat(cache.getRecent(1L, 1)).isPresent();
+        assertThat(cache.getRecent(2L, 1)).isPresent();
+        assertThat(cache.getRecent(3L, 1)).isEmpty();
+    }
+
+    @Test
+    void appendToWarmRoomIsServedFromBuffer() {
+        warm(1L, message(1L, 10L, "a"));
+
+        cache.append(message(1L, 11L, "b"));
+
+        assertThat(ids(cache.getRecent(1L, 2).orElseThrow())).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void writesCommittedDuringLoadAreMerged() {
+        cache.beginLoad(1L);
+        cache.append(message(1L, 12L, "new"));
+        cache.update(edited(1L, 11L, "edited"));
+
+        cache.fill(1L, List.of(message(1L, 10L, "a"), message(1L, 11L, "b")), true);
+
+        List<ChatMessageResponseDto> recent = cache.getRecent(1L, 3).orElseThrow();
+        assertThat(ids(recent)).containsExactly(10L, 11L, 12L);
+        assertThat(recent.get(1).getContent()).isEqualTo("edited");
+    }
+
+    @Test
+    void abortedLoadStopsCollectingWrites() {
+        cache.beginLoad(1L);
+        cache.abortLoad(1L);
+        cache.append(message(1L, 12L, "new"));
+
+        assertThat(cache.getRoomCount()).isZero();
+    }
+
+    @Test
+    void evictDuringLoadSkipsFill() {
+        cache.beginLoad(1L);
+        cache.evict(1L);
+
+        cache.fill(1L, List.of(message(1L, 10L, "a")), true);
+
+        assertThat(cache.getRecent(1L, 1)).isEmpty();
+    }
+
+    private void warm(Long chatRoomId, ChatMessageResponseDto... messages) {
+        cache.beginLoad(chatRoomId);
+        cache.fill(chatRoomId, List.of(messages), true);
+    }
+
+    private static ChatMessageResponseDto message(Long chatRoomId, Long id, String content) {
+        return new ChatMessageResponseDto(id, chatRoomId, 100L, content, T0, T0, false);
+    }
+
+    private static ChatMessageResponseDto edited(Long chatRoomId, Long id, String content) {
+        return new ChatMessageResponseDto(id, chatRoomId, 100L, content, T0, T0.plusMinutes(1), false);
+    }
+
+    private static List<Long> ids(List<ChatMessageResponseDto> messages) {
+        return messages.stream().map(ChatMessageResponseDto::getId).toList();
+    }
+}
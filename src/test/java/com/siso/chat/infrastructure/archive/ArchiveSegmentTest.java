@@ -0,0 +1,102 @@
+package com.siso.chat.infrastructure.archive;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveSegmentTest {
+    private static final long CHAT_ROOM_ID = 7L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void appendedMessagesRoundTripAcrossBlocksAndReopen() throws Exception {
+        Path dataPath = dir.resolve("room-7/seg-0000000000000000001.dat");
+        ArchiveSegment segment = ArchiveSegment.create(CHAT_ROOM_ID, dataPath);
+        segment.append(messages(1, 10), 4);   // 블록 3개 (4 + 4 + 2)
+        segment.append(messages(11, 25), 4);  // 이어 붙이기
+
+        for (ArchiveSegment s : List.of(segment, ArchiveSegment.open(CHAT_ROOM_ID, dataPath))) {
+            assertThat(s.firstId()).isEqualTo(1);
+            assertThat(s.lastId()).isEqualTo(25);
+            List<ChatMessageResponseDto> all = s.readAll();
+            assertThat(all).extracting(ChatMessageResponseDto::getId).containsExactlyElementsOf(ids(1, 25));
+
+            ChatMessageResponseDto first = all.get(0);
+            assertThat(first.getChatRoomId()).isEqualTo(CHAT_ROOM_ID);
+            assertThat(first.getSenderId()).isEqualTo(100L);
+            assertThat(first.getContent()).isEqualTo("메시지 1");
+            assertThat(first.getCreatedAt()).isEqualTo(BASE.plusMinutes(1));
+            assertThat(first.getUpdatedAt()).isNull();
+            assertThat(all.get(2).isDeleted()).isTrue();
+        }
+    }
+
+    @Test
+    void readBeforeReturnsLatestMessagesBelowCursorInAscendingOrder() throws Exception {
+        ArchiveSegment segment = ArchiveSegment.create(CHAT_ROOM_ID, dir.resolve("seg-0000000000000000001.dat"));
+        segment.append(messages(1, 30), 8);
+
+        assertThat(segment.readBefore(20, 5)).extracting(ChatMessageResponseDto::getId)
+                .containsExactly(15L, 16L, 17L, 18L, 19L);
+        assertThat(segment.readBefore(Long.MAX_VALUE, 3)).extracting(ChatMessageResponseDto::getId)
+                .containsExactly(28L, 29L, 30L);
+        assertThat(segment.readBefore(4, 10)).extracting(ChatMessageResponseDto::getId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(segment.readBefore(1, 10)).isEmpty();
+    }
+
+    @Test
+    void findReturnsOnlyArchivedIds() throws Exception {
+        ArchiveSegment segment = ArchiveSegment.create(CHAT_ROOM_ID, dir.resolve("seg-0000000000000000001.dat"));
+        List<ChatMessageResponseDto> sparse = new ArrayList<>();
+        for (long id : new long[]{2, 4, 6, 8, 10}) {
+            sparse.add(message(id));
+        }
+        segment.append(sparse, 2);
+
+        Map<Long, ChatMessageResponseDto> found = segment.find(List.of(1L, 4L, 8L, 11L));
+        assertThat(found).containsOnlyKeys(4L, 8L);
+        assertThat(found.get(8L).getContent()).isEqualTo("메시지 8");
+    }
+
+    @Test
+    void emptySegmentHasNoRange() throws Exception {
+        ArchiveSegment segment = ArchiveSegment.create(CHAT_ROOM_ID, dir.resolve("seg-0000000000000000001.dat"));
+
+        assertThat(segment.isEmpty()).isTrue();
+        assertThat(segment.lastId()).isZero();
+        assertThat(segment.readBefore(Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    static List<ChatMessageResponseDto> messages(long fromId, long toId) {
+        List<ChatMessageResponseDto> messages = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            messages.add(message(id));
+        }
+        return messages;
+    }
+
+    static ChatMessageResponseDto message(long id) {
+        return new ChatMessageResponseDto(id, CHAT_ROOM_ID, 100L, "메시지 " + id,
+                BASE.plusMinutes(id), null, id == 3);
+    }
+
+    private static List<Long> ids(long fromId, long toId) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package com.siso.chat.infrastructure.archive;
+
+import com.siso.chat.dto.response.ChatMessageResponseDto;
+import com.siso.chat.infrastructure.properties.ChatArchiveProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    private ChatMessageArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        ChatArchiveProperties properties = new ChatArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(dir.toString());
+        properties.setMessagesPerBlock(8);
+        properties.setMaxOpenRooms(2);
+        archive = new ChatMessageArchive(properties);
+    }
+
+    @Test
+    void evictedRoomsAreReopenedFromDisk() throws Exception {
+        for (long roomId = 1; roomId <= 4; roomId++) {
+            archive.append(roomId, ArchiveSegmentTest.messages(roomId * 100, roomId * 100 + 9));
+        }
+
+        assertThat(archive.getOpenRoomCount()).isEqualTo(2);
+        // 밀려난 방도 다시 열어 읽고 이어 쓸 수 있음
+        assertThat(archive.lastArchivedId(1L)).isEqualTo(109);
+        archive.append(1L, ArchiveSegmentTest.messages(110, 119));
+        assertThat(archive.readBefore(1L, Long.MAX_VALUE, 3))
+                .extracting(ChatMessageResponseDto::getId)
+                .containsExactly(117L, 118L, 119L);
+        assertThat(archive.getOpenRoomCount()).isEqualTo(2);
+        assertThat(archive.archivedRoomIds()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void droppedRoomIsRemovedFromDisk() throws Exception {
+        archive.append(1L, ArchiveSegmentTest.messages(1, 5));
+
+        archive.dropRoom(1L);
+
+        assertThat(archive.lastArchivedId(1L)).isZero();
+        assertThat(archive.archivedRoomIds()).isEmpty();
+    }
+
+    @Test
+    void cursorSurvivesReopenAndUnreadableCursorStartsOver() throws Exception {
+        assertThat(archive.readCursor()).isEmpty();
+
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        archive.writeCursor(new ChatMessageArchive.Cursor(cutoff, 42L, false));
+
+        ChatArchiveProperties properties = new ChatArchiveProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(dir.toString());
+        assertThat(new ChatMessageArchive(properties).readCursor())
+                .contains(new ChatMessageArchive.Cursor(cutoff, 42L, false));
+
+        Files.writeString(dir.resolve("cursor.properties"), "cutoff=broken");
+        assertThat(archive.readCursor()).isEmpty();
+    }
+}
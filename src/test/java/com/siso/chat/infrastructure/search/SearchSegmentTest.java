@@ -0,0 +1,81 @@
+package com.siso.chat.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tokenizerSplitsNormalizedTextIntoSortedDistinctBigrams() {
+        assertThat(BigramTokenizer.normalize("ＡＢＣ Hello")).isEqualTo("abc hello");
+        assertThat(BigramTokenizer.tokens("안녕하세요, 반가워요!")).containsExactly("안녕하세요", "반가워요");
+
+        int[] terms = BigramTokenizer.terms("하하하 하하");
+        assertThat(terms).hasSize(1); // "하하" 하나로 중복 제거
+
+        int[] sentence = BigramTokenizer.terms("안녕하세요");
+        assertThat(sentence).hasSize(4);
+        assertThat(sentence).isSorted();
+        assertThat(sentence).contains(BigramTokenizer.terms("하세"));
+        assertThat(BigramTokenizer.terms("가")).isEmpty(); // 한 글자는 바이그램 없음
+    }
+
+    @Test
+    void writtenPostingsRoundTripThroughMappedFile() throws Exception {
+        Map<Integer, long[]> postings = new HashMap<>();
+        postings.put(BigramTokenizer.terms("하세")[0], new long[]{3, 17, 18, 1_000_000_007L});
+        postings.put(BigramTokenizer.terms("ab")[0], new long[]{5});
+        postings.put(-2, new long[]{Long.MAX_VALUE - 1}); // 음수 term, 큰 id 의 varint
+
+        SearchSegment written = SearchSegment.write(dir.resolve("seg-000000000001.idx"), postings);
+        SearchSegment reopened = SearchSegment.open(written.getPath());
+
+        for (SearchSegment segment : new SearchSegment[]{written, reopened}) {
+            assertThat(segment.getTermCount()).isEqualTo(3);
+            assertThat(segment.getMaxMessageId()).isEqualTo(Long.MAX_VALUE - 1);
+            postings.forEach((term, ids) -> assertThat(segment.postings(term)).containsExactly(ids));
+            assertThat(segment.postings(BigramTokenizer.terms("없음")[0])).isEmpty();
+        }
+        // 병합 순회는 term 오름차순
+        int[] order = new int[reopened.getTermCount()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = reopened.termAt(i);
+        }
+        assertThat(order).isSorted();
+    }
+
+    @Test
+    void indexedMessagesAreFoundBySubstringQuery() throws Exception {
+        Map<Long, String> messages = Map.of(
+                1L, "오늘 저녁에 만나요",
+                2L, "내일 저녁은 어때요?",
+                3L, "Good evening");
+
+        Map<Integer, long[]> postings = new TreeMap<>();
+        messages.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    for (int term : BigramTokenizer.terms(entry.getValue())) {
+                        long[] ids = postings.getOrDefault(term, new long[0]);
+                        long[] next = Arrays.copyOf(ids, ids.length + 1);
+                        next[ids.length] = entry.getKey();
+                        postings.put(term, next);
+                    }
+                });
+        SearchSegment segment = SearchSegment.write(dir.resolve("seg-000000000002.idx"), postings);
+
+        assertThat(segment.postings(BigramTokenizer.terms("저녁")[0])).containsExactly(1L, 2L);
+        assertThat(segment.postings(BigramTokenizer.terms("EVENING")[0])).containsExactly(3L);
+    }
+}
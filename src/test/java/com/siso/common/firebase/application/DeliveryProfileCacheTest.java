@@ -0,0 +1,112 @@
+package com.siso.common.firebase.application;
+
+import com.siso.common.firebase.domain.repository.FcmTokenRepository;
+import com.siso.common.firebase.infrastructure.properties.DeliveryProfileCacheProperties;
+import com.siso.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DeliveryProfileCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private UserRepository userRepository;
+    private FcmTokenRepository fcmTokenRepository;
+    private DeliveryProfileCacheProperties properties;
+    private DeliveryProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        fcmTokenRepository = mock(FcmTokenRepository.class);
+        properties = new DeliveryProfileCacheProperties();
+        properties.setMaxUsers(2);
+        cache = new DeliveryProfileCache(userRepository, fcmTokenRepository, properties);
+
+        when(userRepository.findNotificationSubscribedById(anyLong())).thenReturn(Optional.of(true));
+        when(fcmTokenRepository.findActiveTokensByUserId(anyLong())).thenReturn(List.of("token-a"));
+    }
+
+    @Test
+    void cachesProfileUntilInvalidated() {
+        assertThat(cache.get(USER_ID).tokens()).containsExactly("token-a");
+        assertThat(cache.get(USER_ID).tokens()).containsExactly("token-a");
+        verify(fcmTokenRepository, times(1)).findActiveTokensByUserId(USER_ID);
+
+        when(fcmTokenRepository.findActiveTokensByUserId(USER_ID)).thenReturn(List.of("token-a", "token-b"));
+        cache.invalidate(USER_ID);
+
+        assertThat(cache.get(USER_ID).tokens()).containsExactly("token-a", "token-b");
+        verify(fcmTokenRepository, times(2)).findActiveTokensByUserId(USER_ID);
+    }
+
+    @Test
+    void loadThatStraddlesInvalidationIsNotCached() {
+        // 토큰 조회 도중 다른 스레드의 토큰 등록이 커밋되어 무효화됨
+        when(fcmTokenRepository.findActiveTokensByUserId(USER_ID)).thenAnswer(invocation -> {
+            cache.invalidate(USER_ID);
+            return List.of("token-a");
+        });
+
+        cache.get(USER_ID);
+        cache.get(USER_ID);
+
+        verify(fcmTokenRepository, times(2)).findActiveTokensByUserId(USER_ID);
+    }
+
+    @Test
+    void unsubscribedOrMissingUserGetsNoTokens() {
+        when(userRepository.findNotificationSubscribedById(USER_ID)).thenReturn(Optional.empty());
+
+        DeliveryProfileCache.DeliveryProfile profile = cache.get(USER_ID);
+
+        assertThat(profile.subscribed()).isFalse();
+        assertThat(profile.tokens()).isEmpty();
+        verify(fcmTokenRepository, never()).findActiveTokensByUserId(USER_ID);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUserBeyondMaxUsers() {
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L); // 1 을 최근 사용으로
+        cache.get(3L); // 2 가 밀려남
+
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(fcmTokenRepository, times(1)).findActiveTokensByUserId(1L);
+        verify(fcmTokenRepository, times(2)).findActiveTokensByUserId(2L);
+    }
+
+    @Test
+    void registrationIsRememberedPerUserUntilTokenIsForgotten() {
+        cache.rememberRegistration(USER_ID, "token-a");
+
+        assertThat(cache.isRegistered(USER_ID, "token-a")).isTrue();
+        assertThat(cache.isRegistered(2L, "token-a")).isFalse(); // 같은 기기에 다른 사용자가 로그인
+        assertThat(cache.isRegistered(USER_ID, "token-b")).isFalse();
+
+        cache.forgetTokens(List.of("token-a"));
+
+        assertThat(cache.isRegistered(USER_ID, "token-a")).isFalse();
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        properties.setEnabled(false);
+
+        cache.get(USER_ID);
+        cache.get(USER_ID);
+        cache.rememberRegistration(USER_ID, "token-a");
+
+        verify(fcmTokenRepository, times(2)).findActiveTokensByUserId(USER_ID);
+        assertThat(cache.isRegistered(USER_ID, "token-a")).isFalse();
+    }
+}
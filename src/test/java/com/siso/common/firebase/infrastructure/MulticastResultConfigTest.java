@@ -0,0 +1,152 @@
+package com.siso.common.firebase.infrastructure;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.siso.common.firebase.infrastructure.properties.FcmMulticastProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MulticastResultConfigTest {
+    private FcmMulticastProperties properties;
+    private FakeFcmTransport fake;
+
+    // 전송 호출 수 / 동시에 진행 중인 배치 수 기록
+    private final AtomicInteger sends = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private MulticastResultConfig multicast;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FcmMulticastProperties();
+        properties.setFakeLatencyMillis(0);
+        properties.setFakeUnavailableRate(0.0);
+        properties.setFakeInvalidRate(0.0);
+        properties.setRetryBaseMillis(1);
+        properties.setMaxRetries(2);
+        fake = new FakeFcmTransport(properties);
+
+        FcmTransport counting = (message, tokens, dryRun) -> {
+            sends.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return fake.send(message, tokens, dryRun).whenComplete((result, error) -> inFlight.decrementAndGet());
+        };
+        multicast = new MulticastResultConfig(counting, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fake.shutdown();
+    }
+
+    @Test
+    void sendsEveryBatch() {
+        MulticastResultConfig.SendMulticastResult result = send(tokens(10), 3, 8);
+
+        assertThat(sends).hasValue(4);
+        assertThat(result.getRequestedCount()).isEqualTo(10);
+        assertThat(result.getSuccessCount()).isEqualTo(10);
+        assertThat(result.getFailureCount()).isZero();
+    }
+
+    @Test
+    void retriesUnavailableTokensUpToMaxRetries() {
+        properties.setFakeUnavailableRate(1.0);
+
+        MulticastResultConfig.SendMulticastResult result = send(tokens(6), 3, 8);
+
+        assertThat(sends).hasValue(2 * (1 + properties.getMaxRetries()));
+        assertThat(result.getFailureCount()).isEqualTo(6);
+        assertThat(result.getInvalidTokens()).isEmpty();
+        assertThat(result.getTokenErrors()).hasSize(6).containsValue("fake: unavailable");
+    }
+
+    @Test
+    void doesNotRetryInvalidTokens() {
+        properties.setFakeInvalidRate(1.0);
+
+        MulticastResultConfig.SendMulticastResult result = send(tokens(6), 3, 8);
+
+        assertThat(sends).hasValue(2);
+        assertThat(result.getFailureCount()).isEqualTo(6);
+        assertThat(result.getInvalidTokens()).containsExactlyInAnyOrderElementsOf(tokens(6));
+    }
+
+    @Test
+    void timedOutBatchCountsAsFailure() {
+        properties.setFakeLatencyMillis(2000);
+        properties.setBatchTimeoutMillis(100);
+        properties.setMaxRetries(0);
+
+        long startedAt = System.currentTimeMillis();
+        MulticastResultConfig.SendMulticastResult result = send(tokens(4), 2, 8);
+
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(2000);
+        assertThat(result.getSuccessCount()).isZero();
+        assertThat(result.getFailureCount()).isEqualTo(4);
+        assertThat(result.getInvalidTokens()).isEmpty();
+        assertThat(result.getTokenErrors()).containsValue("FCM batch timed out");
+    }
+
+    @Test
+    void limitsBatchesInFlight() {
+        properties.setFakeLatencyMillis(20);
+
+        MulticastResultConfig.SendMulticastResult result = send(tokens(20), 2, 3);
+
+        assertThat(sends).hasValue(10);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+        assertThat(result.getSuccessCount()).isEqualTo(20);
+    }
+
+    @Test
+    void prunesOnlyPerTokenUnregisteredAndSenderIdMismatch() {
+        FcmTransport transport = (message, tokens, dryRun) -> CompletableFuture.completedFuture(List.of(
+                FcmSendOutcome.failure(tokens.get(0), MessagingErrorCode.UNREGISTERED, "unregistered"),
+                FcmSendOutcome.failure(tokens.get(1), MessagingErrorCode.SENDER_ID_MISMATCH, "sender id mismatch"),
+                FcmSendOutcome.failure(tokens.get(2), MessagingErrorCode.INVALID_ARGUMENT, "invalid argument"),
+                FcmSendOutcome.success(tokens.get(3))));
+        multicast = new MulticastResultConfig(transport, properties);
+
+        MulticastResultConfig.SendMulticastResult result = send(tokens(4), 4, 1);
+
+        assertThat(result.getFailureCount()).isEqualTo(3);
+        assertThat(result.getInvalidTokens()).containsExactlyInAnyOrder("token-0", "token-1");
+    }
+
+    @Test
+    void failedBatchNeverPrunesTokensEvenWithUnregisteredCode() {
+        FirebaseMessagingException error = mock(FirebaseMessagingException.class);
+        when(error.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+        FcmTransport transport = (message, tokens, dryRun) -> CompletableFuture.failedFuture(error);
+        multicast = new MulticastResultConfig(transport, properties);
+
+        MulticastResultConfig.SendMulticastResult result = send(tokens(500), 500, 1);
+
+        assertThat(result.getFailureCount()).isEqualTo(500);
+        assertThat(result.getInvalidTokens()).isEmpty();
+    }
+
+    private MulticastResultConfig.SendMulticastResult send(List<String> tokens, int batchSize, int maxInFlightBatches) {
+        return multicast.sendMulticastResult(tokens, "title", "body", null, null, batchSize, true, maxInFlightBatches);
+    }
+
+    private static List<String> tokens(int count) {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tokens.add("token-" + i);
+        }
+        return tokens;
+    }
+}
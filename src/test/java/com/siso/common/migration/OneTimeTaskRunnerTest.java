@@ -0,0 +1,65 @@
+package com.siso.common.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실행 기록이 없을 때만 작업을 실행하고, 기록이 있으면 (중복 키) 건너뛰는지 확인
+ */
+class OneTimeTaskRunnerTest {
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private JdbcTemplate jdbcTemplate;
+    private OneTimeTaskRunner oneTimeTaskRunner;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        oneTimeTaskRunner = new OneTimeTaskRunner(jdbcTemplate, transactionTemplate);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    void firstRunRecordsAndRunsTask() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        assertThat(oneTimeTaskRunner.runOnce("task", runs::incrementAndGet)).isTrue();
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void recordedTaskIsSkipped() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new DuplicateKeyException("Duplicate entry 'task'"));
+
+        assertThat(oneTimeTaskRunner.runOnce("task", runs::incrementAndGet)).isFalse();
+
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void failingTaskPropagatesSoRecordIsRolledBack() {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+        assertThatThrownBy(() -> oneTimeTaskRunner.runOnce("task", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
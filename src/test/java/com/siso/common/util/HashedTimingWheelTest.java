@@ -0,0 +1,81 @@
+package com.siso.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+    private static final long TICK_MILLIS = 10;
+
+    private HashedTimingWheel wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void runsTimeoutsInDeadlineOrderAndNeverEarly() throws Exception {
+        wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, 8);
+        List<Long> order = new CopyOnWriteArrayList<>();
+        Map<Long, Long> firedAfterNanos = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        long scheduledAt = System.nanoTime();
+        // 한 바퀴(8 x 10ms)보다 먼 200ms 포함
+        for (long delay : new long[]{200, 35, 120, 60}) {
+            wheel.schedule(() -> {
+                order.add(delay);
+                firedAfterNanos.put(delay, System.nanoTime() - scheduledAt);
+                done.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(35L, 60L, 120L, 200L);
+        firedAfterNanos.forEach((delay, elapsed) ->
+                assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(delay)));
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws Exception {
+        wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, 8);
+        CountDownLatch cancelledRan = new CountDownLatch(1);
+        CountDownLatch laterRan = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout cancelled = wheel.schedule(cancelledRan::countDown, 30, TimeUnit.MILLISECONDS);
+        wheel.schedule(laterRan::countDown, 80, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.pendingTimeouts()).isEqualTo(1);
+
+        assertThat(laterRan.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledRan.getCount()).isEqualTo(1);
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void cancelAfterExpiryHasNoEffect() throws Exception {
+        wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, 8);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(ran::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isFalse();
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.siso.notification.application;
+
+import com.siso.notification.domain.model.BroadcastStatus;
+import com.siso.notification.domain.model.NotificationBroadcast;
+import com.siso.notification.domain.repository.NotificationBroadcastRepository;
+import com.siso.notification.infrastructure.properties.NotificationBroadcastProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 조건부 UPDATE 점유가 점유 중인 행을 건너뛰고, 체크포인트 없이 실패가 반복되면 FAILED 로 끝나는지 확인
+ */
+class NotificationBroadcastServiceTest {
+    private final List<NotificationBroadcast> table = new ArrayList<>(); // notification_broadcasts 대역
+    private NotificationBroadcastRepository notificationBroadcastRepository;
+    private NotificationBroadcastService notificationBroadcastService;
+
+    @BeforeEach
+    void setUp() {
+        notificationBroadcastRepository = mock(NotificationBroadcastRepository.class);
+        NotificationBroadcastProperties properties = new NotificationBroadcastProperties();
+        properties.setMaxAttempts(2);
+        notificationBroadcastService = new NotificationBroadcastService(notificationBroadcastRepository, properties);
+
+        // UPDATE ... WHERE status IN ('PENDING', 'RUNNING') AND (lease_until IS NULL OR lease_until <= ?) ORDER BY id LIMIT 1
+        when(notificationBroadcastRepository.claimNext(any(), any(), anyString())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            LocalDateTime leaseUntil = invocation.getArgument(1);
+            String claimToken = invocation.getArgument(2);
+            Optional<NotificationBroadcast> matched = table.stream()
+                    .filter(b -> b.getStatus() == BroadcastStatus.PENDING || b.getStatus() == BroadcastStatus.RUNNING)
+                    .filter(b -> b.getLeaseUntil() == null || !b.getLeaseUntil().isAfter(now))
+                    .min(Comparator.comparing(NotificationBroadcast::getId));
+            matched.ifPresent(b -> {
+                ReflectionTestUtils.setField(b, "status", BroadcastStatus.RUNNING);
+                ReflectionTestUtils.setField(b, "leaseUntil", leaseUntil);
+                ReflectionTestUtils.setField(b, "claimToken", claimToken);
+                ReflectionTestUtils.setField(b, "attempts", b.getAttempts() + 1);
+            });
+            return matched.isPresent() ? 1 : 0;
+        });
+        when(notificationBroadcastRepository.findByClaimToken(anyString())).thenAnswer(invocation -> {
+            String claimToken = invocation.getArgument(0);
+            return table.stream().filter(b -> Objects.equals(b.getClaimToken(), claimToken)).findFirst();
+        });
+        when(notificationBroadcastRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return table.stream().filter(b -> b.getId().equals(id)).findFirst();
+        });
+    }
+
+    @Test
+    void claimSkipsBroadcastWithLiveLease() {
+        table.add(broadcast(1L));
+        table.add(broadcast(2L));
+
+        NotificationBroadcast first = notificationBroadcastService.claim().orElseThrow();
+        NotificationBroadcast second = notificationBroadcastService.claim().orElseThrow();
+
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(second.getId()).isEqualTo(2L);
+        assertThat(first.getClaimToken()).isNotEqualTo(second.getClaimToken());
+        assertThat(notificationBroadcastService.claim()).isEmpty();
+    }
+
+    @Test
+    void errorBeforeMaxAttemptsKeepsBroadcastRunning() {
+        table.add(broadcast(1L));
+        NotificationBroadcast claimed = notificationBroadcastService.claim().orElseThrow();
+
+        notificationBroadcastService.recordError(1L, claimed.getClaimToken(), "fcm down");
+
+        assertThat(claimed.getStatus()).isEqualTo(BroadcastStatus.RUNNING);
+        assertThat(claimed.getLastError()).isEqualTo("fcm down");
+        assertThat(claimed.isFinished()).isFalse();
+    }
+
+    @Test
+    void errorAtMaxAttemptsFailsBroadcast() {
+        table.add(broadcast(1L));
+        notificationBroadcastService.claim();
+        expireLease(1L);
+        NotificationBroadcast claimed = notificationBroadcastService.claim().orElseThrow(); // 2번째 점유
+
+        notificationBroadcastService.recordError(1L, claimed.getClaimToken(), "fcm down");
+
+        assertThat(claimed.getStatus()).isEqualTo(BroadcastStatus.FAILED);
+        assertThat(claimed.getFinishedAt()).isNotNull();
+        assertThat(claimed.getLeaseUntil()).isNull();
+        assertThat(notificationBroadcastService.claim()).isEmpty();
+    }
+
+    @Test
+    void checkpointResetsAttempts() {
+        table.add(broadcast(1L));
+        notificationBroadcastService.claim();
+        expireLease(1L);
+        NotificationBroadcast claimed = notificationBroadcastService.claim().orElseThrow();
+
+        assertThat(notificationBroadcastService.checkpoint(1L, claimed.getClaimToken(), 500L, 500, 500, 0, 0)).isTrue();
+        notificationBroadcastService.recordError(1L, claimed.getClaimToken(), "fcm down");
+
+        assertThat(claimed.getAttempts()).isZero();
+        assertThat(claimed.getStatus()).isEqualTo(BroadcastStatus.RUNNING);
+    }
+
+    @Test
+    void workerThatDiesWithoutRecordingErrorIsFailedOnReclaim() {
+        table.add(broadcast(1L));
+        table.add(broadcast(2L));
+        for (int i = 0; i < 2; i++) {
+            notificationBroadcastService.claim(); // 1 점유 후 워커 종료
+            expireLease(1L);
+        }
+
+        NotificationBroadcast claimed = notificationBroadcastService.claim().orElseThrow();
+
+        assertThat(claimed.getId()).isEqualTo(2L);
+        assertThat(table.get(0).getStatus()).isEqualTo(BroadcastStatus.FAILED);
+    }
+
+    @Test
+    void errorFromStaleClaimIsIgnored() {
+        table.add(broadcast(1L));
+        NotificationBroadcast claimed = notificationBroadcastService.claim().orElseThrow();
+
+        notificationBroadcastService.recordError(1L, "stale-token", "fcm down");
+
+        assertThat(claimed.getLastError()).isNull();
+    }
+
+    private void expireLease(Long id) {
+        table.stream()
+                .filter(b -> b.getId().equals(id))
+                .forEach(b -> ReflectionTestUtils.setField(b, "leaseUntil", LocalDateTime.now().minusSeconds(1)));
+    }
+
+    private static NotificationBroadcast broadcast(Long id) {
+        NotificationBroadcast broadcast = NotificationBroadcast.builder()
+                .title("title")
+                .message("message")
+                .createdBy(1L)
+                .build();
+        ReflectionTestUtils.setField(broadcast, "id", id);
+        return broadcast;
+    }
+}
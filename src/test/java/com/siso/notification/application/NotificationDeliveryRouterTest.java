@@ -0,0 +1,139 @@
+package com.siso.notification.application;
+
+import com.siso.chat.infrastructure.OnlineUserRegistry;
+import com.siso.chat.infrastructure.UserQueueMessenger;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.NotificationType;
+import com.siso.notification.dto.response.NotificationDeliveryStatsDto;
+import com.siso.notification.infrastructure.properties.NotificationDeliveryProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocket 우선 전달에서 ack / 대기 시간 초과 시 둘 중 하나만 정확히 한 번 실행되는지 확인
+ */
+class NotificationDeliveryRouterTest {
+    private static final Long RECEIVER_ID = 100L;
+
+    private final AtomicInteger acked = new AtomicInteger();
+    private final AtomicInteger fallbacks = new AtomicInteger();
+    private final CountDownLatch fellBack = new CountDownLatch(1);
+
+    private OnlineUserRegistry onlineUserRegistry;
+    private UserQueueMessenger userQueueMessenger;
+    private NotificationDeliveryRouter router;
+
+    @BeforeEach
+    void setUp() {
+        onlineUserRegistry = mock(OnlineUserRegistry.class);
+        userQueueMessenger = mock(UserQueueMessenger.class);
+        NotificationOutboxService notificationOutboxService = mock(NotificationOutboxService.class);
+        NotificationDeliveryProperties properties = new NotificationDeliveryProperties();
+        properties.setAckTimeoutMillis(100);
+        router = new NotificationDeliveryRouter(onlineUserRegistry, userQueueMessenger, notificationOutboxService, properties);
+
+        when(onlineUserRegistry.isOnline(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+    }
+
+    @Test
+    void offlineReceiverGoesStraightToPush() {
+        when(onlineUserRegistry.isOnline(String.valueOf(RECEIVER_ID))).thenReturn(false);
+
+        assertThat(route(outbox(1L, NotificationType.MESSAGE))).isFalse();
+
+        verify(userQueueMessenger, never()).sendToUser(anyLong(), anyString(), any());
+        assertThat(router.getStats().offline()).isEqualTo(1L);
+    }
+
+    @Test
+    void callNotificationsAreNotRoutedOverWebSocket() {
+        assertThat(route(outbox(1L, NotificationType.CALL))).isFalse();
+
+        verify(userQueueMessenger, never()).sendToUser(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void ackRunsOnAckOnceAndSuppressesFallback() throws Exception {
+        assertThat(route(outbox(1L, NotificationType.MESSAGE))).isTrue();
+        verify(userQueueMessenger).sendToUser(eq(RECEIVER_ID), eq(NotificationDeliveryRouter.DESTINATION), any());
+
+        router.acknowledge(RECEIVER_ID, 1L);
+        router.acknowledge(RECEIVER_ID, 1L); // 중복 ack
+
+        assertThat(fellBack.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(acked).hasValue(1);
+        assertThat(fallbacks).hasValue(0);
+        NotificationDeliveryStatsDto stats = router.getStats();
+        assertThat(stats.websocketAcked()).isEqualTo(1L);
+        assertThat(stats.pendingAcks()).isZero();
+    }
+
+    @Test
+    void missingAckFallsBackOnceAndLateAckIsIgnored() throws Exception {
+        assertThat(route(outbox(1L, NotificationType.MESSAGE))).isTrue();
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        router.acknowledge(RECEIVER_ID, 1L); // 대기 시간이 지난 뒤 도착한 ack
+
+        assertThat(fallbacks).hasValue(1);
+        assertThat(acked).hasValue(0);
+        assertThat(router.getStats().ackTimeouts()).isEqualTo(1L);
+    }
+
+    @Test
+    void ackFromAnotherUserDoesNotCountAsDelivery() throws Exception {
+        assertThat(route(outbox(1L, NotificationType.MESSAGE))).isTrue();
+
+        router.acknowledge(999L, 1L);
+
+        assertThat(fellBack.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(acked).hasValue(0);
+    }
+
+    @Test
+    void frameSendFailureFallsBackToPushImmediately() {
+        doThrow(new IllegalStateException("broker down")).when(userQueueMessenger).sendToUser(anyLong(), anyString(), any());
+
+        assertThat(route(outbox(1L, NotificationType.MESSAGE))).isFalse();
+
+        assertThat(router.getStats().pendingAcks()).isZero();
+        assertThat(router.getStats().websocketSent()).isZero();
+    }
+
+    private boolean route(NotificationOutbox outbox) {
+        return router.tryWebSocket(outbox, acked::incrementAndGet, () -> {
+            fallbacks.incrementAndGet();
+            fellBack.countDown();
+        });
+    }
+
+    private static NotificationOutbox outbox(Long id, NotificationType type) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .notificationId(id)
+                .receiverId(RECEIVER_ID)
+                .title("title")
+                .message("message")
+                .type(type)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
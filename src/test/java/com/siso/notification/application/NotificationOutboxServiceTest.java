@@ -0,0 +1,131 @@
+package com.siso.notification.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.NotificationType;
+import com.siso.notification.domain.model.OutboxStatus;
+import com.siso.notification.domain.repository.NotificationOutboxRepository;
+import com.siso.notification.infrastructure.properties.NotificationOutboxProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 조건부 UPDATE 로 점유한 뒤 같은 토큰으로 다시 읽는 claim 이 다른 워커의 행을 섞어 가져오지 않는지 확인
+ */
+class NotificationOutboxServiceTest {
+    private final List<NotificationOutbox> table = new ArrayList<>(); // notification_outbox 대역
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        NotificationOutboxProperties properties = new NotificationOutboxProperties();
+        properties.setLeaseSeconds(60);
+        notificationOutboxService = new NotificationOutboxService(notificationOutboxRepository, properties, new ObjectMapper());
+
+        // UPDATE ... WHERE type = ? AND status IN ('PENDING', 'IN_FLIGHT') AND next_attempt_at <= ? ORDER BY id LIMIT ?
+        when(notificationOutboxRepository.claimBatch(anyString(), any(), any(), anyString(), anyInt())).thenAnswer(invocation -> {
+            String type = invocation.getArgument(0);
+            LocalDateTime now = invocation.getArgument(1);
+            LocalDateTime leaseUntil = invocation.getArgument(2);
+            String claimToken = invocation.getArgument(3);
+            int limit = invocation.getArgument(4);
+            List<NotificationOutbox> matched = table.stream()
+                    .filter(o -> o.getType().name().equals(type))
+                    .filter(o -> o.getStatus() == OutboxStatus.PENDING || o.getStatus() == OutboxStatus.IN_FLIGHT)
+                    .filter(o -> !o.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(NotificationOutbox::getId))
+                    .limit(limit)
+                    .toList();
+            matched.forEach(o -> {
+                ReflectionTestUtils.setField(o, "status", OutboxStatus.IN_FLIGHT);
+                ReflectionTestUtils.setField(o, "attempts", o.getAttempts() + 1);
+                ReflectionTestUtils.setField(o, "nextAttemptAt", leaseUntil);
+                ReflectionTestUtils.setField(o, "claimToken", claimToken);
+            });
+            return matched.size();
+        });
+        when(notificationOutboxRepository.findByClaimTokenOrderById(anyString())).thenAnswer(invocation -> {
+            String claimToken = invocation.getArgument(0);
+            return table.stream()
+                    .filter(o -> Objects.equals(o.getClaimToken(), claimToken))
+                    .sorted(Comparator.comparing(NotificationOutbox::getId))
+                    .toList();
+        });
+    }
+
+    @Test
+    void consecutiveClaimsSplitRowsWithoutOverlap() {
+        for (long id = 1; id <= 5; id++) {
+            table.add(outbox(id, NotificationType.MESSAGE));
+        }
+        table.add(outbox(6L, NotificationType.CALL));
+
+        List<NotificationOutbox> first = notificationOutboxService.claim(NotificationType.MESSAGE, 3);
+        List<NotificationOutbox> second = notificationOutboxService.claim(NotificationType.MESSAGE, 3);
+
+        assertThat(first).extracting(NotificationOutbox::getId).containsExactly(1L, 2L, 3L);
+        assertThat(second).extracting(NotificationOutbox::getId).containsExactly(4L, 5L);
+        assertThat(first.get(0).getClaimToken()).isNotEqualTo(second.get(0).getClaimToken());
+        assertThat(first).extracting(NotificationOutbox::getClaimToken).containsOnly(first.get(0).getClaimToken());
+        assertThat(first).extracting(NotificationOutbox::getStatus).containsOnly(OutboxStatus.IN_FLIGHT);
+        assertThat(first.get(0).getAttempts()).isEqualTo(1);
+        assertThat(first.get(0).getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedButLiveLeaseIsNot() {
+        NotificationOutbox expired = outbox(1L, NotificationType.CALL);
+        ReflectionTestUtils.setField(expired, "status", OutboxStatus.IN_FLIGHT);
+        ReflectionTestUtils.setField(expired, "attempts", 1);
+        ReflectionTestUtils.setField(expired, "claimToken", "dead-worker");
+        ReflectionTestUtils.setField(expired, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+        NotificationOutbox live = outbox(2L, NotificationType.CALL);
+        ReflectionTestUtils.setField(live, "status", OutboxStatus.IN_FLIGHT);
+        ReflectionTestUtils.setField(live, "claimToken", "live-worker");
+        ReflectionTestUtils.setField(live, "nextAttemptAt", LocalDateTime.now().plusSeconds(30));
+        table.add(expired);
+        table.add(live);
+
+        List<NotificationOutbox> claimed = notificationOutboxService.claim(NotificationType.CALL, 10);
+
+        assertThat(claimed).extracting(NotificationOutbox::getId).containsExactly(1L);
+        assertThat(claimed.get(0).getAttempts()).isEqualTo(2);
+        assertThat(claimed.get(0).getClaimToken()).isNotEqualTo("dead-worker");
+        assertThat(live.getClaimToken()).isEqualTo("live-worker");
+    }
+
+    @Test
+    void nothingClaimedSkipsTheSelect() {
+        assertThat(notificationOutboxService.claim(NotificationType.MATCHING, 10)).isEmpty();
+
+        verify(notificationOutboxRepository, never()).findByClaimTokenOrderById(anyString());
+    }
+
+    private NotificationOutbox outbox(Long id, NotificationType type) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .notificationId(id)
+                .receiverId(100L)
+                .title("title")
+                .message("message")
+                .type(type)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+        return outbox;
+    }
+}
@@ -0,0 +1,151 @@
+package com.siso.notification.application;
+
+import com.siso.common.firebase.application.DeliveryProfileCache;
+import com.siso.common.firebase.application.FirebaseService;
+import com.siso.common.firebase.infrastructure.MulticastResultConfig;
+import com.siso.notification.domain.model.NotificationOutbox;
+import com.siso.notification.domain.model.NotificationType;
+import com.siso.notification.dto.response.OutboxLaneStatsDto;
+import com.siso.notification.infrastructure.properties.NotificationOutboxProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * CALL 레인이 밀려 있는 동안 다른 레인이 양보하고, CALL 이 비면 다시 가져가는지 확인
+ */
+class NotificationOutboxWorkerTest {
+    private final CountDownLatch callSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseCallSend = new CountDownLatch(1);
+
+    private NotificationOutboxService notificationOutboxService;
+    private NotificationOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        FirebaseService firebaseService = mock(FirebaseService.class);
+        DeliveryProfileCache deliveryProfileCache = mock(DeliveryProfileCache.class);
+        NotificationDeliveryRouter notificationDeliveryRouter = mock(NotificationDeliveryRouter.class);
+
+        NotificationOutboxProperties properties = new NotificationOutboxProperties();
+        properties.setBatchSize(1);
+        properties.setLanes(new EnumMap<>(Map.of(
+                NotificationType.CALL, new NotificationOutboxProperties.Lane(1, 1),
+                NotificationType.MESSAGE, new NotificationOutboxProperties.Lane(1, 10),
+                NotificationType.MATCHING, new NotificationOutboxProperties.Lane(1, 10)
+        )));
+
+        when(deliveryProfileCache.get(anyLong())).thenReturn(new DeliveryProfileCache.DeliveryProfile(true, List.of("token")));
+        when(notificationDeliveryRouter.tryWebSocket(any(), any(), any())).thenReturn(false);
+        // CALL 전송은 releaseCallSend 가 열릴 때까지 멈춤 -> CALL 레인의 동시 전송 상한(1)이 가득 참
+        when(firebaseService.sendNotification(any(), any(), any(), eq("CALL"), any(), any(), any(), any())).thenAnswer(invocation -> {
+            callSendStarted.countDown();
+            releaseCallSend.await(5, TimeUnit.SECONDS);
+            return delivered();
+        });
+        when(firebaseService.sendNotification(any(), any(), any(), eq("MESSAGE"), any(), any(), any(), any())).thenReturn(delivered());
+        when(notificationOutboxService.claim(any(), anyInt())).thenReturn(List.of());
+        when(notificationOutboxService.countPendingByType()).thenReturn(Map.of(NotificationType.MESSAGE, 3L));
+
+        worker = new NotificationOutboxWorker(notificationOutboxService, properties, firebaseService,
+                deliveryProfileCache, notificationDeliveryRouter);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseCallSend.countDown();
+        worker.shutdown();
+    }
+
+    @Test
+    void otherLanesYieldWhileCallLaneIsBacklogged() throws Exception {
+        when(notificationOutboxService.claim(NotificationType.CALL, 1))
+                .thenReturn(List.of(outbox(1L, NotificationType.CALL)))
+                .thenReturn(List.of());
+
+        worker.poll();
+
+        assertThat(callSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(notificationOutboxService, never()).claim(eq(NotificationType.MESSAGE), anyInt());
+        verify(notificationOutboxService, never()).claim(eq(NotificationType.MATCHING), anyInt());
+
+        releaseCallSend.countDown();
+        awaitCallLaneIdle();
+        worker.poll();
+
+        verify(notificationOutboxService).claim(NotificationType.MESSAGE, 1);
+        verify(notificationOutboxService).claim(NotificationType.MATCHING, 1);
+    }
+
+    @Test
+    void laneStatsReportPendingInFlightAndSent() throws Exception {
+        when(notificationOutboxService.claim(NotificationType.CALL, 1))
+                .thenReturn(List.of(outbox(1L, NotificationType.CALL)))
+                .thenReturn(List.of());
+
+        worker.poll();
+        assertThat(callSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Map<NotificationType, OutboxLaneStatsDto> stats = statsByType();
+        assertThat(stats.get(NotificationType.CALL).inFlight()).isEqualTo(1);
+        assertThat(stats.get(NotificationType.CALL).sent()).isZero();
+        assertThat(stats.get(NotificationType.MESSAGE).pending()).isEqualTo(3L);
+
+        releaseCallSend.countDown();
+        awaitCallLaneIdle();
+
+        stats = statsByType();
+        assertThat(stats.get(NotificationType.CALL).sent()).isEqualTo(1L);
+        assertThat(stats.get(NotificationType.CALL).inFlight()).isZero();
+    }
+
+    private void awaitCallLaneIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (statsByType().get(NotificationType.CALL).inFlight() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Map<NotificationType, OutboxLaneStatsDto> statsByType() {
+        Map<NotificationType, OutboxLaneStatsDto> stats = new EnumMap<>(NotificationType.class);
+        worker.getLaneStats().forEach(lane -> stats.put(lane.type(), lane));
+        return stats;
+    }
+
+    private static MulticastResultConfig.SendMulticastResult delivered() {
+        return MulticastResultConfig.SendMulticastResult.builder()
+                .requestedCount(1)
+                .successCount(1)
+                .failureCount(0)
+                .invalidTokens(List.of())
+                .tokenErrors(Map.of())
+                .build();
+    }
+
+    private static NotificationOutbox outbox(Long id, NotificationType type) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .notificationId(id)
+                .receiverId(100L)
+                .title("title")
+                .message("message")
+                .type(type)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
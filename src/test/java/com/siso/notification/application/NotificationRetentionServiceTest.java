@@ -0,0 +1,110 @@
+package com.siso.notification.application;
+
+import com.siso.notification.domain.repository.NotificationRepository;
+import com.siso.notification.dto.response.NotificationRetentionStatsDto;
+import com.siso.notification.infrastructure.UnreadCountCache;
+import com.siso.notification.infrastructure.properties.NotificationRetentionProperties;
+import com.siso.notification.infrastructure.properties.UnreadCountCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * id 범위를 chunkIdRange 단위로 나눠 지우고, maxChunksPerRun 에서 멈추면 다음 실행이 이어서 시작하는지 확인
+ */
+class NotificationRetentionServiceTest {
+    private NotificationRepository notificationRepository;
+    private NotificationRetentionProperties properties;
+    private UnreadCountCache unreadCountCache;
+    private NotificationRetentionService notificationRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        properties = new NotificationRetentionProperties();
+        properties.setChunkIdRange(5);
+        properties.setPauseMillis(0);
+        unreadCountCache = new UnreadCountCache(new UnreadCountCacheProperties());
+        notificationRetentionService = new NotificationRetentionService(notificationRepository, properties, unreadCountCache);
+
+        // id 1 ~ 11 이 기준 시각 이전, 12 부터 이후
+        when(notificationRepository.findMinId()).thenReturn(1L);
+        when(notificationRepository.findFirstIdCreatedSince(any(), any())).thenReturn(List.of(12L));
+        when(notificationRepository.deleteCreatedBeforeInRange(anyLong(), anyLong(), anyBoolean(), any())).thenReturn(0);
+    }
+
+    @Test
+    void deletesIdRangeInChunksUpToFirstRecentId() {
+        notificationRetentionService.purgeExpired();
+
+        verify(notificationRepository).deleteCreatedBeforeInRange(eq(1L), eq(6L), eq(true), any());
+        verify(notificationRepository).deleteCreatedBeforeInRange(eq(6L), eq(11L), eq(true), any());
+        verify(notificationRepository).deleteCreatedBeforeInRange(eq(11L), eq(12L), eq(true), any());
+        verify(notificationRepository, times(3)).deleteCreatedBeforeInRange(anyLong(), anyLong(), eq(false), any());
+        assertThat(notificationRetentionService.getStats().lastRunChunks()).isEqualTo(3L);
+    }
+
+    @Test
+    void runStoppedAtMaxChunksResumesWhereItLeftOff() {
+        properties.setMaxChunksPerRun(2);
+
+        notificationRetentionService.purgeExpired();
+        notificationRetentionService.purgeExpired();
+
+        verify(notificationRepository, times(1)).deleteCreatedBeforeInRange(eq(1L), eq(6L), eq(true), any());
+        verify(notificationRepository, times(1)).deleteCreatedBeforeInRange(eq(11L), eq(12L), eq(true), any());
+        assertThat(notificationRetentionService.getStats().lastRunChunks()).isEqualTo(1L);
+
+        // 끝까지 정리했으므로 다음 실행은 처음부터
+        notificationRetentionService.purgeExpired();
+        verify(notificationRepository, times(2)).deleteCreatedBeforeInRange(eq(1L), eq(6L), eq(true), any());
+    }
+
+    @Test
+    void countsDeletedRowsAndInvalidatesUnreadCountsOnlyWhenUnreadDeleted() {
+        when(notificationRepository.deleteCreatedBeforeInRange(eq(1L), eq(6L), eq(true), any())).thenReturn(4);
+        unreadCountCache.get(1L, () -> 7L);
+
+        notificationRetentionService.purgeExpired();
+
+        assertThat(unreadCountCache.get(1L, () -> 0L)).isEqualTo(7L); // 읽은 알림만 지워짐
+
+        when(notificationRepository.deleteCreatedBeforeInRange(eq(6L), eq(11L), eq(false), any())).thenReturn(2);
+        notificationRetentionService.purgeExpired();
+
+        assertThat(unreadCountCache.get(1L, () -> 5L)).isEqualTo(5L);
+        NotificationRetentionStatsDto stats = notificationRetentionService.getStats();
+        assertThat(stats.totalDeletedRead()).isEqualTo(8L);
+        assertThat(stats.totalDeletedUnread()).isEqualTo(2L);
+        assertThat(stats.lastRunDeletedUnread()).isEqualTo(2L);
+        assertThat(stats.totalRuns()).isEqualTo(2L);
+        assertThat(stats.running()).isFalse();
+    }
+
+    @Test
+    void emptyTableDeletesNothing() {
+        when(notificationRepository.findMinId()).thenReturn(null);
+
+        notificationRetentionService.purgeExpired();
+
+        verify(notificationRepository, never()).deleteCreatedBeforeInRange(anyLong(), anyLong(), anyBoolean(), any());
+        assertThat(notificationRetentionService.getStats().totalRuns()).isEqualTo(1L);
+    }
+
+    @Test
+    void disabledDoesNothing() {
+        properties.setEnabled(false);
+
+        notificationRetentionService.purgeExpired();
+
+        verify(notificationRepository, never()).findMinId();
+    }
+}
@@ -0,0 +1,122 @@
+package com.siso.notification.application;
+
+import com.siso.notification.infrastructure.properties.NotificationStreamProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전송 스레드가 멈춘 동안 밀린 연결 / 가득 찬 대기열이 연결을 닫아 다른 연결을 붙잡지 않는지 확인
+ */
+class NotificationStreamServiceTest {
+    private final CountDownLatch senderBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseSender = new CountDownLatch(1);
+
+    private NotificationStreamProperties properties;
+    private NotificationStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationStreamProperties();
+        properties.setSenderThreads(1);
+        properties.setMaxConnectionsPerUser(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSender.countDown();
+        service.stop();
+    }
+
+    @Test
+    void closesOldestConnectionBeyondPerUserLimit() {
+        start();
+
+        service.connect(1L);
+        service.connect(1L);
+        service.connect(1L);
+
+        assertThat(service.getConnectionCount()).isEqualTo(2);
+        assertThat(service.isConnected(1L)).isTrue();
+    }
+
+    @Test
+    void closesConnectionThatFallsTooFarBehind() throws Exception {
+        properties.setMaxPendingPerConnection(3);
+        start();
+        service.connect(1L);
+        service.connect(2L);
+        blockSender();
+
+        for (int i = 0; i < 4; i++) {
+            service.publishUnreadCount(1L, i); // 4번째에서 상한(3) 초과
+        }
+        service.publishUnreadCount(2L, 1);
+
+        assertThat(service.isConnected(1L)).isFalse();
+        assertThat(service.isConnected(2L)).isTrue();
+        assertThat(service.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void closesConnectionWhoseEventIsRejectedByFullQueue() throws Exception {
+        properties.setSendQueueCapacity(1);
+        start();
+        service.connect(1L);
+        service.connect(2L);
+        blockSender();
+
+        service.publishUnreadCount(1L, 1); // 대기열의 유일한 자리
+        service.publishUnreadCount(2L, 1); // 거절 -> 연결 닫음
+
+        assertThat(service.isConnected(1L)).isTrue();
+        assertThat(service.isConnected(2L)).isFalse();
+    }
+
+    @Test
+    void queuedEventsDrainOnceSenderResumes() throws Exception {
+        start();
+        service.connect(1L);
+        blockSender();
+
+        service.publishUnreadCount(1L, 1);
+        service.publishUnreadCount(1L, 2);
+        releaseSender.countDown();
+
+        ExecutorService sender = sender();
+        sender.shutdown();
+        assertThat(sender.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.isConnected(1L)).isTrue();
+    }
+
+    private void start() {
+        service = new NotificationStreamService(properties);
+        service.start();
+    }
+
+    /**
+     * 유일한 전송 스레드를 releaseSender 가 열릴 때까지 붙잡음
+     */
+    private void blockSender() throws InterruptedException {
+        sender().execute(() -> {
+            senderBlocked.countDown();
+            try {
+                releaseSender.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(senderBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private ExecutorService sender() {
+        return (ExecutorService) ReflectionTestUtils.getField(service, "sender");
+    }
+}
@@ -0,0 +1,105 @@
+package com.siso.notification.infrastructure;
+
+import com.siso.notification.infrastructure.properties.UnreadCountCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증감 / 초기화와, 조회(COUNT) 도중 값이 바뀐 경우 오래된 결과가 캐시에 남지 않는지 확인
+ */
+class UnreadCountCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private UnreadCountCacheProperties properties;
+    private UnreadCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UnreadCountCacheProperties();
+        cache = new UnreadCountCache(properties);
+    }
+
+    @Test
+    void appliesDeltasToCachedCount() {
+        assertThat(cache.get(USER_ID, () -> count(5))).isEqualTo(5);
+
+        cache.increment(USER_ID);
+        cache.increment(USER_ID);
+        cache.decrement(USER_ID);
+
+        assertThat(cache.get(USER_ID, () -> count(0))).isEqualTo(6);
+        assertThat(loads).hasValue(1);
+
+        cache.reset(USER_ID);
+        cache.decrement(USER_ID); // 0 아래로 내려가지 않음
+
+        assertThat(cache.get(USER_ID, () -> count(0))).isZero();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void deltaForUncachedUserIsNotGuessed() {
+        cache.increment(USER_ID);
+
+        assertThat(cache.get(USER_ID, () -> count(3))).isEqualTo(3);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadThatStraddlesAChangeIsNotCached() {
+        // COUNT 가 3 을 센 뒤, 결과를 넣기 전에 새 알림 커밋이 반영됨
+        long first = cache.get(USER_ID, () -> {
+            cache.increment(USER_ID);
+            return count(3);
+        });
+
+        assertThat(first).isEqualTo(3);
+        assertThat(cache.get(USER_ID, () -> count(4))).isEqualTo(4);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadThatStraddlesInvalidateAllIsNotCached() {
+        cache.get(USER_ID, () -> {
+            cache.invalidateAll();
+            return count(3);
+        });
+
+        assertThat(cache.get(USER_ID, () -> count(0))).isZero();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUserBeyondMaxUsers() {
+        properties.setMaxUsers(2);
+        cache.get(1L, () -> count(1));
+        cache.get(2L, () -> count(2));
+        cache.get(1L, () -> count(0)); // 1 을 최근 사용으로
+        cache.get(3L, () -> count(3)); // 2 가 밀려남
+
+        assertThat(cache.get(1L, () -> count(0))).isEqualTo(1);
+        assertThat(cache.get(2L, () -> count(20))).isEqualTo(20);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void disabledCacheAlwaysCounts() {
+        properties.setEnabled(false);
+
+        cache.get(USER_ID, () -> count(2));
+        cache.increment(USER_ID);
+
+        assertThat(cache.get(USER_ID, () -> count(2))).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    private long count(long value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
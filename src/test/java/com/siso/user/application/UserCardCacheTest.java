@@ -0,0 +1,120 @@
+package com.siso.user.application;
+
+import com.siso.user.domain.repository.UserRepository;
+import com.siso.user.dto.UserCard;
+import com.siso.user.infrastructure.properties.UserCardCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 캐시에 없는 사용자만 한 번에 조회하고, 무효화 / 조회 도중 무효화 / LRU 가 올바르게 동작하는지 확인
+ */
+class UserCardCacheTest {
+    private final List<Set<Long>> queries = new ArrayList<>(); // findCardsByIdIn 호출마다 요청한 id
+    private final Map<Long, String> nicknames = new HashMap<>(Map.of(1L, "one", 2L, "two", 3L, "three"));
+    private Runnable duringLoad = () -> { };
+
+    private UserRepository userRepository;
+    private UserCardCacheProperties properties;
+    private UserCardCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        properties = new UserCardCacheProperties();
+        cache = new UserCardCache(userRepository, properties);
+
+        when(userRepository.findCardsByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            queries.add(Set.copyOf(ids));
+            duringLoad.run();
+            return ids.stream()
+                    .filter(nicknames::containsKey)
+                    .map(id -> new UserCard(id, nicknames.get(id), null, null, null))
+                    .toList();
+        });
+    }
+
+    @Test
+    void loadsOnlyMissingUsersInOneQuery() {
+        cache.get(1L);
+
+        Map<Long, UserCard> cards = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(queries).containsExactly(Set.of(1L), Set.of(2L, 3L));
+        assertThat(cards.get(1L).nickname()).isEqualTo("one");
+        assertThat(cards.get(3L).nickname()).isEqualTo("three");
+    }
+
+    @Test
+    void missingUserGetsUnknownCardThatIsAlsoCached() {
+        UserCard card = cache.get(99L);
+
+        assertThat(card.userId()).isEqualTo(99L);
+        assertThat(card.displayName()).isEqualTo("익명");
+        assertThat(card.imageUrl()).isEmpty();
+
+        cache.get(99L);
+        assertThat(queries).hasSize(1);
+    }
+
+    @Test
+    void invalidateReloadsOnlyThatUser() {
+        cache.getAll(List.of(1L, 2L));
+        nicknames.put(1L, "renamed");
+
+        cache.invalidate(1L);
+        Map<Long, UserCard> cards = cache.getAll(List.of(1L, 2L));
+
+        assertThat(cards.get(1L).nickname()).isEqualTo("renamed");
+        assertThat(queries).containsExactly(Set.of(1L, 2L), Set.of(1L));
+    }
+
+    @Test
+    void loadThatStraddlesInvalidationIsNotCached() {
+        // 조회 도중 다른 스레드의 프로필 변경이 커밋되어 무효화됨
+        duringLoad = () -> cache.invalidate(1L);
+        assertThat(cache.get(1L).nickname()).isEqualTo("one");
+
+        duringLoad = () -> { };
+        cache.get(1L);
+        cache.get(1L);
+
+        assertThat(queries).hasSize(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedUserBeyondMaxUsers() {
+        properties.setMaxUsers(2);
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L); // 1 을 최근 사용으로
+        cache.get(3L); // 2 가 밀려남
+
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(queries).containsExactly(Set.of(1L), Set.of(2L), Set.of(3L), Set.of(2L));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        properties.setEnabled(false);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        assertThat(queries).hasSize(2);
+    }
+}